@@ -48,6 +48,7 @@
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -162,6 +163,12 @@ public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMon
             return this;
         }
 
+        @Override
+        public Builder readExecutor(Executor readExecutor) {
+            super.readExecutor(readExecutor);
+            return this;
+        }
+
         /**
          * Sets the {@link AxonServerConfiguration} describing the servers to connect with and how to manage flow
          * control.
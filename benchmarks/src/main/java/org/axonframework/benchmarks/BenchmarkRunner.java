@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Entry point for running the Axon Framework benchmarks. Accepts the same arguments as the JMH command line runner.
+ * Unless a result format is given explicitly, the results are written in JSON format to a file named after the
+ * version of Axon Framework being benchmarked (e.g. {@code axon-4.3-jmh-result.json}), allowing the results of
+ * different versions to be compared.
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        // utility class
+    }
+
+    /**
+     * Runs the benchmarks selected by the given JMH command line {@code args}.
+     *
+     * @param args the JMH command line arguments
+     * @throws CommandLineOptionException if the given arguments are not valid JMH arguments
+     * @throws RunnerException            if an error occurs while running the benchmarks
+     * @throws IOException                if the Axon Framework version could not be read
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+            if (!commandLineOptions.getResult().hasValue()) {
+                options.result("axon-" + axonVersion() + "-jmh-result.json");
+            }
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String axonVersion() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = BenchmarkRunner.class.getResourceAsStream("/axon-benchmarks.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+        }
+        return properties.getProperty("axon.version", "unknown");
+    }
+}
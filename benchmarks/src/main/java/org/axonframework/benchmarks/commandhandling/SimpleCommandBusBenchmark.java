@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.commandhandling;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark measuring the overhead of dispatching a command through the {@link SimpleCommandBus}, including the
+ * creation of the Unit of Work and the invocation of the callback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleCommandBusBenchmark {
+
+    private SimpleCommandBus commandBus;
+    private CommandMessage<String> command;
+
+    @Setup
+    public void setUp() {
+        commandBus = SimpleCommandBus.builder().build();
+        commandBus.subscribe(String.class.getName(), CommandMessage::getPayload);
+        command = GenericCommandMessage.asCommandMessage("command");
+    }
+
+    @Benchmark
+    public void dispatch(Blackhole blackhole) {
+        commandBus.dispatch(command, (commandMessage, result) -> blackhole.consume(result.getPayload()));
+    }
+}
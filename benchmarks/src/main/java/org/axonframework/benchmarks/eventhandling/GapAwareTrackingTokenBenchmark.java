@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.eventhandling;
+
+import org.axonframework.eventhandling.GapAwareTrackingToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Benchmark measuring the cost of advancing a {@link GapAwareTrackingToken}, both when filling a gap and when moving
+ * beyond the current index, for tokens containing different numbers of gaps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GapAwareTrackingTokenBenchmark {
+
+    private static final int MAX_GAP_OFFSET = 10_000;
+
+    @Param({"0", "10", "1000"})
+    private int gapCount;
+
+    private GapAwareTrackingToken token;
+    private long gapToFill;
+    private long nextIndex;
+
+    @Setup
+    public void setUp() {
+        // every other index is a gap, making the token cover half of the indices below its index
+        long index = gapCount * 2L;
+        token = GapAwareTrackingToken.newInstance(index, LongStream.range(0, gapCount)
+                                                                   .map(i -> i * 2)
+                                                                   .boxed()
+                                                                   .collect(Collectors.toList()));
+        gapToFill = gapCount / 2 * 2L;
+        nextIndex = index + 1;
+    }
+
+    @Benchmark
+    public GapAwareTrackingToken advanceToNextIndex() {
+        return token.advanceTo(nextIndex, MAX_GAP_OFFSET);
+    }
+
+    @Benchmark
+    public GapAwareTrackingToken advanceToIndexCreatingGaps() {
+        return token.advanceTo(nextIndex + 10, MAX_GAP_OFFSET);
+    }
+
+    @Benchmark
+    public GapAwareTrackingToken fillGap() {
+        return gapCount == 0 ? token.advanceTo(nextIndex, MAX_GAP_OFFSET) : token.advanceTo(gapToFill, MAX_GAP_OFFSET);
+    }
+}
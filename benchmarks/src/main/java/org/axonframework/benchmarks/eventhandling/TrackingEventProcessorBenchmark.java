@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.eventhandling;
+
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.eventhandling.EventMessageHandler;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventhandling.SimpleEventHandlerInvoker;
+import org.axonframework.eventhandling.TrackingEventProcessor;
+import org.axonframework.eventhandling.TrackingEventProcessorConfiguration;
+import org.axonframework.eventhandling.tokenstore.inmemory.InMemoryTokenStore;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark measuring the time it takes a {@link TrackingEventProcessor} to process all events in an {@link
+ * InMemoryEventStorageEngine}, using different batch sizes and numbers of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TrackingEventProcessorBenchmark {
+
+    private static final int EVENT_COUNT = 100_000;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    @Param({"1", "4"})
+    private int threadCount;
+
+    private EmbeddedEventStore eventStore;
+    private TrackingEventProcessor processor;
+    private CountDownLatch handledEvents;
+
+    @Setup(Level.Trial)
+    public void setUpEventStore() {
+        eventStore = EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
+        eventStore.publish(IntStream.range(0, EVENT_COUNT)
+                                    .mapToObj(i -> new GenericDomainEventMessage<>("type", "aggregate" + (i % 100),
+                                                                                   i / 100, "event" + i))
+                                    .collect(Collectors.toList()));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpProcessor() {
+        handledEvents = new CountDownLatch(EVENT_COUNT);
+        EventMessageHandler eventHandler = event -> {
+            handledEvents.countDown();
+            return null;
+        };
+        processor = TrackingEventProcessor.builder()
+                                          .name("benchmark")
+                                          .eventHandlerInvoker(SimpleEventHandlerInvoker.builder()
+                                                                                        .eventHandlers(eventHandler)
+                                                                                        .build())
+                                          .messageSource(eventStore)
+                                          .tokenStore(new InMemoryTokenStore())
+                                          .transactionManager(NoTransactionManager.INSTANCE)
+                                          .trackingEventProcessorConfiguration(
+                                                  TrackingEventProcessorConfiguration.forParallelProcessing(threadCount)
+                                                                                     .andBatchSize(batchSize))
+                                          .build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownProcessor() {
+        processor.shutDown();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownEventStore() {
+        eventStore.shutDown();
+    }
+
+    @Benchmark
+    public void processAllEvents() throws InterruptedException {
+        processor.start();
+        if (!handledEvents.await(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Processor did not handle all events within a minute");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.eventsourcing;
+
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.EventSourcingHandler;
+import org.axonframework.eventsourcing.EventSourcingRepository;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark measuring the time it takes the {@link EventSourcingRepository} to load an aggregate from an {@link
+ * EmbeddedEventStore} backed by an {@link InMemoryEventStorageEngine}, for aggregates with different numbers of
+ * events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSourcingRepositoryBenchmark {
+
+    private static final String AGGREGATE_ID = "aggregate";
+
+    @Param({"10", "100", "1000"})
+    private int eventCount;
+
+    private EmbeddedEventStore eventStore;
+    private EventSourcingRepository<BenchmarkAggregate> repository;
+
+    @Setup
+    public void setUp() {
+        eventStore = EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
+        eventStore.publish(IntStream.range(0, eventCount)
+                                    .mapToObj(i -> new GenericDomainEventMessage<>(
+                                            BenchmarkAggregate.class.getSimpleName(), AGGREGATE_ID, i,
+                                            new CounterIncrementedEvent(AGGREGATE_ID)
+                                    ))
+                                    .collect(Collectors.toList()));
+        repository = EventSourcingRepository.builder(BenchmarkAggregate.class).eventStore(eventStore).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventStore.shutDown();
+    }
+
+    @Benchmark
+    public long load() throws Exception {
+        return DefaultUnitOfWork.startAndGet(null)
+                                .executeWithResult(() -> repository.load(AGGREGATE_ID)
+                                                                   .invoke(aggregate -> aggregate.counter))
+                                .getPayload();
+    }
+
+    private static class BenchmarkAggregate {
+
+        @AggregateIdentifier
+        private String id;
+        private long counter;
+
+        BenchmarkAggregate() {
+        }
+
+        @EventSourcingHandler
+        void on(CounterIncrementedEvent event) {
+            this.id = event.aggregateId;
+            this.counter++;
+        }
+    }
+
+    private static class CounterIncrementedEvent {
+
+        private final String aggregateId;
+
+        private CounterIncrementedEvent(String aggregateId) {
+            this.aggregateId = aggregateId;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.messaging;
+
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.AnnotatedMessageHandlingMemberDefinition;
+import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.HandlerDefinition;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.MetaDataValue;
+import org.axonframework.messaging.annotation.MethodHandleMessageHandlingMemberDefinition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the invocation of annotated message handlers through reflection, using the {@link
+ * AnnotatedMessageHandlingMemberDefinition}, with invocation through method handles, using the {@link
+ * MethodHandleMessageHandlingMemberDefinition}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageHandlerInvocationBenchmark {
+
+    @Param({"reflection", "methodHandle"})
+    private String invocation;
+
+    private final Projection target = new Projection();
+    private MessageHandlingMember<? super Projection> singleParameterHandler;
+    private MessageHandlingMember<? super Projection> multiParameterHandler;
+    private EventMessage<String> stringMessage;
+    private EventMessage<Long> longMessage;
+
+    @Setup
+    public void setUp() {
+        HandlerDefinition handlerDefinition = "reflection".equals(invocation)
+                ? new AnnotatedMessageHandlingMemberDefinition()
+                : new MethodHandleMessageHandlingMemberDefinition();
+        AnnotatedHandlerInspector<Projection> inspector =
+                AnnotatedHandlerInspector.inspectType(Projection.class,
+                                                      ClasspathParameterResolverFactory.forClass(Projection.class),
+                                                      handlerDefinition);
+        stringMessage = GenericEventMessage.asEventMessage("payload");
+        longMessage = GenericEventMessage.<Long>asEventMessage(42L)
+                .andMetaData(Collections.singletonMap("key", "value"));
+        singleParameterHandler = findHandler(inspector, stringMessage);
+        multiParameterHandler = findHandler(inspector, longMessage);
+    }
+
+    private static MessageHandlingMember<? super Projection> findHandler(AnnotatedHandlerInspector<Projection> inspector,
+                                                                        EventMessage<?> message) {
+        return inspector.getHandlers()
+                        .stream()
+                        .filter(h -> h.canHandle(message))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("No handler for " + message.getPayloadType()));
+    }
+
+    @Benchmark
+    public Object singleParameter() throws Exception {
+        return singleParameterHandler.handle(stringMessage, target);
+    }
+
+    @Benchmark
+    public Object multipleParameters() throws Exception {
+        return multiParameterHandler.handle(longMessage, target);
+    }
+
+    private static class Projection {
+
+        private long counter;
+
+        @EventHandler
+        void on(String event) {
+            counter++;
+        }
+
+        @EventHandler
+        long on(Long event, EventMessage<?> message, MetaData metaData, @MetaDataValue("key") String key) {
+            return counter += event + key.length();
+        }
+    }
+}
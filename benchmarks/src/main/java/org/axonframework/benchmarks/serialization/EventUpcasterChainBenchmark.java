@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.axonframework.eventhandling.EventData;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.axonframework.serialization.upcasting.event.EventUpcasterChain;
+import org.axonframework.serialization.upcasting.event.InitialEventRepresentation;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.axonframework.serialization.upcasting.event.SingleEventUpcaster;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark measuring the cost of upcasting a batch of serialized events through an {@link EventUpcasterChain}. Each
+ * upcaster in the chain converts the payload of the events to a {@link JsonNode} and adds a field to it. The
+ * benchmark includes reading the upcasted payload, as upcasting is performed lazily.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventUpcasterChainBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String PAYLOAD_TYPE = "org.axonframework.benchmarks.SomeEvent";
+
+    @Param({"1", "5"})
+    private int upcasterCount;
+
+    private Serializer serializer;
+    private EventUpcasterChain upcasterChain;
+    private List<EventData<?>> events;
+
+    @Setup
+    public void setUp() {
+        serializer = JacksonSerializer.builder().build();
+        upcasterChain = new EventUpcasterChain(IntStream.range(0, upcasterCount)
+                                                        .mapToObj(RevisionUpcaster::new)
+                                                        .collect(Collectors.toList()));
+        Map<String, String> payload = Collections.singletonMap("name", "value");
+        SerializedObject<byte[]> serializedPayload = serializer.serialize(payload, byte[].class);
+        SerializedObject<byte[]> serializedMetaData = serializer.serialize(MetaData.emptyInstance(), byte[].class);
+        events = IntStream.range(0, BATCH_SIZE)
+                          .mapToObj(i -> new GenericDomainEventEntry<>(
+                                  "aggregateType", "aggregateId", i, UUID.randomUUID().toString(), Instant.now(),
+                                  PAYLOAD_TYPE, "0", serializedPayload.getData(), serializedMetaData.getData()
+                          ))
+                          .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void upcast(Blackhole blackhole) {
+        upcasterChain.upcast(events.stream().map(event -> new InitialEventRepresentation(event, serializer)))
+                     .forEach(representation -> blackhole.consume(representation.getData().getData()));
+    }
+
+    private static class RevisionUpcaster extends SingleEventUpcaster {
+
+        private final String inputRevision;
+        private final SimpleSerializedType outputType;
+
+        private RevisionUpcaster(int revision) {
+            this.inputRevision = Integer.toString(revision);
+            this.outputType = new SimpleSerializedType(PAYLOAD_TYPE, Integer.toString(revision + 1));
+        }
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            return PAYLOAD_TYPE.equals(intermediateRepresentation.getType().getName())
+                    && inputRevision.equals(intermediateRepresentation.getType().getRevision());
+        }
+
+        @Override
+        protected IntermediateEventRepresentation doUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            return intermediateRepresentation.upcastPayload(outputType, JsonNode.class, node -> {
+                ((ObjectNode) node).put("field" + inputRevision, inputRevision);
+                return node;
+            });
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.benchmarks.serialization;
+
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.BinaryJacksonSerializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.axonframework.serialization.xml.XStreamSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark measuring serialization, deserialization and round trips of a typical event payload using the {@link
+ * JacksonSerializer}, {@link BinaryJacksonSerializer} and {@link XStreamSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param({"jackson", "binaryJackson", "xstream"})
+    private String serializerType;
+
+    private Serializer serializer;
+    private OrderPlacedEvent payload;
+    private SerializedObject<byte[]> serializedPayload;
+
+    @Setup
+    public void setUp() {
+        switch (serializerType) {
+            case "jackson":
+                serializer = JacksonSerializer.builder().build();
+                break;
+            case "binaryJackson":
+                serializer = BinaryJacksonSerializer.builder().build();
+                break;
+            default:
+                serializer = XStreamSerializer.builder().build();
+        }
+        payload = new OrderPlacedEvent("order-1", "customer-1", 3, 49.95, Arrays.asList("item-1", "item-2", "item-3"));
+        serializedPayload = serializer.serialize(payload, byte[].class);
+    }
+
+    @Benchmark
+    public SerializedObject<byte[]> serialize() {
+        return serializer.serialize(payload, byte[].class);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serializedPayload);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(payload, byte[].class));
+    }
+
+    /**
+     * Event payload used in the serialization benchmarks.
+     */
+    public static class OrderPlacedEvent {
+
+        private String orderId;
+        private String customerId;
+        private int itemCount;
+        private double amount;
+        private List<String> items;
+
+        @SuppressWarnings("unused")
+        public OrderPlacedEvent() {
+        }
+
+        public OrderPlacedEvent(String orderId, String customerId, int itemCount, double amount, List<String> items) {
+            this.orderId = orderId;
+            this.customerId = customerId;
+            this.itemCount = itemCount;
+            this.amount = amount;
+            this.items = items;
+        }
+
+        public String getOrderId() {
+            return orderId;
+        }
+
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        public int getItemCount() {
+            return itemCount;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+    }
+}
@@ -115,7 +115,9 @@ protected AggregateConfigurer(Class<A> aggregate) {
                             .aggregateFactory(aggregateFactory.get())
                             .eventStore(c.eventStore())
                             .snapshotTriggerDefinition(snapshotTriggerDefinition.get())
-                            .repositoryProvider(c::repository);
+                            .repositoryProvider(c::repository)
+                            .messageMonitor(c.messageMonitor(EventSourcingRepository.class,
+                                                             "Repository<" + aggregate.getSimpleName() + ">"));
                     if (eventStreamFilter.get() != null) {
                         builder = builder.eventStreamFilter(eventStreamFilter.get());
                     } else if (filterEventsByType.get()) {
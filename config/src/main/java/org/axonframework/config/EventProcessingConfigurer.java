@@ -181,6 +181,37 @@ EventProcessingConfigurer registerTrackingEventProcessor(String name,
                                                              Function<Configuration, StreamableMessageSource<TrackedEventMessage<?>>> source,
                                                              Function<Configuration, TrackingEventProcessorConfiguration> processorConfiguration);
 
+    /**
+     * Registers a {@link org.axonframework.eventhandling.PooledTrackingEventProcessor} with given {@code name} and
+     * {@code source} within this Configurer.
+     *
+     * @param name   a {@link String} specifying the name of the {@link org.axonframework.eventhandling.PooledTrackingEventProcessor}
+     *               being registered
+     * @param source a {@link Function} that builds a {@link StreamableMessageSource}
+     * @return the current {@link EventProcessingConfigurer} instance, for fluent interfacing
+     */
+    default EventProcessingConfigurer registerPooledTrackingEventProcessor(String name,
+                                                                           Function<Configuration, StreamableMessageSource<TrackedEventMessage<?>>> source) {
+        return registerPooledTrackingEventProcessor(name, source, (configuration, builder) -> builder);
+    }
+
+    /**
+     * Registers a {@link org.axonframework.eventhandling.PooledTrackingEventProcessor} with given {@code name}, {@code
+     * source} and {@code processorConfiguration} within this Configurer. The {@code processorConfiguration} is given
+     * a {@link PooledTrackingEventProcessor.Builder} on which the components managed by this Configurer (such as the
+     * {@link TokenStore} and {@link ErrorHandler}) have been set, allowing further customization, such as the worker
+     * executor and the number of segments to claim.
+     *
+     * @param name                   a {@link String} specifying the name of the {@link org.axonframework.eventhandling.PooledTrackingEventProcessor}
+     *                               being registered
+     * @param source                 a {@link Function} that builds {@link StreamableMessageSource}
+     * @param processorConfiguration a {@link BiFunction} that customizes the {@link PooledTrackingEventProcessor.Builder}
+     * @return the current {@link EventProcessingConfigurer} instance, for fluent interfacing
+     */
+    EventProcessingConfigurer registerPooledTrackingEventProcessor(String name,
+                                                                   Function<Configuration, StreamableMessageSource<TrackedEventMessage<?>>> source,
+                                                                   BiFunction<Configuration, PooledTrackingEventProcessor.Builder, PooledTrackingEventProcessor.Builder> processorConfiguration);
+
     /**
      * Registers a factory that builds the default {@link EventProcessor}. This is the {@link EventProcessorBuilder} to
      * be used when there is no specific builder for given processor name.
@@ -444,6 +444,18 @@ public EventProcessingConfigurer registerTrackingEventProcessor(String name,
         return this;
     }
 
+    @Override
+    public EventProcessingConfigurer registerPooledTrackingEventProcessor(String name,
+                                                                          Function<Configuration, StreamableMessageSource<TrackedEventMessage<?>>> source,
+                                                                          BiFunction<Configuration, PooledTrackingEventProcessor.Builder, PooledTrackingEventProcessor.Builder> processorConfiguration) {
+        registerEventProcessor(
+                name,
+                (n, c, ehi) -> processorConfiguration.apply(c, pooledTrackingEventProcessorBuilder(n, ehi, source.apply(c)))
+                                                     .build()
+        );
+        return this;
+    }
+
     @Override
     public EventProcessingConfigurer registerEventProcessorFactory(
             EventProcessorBuilder eventProcessorBuilder) {
@@ -666,6 +678,21 @@ private TrackingEventProcessor trackingEventProcessor(String name,
                                      .build();
     }
 
+    private PooledTrackingEventProcessor.Builder pooledTrackingEventProcessorBuilder(
+            String name,
+            EventHandlerInvoker eventHandlerInvoker,
+            StreamableMessageSource<TrackedEventMessage<?>> source) {
+        return PooledTrackingEventProcessor.builder()
+                                           .name(name)
+                                           .eventHandlerInvoker(eventHandlerInvoker)
+                                           .rollbackConfiguration(rollbackConfiguration(name))
+                                           .errorHandler(errorHandler(name))
+                                           .messageMonitor(messageMonitor(PooledTrackingEventProcessor.class, name))
+                                           .messageSource(source)
+                                           .tokenStore(tokenStore(name))
+                                           .transactionManager(transactionManager(name));
+    }
+
     /**
      * Gets the package name from the class of the given object.
      * <p>
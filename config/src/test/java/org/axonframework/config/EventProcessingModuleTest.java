@@ -37,6 +37,7 @@
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.axonframework.common.ReflectionUtils.getFieldValue;
@@ -366,6 +367,25 @@ public void testTrackingProcessorsUsesSpecificSource() {
         assertEquals(mock2, processor.get().getMessageSource());
     }
 
+    @Test
+    public void testPooledTrackingProcessorUsesSpecificSourceAndCustomization() {
+        StreamableMessageSource<TrackedEventMessage<?>> mock = mock(StreamableMessageSource.class);
+        AtomicBoolean customized = new AtomicBoolean();
+        configurer.eventProcessing()
+                  .registerPooledTrackingEventProcessor("tracking", c -> mock, (c, builder) -> {
+                      customized.set(true);
+                      return builder.batchSize(10).initialSegmentCount(256);
+                  })
+                  .registerEventHandler(c -> new TrackingEventHandler());
+
+        Configuration config = configurer.start();
+        Optional<PooledTrackingEventProcessor> processor =
+                config.eventProcessingConfiguration().eventProcessor("tracking", PooledTrackingEventProcessor.class);
+        assertTrue(processor.isPresent());
+        assertEquals(mock, processor.get().getMessageSource());
+        assertTrue(customized.get());
+    }
+
     @Test
     public void testSubscribingProcessorsUsesConfiguredDefaultSubscribableMessageSource() {
         SubscribableMessageSource<EventMessage<?>> mock = mock(SubscribableMessageSource.class);
@@ -30,6 +30,7 @@
 import java.util.concurrent.Executor;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
 
 /**
  * Abstract implementation of the {@link org.axonframework.eventsourcing.Snapshotter} that uses a task executor to
@@ -45,6 +46,7 @@ public abstract class AbstractSnapshotter implements Snapshotter {
     private final EventStore eventStore;
     private final Executor executor;
     private final TransactionManager transactionManager;
+    private final CoalescingSnapshotScheduler coalescingScheduler;
 
     /**
      * Instantiate a {@link AbstractSnapshotter} based on the fields contained in the {@link Builder}.
@@ -59,12 +61,37 @@ protected AbstractSnapshotter(Builder builder) {
         this.eventStore = builder.eventStore;
         this.executor = builder.executor;
         this.transactionManager = builder.transactionManager;
+        this.coalescingScheduler = builder.coalescingEnabled
+                ? new CoalescingSnapshotScheduler(executor,
+                                                  builder.maxConcurrentSnapshots,
+                                                  builder.maxPendingSnapshots,
+                                                  this::createSilentTransactionalTask)
+                : null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When coalescing is enabled, a request without a sequence number is given the highest priority, as the length of
+     * the aggregate's event stream is unknown.
+     */
     @Override
     public void scheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier) {
-        executor.execute(new SilentTask(() -> transactionManager
-                .executeInTransaction(createSnapshotterTask(aggregateType, aggregateIdentifier))));
+        scheduleSnapshot(aggregateType, aggregateIdentifier, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void scheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier, long sequenceNumber) {
+        if (coalescingScheduler != null) {
+            coalescingScheduler.schedule(aggregateType, aggregateIdentifier, sequenceNumber);
+        } else {
+            executor.execute(createSilentTransactionalTask(aggregateType, aggregateIdentifier));
+        }
+    }
+
+    private Runnable createSilentTransactionalTask(Class<?> aggregateType, String aggregateIdentifier) {
+        return new SilentTask(() -> transactionManager
+                .executeInTransaction(createSnapshotterTask(aggregateType, aggregateIdentifier)));
     }
 
     /**
@@ -108,18 +135,66 @@ protected Executor getExecutor() {
         return executor;
     }
 
+    /**
+     * Returns the number of snapshot requests waiting to be executed. Requests are only queued when coalescing is
+     * enabled, otherwise this method returns {@code 0}.
+     *
+     * @return the number of pending snapshot requests
+     * @see Builder#coalescingEnabled(boolean)
+     */
+    public int getPendingSnapshotCount() {
+        return coalescingScheduler == null ? 0 : coalescingScheduler.pendingCount();
+    }
+
+    /**
+     * Returns the number of snapshot tasks that are executing, or have been submitted to the executor, when coalescing
+     * is enabled. Otherwise this method returns {@code 0}.
+     *
+     * @return the number of active snapshot tasks
+     * @see Builder#coalescingEnabled(boolean)
+     */
+    public int getActiveSnapshotCount() {
+        return coalescingScheduler == null ? 0 : coalescingScheduler.activeCount();
+    }
+
+    /**
+     * Returns the number of snapshot requests that were coalesced into an already pending request for the same
+     * aggregate.
+     *
+     * @return the number of coalesced snapshot requests
+     * @see Builder#coalescingEnabled(boolean)
+     */
+    public long getCoalescedSnapshotCount() {
+        return coalescingScheduler == null ? 0 : coalescingScheduler.coalescedCount();
+    }
+
+    /**
+     * Returns the number of snapshot requests that were dropped because the maximum number of pending requests was
+     * reached.
+     *
+     * @return the number of dropped snapshot requests
+     * @see Builder#maxPendingSnapshots(int)
+     */
+    public long getDroppedSnapshotCount() {
+        return coalescingScheduler == null ? 0 : coalescingScheduler.droppedCount();
+    }
+
     /**
      * Abstract Builder class to instantiate {@link AbstractSnapshotter} implementations.
      * <p>
      * The {@link Executor} is defaulted to an {@link DirectExecutor#INSTANCE} and the {@link TransactionManager}
-     * defaults to a {@link NoTransactionManager}. The {@link EventStore} is a <b>hard requirement</b> and as such
-     * should be provided.
+     * defaults to a {@link NoTransactionManager}. Coalescing of snapshot requests is disabled by default. When
+     * enabled, the maximum number of concurrent snapshots defaults to {@code 1} and the maximum number of pending
+     * snapshots to {@code 10000}. The {@link EventStore} is a <b>hard requirement</b> and as such should be provided.
      */
     public abstract static class Builder {
 
         private EventStore eventStore;
         private Executor executor = DirectExecutor.INSTANCE;
         private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private boolean coalescingEnabled = false;
+        private int maxConcurrentSnapshots = 1;
+        private int maxPendingSnapshots = 10000;
 
         /**
          * Sets the {@link EventStore} instance which this {@link AbstractSnapshotter} implementation will store
@@ -162,6 +237,54 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        /**
+         * Sets whether snapshot requests should be queued and coalesced, rather than submitted to the {@link
+         * Executor} directly. Defaults to {@code false}.
+         * <p>
+         * When enabled, a request for an aggregate that already has a pending request is merged into the pending
+         * request. At most {@link #maxConcurrentSnapshots(int) maxConcurrentSnapshots} snapshots are created
+         * concurrently, and pending requests are executed in order of the length of the aggregate's event stream,
+         * longest first. This mode is intended to be used with an asynchronous executor, such as a bounded thread
+         * pool.
+         *
+         * @param coalescingEnabled whether snapshot requests should be queued and coalesced per aggregate
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder coalescingEnabled(boolean coalescingEnabled) {
+            this.coalescingEnabled = coalescingEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of snapshots that are created concurrently when coalescing is enabled. Defaults to
+         * {@code 1}.
+         *
+         * @param maxConcurrentSnapshots the maximum number of snapshots created concurrently
+         * @return the current Builder instance, for fluent interfacing
+         * @see #coalescingEnabled(boolean)
+         */
+        public Builder maxConcurrentSnapshots(int maxConcurrentSnapshots) {
+            assertThat(maxConcurrentSnapshots, n -> n > 0,
+                       "The maximum number of concurrent snapshots should be positive");
+            this.maxConcurrentSnapshots = maxConcurrentSnapshots;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of snapshot requests waiting to be executed when coalescing is enabled. When this
+         * number is reached, the request for the aggregate with the shortest event stream is dropped. Defaults to
+         * {@code 10000}.
+         *
+         * @param maxPendingSnapshots the maximum number of pending snapshot requests
+         * @return the current Builder instance, for fluent interfacing
+         * @see #coalescingEnabled(boolean)
+         */
+        public Builder maxPendingSnapshots(int maxPendingSnapshots) {
+            assertThat(maxPendingSnapshots, n -> n > 0, "The maximum number of pending snapshots should be positive");
+            this.maxPendingSnapshots = maxPendingSnapshots;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
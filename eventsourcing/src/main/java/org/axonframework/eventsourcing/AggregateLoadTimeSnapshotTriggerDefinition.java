@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshotter trigger mechanism that measures the time it takes to source an aggregate from the Event Store to decide
+ * when to create a snapshot. A snapshot is triggered when reading and applying the historic events of an aggregate
+ * took at least the given threshold. Unlike the {@link EventCountSnapshotTriggerDefinition}, this takes the size of
+ * the events and the cost of upcasting them into account.
+ * <p>
+ * Aggregates retrieved from a cache are not sourced, and thus never trigger a snapshot using this definition.
+ *
+ * @since 4.3
+ */
+public class AggregateLoadTimeSnapshotTriggerDefinition implements SnapshotTriggerDefinition {
+
+    private final Snapshotter snapshotter;
+    private final long thresholdNanos;
+
+    /**
+     * Initialize the SnapshotTriggerDefinition to trigger snapshots using the given {@code snapshotter} when sourcing
+     * an Aggregate instance took at least the given {@code threshold}.
+     *
+     * @param snapshotter the snapshotter to notify when a snapshot needs to be taken
+     * @param threshold   the sourcing time that triggers the creation of a snapshot
+     * @param timeUnit    the unit of the given {@code threshold}
+     */
+    public AggregateLoadTimeSnapshotTriggerDefinition(Snapshotter snapshotter, long threshold, TimeUnit timeUnit) {
+        this.snapshotter = snapshotter;
+        this.thresholdNanos = timeUnit.toNanos(threshold);
+    }
+
+    @Override
+    public SnapshotTrigger prepareTrigger(Class<?> aggregateType) {
+        return new AggregateLoadTimeSnapshotTrigger(snapshotter, aggregateType, thresholdNanos);
+    }
+
+    @Override
+    public SnapshotTrigger reconfigure(Class<?> aggregateType, SnapshotTrigger trigger) {
+        if (trigger instanceof AggregateLoadTimeSnapshotTrigger) {
+            ((AggregateLoadTimeSnapshotTrigger) trigger).setSnapshotter(snapshotter);
+            return trigger;
+        }
+        return prepareTrigger(aggregateType);
+    }
+
+    private static class AggregateLoadTimeSnapshotTrigger extends SourcingCostSnapshotTrigger {
+
+        private final long thresholdNanos;
+
+        private AggregateLoadTimeSnapshotTrigger(Snapshotter snapshotter, Class<?> aggregateType,
+                                                 long thresholdNanos) {
+            super(snapshotter, aggregateType);
+            this.thresholdNanos = thresholdNanos;
+        }
+
+        @Override
+        protected boolean isSnapshotRequired(long sourcingTimeNanos, long serializedSize) {
+            return sourcingTimeNanos >= thresholdNanos;
+        }
+    }
+}
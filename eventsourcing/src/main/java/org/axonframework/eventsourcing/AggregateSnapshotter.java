@@ -16,7 +16,9 @@
 
 package org.axonframework.eventsourcing;
 
+import org.axonframework.modelling.command.Aggregate;
 import org.axonframework.modelling.command.ApplyMore;
+import org.axonframework.modelling.command.Repository;
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
 import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
@@ -32,12 +34,15 @@
 import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
 import org.axonframework.messaging.annotation.HandlerDefinition;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -46,6 +51,12 @@
  * Implementation of a snapshotter that uses the actual aggregate and its state to create a snapshot event. The
  * motivation is that an aggregate always contains all relevant state. Therefore, storing the aggregate itself inside
  * an event should capture all necessary information.
+ * <p>
+ * If a {@link RepositoryProvider} is configured and it provides a {@link CachingEventSourcingRepository} that holds
+ * the aggregate in its cache, the snapshot is taken from the cached instance, instead of sourcing the aggregate from
+ * the last snapshot and the events following it. The cached instance is loaded under the repository's lock, so that
+ * the snapshot reflects a consistent, committed state of the aggregate. This only happens when the snapshot is created
+ * outside of an active Unit of Work, for example when an asynchronous {@link Executor} is used.
  *
  * @author Allard Buijze
  * @since 0.6
@@ -97,6 +108,18 @@ public static Builder builder() {
         return new Builder();
     }
 
+    @Override
+    protected Runnable createSnapshotterTask(Class<?> aggregateType, String aggregateIdentifier) {
+        if (repositoryProvider != null && !CurrentUnitOfWork.isStarted()) {
+            Repository<?> repository = repositoryProvider.repositoryFor(aggregateType);
+            if (repository instanceof CachingEventSourcingRepository
+                    && ((CachingEventSourcingRepository<?>) repository).isCached(aggregateIdentifier)) {
+                return new CachedAggregateSnapshotTask(repository, aggregateIdentifier);
+            }
+        }
+        return super.createSnapshotterTask(aggregateType, aggregateIdentifier);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     protected DomainEventMessage createSnapshot(Class<?> aggregateType,
@@ -189,6 +212,24 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        @Override
+        public Builder coalescingEnabled(boolean coalescingEnabled) {
+            super.coalescingEnabled(coalescingEnabled);
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentSnapshots(int maxConcurrentSnapshots) {
+            super.maxConcurrentSnapshots(maxConcurrentSnapshots);
+            return this;
+        }
+
+        @Override
+        public Builder maxPendingSnapshots(int maxPendingSnapshots) {
+            super.maxPendingSnapshots(maxPendingSnapshots);
+            return this;
+        }
+
         /**
          * Sets the {@code aggregateFactories} supported by this snapshotter. The {@link AggregateFactory} instances are
          * used to create the relevant Aggregate Root instance, which represent the snapshots.
@@ -320,6 +361,37 @@ protected void validate() throws AxonConfigurationException {
         }
     }
 
+    private final class CachedAggregateSnapshotTask implements Runnable {
+
+        private final Repository<?> repository;
+        private final String identifier;
+
+        private CachedAggregateSnapshotTask(Repository<?> repository, String identifier) {
+            this.repository = repository;
+            this.identifier = identifier;
+        }
+
+        @Override
+        public void run() {
+            DefaultUnitOfWork.startAndGet(null).execute(() -> {
+                Aggregate<?> aggregate;
+                try {
+                    aggregate = repository.load(identifier);
+                } catch (AggregateDeletedException e) {
+                    return;
+                }
+                if (aggregate.isDeleted() || aggregate.version() == null) {
+                    return;
+                }
+                // the snapshot is stored while the aggregate's lock is held, so it cannot change while serializing
+                getEventStore().storeSnapshot(new GenericDomainEventMessage<>(aggregate.type(),
+                                                                              aggregate.identifierAsString(),
+                                                                              aggregate.version(),
+                                                                              aggregate.invoke(Function.identity())));
+            });
+        }
+    }
+
     private static class SnapshotAggregate<T> extends EventSourcedAggregate<T> {
 
         private SnapshotAggregate(T aggregateRoot,
@@ -24,6 +24,10 @@
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -76,6 +80,17 @@ protected CachingEventSourcingRepository(Builder<T> builder) {
         this.repositoryProvider = builder.repositoryProvider;
     }
 
+    /**
+     * Indicates whether the aggregate with given {@code aggregateIdentifier} is currently held in the cache of this
+     * repository. Note that the entry may be evicted at any moment after this check.
+     *
+     * @param aggregateIdentifier the identifier of the aggregate to check
+     * @return {@code true} if the aggregate is cached, otherwise {@code false}
+     */
+    public boolean isCached(String aggregateIdentifier) {
+        return cache.containsKey(aggregateIdentifier);
+    }
+
     @Override
     protected void validateOnLoad(Aggregate<T> aggregate, Long expectedVersion) {
         CurrentUnitOfWork.get().onRollback(u -> cache.remove(aggregate.identifierAsString()));
@@ -113,17 +128,48 @@ protected void doDeleteWithLock(EventSourcedAggregate<T> aggregate) {
      */
     @Override
     protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Long expectedVersion) {
-        EventSourcedAggregate<T> aggregate = null;
-        AggregateCacheEntry<T> cacheEntry = cache.get(aggregateIdentifier);
-        if (cacheEntry != null) {
-            aggregate = cacheEntry.recreateAggregate(aggregateModel(),
-                                                     eventStore,
-                                                     repositoryProvider,
-                                                     snapshotTriggerDefinition);
-        }
+        EventSourcedAggregate<T> aggregate = loadFromCache(aggregateIdentifier);
         if (aggregate == null) {
             aggregate = super.doLoadWithLock(aggregateIdentifier, expectedVersion);
-        } else if (aggregate.isDeleted()) {
+        }
+        return aggregate;
+    }
+
+    /**
+     * Perform the actual loading of several aggregates. The necessary locks have been obtained. Aggregates available
+     * in the cache are returned from there. The others are loaded together by the underlying persistence logic.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load, in their natural order
+     * @return a map with the fully initialized aggregate per identifier
+     */
+    @Override
+    protected Map<String, EventSourcedAggregate<T>> doLoadAllWithLock(List<String> aggregateIdentifiers) {
+        Map<String, EventSourcedAggregate<T>> aggregates = new HashMap<>();
+        List<String> uncachedIdentifiers = new ArrayList<>();
+        for (String aggregateIdentifier : aggregateIdentifiers) {
+            EventSourcedAggregate<T> aggregate = loadFromCache(aggregateIdentifier);
+            if (aggregate == null) {
+                uncachedIdentifiers.add(aggregateIdentifier);
+            } else {
+                aggregates.put(aggregateIdentifier, aggregate);
+            }
+        }
+        if (!uncachedIdentifiers.isEmpty()) {
+            aggregates.putAll(super.doLoadAllWithLock(uncachedIdentifiers));
+        }
+        return aggregates;
+    }
+
+    private EventSourcedAggregate<T> loadFromCache(String aggregateIdentifier) {
+        AggregateCacheEntry<T> cacheEntry = cache.get(aggregateIdentifier);
+        if (cacheEntry == null) {
+            return null;
+        }
+        EventSourcedAggregate<T> aggregate = cacheEntry.recreateAggregate(aggregateModel(),
+                                                                          eventStore,
+                                                                          repositoryProvider,
+                                                                          snapshotTriggerDefinition);
+        if (aggregate != null && aggregate.isDeleted()) {
             throw new AggregateDeletedException(aggregateIdentifier);
         }
         return aggregate;
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Component that queues snapshot requests and executes them on an {@link Executor}, with a limited number of
+ * concurrently executing snapshot tasks.
+ * <p>
+ * Requests for an aggregate that already has a pending request are coalesced into that pending request. Pending
+ * requests are executed in order of descending sequence number, so that aggregates with the longest event streams are
+ * snapshotted first. When the maximum number of pending requests has been reached, the request with the lowest
+ * sequence number is dropped. Pending requests are also dropped when the executor rejects a task while no other task
+ * is active to execute them.
+ *
+ * @since 4.3
+ */
+class CoalescingSnapshotScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingSnapshotScheduler.class);
+
+    private final Executor executor;
+    private final int maxConcurrentSnapshots;
+    private final int maxPendingSnapshots;
+    private final BiFunction<Class<?>, String, Runnable> taskFactory;
+
+    private final TreeSet<PendingSnapshot> queue = new TreeSet<>(
+            Comparator.comparingLong((PendingSnapshot p) -> p.sequenceNumber).reversed()
+                      .thenComparingLong(p -> p.order)
+    );
+    private final Map<AggregateKey, PendingSnapshot> pendingByAggregate = new HashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long orderCounter;
+    private int activeWorkers;
+
+    /**
+     * Initialize the scheduler to execute snapshot tasks created by given {@code taskFactory} on given {@code
+     * executor}. At most {@code maxConcurrentSnapshots} tasks are executed concurrently and at most {@code
+     * maxPendingSnapshots} requests are kept in the queue.
+     *
+     * @param executor               the executor to execute snapshot tasks on
+     * @param maxConcurrentSnapshots the maximum number of snapshot tasks executing concurrently
+     * @param maxPendingSnapshots    the maximum number of pending snapshot requests
+     * @param taskFactory            the function creating the snapshot task for an aggregate type and identifier
+     */
+    CoalescingSnapshotScheduler(Executor executor, int maxConcurrentSnapshots, int maxPendingSnapshots,
+                                BiFunction<Class<?>, String, Runnable> taskFactory) {
+        this.executor = executor;
+        this.maxConcurrentSnapshots = maxConcurrentSnapshots;
+        this.maxPendingSnapshots = maxPendingSnapshots;
+        this.taskFactory = taskFactory;
+    }
+
+    /**
+     * Schedules a snapshot for the aggregate with given {@code aggregateType} and {@code aggregateIdentifier}, of which
+     * the last event has given {@code sequenceNumber}.
+     *
+     * @param aggregateType       the type of the aggregate
+     * @param aggregateIdentifier the identifier of the aggregate
+     * @param sequenceNumber      the sequence number of the last event of the aggregate
+     */
+    void schedule(Class<?> aggregateType, String aggregateIdentifier, long sequenceNumber) {
+        AggregateKey key = new AggregateKey(aggregateType, aggregateIdentifier);
+        synchronized (this) {
+            PendingSnapshot pending = pendingByAggregate.get(key);
+            if (pending != null) {
+                coalescedCount.incrementAndGet();
+                if (sequenceNumber > pending.sequenceNumber) {
+                    queue.remove(pending);
+                    pending.sequenceNumber = sequenceNumber;
+                    queue.add(pending);
+                }
+                return;
+            }
+            if (queue.size() >= maxPendingSnapshots) {
+                PendingSnapshot lowest = queue.last();
+                droppedCount.incrementAndGet();
+                if (lowest.sequenceNumber >= sequenceNumber) {
+                    logger.debug("Snapshot queue is full. Dropping snapshot request for aggregate [{}].",
+                                 aggregateIdentifier);
+                    return;
+                }
+                logger.debug("Snapshot queue is full. Dropping snapshot request for aggregate [{}].",
+                             lowest.key.identifier);
+                queue.remove(lowest);
+                pendingByAggregate.remove(lowest.key);
+            }
+            pending = new PendingSnapshot(key, sequenceNumber, orderCounter++);
+            queue.add(pending);
+            pendingByAggregate.put(key, pending);
+            if (activeWorkers >= maxConcurrentSnapshots) {
+                return;
+            }
+            activeWorkers++;
+        }
+        try {
+            executor.execute(this::processQueue);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                activeWorkers--;
+                if (activeWorkers > 0) {
+                    logger.warn("Executor rejected snapshot task. Pending snapshots are executed by an active task.");
+                    return;
+                }
+                // no task is left to execute the pending requests, so they would never be executed
+                logger.warn("Executor rejected snapshot task. Dropping {} pending snapshot request(s).", queue.size());
+                droppedCount.addAndGet(queue.size());
+                queue.clear();
+                pendingByAggregate.clear();
+            }
+        }
+    }
+
+    private void processQueue() {
+        PendingSnapshot next = nextOrRelease();
+        while (next != null) {
+            try {
+                taskFactory.apply(next.key.type, next.key.identifier).run();
+            } catch (RuntimeException e) {
+                logger.warn("An attempt to create a snapshot for aggregate [{}] failed.", next.key.identifier, e);
+            }
+            next = nextOrRelease();
+        }
+    }
+
+    private synchronized PendingSnapshot nextOrRelease() {
+        PendingSnapshot next = queue.pollFirst();
+        if (next == null) {
+            activeWorkers--;
+        } else {
+            pendingByAggregate.remove(next.key);
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of snapshot requests waiting to be executed.
+     *
+     * @return the number of pending snapshot requests
+     */
+    synchronized int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of snapshot tasks that are currently executing, or have been submitted to the executor.
+     *
+     * @return the number of active snapshot tasks
+     */
+    synchronized int activeCount() {
+        return activeWorkers;
+    }
+
+    /**
+     * Returns the number of snapshot requests that were coalesced into an already pending request.
+     *
+     * @return the number of coalesced snapshot requests
+     */
+    long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Returns the number of snapshot requests that were dropped because the maximum number of pending requests was
+     * reached.
+     *
+     * @return the number of dropped snapshot requests
+     */
+    long droppedCount() {
+        return droppedCount.get();
+    }
+
+    private static class PendingSnapshot {
+
+        private final AggregateKey key;
+        private final long order;
+        private long sequenceNumber;
+
+        private PendingSnapshot(AggregateKey key, long sequenceNumber, long order) {
+            this.key = key;
+            this.sequenceNumber = sequenceNumber;
+            this.order = order;
+        }
+    }
+
+    private static class AggregateKey {
+
+        private final Class<?> type;
+        private final String identifier;
+
+        private AggregateKey(Class<?> type, String identifier) {
+            this.type = type;
+            this.identifier = identifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            AggregateKey that = (AggregateKey) o;
+            return Objects.equals(type, that.type) && Objects.equals(identifier, that.identifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, identifier);
+        }
+    }
+}
@@ -88,7 +88,7 @@ public void eventHandled(EventMessage<?> msg) {
         }
 
         protected void scheduleSnapshot(DomainEventMessage msg) {
-            snapshotter.scheduleSnapshot(aggregateType, msg.getAggregateIdentifier());
+            snapshotter.scheduleSnapshot(aggregateType, msg.getAggregateIdentifier(), msg.getSequenceNumber());
             counter = 0;
         }
 
@@ -23,6 +23,8 @@
 import org.axonframework.eventsourcing.conflictresolution.DefaultConflictResolver;
 import org.axonframework.eventsourcing.eventstore.DomainEventStream;
 import org.axonframework.eventsourcing.eventstore.EventStore;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.Message;
 import org.axonframework.messaging.annotation.HandlerDefinition;
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
@@ -33,7 +35,12 @@
 import org.axonframework.modelling.command.Repository;
 import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.monitoring.NoOpMessageMonitor;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 
@@ -56,6 +63,7 @@
     private final AggregateFactory<T> aggregateFactory;
     private final RepositoryProvider repositoryProvider;
     private final Predicate<? super DomainEventMessage<?>> eventStreamFilter;
+    private final MessageMonitor<? super Message<?>> messageMonitor;
 
     /**
      * Instantiate a {@link EventSourcingRepository} based on the fields contained in the {@link Builder}.
@@ -82,6 +90,7 @@ protected EventSourcingRepository(Builder<T> builder) {
         this.snapshotTriggerDefinition = builder.snapshotTriggerDefinition;
         this.repositoryProvider = builder.repositoryProvider;
         this.eventStreamFilter = builder.eventStreamFilter;
+        this.messageMonitor = builder.messageMonitor;
     }
 
     /**
@@ -110,6 +119,10 @@ public static <T> Builder<T> builder(Class<T> aggregateType) {
 
     /**
      * Perform the actual loading of an aggregate. The necessary locks have been obtained.
+     * <p>
+     * The time it takes to source the aggregate is reported to the configured {@link MessageMonitor}, for the message
+     * of the current Unit of Work. The sourcing time and the number of bytes of serialized event data read are also
+     * reported to the aggregate's {@link SnapshotTrigger}.
      *
      * @param aggregateIdentifier the identifier of the aggregate to load
      * @param expectedVersion     The expected version of the loaded aggregate
@@ -120,10 +133,63 @@ public static <T> Builder<T> builder(Class<T> aggregateType) {
      */
     @Override
     protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Long expectedVersion) {
-        DomainEventStream eventStream = readEvents(aggregateIdentifier);
+        MessageMonitor.MonitorCallback monitorCallback =
+                messageMonitor.onMessageIngested(monitoredMessage(aggregateIdentifier));
+        long startTime = System.nanoTime();
+        try {
+            EventSourcedAggregate<T> aggregate =
+                    initializeAggregate(aggregateIdentifier, readEvents(aggregateIdentifier), startTime);
+            monitorCallback.reportSuccess();
+            return aggregate;
+        } catch (RuntimeException e) {
+            monitorCallback.reportFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Perform the actual loading of several aggregates. The necessary locks have been obtained.
+     * <p>
+     * The event streams of all aggregates are requested from the {@link EventStore} at once, allowing it to read them
+     * concurrently. The aggregates are then initialized one after the other, on the calling thread. The sourcing time
+     * reported to the {@link MessageMonitor} and the {@link SnapshotTrigger} of each aggregate includes the time it
+     * took to open the event streams.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load, in their natural order
+     * @return a map with the fully initialized aggregate per identifier
+     *
+     * @throws AggregateDeletedException  in case any of the aggregates existed in the past, but has been deleted
+     * @throws AggregateNotFoundException when any of the aggregates with the given identifiers does not exist
+     */
+    @Override
+    protected Map<String, EventSourcedAggregate<T>> doLoadAllWithLock(List<String> aggregateIdentifiers) {
+        Map<String, MessageMonitor.MonitorCallback> monitorCallbacks = new HashMap<>();
+        aggregateIdentifiers.forEach(identifier -> monitorCallbacks.put(
+                identifier, messageMonitor.onMessageIngested(monitoredMessage(identifier))
+        ));
+        long startTime = System.nanoTime();
+        Map<String, EventSourcedAggregate<T>> aggregates = new HashMap<>();
+        try {
+            Map<String, DomainEventStream> eventStreams = readEvents(aggregateIdentifiers);
+            for (String aggregateIdentifier : aggregateIdentifiers) {
+                aggregates.put(aggregateIdentifier, initializeAggregate(
+                        aggregateIdentifier, eventStreams.get(aggregateIdentifier), startTime
+                ));
+                monitorCallbacks.remove(aggregateIdentifier).reportSuccess();
+            }
+            return aggregates;
+        } catch (RuntimeException e) {
+            monitorCallbacks.values().forEach(monitorCallback -> monitorCallback.reportFailure(e));
+            throw e;
+        }
+    }
+
+    private EventSourcedAggregate<T> initializeAggregate(String aggregateIdentifier, DomainEventStream eventStream,
+                                                         long startTime) {
         SnapshotTrigger trigger = snapshotTriggerDefinition.prepareTrigger(aggregateFactory.getAggregateType());
         if (!eventStream.hasNext()) {
-            throw new AggregateNotFoundException(aggregateIdentifier, "The aggregate was not found in the event store");
+            throw new AggregateNotFoundException(aggregateIdentifier,
+                                                 "The aggregate was not found in the event store");
         }
         EventSourcedAggregate<T> aggregate = EventSourcedAggregate
                 .initialize(aggregateFactory.createAggregateRoot(aggregateIdentifier, eventStream.peek()),
@@ -132,9 +198,15 @@ protected EventSourcedAggregate<T> doLoadWithLock(String aggregateIdentifier, Lo
         if (aggregate.isDeleted()) {
             throw new AggregateDeletedException(aggregateIdentifier);
         }
+        trigger.aggregateSourced(System.nanoTime() - startTime, eventStream.getSerializedSize());
         return aggregate;
     }
 
+    private Message<?> monitoredMessage(String aggregateIdentifier) {
+        Message<?> message = CurrentUnitOfWork.isStarted() ? CurrentUnitOfWork.get().getMessage() : null;
+        return message != null ? message : new GenericMessage<>(aggregateIdentifier);
+    }
+
     /**
      * Reads the events for the given aggregateIdentifier from the eventStore. this method may be overridden to
      * add pre or postprocessing to the loading of an event stream
@@ -148,6 +220,23 @@ protected DomainEventStream readEvents(String aggregateIdentifier) {
         return eventStreamFilter != null ? fullStream.filter(eventStreamFilter) : fullStream;
     }
 
+    /**
+     * Reads the events for the given aggregateIdentifiers from the eventStore, using {@link
+     * EventStore#readEventStreams(java.util.Collection)}. This method may be overridden to add pre or postprocessing
+     * to the loading of the event streams.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load
+     * @return the domain event stream per aggregate identifier, with {@link #eventStreamFilter} applied if one was
+     *         configured
+     */
+    protected Map<String, DomainEventStream> readEvents(List<String> aggregateIdentifiers) {
+        Map<String, DomainEventStream> eventStreams = eventStore.readEventStreams(aggregateIdentifiers);
+        if (eventStreamFilter != null) {
+            eventStreams.replaceAll((identifier, eventStream) -> eventStream.filter(eventStreamFilter));
+        }
+        return eventStreams;
+    }
+
     @Override
     protected void validateOnLoad(Aggregate<T> aggregate, Long expectedVersion) {
         if (expectedVersion != null && expectedVersion < aggregate.version()) {
@@ -218,6 +307,7 @@ public AggregateFactory<T> getAggregateFactory() {
         protected RepositoryProvider repositoryProvider;
         protected Cache cache;
         protected Predicate<? super DomainEventMessage<?>> eventStreamFilter;
+        private MessageMonitor<? super Message<?>> messageMonitor = NoOpMessageMonitor.INSTANCE;
 
         /**
          * Creates a builder for a Repository for given {@code aggregateType}.
@@ -345,6 +435,21 @@ public Builder<T> filterByAggregateType() {
             return eventStreamFilter(event -> aggregateType.equals(event.getType()));
         }
 
+        /**
+         * Sets the {@link MessageMonitor} to which the time it takes to source an Aggregate from the {@link
+         * EventStore} is reported. The message of the Unit of Work in which the Aggregate is loaded is passed to the
+         * monitor. Defaults to a {@link NoOpMessageMonitor}.
+         *
+         * @param messageMonitor a {@link MessageMonitor} to which the time it takes to source an Aggregate is
+         *                       reported
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> messageMonitor(MessageMonitor<? super Message<?>> messageMonitor) {
+            assertNonNull(messageMonitor, "MessageMonitor may not be null");
+            this.messageMonitor = messageMonitor;
+            return this;
+        }
+
         /**
          * Initializes a {@link EventSourcingRepository} or {@link CachingEventSourcingRepository} as specified through
          * this Builder. Will return a CachingEventSourcingRepository if {@link #cache(Cache)} has been set. Otherwise
@@ -22,13 +22,17 @@
 import org.axonframework.eventhandling.GenericDomainEventMessage;
 import org.axonframework.eventhandling.GenericTrackedDomainEventMessage;
 import org.axonframework.eventsourcing.eventstore.DomainEventStream;
+import org.axonframework.serialization.Converter;
 import org.axonframework.serialization.LazyDeserializingObject;
 import org.axonframework.serialization.SerializedMessage;
+import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
 import org.axonframework.serialization.upcasting.event.InitialEventRepresentation;
 import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -57,6 +61,10 @@ private EventStreamUtils() {
      * <p>
      * The list of events returned contains lazy deserializing events for optimization purposes. Events represented with
      * unknown classes are ignored if {@code skipUnknownTypes} is {@code true}
+     * <p>
+     * The returned stream reports the size in bytes of the serialized payload and meta data of the entries read so far
+     * through {@link DomainEventStream#getSerializedSize()}. Data that is not stored as a {@code byte[]} or {@link
+     * String} is converted to a {@code byte[]} by the {@link Converter} of given {@code serializer} to measure it.
      *
      * @param eventEntryStream the stream of entries containing the data of the serialized event
      * @param serializer       the serializer to deserialize the event with
@@ -67,10 +75,13 @@ private EventStreamUtils() {
     public static DomainEventStream upcastAndDeserializeDomainEvents(
             Stream<? extends DomainEventData<?>> eventEntryStream, Serializer serializer, EventUpcaster upcasterChain) {
         AtomicReference<Long> currentSequenceNumber = new AtomicReference<>();
+        AtomicLong serializedSize = new AtomicLong();
         Stream<IntermediateEventRepresentation> upcastResult =
                 upcastAndDeserialize(eventEntryStream, upcasterChain, entry -> {
                     InitialEventRepresentation result = new InitialEventRepresentation(entry, serializer);
                     currentSequenceNumber.set(result.getSequenceNumber().get());
+                    serializedSize.addAndGet(sizeOf(entry.getPayload(), serializer)
+                                                     + sizeOf(entry.getMetaData(), serializer));
                     return result;
                 });
         Stream<? extends DomainEventMessage<?>> stream = upcastResult.map(ir -> {
@@ -90,7 +101,22 @@ public static DomainEventStream upcastAndDeserializeDomainEvents(
                                                        ir::getTimestamp);
             }
         });
-        return DomainEventStream.of(stream, currentSequenceNumber::get);
+        return DomainEventStream.of(stream, currentSequenceNumber::get, serializedSize::get);
+    }
+
+    private static long sizeOf(SerializedObject<?> serializedObject, Serializer serializer) {
+        Object data = serializedObject.getData();
+        if (data instanceof byte[]) {
+            return ((byte[]) data).length;
+        } else if (data instanceof String) {
+            return ((String) data).getBytes(StandardCharsets.UTF_8).length;
+        } else if (data != null) {
+            Converter converter = serializer.getConverter();
+            if (converter != null && converter.canConvert(data.getClass(), byte[].class)) {
+                return converter.convert(data, byte[].class).length;
+            }
+        }
+        return 0;
     }
 
     /**
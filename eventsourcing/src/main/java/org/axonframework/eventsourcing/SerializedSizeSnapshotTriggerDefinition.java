@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+/**
+ * Snapshotter trigger mechanism that measures the amount of serialized event data read while sourcing an aggregate to
+ * decide when to create a snapshot. A snapshot is triggered when at least the given number of bytes of event data was
+ * read to source an aggregate. The size is the number of bytes of the serialized payload and meta data of the events,
+ * where data stored as a {@link String} is measured by its UTF-8 encoding, and other representations, such as a JSON
+ * tree, by the {@code byte[]} the {@link org.axonframework.serialization.Serializer Serializer's} converter produces
+ * for them. The snapshot an aggregate was sourced from, if any, is not included in this size, so only the events
+ * applied after the snapshot are counted. Unlike the time it takes to source an aggregate, the size of the data read
+ * does not vary with the load on the system.
+ * <p>
+ * Aggregates retrieved from a cache are not sourced, and thus never trigger a snapshot using this definition. Also,
+ * when the Event Store does not report the size of the serialized data it reads, no snapshots are triggered.
+ *
+ * @since 4.3
+ */
+public class SerializedSizeSnapshotTriggerDefinition implements SnapshotTriggerDefinition {
+
+    private final Snapshotter snapshotter;
+    private final long threshold;
+
+    /**
+     * Initialize the SnapshotTriggerDefinition to trigger snapshots using the given {@code snapshotter} when at least
+     * {@code threshold} bytes of serialized event data have been read to source an Aggregate instance.
+     *
+     * @param snapshotter the snapshotter to notify when a snapshot needs to be taken
+     * @param threshold   the number of bytes of serialized event data read that triggers the creation of a snapshot
+     */
+    public SerializedSizeSnapshotTriggerDefinition(Snapshotter snapshotter, long threshold) {
+        this.snapshotter = snapshotter;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public SnapshotTrigger prepareTrigger(Class<?> aggregateType) {
+        return new SerializedSizeSnapshotTrigger(snapshotter, aggregateType, threshold);
+    }
+
+    @Override
+    public SnapshotTrigger reconfigure(Class<?> aggregateType, SnapshotTrigger trigger) {
+        if (trigger instanceof SerializedSizeSnapshotTrigger) {
+            ((SerializedSizeSnapshotTrigger) trigger).setSnapshotter(snapshotter);
+            return trigger;
+        }
+        return prepareTrigger(aggregateType);
+    }
+
+    private static class SerializedSizeSnapshotTrigger extends SourcingCostSnapshotTrigger {
+
+        private final long threshold;
+
+        private SerializedSizeSnapshotTrigger(Snapshotter snapshotter, Class<?> aggregateType, long threshold) {
+            super(snapshotter, aggregateType);
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected boolean isSnapshotRequired(long sourcingTimeNanos, long serializedSize) {
+            return serializedSize > 0 && serializedSize >= threshold;
+        }
+    }
+}
@@ -47,4 +47,17 @@ public interface SnapshotTrigger {
      * of {@link #eventHandled(EventMessage)} involves an event being applied on "current state".
      */
     void initializationFinished();
+
+    /**
+     * Invoked by the repository after the aggregate has been sourced from the Event Store, providing the time it took
+     * to read and apply the historic events, and the number of bytes of serialized event data read to do so. This
+     * method is invoked after {@link #initializationFinished()}. It is not invoked when the aggregate is obtained from
+     * a cache.
+     *
+     * @param sourcingTimeNanos the time in nanoseconds it took to source the aggregate
+     * @param serializedSize    the number of bytes of serialized event data read to source the aggregate, or {@code 0}
+     *                          if unknown
+     */
+    default void aggregateSourced(long sourcingTimeNanos, long serializedSize) {
+    }
 }
@@ -34,4 +34,19 @@ public interface Snapshotter {
      * @param aggregateIdentifier The identifier of the aggregate to take the snapshot for
      */
     void scheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier);
+
+    /**
+     * Schedules snapshot taking for an aggregate with given {@code aggregateIdentifier}, of which the last applied
+     * event has given {@code sequenceNumber}. The sequence number indicates the length of the aggregate's event
+     * stream, which implementations may use to prioritize snapshot requests.
+     * <p>
+     * Defaults to invoking {@link #scheduleSnapshot(Class, String)}, ignoring the sequence number.
+     *
+     * @param aggregateType       the type of the aggregate to take the snapshot for
+     * @param aggregateIdentifier the identifier of the aggregate to take the snapshot for
+     * @param sequenceNumber      the sequence number of the last event applied on the aggregate
+     */
+    default void scheduleSnapshot(Class<?> aggregateType, String aggregateIdentifier, long sequenceNumber) {
+        scheduleSnapshot(aggregateType, aggregateIdentifier);
+    }
 }
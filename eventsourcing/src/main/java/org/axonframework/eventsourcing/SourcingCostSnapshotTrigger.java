@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+
+import java.io.Serializable;
+
+/**
+ * Abstract SnapshotTrigger that decides whether to trigger a snapshot based on the cost of sourcing the aggregate, as
+ * reported by the repository through {@link #aggregateSourced(long, long)}. The snapshot is scheduled when the Unit of
+ * Work that loaded the aggregate is committed, or immediately if no Unit of Work is active.
+ *
+ * @since 4.3
+ */
+abstract class SourcingCostSnapshotTrigger implements SnapshotTrigger, Serializable {
+
+    private final Class<?> aggregateType;
+
+    private transient Snapshotter snapshotter;
+    private String aggregateIdentifier;
+    private long lastSequenceNumber;
+
+    /**
+     * Initialize the trigger to schedule snapshots for an aggregate of given {@code aggregateType} with given {@code
+     * snapshotter}.
+     *
+     * @param snapshotter   the snapshotter to notify when a snapshot needs to be taken
+     * @param aggregateType the type of aggregate monitored by this trigger
+     */
+    SourcingCostSnapshotTrigger(Snapshotter snapshotter, Class<?> aggregateType) {
+        this.snapshotter = snapshotter;
+        this.aggregateType = aggregateType;
+    }
+
+    @Override
+    public void eventHandled(EventMessage<?> msg) {
+        if (msg instanceof DomainEventMessage) {
+            aggregateIdentifier = ((DomainEventMessage<?>) msg).getAggregateIdentifier();
+            lastSequenceNumber = ((DomainEventMessage<?>) msg).getSequenceNumber();
+        }
+    }
+
+    @Override
+    public void initializationFinished() {
+    }
+
+    @Override
+    public void aggregateSourced(long sourcingTimeNanos, long serializedSize) {
+        if (aggregateIdentifier == null || !isSnapshotRequired(sourcingTimeNanos, serializedSize)) {
+            return;
+        }
+        if (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().onPrepareCommit(u -> scheduleSnapshot());
+        } else {
+            scheduleSnapshot();
+        }
+    }
+
+    private void scheduleSnapshot() {
+        snapshotter.scheduleSnapshot(aggregateType, aggregateIdentifier, lastSequenceNumber);
+    }
+
+    /**
+     * Indicates whether a snapshot should be taken for an aggregate that took given {@code sourcingTimeNanos} to
+     * source, reading given {@code serializedSize} bytes of serialized event data.
+     *
+     * @param sourcingTimeNanos the time in nanoseconds it took to source the aggregate
+     * @param serializedSize    the number of bytes of serialized event data read to source the aggregate
+     * @return {@code true} if a snapshot should be taken, otherwise {@code false}
+     */
+    protected abstract boolean isSnapshotRequired(long sourcingTimeNanos, long serializedSize);
+
+    /**
+     * Sets the snapshotter to notify when a snapshot needs to be taken. Used to reattach the snapshotter after the
+     * trigger has been deserialized.
+     *
+     * @param snapshotter the snapshotter to notify when a snapshot needs to be taken
+     */
+    void setSnapshotter(Snapshotter snapshotter) {
+        this.snapshotter = snapshotter;
+    }
+}
@@ -17,15 +17,22 @@
 package org.axonframework.eventsourcing.eventstore;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.Cache;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
 import org.axonframework.eventhandling.*;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.command.ConcurrencyException;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
 import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
 import org.axonframework.serialization.xml.XStreamSerializer;
 
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -33,11 +40,17 @@
 
 import static java.lang.String.format;
 import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
 import static org.axonframework.eventhandling.EventUtils.upcastAndDeserializeTrackedEvents;
 import static org.axonframework.eventsourcing.EventStreamUtils.upcastAndDeserializeDomainEvents;
 
 /**
  * Abstract {@link EventStorageEngine} implementation that takes care of event serialization and upcasting.
+ * <p>
+ * Optionally, the last sequence number of aggregates can be kept in a {@link Cache}. The cache is updated when events
+ * are appended successfully, so that {@link #lastSequenceNumberFor(String)} does not need to access the backing
+ * database for aggregates that were recently appended to or looked up. Cached sequence numbers expire after a
+ * configurable time to live, and are removed when the events of their aggregate are read.
  *
  * @author Rene de Waele
  * @since 3.0
@@ -49,6 +62,8 @@ public abstract class AbstractEventStorageEngine implements EventStorageEngine {
     private final PersistenceExceptionResolver persistenceExceptionResolver;
     private final Serializer eventSerializer;
     private final Predicate<? super DomainEventData<?>> snapshotFilter;
+    private final Cache lastSequenceNumberCache;
+    private final long lastSequenceNumberTimeToLive;
 
     /**
      * Instantiate a {@link AbstractEventStorageEngine} based on the fields contained in the {@link Builder}.
@@ -62,6 +77,8 @@ protected AbstractEventStorageEngine(Builder builder) {
         this.persistenceExceptionResolver = builder.persistenceExceptionResolver;
         this.eventSerializer = builder.eventSerializer.get();
         this.snapshotFilter = builder.snapshotFilter;
+        this.lastSequenceNumberCache = builder.lastSequenceNumberCache;
+        this.lastSequenceNumberTimeToLive = builder.lastSequenceNumberTimeToLive.toMillis();
     }
 
     @Override
@@ -72,6 +89,10 @@ public Stream<? extends TrackedEventMessage<?>> readEvents(TrackingToken trackin
 
     @Override
     public DomainEventStream readEvents(String aggregateIdentifier, long firstSequenceNumber) {
+        if (lastSequenceNumberCache != null) {
+            // the aggregate is being sourced, probably to append to it; don't risk using a stale sequence number
+            lastSequenceNumberCache.remove(aggregateIdentifier);
+        }
         Stream<? extends DomainEventData<?>> input = readEventData(aggregateIdentifier, firstSequenceNumber);
         return upcastAndDeserializeDomainEvents(input, eventSerializer, upcasterChain);
     }
@@ -91,7 +112,77 @@ public Optional<DomainEventMessage<?>> readSnapshot(String aggregateIdentifier)
 
     @Override
     public void appendEvents(List<? extends EventMessage<?>> events) {
-        appendEvents(events, eventSerializer);
+        if (lastSequenceNumberCache == null) {
+            appendEvents(events, eventSerializer);
+            return;
+        }
+        Map<String, Long> lastSequenceNumbers = new HashMap<>();
+        events.stream()
+              .filter(event -> event instanceof DomainEventMessage)
+              .map(event -> (DomainEventMessage<?>) event)
+              .forEach(event -> lastSequenceNumbers.merge(event.getAggregateIdentifier(),
+                                                          event.getSequenceNumber(),
+                                                          Math::max));
+        try {
+            appendEvents(events, eventSerializer);
+        } catch (RuntimeException e) {
+            lastSequenceNumbers.keySet().forEach(lastSequenceNumberCache::remove);
+            throw e;
+        }
+        if (CurrentUnitOfWork.isStarted()) {
+            UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+            unitOfWork.afterCommit(u -> lastSequenceNumbers.forEach(this::cacheLastSequenceNumber));
+            unitOfWork.onRollback(u -> lastSequenceNumbers.keySet().forEach(lastSequenceNumberCache::remove));
+        } else {
+            lastSequenceNumbers.forEach(this::cacheLastSequenceNumber);
+        }
+    }
+
+    private void cacheLastSequenceNumber(String aggregateIdentifier, long sequenceNumber) {
+        lastSequenceNumberCache.put(aggregateIdentifier, new CachedSequenceNumber(
+                sequenceNumber, System.currentTimeMillis() + lastSequenceNumberTimeToLive
+        ));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If a last sequence number cache is configured, the sequence number is returned from the cache when available
+     * and not expired. Otherwise, it is fetched using {@link #fetchLastSequenceNumber(String)} and stored in the
+     * cache.
+     */
+    @Override
+    public Optional<Long> lastSequenceNumberFor(String aggregateIdentifier) {
+        if (lastSequenceNumberCache == null) {
+            return fetchLastSequenceNumber(aggregateIdentifier);
+        }
+        CachedSequenceNumber cached = lastSequenceNumberCache.get(aggregateIdentifier);
+        if (cached != null) {
+            if (cached.expiresAt > System.currentTimeMillis()) {
+                return Optional.of(cached.sequenceNumber);
+            }
+            lastSequenceNumberCache.remove(aggregateIdentifier);
+        }
+        Optional<Long> lastSequenceNumber = fetchLastSequenceNumber(aggregateIdentifier);
+        lastSequenceNumber.ifPresent(sequenceNumber -> lastSequenceNumberCache.putIfAbsent(
+                aggregateIdentifier,
+                new CachedSequenceNumber(sequenceNumber, System.currentTimeMillis() + lastSequenceNumberTimeToLive)
+        ));
+        return lastSequenceNumber;
+    }
+
+    /**
+     * Fetches the last known sequence number for the given {@code aggregateIdentifier} from the backing database.
+     * <p>
+     * This implementation reads the entire event stream of the aggregate. Implementations are encouraged to override
+     * this method with a more efficient query.
+     *
+     * @param aggregateIdentifier The identifier to find the last sequence number for
+     * @return an optional with the highest sequence number, or an empty optional if the aggregate identifier wasn't
+     * found
+     */
+    protected Optional<Long> fetchLastSequenceNumber(String aggregateIdentifier) {
+        return EventStorageEngine.super.lastSequenceNumberFor(aggregateIdentifier);
     }
 
     @Override
@@ -213,6 +304,8 @@ public abstract static class Builder {
         private PersistenceExceptionResolver persistenceExceptionResolver;
         private Supplier<Serializer> eventSerializer = XStreamSerializer::defaultSerializer;
         private Predicate<? super DomainEventData<?>> snapshotFilter = i -> true;
+        private Cache lastSequenceNumberCache;
+        private Duration lastSequenceNumberTimeToLive = Duration.ofSeconds(10);
 
         /**
          * Sets the {@link Serializer} used to serialize and deserialize snapshots. Defaults to a
@@ -281,6 +374,44 @@ public Builder snapshotFilter(Predicate<? super DomainEventData<?>> snapshotFilt
             return this;
         }
 
+        /**
+         * Sets the {@link Cache} used to keep the last sequence number of aggregates, as returned by {@link
+         * EventStorageEngine#lastSequenceNumberFor(String)}. The cache is updated when events are appended
+         * successfully and when a sequence number is fetched from the backing database. Entries expire after the
+         * {@link #lastSequenceNumberTimeToLive(Duration) time to live}, and are removed when the events of their
+         * aggregate are read or fail to be appended. A bounded cache, such as a {@link
+         * org.axonframework.common.caching.BoundedCache}, is recommended. Defaults to {@code null}, meaning every
+         * lookup accesses the backing database.
+         * <p>
+         * Note that the cache is not aware of events appended by other instances sharing the same database. Until
+         * their entry expires or is removed, lookups for aggregates appended to by another instance return a stale
+         * sequence number. Only use this cache when a single instance appends the events of an aggregate, or when
+         * lookups may be behind by at most the time to live.
+         *
+         * @param lastSequenceNumberCache a {@link Cache} used to keep the last sequence number of aggregates
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder lastSequenceNumberCache(Cache lastSequenceNumberCache) {
+            this.lastSequenceNumberCache = lastSequenceNumberCache;
+            return this;
+        }
+
+        /**
+         * Sets the time to live of the sequence numbers kept in the {@link #lastSequenceNumberCache(Cache) last
+         * sequence number cache}. This bounds how long events appended by other instances go unnoticed by lookups.
+         * Defaults to 10 seconds.
+         *
+         * @param lastSequenceNumberTimeToLive the {@link Duration} after which a cached sequence number expires
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder lastSequenceNumberTimeToLive(Duration lastSequenceNumberTimeToLive) {
+            assertNonNull(lastSequenceNumberTimeToLive, "The lastSequenceNumberTimeToLive may not be null");
+            assertThat(lastSequenceNumberTimeToLive, ttl -> !ttl.isNegative(),
+                       "The lastSequenceNumberTimeToLive may not be negative");
+            this.lastSequenceNumberTimeToLive = lastSequenceNumberTimeToLive;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
@@ -291,4 +422,17 @@ protected void validate() throws AxonConfigurationException {
             // Kept to be overridden
         }
     }
+
+    private static class CachedSequenceNumber implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long sequenceNumber;
+        private final long expiresAt;
+
+        private CachedSequenceNumber(long sequenceNumber, long expiresAt) {
+            this.sequenceNumber = sequenceNumber;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
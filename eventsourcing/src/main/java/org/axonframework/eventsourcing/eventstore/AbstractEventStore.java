@@ -27,8 +27,16 @@
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -44,6 +52,7 @@ public abstract class AbstractEventStore extends AbstractEventBus implements Eve
     private static final Logger logger = LoggerFactory.getLogger(AbstractEventStore.class);
 
     private final EventStorageEngine storageEngine;
+    private final Executor readExecutor;
 
     /**
      * Instantiate an {@link AbstractEventStore} based on the fields contained in the {@link Builder}.
@@ -56,6 +65,7 @@ public abstract class AbstractEventStore extends AbstractEventBus implements Eve
     protected AbstractEventStore(Builder builder) {
         super(builder);
         this.storageEngine = builder.storageEngine;
+        this.readExecutor = builder.readExecutor;
     }
 
     @Override
@@ -72,24 +82,74 @@ protected void prepareCommit(List<? extends EventMessage<?>> events) {
      */
     @Override
     public DomainEventStream readEvents(String aggregateIdentifier) {
+        Stream<? extends DomainEventMessage<?>> domainEventMessages = stagedDomainEventMessages(aggregateIdentifier);
+        return DomainEventStream.concat(readStoredEvents(aggregateIdentifier),
+                                        DomainEventStream.of(domainEventMessages));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If a read {@link Executor} has been configured, the snapshot and the first batch of events of each aggregate are
+     * read concurrently on that Executor. Otherwise, the streams are opened one after the other. Events staged for
+     * publication in the current Unit of Work are appended to the stream of their aggregate in either case.
+     */
+    @Override
+    public Map<String, DomainEventStream> readEventStreams(Collection<String> aggregateIdentifiers) {
+        if (readExecutor == null || aggregateIdentifiers.size() < 2) {
+            return EventStore.super.readEventStreams(aggregateIdentifiers);
+        }
+        Map<String, List<? extends DomainEventMessage<?>>> stagedMessages = new HashMap<>();
+        Map<String, CompletableFuture<DomainEventStream>> storedEvents = new LinkedHashMap<>();
+        for (String aggregateIdentifier : aggregateIdentifiers) {
+            stagedMessages.put(aggregateIdentifier,
+                               stagedDomainEventMessages(aggregateIdentifier).collect(Collectors.toList()));
+            storedEvents.put(aggregateIdentifier, CompletableFuture.supplyAsync(() -> {
+                DomainEventStream eventStream = readStoredEvents(aggregateIdentifier);
+                // forces the first batch of events to be fetched on the read executor
+                eventStream.hasNext();
+                return eventStream;
+            }, readExecutor));
+        }
+        Map<String, DomainEventStream> eventStreams = new LinkedHashMap<>();
+        storedEvents.forEach((aggregateIdentifier, eventStream) -> eventStreams.put(
+                aggregateIdentifier,
+                DomainEventStream.concat(join(aggregateIdentifier, eventStream),
+                                         DomainEventStream.of(stagedMessages.get(aggregateIdentifier).stream()))
+        ));
+        return eventStreams;
+    }
+
+    private DomainEventStream join(String aggregateIdentifier, CompletableFuture<DomainEventStream> eventStream) {
+        try {
+            return eventStream.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new EventStoreException(
+                    "Failed to read the events of aggregate [" + aggregateIdentifier + "]", e.getCause()
+            );
+        }
+    }
+
+    private DomainEventStream readStoredEvents(String aggregateIdentifier) {
         Optional<DomainEventMessage<?>> optionalSnapshot;
         try {
             optionalSnapshot = storageEngine.readSnapshot(aggregateIdentifier);
         } catch (Exception | LinkageError e) {
             optionalSnapshot = handleSnapshotReadingError(aggregateIdentifier, e);
         }
-        DomainEventStream eventStream;
         if (optionalSnapshot.isPresent()) {
             DomainEventMessage<?> snapshot = optionalSnapshot.get();
-            eventStream = DomainEventStream.concat(DomainEventStream.of(snapshot),
-                                                   storageEngine.readEvents(aggregateIdentifier,
-                                                                            snapshot.getSequenceNumber() + 1));
-        } else {
-            eventStream = storageEngine.readEvents(aggregateIdentifier);
+            return DomainEventStream.concat(DomainEventStream.of(snapshot),
+                                            storageEngine.readEvents(aggregateIdentifier,
+                                                                     snapshot.getSequenceNumber() + 1));
         }
-
-        Stream<? extends DomainEventMessage<?>> domainEventMessages = stagedDomainEventMessages(aggregateIdentifier);
-        return DomainEventStream.concat(eventStream, DomainEventStream.of(domainEventMessages));
+        return storageEngine.readEvents(aggregateIdentifier);
     }
 
     /**
@@ -187,6 +247,7 @@ public TrackingToken createTokenAt(Instant dateTime) {
     public abstract static class Builder extends AbstractEventBus.Builder {
 
         protected EventStorageEngine storageEngine;
+        private Executor readExecutor;
 
         @Override
         public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMonitor) {
@@ -206,6 +267,19 @@ public Builder storageEngine(EventStorageEngine storageEngine) {
             return this;
         }
 
+        /**
+         * Sets the {@link Executor} used to read the event streams of several aggregates concurrently, when they are
+         * requested through {@link EventStore#readEventStreams(Collection)}. Defaults to {@code null}, in which case
+         * the streams are read one after the other.
+         *
+         * @param readExecutor the {@link Executor} used to read the event streams of several aggregates concurrently
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder readExecutor(Executor readExecutor) {
+            this.readExecutor = readExecutor;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
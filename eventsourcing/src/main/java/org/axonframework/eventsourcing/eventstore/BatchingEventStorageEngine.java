@@ -17,6 +17,7 @@
 package org.axonframework.eventsourcing.eventstore;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.Cache;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
 import org.axonframework.eventhandling.DomainEventData;
 import org.axonframework.eventhandling.TrackedEventData;
@@ -24,20 +25,31 @@
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static org.axonframework.common.BuilderUtils.assertNonNull;
 import static org.axonframework.common.BuilderUtils.assertThat;
 
 /**
  * {@link AbstractEventStorageEngine} implementation that fetches events in batches from the backing database.
+ * <p>
+ * When a {@code prefetchDepth} is configured, the batches of an aggregate's event stream are fetched ahead on a
+ * separate {@link Executor}, while the current batch is being upcast, deserialized and applied.
  *
  * @author Rene de Waele
  * @since 3.0
@@ -47,6 +59,8 @@ public abstract class BatchingEventStorageEngine extends AbstractEventStorageEng
     private static final int DEFAULT_BATCH_SIZE = 100;
 
     private final int batchSize;
+    private final int prefetchDepth;
+    private final Executor prefetchExecutor;
 
     /**
      * Instantiate a {@link BatchingEventStorageEngine} based on the fields contained in the {@link Builder}.
@@ -56,6 +70,8 @@ public abstract class BatchingEventStorageEngine extends AbstractEventStorageEng
     protected BatchingEventStorageEngine(Builder builder) {
         super(builder);
         this.batchSize = builder.batchSize;
+        this.prefetchDepth = builder.prefetchDepth;
+        this.prefetchExecutor = builder.prefetchExecutor;
     }
 
     /**
@@ -103,13 +119,27 @@ protected boolean fetchForAggregateUntilEmpty() {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If a {@code prefetchDepth} has been configured, up to that number of batches following the first batch are
+     * fetched ahead on the {@code prefetchExecutor}. Fetching is still started lazily, when the first event is read
+     * from the stream.
+     */
     @Override
     protected Stream<? extends DomainEventData<?>> readEventData(String identifier, long firstSequenceNumber) {
-        EventStreamSpliterator<? extends DomainEventData<?>> spliterator = new EventStreamSpliterator<>(
+        Function<DomainEventData<?>, List<? extends DomainEventData<?>>> fetchFunction =
                 lastItem -> fetchDomainEvents(identifier,
                                               lastItem == null ? firstSequenceNumber : lastItem.getSequenceNumber() + 1,
-                                              batchSize), batchSize, fetchForAggregateUntilEmpty());
-        return StreamSupport.stream(spliterator, false);
+                                              batchSize);
+        if (prefetchDepth > 0) {
+            return StreamSupport.stream(new PrefetchingEventStreamSpliterator<>(
+                    fetchFunction, batchSize, fetchForAggregateUntilEmpty(), prefetchDepth, prefetchExecutor
+            ), false);
+        }
+        return StreamSupport.stream(
+                new EventStreamSpliterator<>(fetchFunction, batchSize, fetchForAggregateUntilEmpty()), false
+        );
     }
 
     /**
@@ -134,6 +164,16 @@ public int batchSize() {
         return batchSize;
     }
 
+    /**
+     * Returns the maximum number of batches of an aggregate's event stream that are fetched ahead. A value of {@code
+     * 0} indicates batches are only fetched when they are needed.
+     *
+     * @return the number of batches fetched ahead when reading an aggregate's event stream
+     */
+    public int prefetchDepth() {
+        return prefetchDepth;
+    }
+
     /**
      * Abstract Builder class to instantiate a {@link BatchingEventStorageEngine}.
      * <p>
@@ -142,11 +182,14 @@ public int batchSize() {
      * {@link org.axonframework.serialization.upcasting.event.NoOpEventUpcaster}, the Serializer used for events is
      * also defaulted to a XStreamSerializer and the {@code snapshotFilter} defaults to a {@link Predicate} which
      * returns {@code true} regardless.
-     * The {@code batchSize} in this Builder implementation is defaulted to an integer of size {@code 100}.
+     * The {@code batchSize} in this Builder implementation is defaulted to an integer of size {@code 100} and the
+     * {@code prefetchDepth} to {@code 0}.
      */
     public abstract static class Builder extends AbstractEventStorageEngine.Builder {
 
         private int batchSize = DEFAULT_BATCH_SIZE;
+        private int prefetchDepth = 0;
+        private Executor prefetchExecutor;
 
         @Override
         public Builder snapshotSerializer(Serializer snapshotSerializer) {
@@ -178,6 +221,18 @@ public Builder snapshotFilter(Predicate<? super DomainEventData<?>> snapshotFilt
             return this;
         }
 
+        @Override
+        public Builder lastSequenceNumberCache(Cache lastSequenceNumberCache) {
+            super.lastSequenceNumberCache(lastSequenceNumberCache);
+            return this;
+        }
+
+        @Override
+        public Builder lastSequenceNumberTimeToLive(Duration lastSequenceNumberTimeToLive) {
+            super.lastSequenceNumberTimeToLive(lastSequenceNumberTimeToLive);
+            return this;
+        }
+
         /**
          * Sets the {@code batchSize} specifying the number of events that should be read at each database access. When
          * more than this number of events must be read to rebuild an aggregate's state, the events are read in batches
@@ -195,6 +250,38 @@ public Builder batchSize(int batchSize) {
             return this;
         }
 
+        /**
+         * Sets the {@code prefetchDepth} specifying the maximum number of batches of an aggregate's event stream that
+         * are fetched ahead, while the events of the current batch are being processed. Prefetching overlaps the
+         * database access with the deserialization of events when sourcing aggregates with long event streams. It
+         * requires a {@link #prefetchExecutor(Executor)} to be configured. Defaults to {@code 0}, meaning batches are
+         * only fetched when they are needed.
+         * <p>
+         * Note that batches are fetched on the threads of the {@code prefetchExecutor}, and therefore outside of any
+         * transaction active on the thread reading the stream.
+         *
+         * @param prefetchDepth an {@code int} specifying the maximum number of batches fetched ahead
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder prefetchDepth(int prefetchDepth) {
+            assertThat(prefetchDepth, depth -> depth >= 0, "The prefetchDepth may not be negative");
+            this.prefetchDepth = prefetchDepth;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to fetch batches of an aggregate's event stream ahead, when a positive {@link
+         * #prefetchDepth(int)} is configured.
+         *
+         * @param prefetchExecutor the {@link Executor} used to fetch batches of an aggregate's event stream ahead
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            assertNonNull(prefetchExecutor, "The prefetchExecutor may not be null");
+            this.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
         /**
          * Validates whether the fields contained in this Builder are set accordingly.
          *
@@ -204,6 +291,8 @@ public Builder batchSize(int batchSize) {
         @Override
         protected void validate() throws AxonConfigurationException {
             super.validate();
+            assertThat(prefetchExecutor, executor -> prefetchDepth == 0 || executor != null,
+                       "A prefetchExecutor is required when the prefetchDepth is positive");
         }
     }
 
@@ -243,4 +332,84 @@ public boolean tryAdvance(Consumer<? super T> action) {
             return true;
         }
     }
+
+    private static class PrefetchingEventStreamSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Function<T, List<? extends T>> fetchFunction;
+        private final int batchSize;
+        private final boolean fetchUntilEmpty;
+        private final int prefetchDepth;
+        private final Executor executor;
+        private final Deque<CompletableFuture<List<? extends T>>> prefetchedBatches = new ArrayDeque<>();
+
+        private Iterator<? extends T> iterator;
+
+        private PrefetchingEventStreamSpliterator(Function<T, List<? extends T>> fetchFunction,
+                                                  int batchSize,
+                                                  boolean fetchUntilEmpty,
+                                                  int prefetchDepth,
+                                                  Executor executor) {
+            super(Long.MAX_VALUE, NONNULL | ORDERED | DISTINCT | CONCURRENT);
+            this.fetchFunction = fetchFunction;
+            this.batchSize = batchSize;
+            this.fetchUntilEmpty = fetchUntilEmpty;
+            this.prefetchDepth = prefetchDepth;
+            this.executor = executor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            while (iterator == null || !iterator.hasNext()) {
+                if (iterator == null) {
+                    startBatch(fetchFunction.apply(null));
+                } else if (prefetchedBatches.isEmpty()) {
+                    return false;
+                } else {
+                    startBatch(join(prefetchedBatches.poll()));
+                }
+            }
+            action.accept(iterator.next());
+            return true;
+        }
+
+        private void startBatch(List<? extends T> batch) {
+            iterator = batch.iterator();
+            if (!hasMore(batch)) {
+                prefetchedBatches.clear();
+                return;
+            }
+            CompletableFuture<List<? extends T>> previous = prefetchedBatches.isEmpty()
+                    ? CompletableFuture.completedFuture(batch)
+                    : prefetchedBatches.peekLast();
+            while (prefetchedBatches.size() < prefetchDepth) {
+                previous = previous.thenApplyAsync(this::fetchNext, executor);
+                prefetchedBatches.add(previous);
+            }
+        }
+
+        private List<? extends T> fetchNext(List<? extends T> previousBatch) {
+            return hasMore(previousBatch)
+                    ? fetchFunction.apply(previousBatch.get(previousBatch.size() - 1))
+                    : Collections.emptyList();
+        }
+
+        private boolean hasMore(List<? extends T> batch) {
+            return fetchUntilEmpty ? !batch.isEmpty() : batch.size() >= batchSize;
+        }
+
+        private List<? extends T> join(CompletableFuture<List<? extends T>> batch) {
+            try {
+                return batch.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new EventStoreException("Failed to fetch a batch of events", e.getCause());
+            }
+        }
+    }
 }
@@ -36,6 +36,7 @@
 public class ConcatenatingDomainEventStream implements DomainEventStream {
     private final LinkedList<DomainEventStream> streams;
     private Long lastSequenceNumber;
+    private long consumedStreamsSerializedSize;
 
     /**
      * Initialize the stream, concatenating the given {@code streams}.
@@ -73,7 +74,7 @@ public boolean hasNext() {
 
         // consume any empty streams
         while (!streams.isEmpty() && !streams.peekFirst().hasNext()) {
-            streams.pollFirst();
+            dropFirstStream();
         }
 
         // quick exit if we have emptied the streams
@@ -86,7 +87,7 @@ public boolean hasNext() {
         while (lastSequenceNumber != null && peeked.getSequenceNumber() <= lastSequenceNumber) {
             // consume
             while (!streams.peekFirst().hasNext()) {
-                streams.pollFirst();
+                dropFirstStream();
                 if (streams.isEmpty()) {
                     return false;
                 }
@@ -113,4 +114,17 @@ public DomainEventMessage<?> next() {
     public Long getLastSequenceNumber() {
         return lastSequenceNumber;
     }
+
+    @Override
+    public long getSerializedSize() {
+        long serializedSize = consumedStreamsSerializedSize;
+        for (DomainEventStream stream : streams) {
+            serializedSize += stream.getSerializedSize();
+        }
+        return serializedSize;
+    }
+
+    private void dropFirstStream() {
+        consumedStreamsSerializedSize += streams.pollFirst().getSerializedSize();
+    }
 }
@@ -24,6 +24,7 @@
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -54,6 +55,32 @@ public Long getLastSequenceNumber() {
         };
     }
 
+    /**
+     * Create a new DomainEventStream with events obtained from the given {@code stream}, which reports the size of the
+     * serialized event data read so far as provided by the given {@code serializedSizeSupplier}.
+     *
+     * @param stream                 Stream that serves as a source of events in the resulting DomainEventStream
+     * @param sequenceNumberSupplier supplier of the sequence number of the last used upstream event entry
+     * @param serializedSizeSupplier supplier of the number of bytes of serialized event data read from the upstream
+     *                               event entries
+     * @return A DomainEventStream containing all events contained in the stream
+     */
+    static DomainEventStream of(Stream<? extends DomainEventMessage<?>> stream, Supplier<Long> sequenceNumberSupplier,
+                                LongSupplier serializedSizeSupplier) {
+        Objects.requireNonNull(stream);
+        return new IteratorBackedDomainEventStream(stream.iterator()) {
+            @Override
+            public Long getLastSequenceNumber() {
+                return sequenceNumberSupplier.get();
+            }
+
+            @Override
+            public long getSerializedSize() {
+                return serializedSizeSupplier.getAsLong();
+            }
+        };
+    }
+
     /**
      * Create a new DomainEventStream with events obtained from the given {@code stream}.
      *
@@ -209,6 +236,17 @@ default DomainEventStream filter(Predicate<? super DomainEventMessage<?>> filter
      */
     Long getLastSequenceNumber();
 
+    /**
+     * Returns the number of bytes of serialized event data that have been read from the underlying storage to provide
+     * the events consumed from this stream so far. Streams that do not read serialized data, or that are unable to
+     * determine its size, return {@code 0}.
+     *
+     * @return the number of bytes of serialized event data read by this stream
+     */
+    default long getSerializedSize() {
+        return 0;
+    }
+
     @Override
     default void remove() {
         throw new UnsupportedOperationException();
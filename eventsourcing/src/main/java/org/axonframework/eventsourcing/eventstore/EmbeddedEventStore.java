@@ -34,6 +34,7 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -510,6 +511,12 @@ public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMon
             return this;
         }
 
+        @Override
+        public Builder readExecutor(Executor readExecutor) {
+            super.readExecutor(readExecutor);
+            return this;
+        }
+
         /**
          * Sets the maximum number of events in the cache that is shared between the streams of tracking event
          * processors. Defaults to {@code 10000}.
@@ -23,6 +23,9 @@
 import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.messaging.StreamableMessageSource;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -68,6 +71,26 @@ default DomainEventStream readEvents(String aggregateIdentifier, long firstSeque
                     wholeStream::getLastSequenceNumber);
     }
 
+    /**
+     * Open an event stream for each of the given {@code aggregateIdentifiers}, containing all domain events belonging
+     * to that aggregate. This allows implementations to read the streams of several aggregates concurrently, or using a
+     * single query, rather than one aggregate after the other.
+     * <p>
+     * The returned streams are <em>finite</em>, each ending with the last known event of its aggregate. If the event
+     * store holds no events of one of the given aggregates, an empty stream is returned for that aggregate.
+     * <p>
+     * The default implementation invokes {@link #readEvents(String)} for each of the given identifiers.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates whose events to fetch
+     * @return a map with a stream of all currently stored events per aggregate identifier, in the iteration order of
+     * the given identifiers
+     */
+    default Map<String, DomainEventStream> readEventStreams(Collection<String> aggregateIdentifiers) {
+        Map<String, DomainEventStream> eventStreams = new LinkedHashMap<>();
+        aggregateIdentifiers.forEach(identifier -> eventStreams.put(identifier, readEvents(identifier)));
+        return eventStreams;
+    }
+
     /**
      * Stores the given (temporary) {@code snapshot} event. This snapshot replaces the segment of the event stream
      * identified by the {@code snapshot}'s {@link DomainEventMessage#getAggregateIdentifier() Aggregate Identifier} up
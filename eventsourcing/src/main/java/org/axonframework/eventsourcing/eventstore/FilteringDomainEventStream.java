@@ -86,4 +86,9 @@ public DomainEventMessage<?> next() {
     public Long getLastSequenceNumber() {
         return lastSequenceNumber;
     }
+
+    @Override
+    public long getSerializedSize() {
+        return delegate.getSerializedSize();
+    }
 }
@@ -227,5 +227,12 @@ public Long getLastSequenceNumber() {
                 return actual.getLastSequenceNumber();
             }
         }
+
+        @Override
+        public long getSerializedSize() {
+            return actual == null
+                    ? historic.getSerializedSize()
+                    : historic.getSerializedSize() + actual.getSerializedSize();
+        }
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing.eventstore.jdbc;
+
+import org.axonframework.eventsourcing.eventstore.EventStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Component that combines the entries appended by concurrent callers into groups, which are written by a single writer
+ * thread. Each caller blocks until the group containing its entries has been written.
+ * <p>
+ * When writing a group fails, the entries of each caller in the group are written separately, so that each caller
+ * receives the outcome of its own entries. This way, a conflict caused by one caller does not fail the appends of the
+ * other callers in the same group.
+ * <p>
+ * The writer thread is started when entries are appended, and stops when no entries have been appended for a while.
+ *
+ * @param <T> the type of entry appended
+ * @since 4.3
+ */
+class GroupCommitAppender<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitAppender.class);
+
+    private static final long IDLE_TIMEOUT_MILLIS = 1000;
+
+    private final BlockingQueue<PendingAppend<T>> queue = new LinkedBlockingQueue<>();
+    private final AtomicBoolean writerActive = new AtomicBoolean();
+    private final Consumer<List<T>> writer;
+    private final int maxGroupSize;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Initialize the appender, writing groups of at most {@code maxGroupSize} entries using given {@code writer}, on a
+     * thread created by given {@code threadFactory}. The writer is expected to write the given entries atomically, and
+     * to throw an exception when the entries could not be written.
+     *
+     * @param writer        the function that writes a group of entries
+     * @param maxGroupSize  the maximum number of entries to write in a single group
+     * @param threadFactory the factory creating the writer thread
+     */
+    GroupCommitAppender(Consumer<List<T>> writer, int maxGroupSize, ThreadFactory threadFactory) {
+        this.writer = writer;
+        this.maxGroupSize = maxGroupSize;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Appends the given {@code entries}, blocking until they have been written. Any exception thrown by the writer
+     * while writing these entries is rethrown.
+     *
+     * @param entries the entries to append
+     */
+    void append(List<T> entries) {
+        PendingAppend<T> pendingAppend = new PendingAppend<>(entries);
+        queue.add(pendingAppend);
+        if (writerActive.compareAndSet(false, true)) {
+            threadFactory.newThread(this::writeGroups).start();
+        }
+        try {
+            pendingAppend.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventStoreException("Interrupted while waiting for events to be appended. "
+                                                  + "The events may still be appended to the event store.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EventStoreException("An error occurred while appending events", cause);
+        }
+    }
+
+    private void writeGroups() {
+        try {
+            while (true) {
+                PendingAppend<T> first = queue.poll(IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    writerActive.set(false);
+                    // an append may have been queued after polling, but before the writer was marked inactive
+                    if (queue.isEmpty() || !writerActive.compareAndSet(false, true)) {
+                        return;
+                    }
+                } else {
+                    writeGroup(collectGroup(first));
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Group commit writer was interrupted. Pending appends are written by a new writer.");
+            writerActive.set(false);
+            if (!queue.isEmpty() && writerActive.compareAndSet(false, true)) {
+                threadFactory.newThread(this::writeGroups).start();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<PendingAppend<T>> collectGroup(PendingAppend<T> first) {
+        List<PendingAppend<T>> group = new ArrayList<>();
+        group.add(first);
+        int groupSize = first.entries.size();
+        PendingAppend<T> next;
+        while ((next = queue.peek()) != null && groupSize + next.entries.size() <= maxGroupSize) {
+            group.add(queue.poll());
+            groupSize += next.entries.size();
+        }
+        return group;
+    }
+
+    private void writeGroup(List<PendingAppend<T>> group) {
+        if (group.size() == 1) {
+            write(group.get(0));
+            return;
+        }
+        List<T> entries = new ArrayList<>();
+        group.forEach(pendingAppend -> entries.addAll(pendingAppend.entries));
+        try {
+            writer.accept(entries);
+            group.forEach(pendingAppend -> pendingAppend.result.complete(null));
+        } catch (Throwable e) {
+            logger.debug("Failed to write a group of {} appends. Writing them separately.", group.size(), e);
+            group.forEach(this::write);
+        }
+    }
+
+    private void write(PendingAppend<T> pendingAppend) {
+        try {
+            writer.accept(pendingAppend.entries);
+            pendingAppend.result.complete(null);
+        } catch (Throwable e) {
+            pendingAppend.result.completeExceptionally(e);
+        }
+    }
+
+    private static class PendingAppend<T> {
+
+        private final List<T> entries;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PendingAppend(List<T> entries) {
+            this.entries = entries;
+        }
+    }
+}
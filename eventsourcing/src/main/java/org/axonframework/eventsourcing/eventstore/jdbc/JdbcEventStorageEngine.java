@@ -17,7 +17,9 @@
 package org.axonframework.eventsourcing.eventstore.jdbc;
 
 import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
 import org.axonframework.common.DateTimeUtils;
+import org.axonframework.common.caching.Cache;
 import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.jdbc.JdbcUtils;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
@@ -27,6 +29,8 @@
 import org.axonframework.eventsourcing.eventstore.BatchingEventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.EventStoreException;
 import org.axonframework.eventsourcing.eventstore.jpa.JpaEventStorageEngine;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.command.ConcurrencyException;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.Serializer;
@@ -38,14 +42,19 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 import static org.axonframework.common.Assert.isTrue;
@@ -73,6 +82,8 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private static final int DEFAULT_GAP_TIMEOUT = 60000;
     private static final int DEFAULT_GAP_CLEANING_THRESHOLD = 250;
     private static final boolean DEFAULT_EXTENDED_GAP_CHECK_ENABLED = true;
+    private static final int DEFAULT_MAX_GROUP_COMMIT_SIZE = 1000;
+    private static final int DEFAULT_STREAMING_REPLAY_FETCH_SIZE = 1000;
 
     private final ConnectionProvider connectionProvider;
     private final TransactionManager transactionManager;
@@ -81,6 +92,10 @@ public class JdbcEventStorageEngine extends BatchingEventStorageEngine {
     private final int maxGapOffset;
     private final long lowestGlobalSequence;
     private final boolean extendedGapCheckEnabled;
+    private final GroupCommitAppender<SerializedEvent> groupCommitAppender;
+    private final String groupCommitEventsKey = this + "_GROUP_COMMIT_EVENTS";
+    private final boolean streamingReplayEnabled;
+    private final int streamingReplayFetchSize;
     private int gapTimeout;
     private int gapCleaningThreshold;
 
@@ -103,6 +118,13 @@ protected JdbcEventStorageEngine(Builder builder) {
         this.gapTimeout = builder.gapTimeout;
         this.gapCleaningThreshold = builder.gapCleaningThreshold;
         this.extendedGapCheckEnabled = builder.extendedGapCheckEnabled;
+        this.groupCommitAppender = builder.groupCommitEnabled
+                ? new GroupCommitAppender<>(this::appendEventGroup,
+                                            builder.maxGroupCommitSize,
+                                            builder.groupCommitThreadFactory)
+                : null;
+        this.streamingReplayEnabled = builder.streamingReplayEnabled;
+        this.streamingReplayFetchSize = builder.streamingReplayFetchSize;
     }
 
     /**
@@ -123,6 +145,12 @@ protected JdbcEventStorageEngine(Builder builder) {
      * <li>The {@code gapTimeout} defaults to an integer of size {@code 60000} (1 minute).</li>
      * <li>The {@code gapCleaningThreshold} defaults to an integer of size {@code 250}.</li>
      * <li>The {@code extendedGapCheckEnabled} defaults to {@code true}.</li>
+     * <li>The {@code groupCommitEnabled} defaults to {@code false}.</li>
+     * <li>The {@code maxGroupCommitSize} defaults to an integer of size {@code 1000}.</li>
+     * <li>The {@code groupCommitThreadFactory} defaults to an {@link AxonThreadFactory} with group name {@code
+     * "JdbcEventStorageEngine-groupCommit"}.</li>
+     * <li>The {@code streamingReplayEnabled} defaults to {@code false}.</li>
+     * <li>The {@code streamingReplayFetchSize} defaults to an integer of size {@code 1000}.</li>
      * </ul>
      * <p>
      * The {@link ConnectionProvider} and {@link TransactionManager} are <b>hard requirements</b> and as such should
@@ -152,35 +180,107 @@ protected void appendEvents(List<? extends EventMessage<?>> events, Serializer s
         if (events.isEmpty()) {
             return;
         }
-        final String table = schema.domainEventTable();
-        final String sql = "INSERT INTO " + table + " (" +
+        List<SerializedEvent> serializedEvents = new ArrayList<>(events.size());
+        for (EventMessage<?> eventMessage : events) {
+            DomainEventMessage<?> event = asDomainEventMessage(eventMessage);
+            serializedEvents.add(new SerializedEvent(event,
+                                                     event.serializePayload(serializer, dataType),
+                                                     event.serializeMetaData(serializer, dataType)));
+        }
+        if (groupCommitAppender == null) {
+            transactionManager.executeInTransaction(
+                    () -> executeBatch(getConnection(),
+                                       connection -> insertEvents(connection, serializedEvents),
+                                       e -> handlePersistenceException(e, serializedEvents.get(0).event))
+            );
+        } else if (CurrentUnitOfWork.isStarted()
+                && CurrentUnitOfWork.get().phase().isBefore(UnitOfWork.Phase.PREPARE_COMMIT)) {
+            pendingGroupCommitEvents(CurrentUnitOfWork.get()).addAll(serializedEvents);
+        } else {
+            groupCommitAppender.append(serializedEvents);
+        }
+    }
+
+    /**
+     * Returns the events to append when the given {@code unitOfWork} prepares its commit. The events are appended as
+     * a single entry of a group commit, so they are discarded when the Unit of Work rolls back before committing, and
+     * a failure to append them fails the commit of the Unit of Work.
+     */
+    private List<SerializedEvent> pendingGroupCommitEvents(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(groupCommitEventsKey, key -> {
+            List<SerializedEvent> pendingEvents = new ArrayList<>();
+            unitOfWork.onPrepareCommit(u -> groupCommitAppender.append(pendingEvents));
+            unitOfWork.onCleanup(u -> u.resources().remove(groupCommitEventsKey));
+            return pendingEvents;
+        });
+    }
+
+    /**
+     * Writes a group of events appended by one or more concurrent callers in a single transaction. If the connection
+     * is in auto-commit mode, it is switched to manual commit for the duration of the insert, so that a failing group
+     * never leaves a part of its events behind.
+     */
+    private void appendEventGroup(List<SerializedEvent> events) {
+        transactionManager.executeInTransaction(() -> {
+            Connection connection = getConnection();
+            try {
+                boolean autoCommit = connection.getAutoCommit();
+                if (autoCommit) {
+                    connection.setAutoCommit(false);
+                }
+                try {
+                    PreparedStatement preparedStatement = insertEvents(connection, events);
+                    try {
+                        preparedStatement.executeBatch();
+                    } finally {
+                        closeQuietly(preparedStatement);
+                    }
+                    if (autoCommit) {
+                        connection.commit();
+                    }
+                } catch (SQLException e) {
+                    if (autoCommit) {
+                        try {
+                            connection.rollback();
+                        } catch (SQLException rollbackException) {
+                            e.addSuppressed(rollbackException);
+                        }
+                    }
+                    throw e;
+                } finally {
+                    if (autoCommit) {
+                        connection.setAutoCommit(true);
+                    }
+                }
+            } catch (SQLException e) {
+                handlePersistenceException(e, events.get(0).event);
+            } finally {
+                closeQuietly(connection);
+            }
+        });
+    }
+
+    private PreparedStatement insertEvents(Connection connection, List<SerializedEvent> events) throws SQLException {
+        final String sql = "INSERT INTO " + schema.domainEventTable() + " (" +
                 String.join(", ", schema.eventIdentifierColumn(), schema.aggregateIdentifierColumn(),
                             schema.sequenceNumberColumn(), schema.typeColumn(), schema.timestampColumn(),
                             schema.payloadTypeColumn(), schema.payloadRevisionColumn(), schema.payloadColumn(),
                             schema.metaDataColumn()) + ") VALUES (?,?,?,?,?,?,?,?,?)";
-
-        transactionManager.executeInTransaction(
-                () ->
-                        executeBatch(getConnection(), connection -> {
-                            PreparedStatement preparedStatement = connection.prepareStatement(sql);
-
-                            for (EventMessage<?> eventMessage : events) {
-                                DomainEventMessage<?> event = asDomainEventMessage(eventMessage);
-                                SerializedObject<?> payload = event.serializePayload(serializer, dataType);
-                                SerializedObject<?> metaData = event.serializeMetaData(serializer, dataType);
-                                preparedStatement.setString(1, event.getIdentifier());
-                                preparedStatement.setString(2, event.getAggregateIdentifier());
-                                preparedStatement.setLong(3, event.getSequenceNumber());
-                                preparedStatement.setString(4, event.getType());
-                                writeTimestamp(preparedStatement, 5, event.getTimestamp());
-                                preparedStatement.setString(6, payload.getType().getName());
-                                preparedStatement.setString(7, payload.getType().getRevision());
-                                preparedStatement.setObject(8, payload.getData());
-                                preparedStatement.setObject(9, metaData.getData());
-                                preparedStatement.addBatch();
-                            }
-                            return preparedStatement;
-                        }, e -> handlePersistenceException(e, events.get(0))));
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        for (SerializedEvent serializedEvent : events) {
+            DomainEventMessage<?> event = serializedEvent.event;
+            preparedStatement.setString(1, event.getIdentifier());
+            preparedStatement.setString(2, event.getAggregateIdentifier());
+            preparedStatement.setLong(3, event.getSequenceNumber());
+            preparedStatement.setString(4, event.getType());
+            writeTimestamp(preparedStatement, 5, event.getTimestamp());
+            preparedStatement.setString(6, serializedEvent.payload.getType().getName());
+            preparedStatement.setString(7, serializedEvent.payload.getType().getRevision());
+            preparedStatement.setObject(8, serializedEvent.payload.getData());
+            preparedStatement.setObject(9, serializedEvent.metaData.getData());
+            preparedStatement.addBatch();
+        }
+        return preparedStatement;
     }
 
     @Override
@@ -201,7 +301,7 @@ protected void storeSnapshot(DomainEventMessage<?> snapshot, Serializer serializ
     }
 
     @Override
-    public Optional<Long> lastSequenceNumberFor(String aggregateIdentifier) {
+    protected Optional<Long> fetchLastSequenceNumber(String aggregateIdentifier) {
         String sql = "SELECT max(" + schema.sequenceNumberColumn() + ") FROM " + schema.domainEventTable() +
                 " WHERE " + schema.aggregateIdentifierColumn() + " = ?";
         return Optional.ofNullable(transactionManager.fetchInTransaction(
@@ -376,6 +476,27 @@ protected List<? extends TrackedEventData<?>> fetchTrackedEvents(TrackingToken l
         return trackedEventData;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * When {@link Builder#streamingReplayEnabled(boolean) streaming replays} are enabled and the given {@code
+     * trackingToken} is more than the {@link Builder#streamingReplayFetchSize(int) fetch size} behind the head of the
+     * event store, events are read through a single query, of which the results are fetched lazily as the returned
+     * stream is consumed. Once the events up to the head at the time of the query have been read, the stream continues
+     * by polling for events in batches, tracking gaps as usual.
+     */
+    @Override
+    protected Stream<? extends TrackedEventData<?>> readEventData(TrackingToken trackingToken, boolean mayBlock) {
+        if (!streamingReplayEnabled) {
+            return super.readEventData(trackingToken, mayBlock);
+        }
+        isTrue(trackingToken == null || trackingToken instanceof GapAwareTrackingToken,
+               () -> "Unsupported token format: " + trackingToken);
+        StreamingReplaySpliterator spliterator =
+                new StreamingReplaySpliterator((GapAwareTrackingToken) trackingToken, mayBlock);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     private List<TrackedEventData<?>> executeEventDataQuery(GapAwareTrackingToken cleanedToken, int batchSize) {
         return executeQuery(
                 getConnection(),
@@ -729,6 +850,137 @@ public void setGapCleaningThreshold(int gapCleaningThreshold) {
         this.gapCleaningThreshold = gapCleaningThreshold;
     }
 
+    /**
+     * Spliterator reading tracked events through a single, lazily fetched query while the stream is far behind the
+     * head of the event store. Once the results of a query have been read, the head is checked again. If the stream is
+     * still far behind, a new query is executed. Otherwise, the remainder of the stream is read by polling for batches
+     * of events.
+     */
+    private class StreamingReplaySpliterator extends Spliterators.AbstractSpliterator<TrackedEventData<?>> {
+
+        private final boolean mayBlock;
+        private GapAwareTrackingToken lastToken;
+        private Connection connection;
+        private boolean restoreAutoCommit;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private boolean cursorReturnedEvents;
+        private boolean streamingCompleted;
+        private Stream<? extends TrackedEventData<?>> pollingStream;
+        private Iterator<? extends TrackedEventData<?>> pollingIterator;
+
+        private StreamingReplaySpliterator(GapAwareTrackingToken lastToken, boolean mayBlock) {
+            super(Long.MAX_VALUE, NONNULL | ORDERED | DISTINCT | CONCURRENT);
+            this.lastToken = lastToken;
+            this.mayBlock = mayBlock;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super TrackedEventData<?>> action) {
+            Objects.requireNonNull(action);
+            while (pollingIterator == null) {
+                if (resultSet == null && (streamingCompleted || !openCursorIfBehind())) {
+                    pollingStream = JdbcEventStorageEngine.super.readEventData(lastToken, mayBlock);
+                    pollingIterator = pollingStream.iterator();
+                } else if (nextFromCursor(action)) {
+                    return true;
+                }
+            }
+            if (pollingIterator.hasNext()) {
+                TrackedEventData<?> next = pollingIterator.next();
+                lastToken = (GapAwareTrackingToken) next.trackingToken();
+                action.accept(next);
+                return true;
+            }
+            return false;
+        }
+
+        private boolean openCursorIfBehind() {
+            GapAwareTrackingToken headToken = (GapAwareTrackingToken) createHeadToken();
+            long index = lastToken == null ? -1 : lastToken.getIndex();
+            if (headToken == null || headToken.getIndex() - index <= streamingReplayFetchSize) {
+                return false;
+            }
+            int eventsBehind = (int) Math.min(headToken.getIndex() - index, Integer.MAX_VALUE);
+            try {
+                connection = getConnection();
+                if (connection.getAutoCommit()) {
+                    connection.setAutoCommit(false);
+                    restoreAutoCommit = true;
+                }
+                statement = readEventData(connection, lastToken, eventsBehind);
+                statement.setFetchSize(streamingReplayFetchSize);
+                resultSet = statement.executeQuery();
+                cursorReturnedEvents = false;
+                return true;
+            } catch (SQLException e) {
+                closeCursor();
+                throw new EventStoreException(format("Failed to read events from token [%s]", lastToken), e);
+            }
+        }
+
+        private boolean nextFromCursor(Consumer<? super TrackedEventData<?>> action) {
+            try {
+                if (resultSet.next()) {
+                    TrackedEventData<?> next = getTrackedEventData(resultSet, lastToken);
+                    lastToken = (GapAwareTrackingToken) next.trackingToken();
+                    cursorReturnedEvents = true;
+                    action.accept(next);
+                    return true;
+                }
+            } catch (SQLException e) {
+                closeCursor();
+                throw new EventStoreException(format("Failed to read events from token [%s]", lastToken), e);
+            }
+            closeCursor();
+            // never query again without progress, but leave it to polling to find the remaining events
+            streamingCompleted = !cursorReturnedEvents;
+            return false;
+        }
+
+        private void closeCursor() {
+            closeQuietly(resultSet);
+            closeQuietly(statement);
+            if (connection != null && restoreAutoCommit) {
+                try {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    logger.debug("Failed to restore auto-commit on connection after streaming events", e);
+                }
+            }
+            closeQuietly(connection);
+            resultSet = null;
+            statement = null;
+            connection = null;
+            restoreAutoCommit = false;
+        }
+
+        private void close() {
+            closeCursor();
+            if (pollingStream != null) {
+                pollingStream.close();
+            }
+        }
+    }
+
+    /**
+     * Holder of an event and its serialized payload and meta data, which are serialized by the appending thread.
+     */
+    private static class SerializedEvent {
+
+        private final DomainEventMessage<?> event;
+        private final SerializedObject<?> payload;
+        private final SerializedObject<?> metaData;
+
+        private SerializedEvent(DomainEventMessage<?> event, SerializedObject<?> payload,
+                                SerializedObject<?> metaData) {
+            this.event = event;
+            this.payload = payload;
+            this.metaData = metaData;
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link JdbcEventStorageEngine}.
      * <p>
@@ -763,6 +1015,12 @@ public static class Builder extends BatchingEventStorageEngine.Builder {
         private int gapTimeout = DEFAULT_GAP_TIMEOUT;
         private int gapCleaningThreshold = DEFAULT_GAP_CLEANING_THRESHOLD;
         private boolean extendedGapCheckEnabled = DEFAULT_EXTENDED_GAP_CHECK_ENABLED;
+        private boolean groupCommitEnabled = false;
+        private int maxGroupCommitSize = DEFAULT_MAX_GROUP_COMMIT_SIZE;
+        private ThreadFactory groupCommitThreadFactory =
+                new AxonThreadFactory("JdbcEventStorageEngine-groupCommit");
+        private boolean streamingReplayEnabled = false;
+        private int streamingReplayFetchSize = DEFAULT_STREAMING_REPLAY_FETCH_SIZE;
 
         private Builder() {
             persistenceExceptionResolver(new JdbcSQLErrorCodesResolver());
@@ -801,12 +1059,36 @@ public Builder snapshotFilter(Predicate<? super DomainEventData<?>> snapshotFilt
             return this;
         }
 
+        @Override
+        public Builder lastSequenceNumberCache(Cache lastSequenceNumberCache) {
+            super.lastSequenceNumberCache(lastSequenceNumberCache);
+            return this;
+        }
+
+        @Override
+        public Builder lastSequenceNumberTimeToLive(Duration lastSequenceNumberTimeToLive) {
+            super.lastSequenceNumberTimeToLive(lastSequenceNumberTimeToLive);
+            return this;
+        }
+
         @Override
         public Builder batchSize(int batchSize) {
             super.batchSize(batchSize);
             return this;
         }
 
+        @Override
+        public Builder prefetchDepth(int prefetchDepth) {
+            super.prefetchDepth(prefetchDepth);
+            return this;
+        }
+
+        @Override
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            super.prefetchExecutor(prefetchExecutor);
+            return this;
+        }
+
         /**
          * Sets the {@link ConnectionProvider} which provides access to a JDBC connection.
          *
@@ -943,6 +1225,100 @@ public Builder extendedGapCheckEnabled(boolean extendedGapCheckEnabled) {
             return this;
         }
 
+        /**
+         * Indicates whether events appended by concurrent callers should be combined into a single batch insert, which
+         * is committed in one transaction. This reduces the number of round trips to the database when many threads
+         * append events concurrently. Each caller blocks until the group containing its events has been
+         * committed, and receives its own outcome: when a group fails, the events of each caller are inserted
+         * separately, so that for example a {@link ConcurrencyException} is only reported to the caller causing it.
+         * <p>
+         * Grouped events are inserted by a dedicated thread, in a transaction of their own. Events appended within a
+         * {@link UnitOfWork} are collected until the Unit of Work prepares its commit, and are discarded when it rolls
+         * back before that. The committing thread then blocks until the group containing its events has been
+         * inserted, and a failure to insert them, such as a {@link ConcurrencyException}, fails the commit of that Unit
+         * of Work. As the events are not part of the transaction of the Unit of Work, they are not removed when the Unit
+         * of Work rolls back after preparing its commit. Defaults to {@code false}.
+         * <p>
+         * Most drivers send a batch of inserts in a single round trip. Some drivers may additionally be configured to
+         * rewrite the batch into multi-row inserts, such as the {@code reWriteBatchedInserts} property of the
+         * PostgreSQL driver.
+         *
+         * @param groupCommitEnabled a {@code boolean} specifying whether events of concurrent callers are inserted
+         *                           and committed in groups
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder groupCommitEnabled(boolean groupCommitEnabled) {
+            this.groupCommitEnabled = groupCommitEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of events inserted in a single group when {@link #groupCommitEnabled(boolean)} is
+         * set. The events of a single caller are never split over multiple groups, meaning a group may exceed this
+         * size if a single caller appends more events. Defaults to {@code 1000}.
+         *
+         * @param maxGroupCommitSize an {@code int} specifying the maximum number of events in a single group commit
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxGroupCommitSize(int maxGroupCommitSize) {
+            assertPositive(maxGroupCommitSize, "maxGroupCommitSize");
+            this.maxGroupCommitSize = maxGroupCommitSize;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ThreadFactory} used to create the thread inserting groups of events when {@link
+         * #groupCommitEnabled(boolean)} is set. The thread is created when events are appended and ends when no events
+         * have been appended for a while. Defaults to an {@link AxonThreadFactory} with group name {@code
+         * "JdbcEventStorageEngine-groupCommit"}.
+         *
+         * @param groupCommitThreadFactory the {@link ThreadFactory} creating the thread inserting groups of events
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder groupCommitThreadFactory(ThreadFactory groupCommitThreadFactory) {
+            assertNonNull(groupCommitThreadFactory, "groupCommitThreadFactory may not be null");
+            this.groupCommitThreadFactory = groupCommitThreadFactory;
+            return this;
+        }
+
+        /**
+         * Indicates whether tracking event streams that are far behind the head of the event store should read events
+         * through a single, lazily fetched query, instead of through a query per batch. This avoids the cost of
+         * planning and executing a query for each batch during replays of large numbers of events. Once the stream
+         * has read the events up to the head of the event store at the time the query was executed, it switches back
+         * to polling for events in batches, which is needed to reliably detect gaps near the head.
+         * <p>
+         * Streaming is used when a stream is opened more than {@link #streamingReplayFetchSize(int)} events behind the
+         * head. The query is executed on a connection obtained directly from the {@link ConnectionProvider}, outside of
+         * a transaction managed by the {@link TransactionManager}. The connection is held until the query results
+         * have been read, or until the stream is closed. If the connection is in auto-commit mode, auto-commit is
+         * disabled while reading, as some drivers, such as the PostgreSQL driver, only respect the fetch size within a
+         * transaction. Defaults to {@code false}.
+         *
+         * @param streamingReplayEnabled a {@code boolean} specifying whether streams far behind the head read events
+         *                               through a single query
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder streamingReplayEnabled(boolean streamingReplayEnabled) {
+            this.streamingReplayEnabled = streamingReplayEnabled;
+            return this;
+        }
+
+        /**
+         * Sets the fetch size set on the query used when {@link #streamingReplayEnabled(boolean) streaming replays} are
+         * enabled. This is the number of rows the driver is requested to retrieve from the database per round trip.
+         * It is also the minimum number of events a stream needs to be behind the head to read events through a
+         * single query. Defaults to {@code 1000}.
+         *
+         * @param streamingReplayFetchSize an {@code int} specifying the fetch size of the streaming replay query
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder streamingReplayFetchSize(int streamingReplayFetchSize) {
+            assertPositive(streamingReplayFetchSize, "streamingReplayFetchSize");
+            this.streamingReplayFetchSize = streamingReplayFetchSize;
+            return this;
+        }
+
         private void assertPositive(int num, final String numberDescription) {
             assertThat(num, number -> number > 0, "The " + numberDescription + " must be a positive number");
         }
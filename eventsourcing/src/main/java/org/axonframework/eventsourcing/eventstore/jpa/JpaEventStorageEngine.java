@@ -19,6 +19,7 @@
 import org.axonframework.common.Assert;
 import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.DateTimeUtils;
+import org.axonframework.common.caching.Cache;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
 import org.axonframework.common.jpa.EntityManagerProvider;
 import org.axonframework.common.transaction.TransactionManager;
@@ -38,6 +39,7 @@
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
@@ -302,7 +304,7 @@ protected void storeSnapshot(DomainEventMessage<?> snapshot, Serializer serializ
     }
 
     @Override
-    public Optional<Long> lastSequenceNumberFor(String aggregateIdentifier) {
+    protected Optional<Long> fetchLastSequenceNumber(String aggregateIdentifier) {
         List<Long> results = entityManager().createQuery(
                 "SELECT MAX(e.sequenceNumber) FROM " + domainEventEntryEntityName()
                         + " e WHERE e.aggregateIdentifier = :aggregateId", Long.class)
@@ -498,12 +500,42 @@ public Builder snapshotFilter(Predicate<? super DomainEventData<?>> snapshotFilt
             return this;
         }
 
+        @Override
+        public Builder lastSequenceNumberCache(Cache lastSequenceNumberCache) {
+            super.lastSequenceNumberCache(lastSequenceNumberCache);
+            return this;
+        }
+
+        @Override
+        public Builder lastSequenceNumberTimeToLive(Duration lastSequenceNumberTimeToLive) {
+            super.lastSequenceNumberTimeToLive(lastSequenceNumberTimeToLive);
+            return this;
+        }
+
         @Override
         public Builder batchSize(int batchSize) {
             super.batchSize(batchSize);
             return this;
         }
 
+        /**
+         * Prefetching is not supported by the {@link JpaEventStorageEngine}. Batches would be fetched on the threads
+         * of the {@code prefetchExecutor}, using the {@link EntityManager} of the {@link EntityManagerProvider}, while
+         * EntityManagers are not thread-safe. Only a {@code prefetchDepth} of {@code 0} is therefore accepted.
+         *
+         * @param prefetchDepth an {@code int} specifying the maximum number of batches fetched ahead, which should be
+         *                      {@code 0}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        @Override
+        public Builder prefetchDepth(int prefetchDepth) {
+            assertThat(prefetchDepth, depth -> depth == 0,
+                       "Prefetching is not supported by the JpaEventStorageEngine, as EntityManagers are not "
+                               + "thread-safe");
+            super.prefetchDepth(prefetchDepth);
+            return this;
+        }
+
         /**
          * Sets the {@link PersistenceExceptionResolver} as a {@link SQLErrorCodesResolver}, using the provided
          * {@link DataSource} to resolve the error codes. <b>Note</b> that the provided DataSource sole purpose in this
@@ -31,10 +31,15 @@
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvent;
 import static org.axonframework.eventsourcing.utils.EventStoreTestUtils.createEvents;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -125,6 +130,126 @@ public void testScheduleSnapshot_WithTransaction() {
         inOrder.verify(mockTransaction).commit();
     }
 
+    @Test
+    public void testCoalescingSnapshotterMergesPendingRequestsAndPrioritizesLongestStreams() {
+        List<Runnable> submittedTasks = new ArrayList<>();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(submittedTasks::add)
+                                     .coalescingEnabled(true)
+                                     .build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "short", 5);
+        testSubject.scheduleSnapshot(Object.class, "medium", 10);
+        testSubject.scheduleSnapshot(Object.class, "long", 30);
+        testSubject.scheduleSnapshot(Object.class, "medium", 40);
+        testSubject.scheduleSnapshot(Object.class, "short", 6);
+
+        assertEquals(1, submittedTasks.size());
+        assertEquals(3, testSubject.getPendingSnapshotCount());
+        assertEquals(1, testSubject.getActiveSnapshotCount());
+        assertEquals(2, testSubject.getCoalescedSnapshotCount());
+        verifyZeroInteractions(mockEventStore);
+
+        submittedTasks.get(0).run();
+
+        InOrder inOrder = inOrder(mockEventStore);
+        inOrder.verify(mockEventStore).readEvents("medium");
+        inOrder.verify(mockEventStore).readEvents("long");
+        inOrder.verify(mockEventStore).readEvents("short");
+        verify(mockEventStore, times(3)).storeSnapshot(any());
+        assertEquals(0, testSubject.getPendingSnapshotCount());
+        assertEquals(0, testSubject.getActiveSnapshotCount());
+    }
+
+    @Test
+    public void testCoalescingSnapshotterLimitsConcurrentAndPendingSnapshots() {
+        List<Runnable> submittedTasks = new ArrayList<>();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(submittedTasks::add)
+                                     .coalescingEnabled(true)
+                                     .maxConcurrentSnapshots(2)
+                                     .maxPendingSnapshots(3)
+                                     .build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "first", 20);
+        testSubject.scheduleSnapshot(Object.class, "second", 10);
+        testSubject.scheduleSnapshot(Object.class, "third", 30);
+        testSubject.scheduleSnapshot(Object.class, "fourth", 40);
+        testSubject.scheduleSnapshot(Object.class, "fifth", 1);
+
+        assertEquals(2, submittedTasks.size());
+        assertEquals(3, testSubject.getPendingSnapshotCount());
+        assertEquals(2, testSubject.getDroppedSnapshotCount());
+
+        submittedTasks.forEach(Runnable::run);
+
+        verify(mockEventStore).readEvents("first");
+        verify(mockEventStore).readEvents("third");
+        verify(mockEventStore).readEvents("fourth");
+        verify(mockEventStore, never()).readEvents("second");
+        verify(mockEventStore, never()).readEvents("fifth");
+        assertEquals(0, testSubject.getActiveSnapshotCount());
+    }
+
+    @Test
+    public void testCoalescingSnapshotterGivesRequestsWithoutSequenceNumberTheHighestPriority() {
+        List<Runnable> submittedTasks = new ArrayList<>();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(submittedTasks::add)
+                                     .coalescingEnabled(true)
+                                     .maxPendingSnapshots(1)
+                                     .build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "unknownLength");
+        testSubject.scheduleSnapshot(Object.class, "long", 1000);
+
+        assertEquals(1, testSubject.getDroppedSnapshotCount());
+        submittedTasks.forEach(Runnable::run);
+
+        verify(mockEventStore).readEvents("unknownLength");
+        verify(mockEventStore, never()).readEvents("long");
+    }
+
+    @Test
+    public void testCoalescingSnapshotterDropsPendingRequestsWhenExecutorRejectsTheOnlyTask() {
+        AtomicBoolean rejecting = new AtomicBoolean(true);
+        List<Runnable> submittedTasks = new ArrayList<>();
+        testSubject = TestSnapshotter.builder()
+                                     .eventStore(mockEventStore)
+                                     .executor(task -> {
+                                         if (rejecting.get()) {
+                                             throw new RejectedExecutionException("Mock");
+                                         }
+                                         submittedTasks.add(task);
+                                     })
+                                     .coalescingEnabled(true)
+                                     .build();
+        when(mockEventStore.readEvents(anyString()))
+                .thenAnswer(invocation -> DomainEventStream.of(createEvents(2)));
+
+        testSubject.scheduleSnapshot(Object.class, "rejected", 10);
+
+        assertEquals(0, testSubject.getPendingSnapshotCount());
+        assertEquals(0, testSubject.getActiveSnapshotCount());
+        assertEquals(1, testSubject.getDroppedSnapshotCount());
+
+        rejecting.set(false);
+        testSubject.scheduleSnapshot(Object.class, "accepted", 5);
+        submittedTasks.forEach(Runnable::run);
+
+        verify(mockEventStore).readEvents("accepted");
+        verify(mockEventStore, never()).readEvents("rejected");
+    }
+
     private ArgumentMatcher<DomainEventMessage> event(final Object aggregateIdentifier, final long i) {
         return x -> aggregateIdentifier.equals(x.getAggregateIdentifier())
                 && x.getSequenceNumber() == i;
@@ -191,6 +316,24 @@ public Builder transactionManager(TransactionManager transactionManager) {
                 return this;
             }
 
+            @Override
+            public Builder coalescingEnabled(boolean coalescingEnabled) {
+                super.coalescingEnabled(coalescingEnabled);
+                return this;
+            }
+
+            @Override
+            public Builder maxConcurrentSnapshots(int maxConcurrentSnapshots) {
+                super.maxConcurrentSnapshots(maxConcurrentSnapshots);
+                return this;
+            }
+
+            @Override
+            public Builder maxPendingSnapshots(int maxPendingSnapshots) {
+                super.maxPendingSnapshots(maxPendingSnapshots);
+                return this;
+            }
+
             private TestSnapshotter build() {
                 return new TestSnapshotter(this);
             }
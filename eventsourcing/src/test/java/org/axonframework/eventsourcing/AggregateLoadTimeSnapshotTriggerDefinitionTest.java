@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.utils.StubAggregate;
+import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.junit.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link AggregateLoadTimeSnapshotTriggerDefinition}.
+ */
+public class AggregateLoadTimeSnapshotTriggerDefinitionTest {
+
+    private AggregateLoadTimeSnapshotTriggerDefinition testSubject;
+    private Snapshotter mockSnapshotter;
+
+    @Before
+    public void setUp() {
+        mockSnapshotter = mock(Snapshotter.class);
+        testSubject = new AggregateLoadTimeSnapshotTriggerDefinition(mockSnapshotter, 100, TimeUnit.MILLISECONDS);
+        DefaultUnitOfWork.startAndGet(new GenericMessage<>("test"));
+    }
+
+    @After
+    public void tearDown() {
+        while (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().rollback();
+        }
+    }
+
+    @Test
+    public void testSnapshotterTriggeredOnUnitOfWorkCommitWhenSourcingIsSlow() {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.eventHandled(event(0));
+        trigger.eventHandled(event(1));
+        trigger.initializationFinished();
+        trigger.aggregateSourced(TimeUnit.MILLISECONDS.toNanos(150), 10);
+
+        verify(mockSnapshotter, never()).scheduleSnapshot(any(), any(), anyLong());
+        CurrentUnitOfWork.commit();
+        verify(mockSnapshotter).scheduleSnapshot(StubAggregate.class, "aggregateId", 1L);
+    }
+
+    @Test
+    public void testSnapshotterNotTriggeredWhenSourcingIsFast() {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.eventHandled(event(0));
+        trigger.initializationFinished();
+        trigger.aggregateSourced(TimeUnit.MILLISECONDS.toNanos(50), Long.MAX_VALUE);
+
+        CurrentUnitOfWork.commit();
+        verify(mockSnapshotter, never()).scheduleSnapshot(any(), any(), anyLong());
+    }
+
+    @Test
+    public void testSnapshotterIsReattachedAfterDeserialization() throws IOException, ClassNotFoundException {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.eventHandled(event(0));
+        trigger.initializationFinished();
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+        oos.writeObject(trigger);
+        trigger = (SnapshotTrigger) new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray())).readObject();
+        trigger = testSubject.reconfigure(StubAggregate.class, trigger);
+        trigger.aggregateSourced(TimeUnit.SECONDS.toNanos(1), 0);
+
+        CurrentUnitOfWork.commit();
+        verify(mockSnapshotter).scheduleSnapshot(StubAggregate.class, "aggregateId", 0L);
+    }
+
+    private static GenericDomainEventMessage<String> event(long sequenceNumber) {
+        return new GenericDomainEventMessage<>("type", "aggregateId", sequenceNumber, "Mock contents",
+                                               MetaData.emptyInstance());
+    }
+}
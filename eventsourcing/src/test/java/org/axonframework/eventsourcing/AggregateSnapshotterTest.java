@@ -16,8 +16,15 @@
 
 package org.axonframework.eventsourcing;
 
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.caching.WeakReferenceCache;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
 import org.axonframework.eventsourcing.utils.StubDomainEvent;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.modelling.command.Repository;
+import org.axonframework.modelling.command.RepositoryProvider;
 import org.axonframework.eventhandling.DomainEventMessage;
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.eventhandling.GenericDomainEventMessage;
@@ -25,6 +32,7 @@
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.messaging.MetaData;
 import org.junit.*;
+import org.mockito.*;
 
 import java.util.UUID;
 
@@ -41,6 +49,7 @@ public class AggregateSnapshotterTest {
 
     private AggregateSnapshotter testSubject;
     private AggregateFactory mockAggregateFactory;
+    private CachingEventSourcingRepository<StubAggregate> repository;
 
     @Before
     @SuppressWarnings({"unchecked"})
@@ -111,6 +120,73 @@ public void testCreateSnapshot_AggregateMarkedDeletedWillNotGenerateSnapshot() {
         assertNull("Snapshotter shouldn't have created snapshot of deleted aggregate", snapshot);
     }
 
+    @Test
+    public void testSnapshotIsTakenFromCachedAggregate() {
+        EventStore eventStore = spy(EmbeddedEventStore.builder()
+                                                      .storageEngine(new InMemoryEventStorageEngine())
+                                                      .build());
+        Cache cache = new WeakReferenceCache();
+        AggregateSnapshotter snapshotter = createSnapshotterWithCachingRepository(eventStore, cache);
+        StubAggregate aggregate = new StubAggregate("aggregateId");
+        storeAggregate(aggregate);
+
+        snapshotter.scheduleSnapshot(StubAggregate.class, "aggregateId");
+
+        ArgumentCaptor<DomainEventMessage> snapshotCaptor = ArgumentCaptor.forClass(DomainEventMessage.class);
+        verify(eventStore).storeSnapshot(snapshotCaptor.capture());
+        verify(eventStore, never()).readEvents("aggregateId");
+        assertSame(aggregate, snapshotCaptor.getValue().getPayload());
+        assertEquals(1L, snapshotCaptor.getValue().getSequenceNumber());
+    }
+
+    @Test
+    public void testSnapshotIsSourcedFromEventStoreWhenAggregateIsNotCached() {
+        EventStore eventStore = spy(EmbeddedEventStore.builder()
+                                                      .storageEngine(new InMemoryEventStorageEngine())
+                                                      .build());
+        Cache cache = new WeakReferenceCache();
+        AggregateSnapshotter snapshotter = createSnapshotterWithCachingRepository(eventStore, cache);
+        StubAggregate aggregate = new StubAggregate("aggregateId");
+        storeAggregate(aggregate);
+        cache.remove("aggregateId");
+
+        snapshotter.scheduleSnapshot(StubAggregate.class, "aggregateId");
+
+        ArgumentCaptor<DomainEventMessage> snapshotCaptor = ArgumentCaptor.forClass(DomainEventMessage.class);
+        verify(eventStore).readEvents("aggregateId");
+        verify(eventStore).storeSnapshot(snapshotCaptor.capture());
+        assertNotSame(aggregate, snapshotCaptor.getValue().getPayload());
+        assertEquals(1L, snapshotCaptor.getValue().getSequenceNumber());
+    }
+
+    private AggregateSnapshotter createSnapshotterWithCachingRepository(EventStore eventStore, Cache cache) {
+        repository = CachingEventSourcingRepository.builder(StubAggregate.class)
+                                                   .eventStore(eventStore)
+                                                   .cache(cache)
+                                                   .build();
+        return AggregateSnapshotter.builder()
+                                   .eventStore(eventStore)
+                                   .aggregateFactories(new GenericAggregateFactory<>(StubAggregate.class))
+                                   .repositoryProvider(new RepositoryProvider() {
+                                       @SuppressWarnings("unchecked")
+                                       @Override
+                                       public <T> Repository<T> repositoryFor(Class<T> aggregateType) {
+                                           return (Repository<T>) repository;
+                                       }
+                                   })
+                                   .build();
+    }
+
+    private void storeAggregate(StubAggregate aggregate) {
+        DefaultUnitOfWork.startAndGet(null).executeWithResult(() -> {
+            repository.newInstance(() -> aggregate).execute(a -> {
+                a.doSomething();
+                a.doSomething();
+            });
+            return null;
+        });
+    }
+
     public static class StubAggregate {
 
         @AggregateIdentifier
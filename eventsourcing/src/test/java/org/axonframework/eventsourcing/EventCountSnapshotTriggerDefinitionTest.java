@@ -79,9 +79,9 @@ public void testSnapshotterTriggeredOnUnitOfWorkCommit() {
         trigger.eventHandled(msg);
         trigger.eventHandled(msg);
 
-        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier);
+        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier, 0L);
         CurrentUnitOfWork.commit();
-        verify(mockSnapshotter).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier);
+        verify(mockSnapshotter).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier, 0L);
     }
 
     @Test
@@ -93,9 +93,9 @@ public void testSnapshotterNotTriggered() {
         trigger.eventHandled(msg);
         trigger.eventHandled(msg);
 
-        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.getClass(), aggregateIdentifier);
+        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.getClass(), aggregateIdentifier, 0L);
         CurrentUnitOfWork.commit();
-        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.getClass(), aggregateIdentifier);
+        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.getClass(), aggregateIdentifier, 0L);
     }
 
     @Test
@@ -115,8 +115,8 @@ public void testCounterDoesNotResetWhenSerialized() throws IOException, ClassNot
         // this triggers the snapshot
         trigger.eventHandled(msg);
 
-        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier);
+        verify(mockSnapshotter, never()).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier, 0L);
         CurrentUnitOfWork.commit();
-        verify(mockSnapshotter).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier);
+        verify(mockSnapshotter).scheduleSnapshot(aggregate.rootType(), aggregateIdentifier, 0L);
     }
 }
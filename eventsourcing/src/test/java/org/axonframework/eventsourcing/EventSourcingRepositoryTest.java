@@ -23,21 +23,29 @@
 import org.axonframework.eventsourcing.eventstore.EventStore;
 import org.axonframework.eventsourcing.utils.StubDomainEvent;
 import org.axonframework.messaging.GenericMessage;
+import org.axonframework.messaging.Message;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.axonframework.modelling.command.Aggregate;
 import org.axonframework.modelling.command.AggregateIdentifier;
 import org.axonframework.modelling.command.AggregateLifecycle;
+import org.axonframework.modelling.command.AggregateNotFoundException;
 import org.axonframework.modelling.command.AggregateRoot;
 import org.axonframework.modelling.command.ConflictingAggregateVersionException;
+import org.axonframework.monitoring.MessageMonitor;
 import org.junit.*;
 import org.mockito.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static java.util.Collections.singletonList;
 import static org.axonframework.messaging.MetaData.emptyInstance;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -107,6 +115,25 @@ public void testLoadAndSaveAggregate() {
         assertSame(event3, aggregate.invoke(TestAggregate::getLiveEvents).get(0).getPayload());
     }
 
+    @Test
+    public void testLoadAllReadsEventStreamsOfAllAggregatesAtOnce() {
+        DomainEventMessage<?> eventA = new GenericDomainEventMessage<>("type", "a", 0, "Mock contents");
+        DomainEventMessage<?> otherEventA = new GenericDomainEventMessage<>("otherType", "a", 1, "Other contents");
+        DomainEventMessage<?> eventB = new GenericDomainEventMessage<>("type", "b", 0, "Mock contents");
+        Map<String, DomainEventStream> eventStreams = new HashMap<>();
+        eventStreams.put("a", DomainEventStream.of(eventA, otherEventA));
+        eventStreams.put("b", DomainEventStream.of(eventB));
+        when(mockEventStore.readEventStreams(Arrays.asList("a", "b"))).thenReturn(eventStreams);
+
+        Map<String, Aggregate<TestAggregate>> result = testSubject.loadAll(Arrays.asList("b", "a"));
+
+        assertEquals(Arrays.asList("b", "a"), new ArrayList<>(result.keySet()));
+        assertEquals(singletonList(eventA), result.get("a").invoke(TestAggregate::getHandledEvents));
+        assertEquals(singletonList(eventB), result.get("b").invoke(TestAggregate::getHandledEvents));
+        verify(mockEventStore, never()).readEvents(anyString());
+        verify(snapshotTrigger, times(2)).aggregateSourced(anyLong(), anyLong());
+    }
+
     @Test
     public void testFilterEventsByType() {
         String identifier = UUID.randomUUID().toString();
@@ -191,6 +218,58 @@ public void testLoadEventsWithSnapshotter() {
         inOrder.verify(snapshotTrigger, times(2)).eventHandled(any());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSourcingIsReportedToMessageMonitorAndSnapshotTrigger() {
+        MessageMonitor<Message<?>> messageMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback monitorCallback = mock(MessageMonitor.MonitorCallback.class);
+        when(messageMonitor.onMessageIngested(any())).thenReturn(monitorCallback);
+        testSubject = EventSourcingRepository.builder(TestAggregate.class)
+                                             .aggregateFactory(stubAggregateFactory)
+                                             .eventStore(mockEventStore)
+                                             .snapshotTriggerDefinition(triggerDefinition)
+                                             .messageMonitor(messageMonitor)
+                                             .build();
+        String identifier = UUID.randomUUID().toString();
+        when(mockEventStore.readEvents(identifier)).thenReturn(DomainEventStream.of(
+                Stream.of(new GenericDomainEventMessage<>("type", identifier, 1L, "Mock contents", emptyInstance()),
+                          new GenericDomainEventMessage<>("type", identifier, 2L, "Mock contents", emptyInstance())),
+                () -> 2L,
+                () -> 42L
+        ));
+
+        testSubject.load(identifier);
+
+        verify(messageMonitor).onMessageIngested(unitOfWork.getMessage());
+        verify(monitorCallback).reportSuccess();
+        InOrder inOrder = Mockito.inOrder(snapshotTrigger);
+        inOrder.verify(snapshotTrigger).initializationFinished();
+        inOrder.verify(snapshotTrigger).aggregateSourced(anyLong(), eq(42L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFailureToSourceIsReportedToMessageMonitor() {
+        MessageMonitor<Message<?>> messageMonitor = mock(MessageMonitor.class);
+        MessageMonitor.MonitorCallback monitorCallback = mock(MessageMonitor.MonitorCallback.class);
+        when(messageMonitor.onMessageIngested(any())).thenReturn(monitorCallback);
+        testSubject = EventSourcingRepository.builder(TestAggregate.class)
+                                             .aggregateFactory(stubAggregateFactory)
+                                             .eventStore(mockEventStore)
+                                             .messageMonitor(messageMonitor)
+                                             .build();
+        String identifier = UUID.randomUUID().toString();
+        when(mockEventStore.readEvents(identifier)).thenReturn(DomainEventStream.empty());
+
+        try {
+            testSubject.load(identifier);
+            fail("Expected AggregateNotFoundException");
+        } catch (AggregateNotFoundException e) {
+            verify(monitorCallback).reportFailure(e);
+            verify(monitorCallback, never()).reportSuccess();
+        }
+    }
+
     private static class StubAggregateFactory extends AbstractAggregateFactory<TestAggregate> {
 
         public StubAggregateFactory() {
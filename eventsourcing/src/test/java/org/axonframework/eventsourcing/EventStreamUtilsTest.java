@@ -16,15 +16,20 @@
 
 package org.axonframework.eventsourcing;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.axonframework.common.IdentifierFactory;
 import org.axonframework.eventhandling.DomainEventData;
 import org.axonframework.eventhandling.GenericDomainEventEntry;
 import org.axonframework.eventsourcing.eventstore.DomainEventStream;
 import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
 import org.axonframework.serialization.upcasting.event.EventUpcasterChain;
 import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
+import org.axonframework.serialization.xml.XStreamSerializer;
 import org.junit.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -78,6 +83,44 @@ public void testDomainEventStream_lastSequenceNumberEqualToLastProcessedEntryAft
         assertEquals(Long.valueOf(1L), eventStream.getLastSequenceNumber());
     }
 
+    @Test
+    public void testDomainEventStream_serializedSizeIncludesEntriesRemovedByUpcasters() {
+        DomainEventStream eventStream = EventStreamUtils
+                .upcastAndDeserializeDomainEvents(Stream.of(createEntry(1), createEntry(2), createEntry(3)), serializer,
+                                                  new EventUpcasterChain(e -> e
+                                                          .filter(entry -> entry.getSequenceNumber().get() < 2L))
+                );
+        assertEquals(0L, eventStream.getSerializedSize());
+        eventStream.next();
+        assertEquals("test".length() + "metadata".length(), eventStream.getSerializedSize());
+        eventStream.forEachRemaining(Objects::requireNonNull);
+        assertEquals(3 * ("test".length() + "metadata".length()), eventStream.getSerializedSize());
+    }
+
+    @Test
+    public void testDomainEventStream_serializedSizeOfStringDataIsMeasuredInUtf8Bytes() {
+        DomainEventStream eventStream = EventStreamUtils.upcastAndDeserializeDomainEvents(
+                Stream.of(createEntry(1, "caf\u00e9", "\u20ac")), XStreamSerializer.defaultSerializer(),
+                NoOpEventUpcaster.INSTANCE
+        );
+        eventStream.forEachRemaining(Objects::requireNonNull);
+        assertEquals(5 + 3, eventStream.getSerializedSize());
+    }
+
+    @Test
+    public void testDomainEventStream_serializedSizeOfJsonNodeDataIsMeasuredUsingSerializerConverter() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode payload = objectMapper.createObjectNode().put("name", "caf\u00e9");
+        ObjectNode metaData = objectMapper.createObjectNode();
+        DomainEventStream eventStream = EventStreamUtils.upcastAndDeserializeDomainEvents(
+                Stream.of(createEntry(1, payload, metaData)), JacksonSerializer.builder().build(),
+                NoOpEventUpcaster.INSTANCE
+        );
+        eventStream.forEachRemaining(Objects::requireNonNull);
+        assertEquals("{\"name\":\"caf\u00e9\"}".getBytes(StandardCharsets.UTF_8).length + "{}".length(),
+                     eventStream.getSerializedSize());
+    }
+
     @Test(expected = NullPointerException.class)
     public void testDomainEventStream_nullPointerExceptionOnEmptyEventStream() {
         DomainEventStream eventStream = EventStreamUtils.upcastAndDeserializeDomainEvents(Stream.empty(),
@@ -86,9 +129,13 @@ public void testDomainEventStream_nullPointerExceptionOnEmptyEventStream() {
     }
 
     private static DomainEventData<?> createEntry(long sequenceNumber) {
+        return createEntry(sequenceNumber, "test", "metadata");
+    }
+
+    private static <T> DomainEventData<T> createEntry(long sequenceNumber, T payload, T metaData) {
         return new GenericDomainEventEntry<>("type", "testAggregate", sequenceNumber,
                                              IdentifierFactory.getInstance().generateIdentifier(), Instant.now(),
-                                             String.class.getName(), null, "test", "metadata");
+                                             String.class.getName(), null, payload, metaData);
     }
 
 }
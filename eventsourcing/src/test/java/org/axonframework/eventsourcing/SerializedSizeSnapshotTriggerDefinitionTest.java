@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventsourcing;
+
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.utils.StubAggregate;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.junit.*;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link SerializedSizeSnapshotTriggerDefinition}.
+ */
+public class SerializedSizeSnapshotTriggerDefinitionTest {
+
+    private SerializedSizeSnapshotTriggerDefinition testSubject;
+    private Snapshotter mockSnapshotter;
+
+    @Before
+    public void setUp() {
+        while (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().rollback();
+        }
+        mockSnapshotter = mock(Snapshotter.class);
+        testSubject = new SerializedSizeSnapshotTriggerDefinition(mockSnapshotter, 1024);
+    }
+
+    @Test
+    public void testSnapshotterTriggeredWhenSerializedSizeExceedsThreshold() {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.eventHandled(event(4));
+        trigger.initializationFinished();
+        trigger.aggregateSourced(0, 1024);
+
+        verify(mockSnapshotter).scheduleSnapshot(StubAggregate.class, "aggregateId", 4L);
+    }
+
+    @Test
+    public void testSnapshotterNotTriggeredWhenSerializedSizeIsBelowThreshold() {
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.eventHandled(event(4));
+        trigger.initializationFinished();
+        trigger.aggregateSourced(Long.MAX_VALUE, 1023);
+
+        verify(mockSnapshotter, never()).scheduleSnapshot(any(), any(), anyLong());
+    }
+
+    @Test
+    public void testSnapshotterNotTriggeredWhenSerializedSizeIsUnknown() {
+        testSubject = new SerializedSizeSnapshotTriggerDefinition(mockSnapshotter, 0);
+        SnapshotTrigger trigger = testSubject.prepareTrigger(StubAggregate.class);
+        trigger.eventHandled(event(4));
+        trigger.initializationFinished();
+        trigger.aggregateSourced(Long.MAX_VALUE, 0);
+
+        verify(mockSnapshotter, never()).scheduleSnapshot(any(), any(), anyLong());
+    }
+
+    private static GenericDomainEventMessage<String> event(long sequenceNumber) {
+        return new GenericDomainEventMessage<>("type", "aggregateId", sequenceNumber, "Mock contents",
+                                               MetaData.emptyInstance());
+    }
+}
@@ -33,12 +33,18 @@
 import org.mockito.invocation.*;
 import org.mockito.stubbing.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -299,6 +305,42 @@ public void testEventsAppendedInvisibleUntilUnitOfWorkIsCommitted() {
         Assert.assertEquals(2, testSubject.readEvents(AGGREGATE).asStream().count());
     }
 
+    @Test
+    public void testReadEventStreamsOnReadExecutorIncludesSnapshotsAndStagedEvents() {
+        ExecutorService readExecutor = Executors.newFixedThreadPool(2);
+        AtomicInteger executedReads = new AtomicInteger();
+        testSubject.shutDown();
+        testSubject = EmbeddedEventStore.builder()
+                                        .storageEngine(storageEngine)
+                                        .threadFactory(threadFactory)
+                                        .readExecutor(task -> {
+                                            executedReads.incrementAndGet();
+                                            readExecutor.execute(task);
+                                        })
+                                        .build();
+        try {
+            testSubject.publish(createEvent("a", 0), createEvent("a", 1), createEvent("a", 2),
+                                createEvent("b", 0), createEvent("b", 1));
+            storageEngine.storeSnapshot(createEvent("a", 1));
+
+            DefaultUnitOfWork.startAndGet(null).execute(() -> {
+                testSubject.publish(createEvent("b", 2));
+                Map<String, DomainEventStream> result = testSubject.readEventStreams(Arrays.asList("b", "a"));
+
+                assertEquals(Arrays.asList("b", "a"), new ArrayList<>(result.keySet()));
+                assertEquals(Arrays.asList(1L, 2L), sequenceNumbers(result.get("a")));
+                assertEquals(Arrays.asList(0L, 1L, 2L), sequenceNumbers(result.get("b")));
+            });
+            assertEquals(2, executedReads.get());
+        } finally {
+            readExecutor.shutdown();
+        }
+    }
+
+    private static List<Long> sequenceNumbers(DomainEventStream eventStream) {
+        return eventStream.asStream().map(DomainEventMessage::getSequenceNumber).collect(toList());
+    }
+
     @Test(timeout = 5000)
     public void testCustomThreadFactoryIsUsed() throws Exception {
         CountDownLatch lock = new CountDownLatch(1);
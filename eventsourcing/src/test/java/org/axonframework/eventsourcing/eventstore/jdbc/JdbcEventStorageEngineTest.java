@@ -16,7 +16,12 @@
 
 package org.axonframework.eventsourcing.eventstore.jdbc;
 
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.caching.BoundedCache;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.jdbc.ConnectionProvider;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
+import org.axonframework.common.jdbc.UnitOfWorkAwareConnectionProviderWrapper;
 import org.axonframework.common.transaction.NoTransactionManager;
 import org.axonframework.eventhandling.DomainEventData;
 import org.axonframework.eventhandling.DomainEventMessage;
@@ -25,10 +30,14 @@
 import org.axonframework.eventhandling.TrackedEventData;
 import org.axonframework.eventhandling.TrackedEventMessage;
 import org.axonframework.eventhandling.TrackingEventStream;
+import org.axonframework.eventhandling.TrackingToken;
 import org.axonframework.eventsourcing.eventstore.AbstractEventStorageEngine;
 import org.axonframework.eventsourcing.eventstore.BatchingEventStorageEngineTest;
 import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
 import org.axonframework.eventsourcing.eventstore.jpa.SQLErrorCodesResolver;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.modelling.command.ConcurrencyException;
 import org.axonframework.serialization.UnknownSerializedType;
 import org.axonframework.serialization.upcasting.event.EventUpcaster;
 import org.axonframework.serialization.upcasting.event.NoOpEventUpcaster;
@@ -39,13 +48,25 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -85,6 +106,91 @@ public void testLoadLastSequenceNumber() {
         assertFalse(testSubject.lastSequenceNumberFor("inexistent").isPresent());
     }
 
+    @Test
+    public void testLastSequenceNumberIsAnsweredFromCacheAfterAppend() throws SQLException {
+        testSubject = createCachingEngine(BoundedCache.builder().maximumSize(100).build());
+        String aggregateId = UUID.randomUUID().toString();
+        testSubject.appendEvents(createEvent(aggregateId, 0), createEvent(aggregateId, 1));
+        testSubject.appendEvents(createEvent("other", 0));
+        deleteAllEvents();
+
+        assertEquals(Optional.of(1L), testSubject.lastSequenceNumberFor(aggregateId));
+        assertEquals(Optional.of(0L), testSubject.lastSequenceNumberFor("other"));
+        assertFalse(testSubject.lastSequenceNumberFor("inexistent").isPresent());
+    }
+
+    @Test
+    public void testLastSequenceNumberIsCachedAfterLookup() throws SQLException {
+        String aggregateId = UUID.randomUUID().toString();
+        testSubject.appendEvents(createEvent(aggregateId, 0), createEvent(aggregateId, 1));
+        testSubject = createCachingEngine(BoundedCache.builder().maximumSize(100).build());
+
+        assertEquals(Optional.of(1L), testSubject.lastSequenceNumberFor(aggregateId));
+        deleteAllEvents();
+        assertEquals(Optional.of(1L), testSubject.lastSequenceNumberFor(aggregateId));
+    }
+
+    @Test
+    public void testCachedSequenceNumberIsRemovedWhenAggregateIsRead() throws SQLException {
+        testSubject = createCachingEngine(BoundedCache.builder().maximumSize(100).build());
+        String aggregateId = UUID.randomUUID().toString();
+        testSubject.appendEvents(createEvent(aggregateId, 0), createEvent(aggregateId, 1));
+        deleteAllEvents();
+
+        assertEquals(0, testSubject.readEvents(aggregateId).asStream().count());
+        assertFalse(testSubject.lastSequenceNumberFor(aggregateId).isPresent());
+    }
+
+    @Test
+    public void testCachedSequenceNumberExpiresAfterTimeToLive() throws Exception {
+        testSubject = JdbcEventStorageEngine.builder()
+                                            .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                            .connectionProvider(dataSource::getConnection)
+                                            .transactionManager(NoTransactionManager.INSTANCE)
+                                            .lastSequenceNumberCache(BoundedCache.builder().maximumSize(100).build())
+                                            .lastSequenceNumberTimeToLive(Duration.ofMillis(50))
+                                            .build();
+        String aggregateId = UUID.randomUUID().toString();
+        testSubject.appendEvents(createEvent(aggregateId, 0), createEvent(aggregateId, 1));
+        deleteAllEvents();
+        assertEquals(Optional.of(1L), testSubject.lastSequenceNumberFor(aggregateId));
+
+        Thread.sleep(100);
+
+        assertFalse(testSubject.lastSequenceNumberFor(aggregateId).isPresent());
+    }
+
+    @Test
+    public void testCachedSequenceNumberIsRemovedWhenAppendFails() throws SQLException {
+        testSubject = createCachingEngine(BoundedCache.builder().maximumSize(100).build());
+        String aggregateId = UUID.randomUUID().toString();
+        testSubject.appendEvents(createEvent(aggregateId, 0), createEvent(aggregateId, 1));
+        try {
+            testSubject.appendEvents(createEvent(aggregateId, 1));
+            fail("Expected a ConcurrencyException");
+        } catch (ConcurrencyException e) {
+            // expected
+        }
+        deleteAllEvents();
+
+        assertFalse(testSubject.lastSequenceNumberFor(aggregateId).isPresent());
+    }
+
+    @Test
+    public void testCachedSequenceNumberIsOnlyUpdatedWhenUnitOfWorkCommits() throws SQLException {
+        testSubject = createCachingEngine(BoundedCache.builder().maximumSize(100).build());
+        String aggregateId = UUID.randomUUID().toString();
+        DefaultUnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        testSubject.appendEvents(createEvent(aggregateId, 0));
+        unitOfWork.rollback();
+        deleteAllEvents();
+        assertFalse(testSubject.lastSequenceNumberFor(aggregateId).isPresent());
+
+        DefaultUnitOfWork.startAndGet(null).execute(() -> testSubject.appendEvents(createEvent(aggregateId, 0)));
+        deleteAllEvents();
+        assertEquals(Optional.of(0L), testSubject.lastSequenceNumberFor(aggregateId));
+    }
+
     @Test
     @SuppressWarnings({"JpaQlInspection", "OptionalGetWithoutIsPresent"})
     @DirtiesContext
@@ -351,6 +457,43 @@ public void testReadEventsForAggregateWithEventsExceedingOneBatchReturnsTheCompl
         assertEquals(7, result.get(7).getSequenceNumber());
     }
 
+    @Test
+    public void testReadEventsForAggregateWithPrefetchingReturnsTheCompleteStream() {
+        createEngine(defaultPersistenceExceptionResolver, new EventSchema(), 5).appendEvents(createEvents(23));
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+        AtomicInteger prefetchCount = new AtomicInteger();
+        testSubject = JdbcEventStorageEngine.builder()
+                                            .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                            .connectionProvider(dataSource::getConnection)
+                                            .transactionManager(NoTransactionManager.INSTANCE)
+                                            .batchSize(5)
+                                            .prefetchDepth(2)
+                                            .prefetchExecutor(task -> {
+                                                prefetchCount.incrementAndGet();
+                                                prefetchExecutor.execute(task);
+                                            })
+                                            .build();
+        try {
+            List<Long> result = testSubject.readEvents(AGGREGATE, 0L).asStream()
+                                           .map(DomainEventMessage::getSequenceNumber)
+                                           .collect(toList());
+
+            assertEquals(LongStream.range(0, 23).boxed().collect(toList()), result);
+            assertTrue(prefetchCount.get() >= 4);
+        } finally {
+            prefetchExecutor.shutdown();
+        }
+    }
+
+    @Test(expected = AxonConfigurationException.class)
+    public void testBuildWithPrefetchDepthWithoutPrefetchExecutorThrowsAxonConfigurationException() {
+        JdbcEventStorageEngine.builder()
+                              .connectionProvider(dataSource::getConnection)
+                              .transactionManager(NoTransactionManager.INSTANCE)
+                              .prefetchDepth(2)
+                              .build();
+    }
+
     @Test
     public void testReadEventsForAggregateWithEventsExceedingOneBatchAndGapsReturnsTheCompleteStream() {
         // Set batch size to 5, so that the number of events exceeds at least one batch
@@ -399,6 +542,213 @@ protected AbstractEventStorageEngine createEngine(PersistenceExceptionResolver p
                             HsqlEventTableFactory.INSTANCE);
     }
 
+    @Test
+    public void testGroupCommitAppendsEventsOfConcurrentCallers() throws Exception {
+        testSubject = createGroupCommitEngine(Thread::new);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> appends = IntStream.range(0, 50).mapToObj(i -> executor.submit(
+                    () -> testSubject.appendEvents(createEvent("aggregate" + i, 0), createEvent("aggregate" + i, 1))
+            )).collect(toList());
+            for (Future<?> append : appends) {
+                append.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(100, testSubject.readEvents(null, false).count());
+        assertEquals(2, testSubject.readEvents("aggregate42").asStream().count());
+    }
+
+    @Test
+    public void testGroupCommitReportsConcurrencyExceptionOnlyToConflictingCaller() throws Exception {
+        testSubject.appendEvents(createEvent("conflicting", 0));
+
+        CountDownLatch groupStart = new CountDownLatch(1);
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        testSubject = createGroupCommitEngine(r -> new Thread(() -> {
+            writerBlocked.countDown();
+            try {
+                groupStart.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            r.run();
+        }));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> conflictingAppend =
+                    executor.submit(() -> testSubject.appendEvents(createEvent("conflicting", 0)));
+            writerBlocked.await();
+            Future<?> successfulAppend = executor.submit(() -> testSubject.appendEvents(createEvent("other", 0)));
+            // give the second append the opportunity to join the first group
+            Thread.sleep(100);
+            groupStart.countDown();
+
+            successfulAppend.get(10, TimeUnit.SECONDS);
+            try {
+                conflictingAppend.get(10, TimeUnit.SECONDS);
+                fail("Expected a ConcurrencyException");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ConcurrencyException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, testSubject.readEvents("other").asStream().count());
+        assertEquals(1, testSubject.readEvents("conflicting").asStream().count());
+    }
+
+    @Test
+    public void testGroupCommitGroupsEventsOfConcurrentlyCommittingUnitsOfWork() throws Exception {
+        testSubject.appendEvents(createEvent("conflicting", 0));
+
+        CountDownLatch groupStart = new CountDownLatch(1);
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        testSubject = createGroupCommitEngine(r -> new Thread(() -> {
+            writerBlocked.countDown();
+            try {
+                groupStart.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            r.run();
+        }));
+        EmbeddedEventStore eventStore = EmbeddedEventStore.builder().storageEngine(testSubject).build();
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            // events published in a unit of work are appended when it prepares its commit
+            Future<?> conflictingCommit = executor.submit(() -> DefaultUnitOfWork.startAndGet(null).execute(
+                    () -> eventStore.publish(createEvent("conflicting", 0))
+            ));
+            assertTrue("Expected the commit to start a group", writerBlocked.await(10, TimeUnit.SECONDS));
+            List<Future<?>> successfulCommits = IntStream.range(0, 9).mapToObj(i -> executor.submit(
+                    () -> DefaultUnitOfWork.startAndGet(null).execute(
+                            () -> eventStore.publish(createEvent("aggregate" + i, 0), createEvent("aggregate" + i, 1))
+                    )
+            )).collect(toList());
+            // give the other units of work the opportunity to join the first group
+            Thread.sleep(100);
+            groupStart.countDown();
+
+            for (Future<?> successfulCommit : successfulCommits) {
+                successfulCommit.get(10, TimeUnit.SECONDS);
+            }
+            try {
+                conflictingCommit.get(10, TimeUnit.SECONDS);
+                fail("Expected a ConcurrencyException");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ConcurrencyException);
+            }
+        } finally {
+            executor.shutdownNow();
+            eventStore.shutDown();
+        }
+
+        assertEquals(1, testSubject.readEvents("conflicting").asStream().count());
+        assertEquals(2, testSubject.readEvents("aggregate5").asStream().count());
+        assertEquals(19, testSubject.readEvents(null, false).count());
+    }
+
+    @Test
+    public void testGroupCommitDoesNotCommitEventsOfRolledBackUnitOfWork() {
+        // connections attached to a unit of work are transactional, other connections auto-commit
+        ConnectionProvider connectionProvider = new UnitOfWorkAwareConnectionProviderWrapper(() -> {
+            Connection connection = dataSource.getConnection();
+            connection.setAutoCommit(!CurrentUnitOfWork.isStarted());
+            return connection;
+        });
+        testSubject = JdbcEventStorageEngine.builder()
+                                            .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                            .connectionProvider(connectionProvider)
+                                            .transactionManager(NoTransactionManager.INSTANCE)
+                                            .groupCommitEnabled(true)
+                                            .build();
+
+        DefaultUnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        testSubject.appendEvents(createEvent("rolledBack", 0));
+        unitOfWork.rollback();
+        DefaultUnitOfWork.startAndGet(null).execute(() -> testSubject.appendEvents(createEvent("committed", 0)));
+
+        assertEquals(0, testSubject.readEvents("rolledBack").asStream().count());
+        assertEquals(1, testSubject.readEvents("committed").asStream().count());
+    }
+
+    @Test
+    public void testStreamingReplayReadsSameEventsAndTokensAsPolling() {
+        testSubject.appendEvents(createEvents(50));
+        JdbcEventStorageEngine streamingEngine = createStreamingReplayEngine(10);
+
+        List<TrackingToken> expected = testSubject.readEvents(null, false)
+                                                  .map(TrackedEventMessage::trackingToken)
+                                                  .collect(toList());
+        List<TrackingToken> actual;
+        try (Stream<? extends TrackedEventMessage<?>> stream = streamingEngine.readEvents(null, false)) {
+            actual = stream.map(TrackedEventMessage::trackingToken).collect(toList());
+        }
+
+        assertEquals(50, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testStreamingReplaySwitchesToPollingAtHead() {
+        testSubject.appendEvents(createEvents(30));
+        JdbcEventStorageEngine streamingEngine = createStreamingReplayEngine(10);
+
+        Iterator<? extends TrackedEventMessage<?>> iterator = streamingEngine.readEvents(null, false).iterator();
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i, ((DomainEventMessage<?>) iterator.next()).getSequenceNumber());
+        }
+        testSubject.appendEvents(LongStream.range(30, 35)
+                                           .mapToObj(sequenceNumber -> createEvent(sequenceNumber))
+                                           .collect(toList()));
+
+        long remaining = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            remaining++;
+        }
+        assertEquals(10, remaining);
+    }
+
+    private JdbcEventStorageEngine createCachingEngine(Cache lastSequenceNumberCache) {
+        return JdbcEventStorageEngine.builder()
+                                     .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                     .connectionProvider(dataSource::getConnection)
+                                     .transactionManager(NoTransactionManager.INSTANCE)
+                                     .lastSequenceNumberCache(lastSequenceNumberCache)
+                                     .build();
+    }
+
+    private void deleteAllEvents() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("DELETE FROM DomainEventEntry").executeUpdate();
+        }
+    }
+
+    private JdbcEventStorageEngine createStreamingReplayEngine(int fetchSize) {
+        return JdbcEventStorageEngine.builder()
+                                     .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                     .connectionProvider(dataSource::getConnection)
+                                     .transactionManager(NoTransactionManager.INSTANCE)
+                                     .streamingReplayEnabled(true)
+                                     .streamingReplayFetchSize(fetchSize)
+                                     .build();
+    }
+
+    private JdbcEventStorageEngine createGroupCommitEngine(ThreadFactory threadFactory) {
+        return JdbcEventStorageEngine.builder()
+                                     .persistenceExceptionResolver(defaultPersistenceExceptionResolver)
+                                     .connectionProvider(dataSource::getConnection)
+                                     .transactionManager(NoTransactionManager.INSTANCE)
+                                     .groupCommitEnabled(true)
+                                     .groupCommitThreadFactory(threadFactory)
+                                     .build();
+    }
+
     private JdbcEventStorageEngine createEngine(EventUpcaster upcasterChain,
                                                 PersistenceExceptionResolver persistenceExceptionResolver,
                                                 EventSchema eventSchema,
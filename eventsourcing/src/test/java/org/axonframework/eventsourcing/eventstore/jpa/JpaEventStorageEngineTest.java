@@ -16,6 +16,7 @@
 
 package org.axonframework.eventsourcing.eventstore.jpa;
 
+import org.axonframework.common.AxonConfigurationException;
 import org.axonframework.common.jdbc.PersistenceExceptionResolver;
 import org.axonframework.common.jpa.EntityManagerProvider;
 import org.axonframework.common.jpa.SimpleEntityManagerProvider;
@@ -289,6 +290,11 @@ public void testAppendEventsIsPerformedInATransaction() {
         verify(transactionManager).executeInTransaction(any());
     }
 
+    @Test(expected = AxonConfigurationException.class)
+    public void testBuildWithPrefetchingIsRejected() {
+        JpaEventStorageEngine.builder().prefetchDepth(1);
+    }
+
     @Override
     protected AbstractEventStorageEngine createEngine(EventUpcaster upcasterChain) {
         return createEngine(upcasterChain, defaultPersistenceExceptionResolver);
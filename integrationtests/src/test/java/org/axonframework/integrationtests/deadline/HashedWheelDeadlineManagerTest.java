@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.integrationtests.deadline;
+
+import org.axonframework.common.timer.HashedWheelTimer;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.ConfigurationScopeAwareProvider;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.HashedWheelDeadlineManager;
+import org.junit.*;
+
+import java.time.Duration;
+
+public class HashedWheelDeadlineManagerTest extends AbstractDeadlineManagerTestSuite {
+
+    @After
+    public void shutDownDeadlineManager() {
+        ((HashedWheelDeadlineManager) configuration.deadlineManager()).shutdown();
+    }
+
+    @Override
+    public DeadlineManager buildDeadlineManager(Configuration configuration) {
+        return HashedWheelDeadlineManager.builder()
+                                         .scopeAwareProvider(new ConfigurationScopeAwareProvider(configuration))
+                                         .timer(HashedWheelTimer.builder().tickDuration(Duration.ofMillis(5)).build())
+                                         .build();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.integrationtests.eventhandling;
+
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.eventhandling.*;
+import org.axonframework.eventhandling.tokenstore.TokenStore;
+import org.axonframework.eventhandling.tokenstore.inmemory.InMemoryTokenStore;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.axonframework.integrationtests.utils.AssertUtils.assertWithin;
+import static org.axonframework.integrationtests.utils.EventTestUtils.createEvents;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link PooledTrackingEventProcessor}.
+ */
+public class PooledTrackingEventProcessorTest {
+
+    private PooledTrackingEventProcessor testSubject;
+    private EmbeddedEventStore eventBus;
+    private TokenStore tokenStore;
+    private EventHandlerInvoker eventHandlerInvoker;
+    private EventMessageHandler mockHandler;
+    private ExecutorService workerExecutor;
+    private AtomicInteger openedStreams;
+    private Set<String> handledEvents;
+
+    @Before
+    public void setUp() throws Exception {
+        tokenStore = spy(new InMemoryTokenStore());
+        handledEvents = ConcurrentHashMap.newKeySet();
+        mockHandler = mock(EventMessageHandler.class);
+        when(mockHandler.canHandle(any())).thenReturn(true);
+        when(mockHandler.canHandleType(any())).thenReturn(true);
+        when(mockHandler.handle(any())).thenAnswer(i -> {
+            EventMessage<?> event = i.getArgument(0);
+            if (!handledEvents.add(event.getIdentifier())) {
+                fail("Event " + event.getIdentifier() + " was handled more than once");
+            }
+            return null;
+        });
+        eventHandlerInvoker = SimpleEventHandlerInvoker.builder()
+                                                       .eventHandlers(singletonList(mockHandler))
+                                                       .sequencingPolicy(event -> ((DomainEventMessage) event)
+                                                               .getSequenceNumber())
+                                                       .build();
+        eventBus = EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
+        workerExecutor = Executors.newFixedThreadPool(2);
+        openedStreams = new AtomicInteger();
+        StreamableMessageSource<TrackedEventMessage<?>> countingSource = token -> {
+            openedStreams.incrementAndGet();
+            return eventBus.openStream(token);
+        };
+        testSubject = PooledTrackingEventProcessor.builder()
+                                                  .name("test")
+                                                  .eventHandlerInvoker(eventHandlerInvoker)
+                                                  .messageSource(countingSource)
+                                                  .tokenStore(tokenStore)
+                                                  .transactionManager(NoTransactionManager.INSTANCE)
+                                                  .workerExecutor(workerExecutor)
+                                                  .initialSegmentCount(16)
+                                                  .batchSize(10)
+                                                  .tokenClaimInterval(100, MILLISECONDS)
+                                                  .eventAvailabilityTimeout(100, MILLISECONDS)
+                                                  .build();
+    }
+
+    @After
+    public void tearDown() {
+        testSubject.shutDown();
+        workerExecutor.shutdown();
+        eventBus.shutDown();
+    }
+
+    @Test
+    public void testAllSegmentsAreClaimedBySmallWorkerPool() {
+        testSubject.start();
+
+        assertWithin(1, SECONDS, () -> assertEquals(16, testSubject.claimedSegmentCount()));
+        int[] segments = tokenStore.fetchSegments("test");
+        Arrays.sort(segments);
+        assertEquals(16, segments.length);
+        assertEquals(0, segments[0]);
+        assertEquals(15, segments[15]);
+        assertWithin(1, SECONDS, () -> testSubject.processingStatus().values()
+                                                  .forEach(status -> assertTrue(status.isCaughtUp())));
+    }
+
+    @Test
+    public void testEventsAreHandledExactlyOnceUsingSingleStream() throws Exception {
+        testSubject.start();
+        assertWithin(1, SECONDS, () -> assertEquals(16, testSubject.claimedSegmentCount()));
+
+        List<DomainEventMessage<?>> events = createEvents(100);
+        eventBus.publish(events);
+
+        assertWithin(2, SECONDS, () -> assertEquals(100, handledEvents.size()));
+        verify(mockHandler, times(100)).handle(any());
+        assertEquals(1, openedStreams.get());
+        assertWithin(1, SECONDS, () -> {
+            for (int segment = 0; segment < 16; segment++) {
+                TrackingToken token = tokenStore.fetchToken("test", segment);
+                assertNotNull(token);
+                assertTrue(token.covers(new GlobalSequenceTrackingToken(99)));
+            }
+        });
+    }
+
+    @Test
+    public void testReleasedSegmentIsNotReclaimedDuringBlacklistPeriod() {
+        testSubject.start();
+        assertWithin(1, SECONDS, () -> assertEquals(16, testSubject.claimedSegmentCount()));
+
+        testSubject.releaseSegment(3, 500, MILLISECONDS);
+
+        assertWithin(1, SECONDS, () -> assertFalse(testSubject.processingStatus().containsKey(3)));
+        verify(tokenStore, timeout(1000)).releaseClaim("test", 3);
+        assertEquals(15, testSubject.claimedSegmentCount());
+        assertWithin(2, SECONDS, () -> assertTrue(testSubject.processingStatus().containsKey(3)));
+    }
+
+    @Test
+    public void testShutdownReleasesAllClaims() {
+        testSubject.start();
+        assertWithin(1, SECONDS, () -> assertEquals(16, testSubject.claimedSegmentCount()));
+
+        testSubject.shutDown();
+
+        assertFalse(testSubject.isRunning());
+        assertEquals(0, testSubject.claimedSegmentCount());
+        for (int segment = 0; segment < 16; segment++) {
+            verify(tokenStore).releaseClaim("test", segment);
+        }
+        assertFalse(workerExecutor.isShutdown());
+    }
+
+    @Test
+    public void testProcessorWithDefaultWorkerExecutorCanBeRestarted() {
+        testSubject = PooledTrackingEventProcessor.builder()
+                                                  .name("test")
+                                                  .eventHandlerInvoker(eventHandlerInvoker)
+                                                  .messageSource(eventBus)
+                                                  .tokenStore(tokenStore)
+                                                  .transactionManager(NoTransactionManager.INSTANCE)
+                                                  .initialSegmentCount(4)
+                                                  .tokenClaimInterval(100, MILLISECONDS)
+                                                  .eventAvailabilityTimeout(100, MILLISECONDS)
+                                                  .build();
+        testSubject.start();
+        eventBus.publish(createEvents(10));
+        assertWithin(2, SECONDS, () -> assertEquals(10, handledEvents.size()));
+        testSubject.shutDown();
+
+        testSubject.start();
+        eventBus.publish(createEvents(10));
+
+        assertWithin(2, SECONDS, () -> assertEquals(20, handledEvents.size()));
+    }
+
+    @Test
+    public void testProcessorLimitsNumberOfClaimedSegments() {
+        testSubject = PooledTrackingEventProcessor.builder()
+                                                  .name("test")
+                                                  .eventHandlerInvoker(eventHandlerInvoker)
+                                                  .messageSource(eventBus)
+                                                  .tokenStore(tokenStore)
+                                                  .transactionManager(NoTransactionManager.INSTANCE)
+                                                  .workerExecutor(workerExecutor)
+                                                  .initialSegmentCount(8)
+                                                  .maxClaimedSegments(3)
+                                                  .tokenClaimInterval(100, MILLISECONDS)
+                                                  .build();
+        testSubject.start();
+
+        assertWithin(1, SECONDS, () -> assertEquals(3, testSubject.claimedSegmentCount()));
+        assertEquals(8, tokenStore.fetchSegments("test").length);
+    }
+}
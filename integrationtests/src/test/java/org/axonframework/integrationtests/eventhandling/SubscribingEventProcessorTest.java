@@ -45,6 +45,7 @@ public class SubscribingEventProcessorTest {
     @Before
     public void setUp() {
         mockHandler = mock(EventMessageHandler.class);
+        when(mockHandler.canHandleType(any())).thenReturn(true);
         eventHandlerInvoker = SimpleEventHandlerInvoker.builder().eventHandlers(mockHandler).build();
         eventBus = EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
         transactionManager = new TestingTransactionManager();
@@ -135,6 +135,7 @@ public void setUp() {
         tokenStore = spy(new InMemoryTokenStore());
         mockHandler = mock(EventMessageHandler.class);
         when(mockHandler.canHandle(any())).thenReturn(true);
+        when(mockHandler.canHandleType(any())).thenReturn(true);
         when(mockHandler.supportsReset()).thenReturn(true);
         eventHandlerInvoker = Mockito.spy(SimpleEventHandlerInvoker.builder()
                                                                    .eventHandlers(mockHandler)
@@ -204,6 +205,47 @@ public void testPublishedEventsGetPassedToHandler() throws Exception {
         assertTrue("Expected Handler to have received 2 published events", countDownLatch.await(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    public void testEventsWithUnhandledPayloadTypeAreSkippedWithoutEvaluatingHandlers() throws Exception {
+        when(mockHandler.canHandleType(Integer.class)).thenReturn(false);
+        CountDownLatch countDownLatch = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            countDownLatch.countDown();
+            return null;
+        }).when(mockHandler).handle(any());
+        eventBus.publish(createEvent(), GenericEventMessage.asEventMessage(1), createEvent());
+
+        testSubject.start();
+
+        assertTrue("Expected Handler to have received 2 published events", countDownLatch.await(5, TimeUnit.SECONDS));
+        verify(mockHandler, never()).canHandle(argThat(message -> Integer.class.equals(message.getPayloadType())));
+        verify(mockHandler, times(1)).canHandleType(Integer.class);
+    }
+
+    @Test
+    public void testTokenAdvancesPastTrailingEventsWithUnhandledPayloadType() throws Exception {
+        when(mockHandler.canHandleType(Integer.class)).thenReturn(false);
+        eventBus.publish(createEvent(), GenericEventMessage.asEventMessage(1), GenericEventMessage.asEventMessage(2));
+        TrackingEventStream stream = eventBus.openStream(null);
+        TrackingToken lastToken = null;
+        while (stream.hasNextAvailable()) {
+            lastToken = stream.nextAvailable().trackingToken();
+        }
+        stream.close();
+        TrackingToken expectedToken = lastToken;
+
+        testSubject.start();
+
+        assertWithin(5, TimeUnit.SECONDS, () -> {
+            EventTrackerStatus status = testSubject.processingStatus().get(0);
+            assertNotNull(status);
+            assertEquals(expectedToken, status.getTrackingToken());
+        });
+        testSubject.shutDown();
+        assertEquals(expectedToken, tokenStore.fetchToken(testSubject.getName(), 0));
+        verify(mockHandler, times(1)).handle(any());
+    }
+
     @Test
     public void testBlacklist() throws Exception {
         when(mockHandler.canHandle(any())).thenReturn(false);
@@ -1027,6 +1069,7 @@ public void testDoubleSplitAndMerge() throws Exception {
     public void testMergeSegmentWithDifferentProcessingGroupsAndSequencingPolicies() throws Exception {
         EventMessageHandler otherHandler = mock(EventMessageHandler.class);
         when(otherHandler.canHandle(any())).thenReturn(true);
+        when(otherHandler.canHandleType(any())).thenReturn(true);
         when(otherHandler.supportsReset()).thenReturn(true);
         EventHandlerInvoker mockInvoker = SimpleEventHandlerInvoker.builder()
                                                                    .eventHandlers(singleton(otherHandler))
@@ -30,7 +30,9 @@
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -61,6 +63,7 @@ public void setUp() {
         tokenStore = spy(new InMemoryTokenStore());
         mockHandler = mock(EventMessageHandler.class);
         when(mockHandler.canHandle(any())).thenReturn(true);
+        when(mockHandler.canHandleType(any())).thenReturn(true);
         eventHandlerInvoker = SimpleEventHandlerInvoker.builder()
                                                        .eventHandlers(singletonList(mockHandler))
                                                        .sequencingPolicy(event -> {
@@ -422,6 +425,77 @@ public void testMultiThreadTokensAreStoredWhenUnitOfWorkIsRolledBackOnSecondEven
         assertNotNull(tokenStore.fetchToken(testSubject.getName(), 1));
     }
 
+    @Test
+    public void testSharedEventStreamOpensSingleStreamForAllSegments() throws Exception {
+        AtomicInteger openedStreams = new AtomicInteger();
+        testSubject = TrackingEventProcessor.builder()
+                                            .name("test")
+                                            .eventHandlerInvoker(eventHandlerInvoker)
+                                            .messageSource(token -> {
+                                                openedStreams.incrementAndGet();
+                                                return eventBus.openStream(token);
+                                            })
+                                            .tokenStore(tokenStore)
+                                            .transactionManager(NoTransactionManager.INSTANCE)
+                                            .trackingEventProcessorConfiguration(
+                                                    TrackingEventProcessorConfiguration.forParallelProcessing(4)
+                                                                                       .andSharedEventStream(100)
+                                            )
+                                            .build();
+
+        final AcknowledgeByThread acknowledgeByThread = new AcknowledgeByThread();
+        CountDownLatch countDownLatch = new CountDownLatch(20);
+        doAnswer(invocation -> {
+            acknowledgeByThread.addMessage(Thread.currentThread(), (EventMessage<?>) invocation.getArguments()[0]);
+            countDownLatch.countDown();
+            return null;
+        }).when(mockHandler).handle(any());
+
+        testSubject.start();
+        assertWithin(1, SECONDS, () -> assertThat(testSubject.activeProcessorThreads(), is(4)));
+        // wait for all segments to have opened their stream, to prevent the shared reader from restarting
+        assertWithin(1, SECONDS, () -> testSubject.processingStatus().values()
+                                                  .forEach(status -> assertTrue(status.isCaughtUp())));
+        eventBus.publish(createEvents(20));
+
+        assertTrue("Expected 20 invocations on Event Handler by now, missing " + countDownLatch.getCount(),
+                   countDownLatch.await(10, SECONDS));
+        assertThat((long) 20, is(acknowledgeByThread.eventCount()));
+        acknowledgeByThread.assertEventsAckedByMultipleThreads();
+        assertEquals(1, openedStreams.get());
+    }
+
+    @Test
+    public void testSharedEventStreamContinuesFromDifferentTokensPerSegment() throws Exception {
+        eventBus.publish(createEvents(10));
+        List<TrackedEventMessage<?>> storedEvents = new ArrayList<>();
+        eventBus.openStream(null).asStream().limit(10).forEach(storedEvents::add);
+        tokenStore.initializeTokenSegments(testSubject.getName(), 2);
+        tokenStore.storeToken(storedEvents.get(3).trackingToken(), testSubject.getName(), 0);
+        tokenStore.storeToken(storedEvents.get(7).trackingToken(), testSubject.getName(), 1);
+
+        Segment[] segments = Segment.ROOT_SEGMENT.split();
+        Set<String> expectedEvents = new HashSet<>();
+        for (int i = 4; i < 10; i++) {
+            DomainEventMessage<?> event = (DomainEventMessage<?>) storedEvents.get(i);
+            if (i > 7 || segments[0].matches(event.getSequenceNumber())) {
+                expectedEvents.add(event.getIdentifier());
+            }
+        }
+
+        List<String> handledEvents = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            handledEvents.add(((EventMessage<?>) invocation.getArguments()[0]).getIdentifier());
+            return null;
+        }).when(mockHandler).handle(any());
+
+        configureProcessor(TrackingEventProcessorConfiguration.forParallelProcessing(2).andSharedEventStream(5));
+        testSubject.start();
+
+        assertWithin(5, SECONDS, () -> assertEquals(expectedEvents, new HashSet<>(handledEvents)));
+        assertEquals(expectedEvents.size(), handledEvents.size());
+    }
+
     // Utility to add up acknowledged messages by Thread (worker) name and assertions facilities.
     class AcknowledgeByThread {
 
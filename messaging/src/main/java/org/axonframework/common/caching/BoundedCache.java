@@ -0,0 +1,538 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.caching;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.Registration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntBiFunction;
+
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Cache implementation that keeps at most a configured number of entries, or entries up to a configured total weight,
+ * in memory. Unlike the {@link WeakReferenceCache}, entries are not removed by the garbage collector, but only when
+ * room needs to be made for other entries.
+ * <p>
+ * When the cache is full, the least recently used entries are evicted. If frequency aware eviction is enabled (the
+ * default), a new entry is only admitted if it has been accessed more frequently than the entries that would have to
+ * be evicted to make room for it. Otherwise, the new entry is rejected and the existing entries are kept. Access
+ * frequencies are estimated using a compact sketch, which is periodically aged, so that entries that were popular in
+ * the past do not stay in the cache forever. This policy is known as TinyLFU, and prevents a scan over many entries
+ * that are used only once from flushing frequently used entries out of the cache.
+ * <p>
+ * To allow concurrent access, the cache is divided into segments, each holding a share of the maximum size or weight.
+ * The least recently used entries and access frequencies are tracked per segment.
+ * <p>
+ * Registered {@link EntryListener EntryListeners} are notified of entries created, read, updated and removed. Entries
+ * that are evicted are reported as expired. Entries that are rejected when they are added are never reported as
+ * created. The number of hits, misses and evictions is kept as statistics of this cache.
+ *
+ * @since 4.3
+ */
+public class BoundedCache implements Cache {
+
+    private static final int MIN_ENTRIES_PER_SEGMENT = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final ToIntBiFunction<Object, Object> weigher;
+    private final Set<EntryListener> adapters = new CopyOnWriteArraySet<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Instantiate a {@link BoundedCache} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that either a maximum size or a maximum weight has been set, and that a weigher is only set in
+     * combination with a maximum weight. An {@link AxonConfigurationException} is thrown if this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link BoundedCache} instance
+     */
+    protected BoundedCache(Builder builder) {
+        builder.validate();
+        long maximum = builder.maximumWeight > 0 ? builder.maximumWeight : builder.maximumSize;
+        this.weigher = builder.weigher;
+        int segmentCount = 1;
+        while (segmentCount * 2 <= builder.concurrencyLevel
+                && segmentCount * 2L * MIN_ENTRIES_PER_SEGMENT <= maximum) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        for (int i = 0; i < segmentCount; i++) {
+            long capacity = maximum / segmentCount + (i < maximum % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity, builder.frequencyAwareEviction ? new FrequencySketch(
+                    builder.maximumWeight > 0 ? MIN_ENTRIES_PER_SEGMENT * 64 : capacity
+            ) : null);
+        }
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link BoundedCache}.
+     * <p>
+     * Frequency aware eviction is enabled by default and the concurrency level defaults to {@code 16}. Either the
+     * maximum size or the maximum weight is a <b>hard requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link BoundedCache}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Registration registerCacheEntryListener(EntryListener entryListener) {
+        adapters.add(entryListener);
+        return () -> adapters.remove(entryListener);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(K key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        Object value;
+        synchronized (segment) {
+            segment.recordAccess(hash);
+            Node node = segment.entries.get(key);
+            value = node == null ? null : node.value;
+        }
+        if (value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+            for (EntryListener adapter : adapters) {
+                adapter.onEntryRead(key, value);
+            }
+        }
+        return (V) value;
+    }
+
+    @Override
+    public <K, V> void put(K key, V value) {
+        doPut(key, value, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also returns {@code false} when the entry is not admitted to the cache, for example because the entry it would
+     * replace is accessed more frequently, or because it weighs more than a segment of this cache may hold.
+     */
+    @Override
+    public <K, V> boolean putIfAbsent(K key, V value) {
+        return doPut(key, value, true);
+    }
+
+    private boolean doPut(Object key, Object value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values not supported");
+        }
+        int weight = weigher == null ? 1 : weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight of an entry should not be negative, but was " + weight);
+        }
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        List<Object> evictedKeys = new ArrayList<>(0);
+        boolean updated;
+        boolean stored;
+        synchronized (segment) {
+            segment.recordAccess(hash);
+            Node existing = segment.entries.get(key);
+            if (existing != null && onlyIfAbsent) {
+                return false;
+            }
+            updated = existing != null;
+            if (updated) {
+                segment.weight += weight - existing.weight;
+                existing.value = value;
+                existing.weight = weight;
+                stored = true;
+            } else {
+                stored = segment.admit(hash, weight, evictedKeys);
+                if (stored) {
+                    segment.entries.put(key, new Node(value, weight));
+                    segment.weight += weight;
+                }
+            }
+            segment.evictExcess(evictedKeys);
+        }
+        if (!stored) {
+            evictionCount.increment();
+        }
+        evictionCount.add(evictedKeys.size());
+        notifyEvicted(evictedKeys);
+        if (!stored || evictedKeys.contains(key)) {
+            return false;
+        }
+        for (EntryListener adapter : adapters) {
+            if (updated) {
+                adapter.onEntryUpdated(key, value);
+            } else {
+                adapter.onEntryCreated(key, value);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public <K> boolean remove(K key) {
+        Segment segment = segmentFor(hash(key));
+        synchronized (segment) {
+            Node removed = segment.entries.remove(key);
+            if (removed == null) {
+                return false;
+            }
+            segment.weight -= removed.weight;
+        }
+        for (EntryListener adapter : adapters) {
+            adapter.onEntryRemoved(key);
+        }
+        return true;
+    }
+
+    @Override
+    public <K> boolean containsKey(K key) {
+        Segment segment = segmentFor(hash(key));
+        synchronized (segment) {
+            return segment.entries.containsKey(key);
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held in this cache.
+     *
+     * @return the number of entries in this cache
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the total weight of the entries currently held in this cache. If no weigher has been configured, each
+     * entry has a weight of {@code 1}.
+     *
+     * @return the total weight of the entries in this cache
+     */
+    public long weight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Returns the number of times {@link #get(Object)} returned a cached value.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of times {@link #get(Object)} did not find a cached value.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries that have been evicted to make room for other entries, including entries that
+     * were rejected when they were added.
+     *
+     * @return the number of evicted entries
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private void notifyEvicted(List<Object> evictedKeys) {
+        for (Object evictedKey : evictedKeys) {
+            for (EntryListener adapter : adapters) {
+                adapter.onEntryExpired(evictedKey);
+            }
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash & segmentMask];
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Node {
+
+        private Object value;
+        private int weight;
+
+        private Node(Object value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<Object, Node> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long capacity;
+        private final FrequencySketch sketch;
+        private long weight;
+
+        private Segment(long capacity, FrequencySketch sketch) {
+            this.capacity = capacity;
+            this.sketch = sketch;
+        }
+
+        private void recordAccess(int hash) {
+            if (sketch != null) {
+                sketch.increment(hash);
+            }
+        }
+
+        /**
+         * Decides whether a new entry with given {@code hash} and {@code weight} is admitted. If so, the least
+         * recently used entries are evicted to make room for it, adding their keys to given {@code evictedKeys}.
+         */
+        private boolean admit(int hash, int weight, List<Object> evictedKeys) {
+            if (weight > capacity) {
+                return false;
+            }
+            if (sketch != null && this.weight + weight > capacity) {
+                int candidateFrequency = sketch.frequency(hash);
+                long required = this.weight + weight - capacity;
+                long freed = 0;
+                for (Map.Entry<Object, Node> victim : entries.entrySet()) {
+                    if (freed >= required) {
+                        break;
+                    }
+                    if (sketch.frequency(hash(victim.getKey())) >= candidateFrequency) {
+                        return false;
+                    }
+                    freed += victim.getValue().weight;
+                }
+            }
+            evict(capacity - weight, evictedKeys);
+            return true;
+        }
+
+        private void evictExcess(List<Object> evictedKeys) {
+            evict(capacity, evictedKeys);
+        }
+
+        private void evict(long targetWeight, List<Object> evictedKeys) {
+            Iterator<Map.Entry<Object, Node>> iterator = entries.entrySet().iterator();
+            while (weight > targetWeight && iterator.hasNext()) {
+                Map.Entry<Object, Node> victim = iterator.next();
+                iterator.remove();
+                weight -= victim.getValue().weight;
+                evictedKeys.add(victim.getKey());
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch estimating how often keys have been accessed, using four counters per key that count up to
+     * {@code 15}. When the number of recorded accesses reaches ten times the number of expected entries, all counters
+     * are halved, so that the estimates reflect recent accesses.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97cb3127, 0xc3a5c85c, 0x9ae16a3b, 0x5c4d2d97};
+        private static final int MAX_FREQUENCY = 15;
+
+        private final byte[] table;
+        private final int rowWidth;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(long expectedEntries) {
+            long entries = Math.min(Math.max(expectedEntries, 16), 1 << 20);
+            this.rowWidth = Integer.highestOneBit((int) entries - 1) << 2;
+            this.mask = rowWidth - 1;
+            this.table = new byte[rowWidth * SEEDS.length];
+            this.sampleSize = (int) (10 * entries);
+        }
+
+        private void increment(int hash) {
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                if (table[index] < MAX_FREQUENCY) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_FREQUENCY;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, table[indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+            h ^= h >>> 15;
+            return row * rowWidth + (h & mask);
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (byte) (table[i] >>> 1);
+            }
+            additions /= 2;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link BoundedCache}.
+     * <p>
+     * Frequency aware eviction is enabled by default and the concurrency level defaults to {@code 16}. Either the
+     * maximum size or the maximum weight is a <b>hard requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private long maximumSize;
+        private long maximumWeight;
+        private ToIntBiFunction<Object, Object> weigher;
+        private boolean frequencyAwareEviction = true;
+        private int concurrencyLevel = 16;
+
+        /**
+         * Sets the maximum number of entries held by the cache. Cannot be combined with a {@link
+         * #maximumWeight(long) maximum weight}.
+         *
+         * @param maximumSize the maximum number of entries held by the cache
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maximumSize(long maximumSize) {
+            assertStrictPositive(maximumSize, "The maximum size should be a strictly positive number");
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of the entries held by the cache. The weight of each entry is determined by
+         * the {@link #weigher(ToIntBiFunction) weigher}, or {@code 1} if no weigher is set. Cannot be combined with a
+         * {@link #maximumSize(long) maximum size}.
+         *
+         * @param maximumWeight the maximum total weight of the entries held by the cache
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            assertStrictPositive(maximumWeight, "The maximum weight should be a strictly positive number");
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Sets the function determining the weight of an entry, given its key and value. The weight of an entry is
+         * determined when it is added or updated, and should not be negative. Requires a {@link #maximumWeight(long)
+         * maximum weight} to be set.
+         *
+         * @param weigher the function determining the weight of an entry
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder weigher(ToIntBiFunction<Object, Object> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Sets whether new entries are only admitted to a full cache if they are accessed more frequently than the
+         * entries they would replace. If disabled, the least recently used entries are always evicted in favor of new
+         * entries. Defaults to {@code true}.
+         *
+         * @param frequencyAwareEviction whether new entries are admitted based on their access frequency
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder frequencyAwareEviction(boolean frequencyAwareEviction) {
+            this.frequencyAwareEviction = frequencyAwareEviction;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads expected to access the cache concurrently, which determines the number of
+         * segments the cache is divided into. The number of segments is further limited so that each segment holds a
+         * reasonable share of the maximum size or weight. Defaults to {@code 16}.
+         *
+         * @param concurrencyLevel the number of threads expected to access the cache concurrently
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            assertStrictPositive(concurrencyLevel, "The concurrency level should be a strictly positive number");
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link BoundedCache} as specified through this Builder.
+         *
+         * @return a {@link BoundedCache} as specified through this Builder
+         */
+        public BoundedCache build() {
+            return new BoundedCache(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertThat(maximumSize > 0 || maximumWeight > 0, Boolean::booleanValue,
+                       "Either the maximum size or the maximum weight is a hard requirement and should be provided");
+            assertThat(maximumSize == 0 || maximumWeight == 0, Boolean::booleanValue,
+                       "The maximum size and the maximum weight cannot be combined");
+            assertThat(weigher == null || maximumWeight > 0, Boolean::booleanValue,
+                       "A weigher can only be used in combination with a maximum weight");
+        }
+    }
+}
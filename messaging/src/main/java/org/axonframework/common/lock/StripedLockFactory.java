@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.lock;
+
+import org.axonframework.common.Assert;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of a {@link LockFactory} that maps identifiers onto a fixed number of reentrant locks, called
+ * stripes. Unlike the {@link PessimisticLockFactory}, no lock instances are created or disposed of for each
+ * identifier, giving this factory a constant memory footprint regardless of the number of identifiers locked.
+ * <p/>
+ * As different identifiers may map onto the same stripe, locking one identifier may block access to another. The
+ * chance of this happening is reduced by configuring more stripes. Calls to {@link #obtainLock(String)} block until
+ * the lock could be obtained, or the number of attempts to obtain it is exceeded. Imminent deadlocks between threads
+ * waiting for stripes of this factory are detected while waiting. Alternatively, {@link #tryObtainLock(String)}
+ * obtains the lock only if it is immediately available.
+ * <p/>
+ * Each thread can hold the same lock multiple times. The lock will only be released for other threads when the lock
+ * has been released as many times as it was obtained.
+ * <p/>
+ * The number of threads waiting for each stripe is available through {@link #getQueueLength(int)}, allowing to
+ * monitor contention.
+ *
+ * @since 4.3
+ */
+public class StripedLockFactory implements LockFactory {
+
+    private final StripeLock[] stripes;
+    private final int stripeMask;
+    private final int acquireAttempts;
+    private final int maximumQueued;
+    private final int lockAttemptTimeout;
+
+    /**
+     * Creates a builder to construct an instance of this LockFactory.
+     *
+     * @return a builder allowing the definition of properties for this Lock Factory.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an instance using default values, as defined in the properties of the {@link Builder}.
+     *
+     * @return a StripedLockFactory instance using sensible default values
+     */
+    public static StripedLockFactory usingDefaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates an instance of the lock factory using the given {@code builder} containing the configuration properties
+     * to use.
+     *
+     * @param builder The building containing the configuration properties to use
+     */
+    protected StripedLockFactory(Builder builder) {
+        int stripeCount = Integer.highestOneBit(builder.stripes - 1) << 1;
+        this.stripes = new StripeLock[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new StripeLock();
+        }
+        this.stripeMask = stripes.length - 1;
+        this.acquireAttempts = builder.acquireAttempts;
+        this.maximumQueued = builder.maximumQueued;
+        this.lockAttemptTimeout = builder.lockAttemptTimeout;
+    }
+
+    /**
+     * Obtain a lock for a resource identified by the given {@code identifier}. This method will block until a lock
+     * was successfully obtained.
+     *
+     * @param identifier the identifier of the lock to obtain.
+     * @return a handle to release the lock. If the thread that releases the lock does not hold the lock {@link
+     * IllegalMonitorStateException} is thrown {@link IllegalArgumentException} is thrown when identifier is null
+     * @throws LockAcquisitionFailedException if the lock could not be obtained within the configured number of
+     *                                        attempts, or too many threads are waiting for it
+     * @throws DeadlockException              if waiting for the lock would cause a deadlock
+     */
+    @Override
+    public Lock obtainLock(String identifier) {
+        StripeLock stripe = stripeFor(identifier);
+        stripe.lock(identifier);
+        return stripe;
+    }
+
+    /**
+     * Obtain a lock for a resource identified by the given {@code identifier}, only if it is not held by another
+     * thread. This method never blocks.
+     *
+     * @param identifier the identifier of the lock to obtain
+     * @return an Optional containing a handle to release the lock, or an empty Optional if the lock is held by
+     * another thread
+     */
+    public Optional<Lock> tryObtainLock(String identifier) {
+        StripeLock stripe = stripeFor(identifier);
+        return stripe.tryLock() ? Optional.of(stripe) : Optional.empty();
+    }
+
+    /**
+     * Returns the number of stripes used by this factory. This is the number of stripes configured, rounded up to the
+     * next power of two.
+     *
+     * @return the number of stripes used by this factory
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Returns the index of the stripe the given {@code identifier} is mapped onto.
+     *
+     * @param identifier the identifier of a resource
+     * @return the index of the stripe used to lock the resource
+     */
+    public int stripeIndex(String identifier) {
+        Assert.nonNull(identifier, () -> "Aggregate identifier may not be null");
+        int h = identifier.hashCode();
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+
+    /**
+     * Returns an estimate of the number of threads waiting to obtain the stripe with given {@code stripeIndex}.
+     *
+     * @param stripeIndex the index of the stripe
+     * @return the estimated number of threads waiting for the stripe
+     */
+    public int getQueueLength(int stripeIndex) {
+        return stripes[stripeIndex].getQueueLength();
+    }
+
+    /**
+     * Returns an estimate of the number of threads waiting for each stripe, indexed by stripe.
+     *
+     * @return the estimated number of threads waiting for each of the stripes
+     */
+    public int[] getQueueLengths() {
+        int[] queueLengths = new int[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            queueLengths[i] = stripes[i].getQueueLength();
+        }
+        return queueLengths;
+    }
+
+    private StripeLock stripeFor(String identifier) {
+        return stripes[stripeIndex(identifier)];
+    }
+
+    private Set<Thread> threadsWaitingForMyLocks(Thread owner, Set<Thread> waitingThreads) {
+        for (StripeLock stripe : stripes) {
+            if (stripe.isHeldBy(owner)) {
+                for (Thread thread : stripe.queuedThreads()) {
+                    if (waitingThreads.add(thread)) {
+                        threadsWaitingForMyLocks(thread, waitingThreads);
+                    }
+                }
+            }
+        }
+        return waitingThreads;
+    }
+
+    /**
+     * Builder class for the {@link StripedLockFactory}.
+     */
+    public static class Builder {
+
+        private int stripes = 1024;
+        private int acquireAttempts = 100;
+        private int maximumQueued = Integer.MAX_VALUE;
+        private int lockAttemptTimeout = 600;
+
+        /**
+         * Default constructor
+         */
+        protected Builder() {
+        }
+
+        /**
+         * Sets the number of stripes, which is rounded up to the next power of two. More stripes reduce the chance
+         * that locking one identifier blocks access to another, at the cost of a larger memory footprint.
+         * <p>
+         * Defaults to 1024.
+         *
+         * @param stripes The number of stripes to map identifiers onto
+         * @return this Builder, for further configuration
+         */
+        public Builder stripes(int stripes) {
+            Assert.isTrue(
+                    stripes > 0 && stripes <= 1 << 30,
+                    () -> "stripes needs to be a positive integer up to 2^30, but was '" + stripes + "'"
+            );
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Indicates how many attempts should be done to acquire a lock. In combination with the {@link
+         * #lockAttemptTimeout(int)}, this defines the total timeout of a lock acquisition. Should be a positive
+         * number.
+         * <p>
+         * Defaults to 100.
+         *
+         * @param acquireAttempts The number of attempts to acquire the lock
+         * @return this Builder, for further configuration
+         */
+        public Builder acquireAttempts(int acquireAttempts) {
+            Assert.isTrue(acquireAttempts > 0,
+                          () -> "acquireAttempts needs to be a positive integer, but was '" + acquireAttempts + "'");
+            this.acquireAttempts = acquireAttempts;
+            return this;
+        }
+
+        /**
+         * Defines the maximum number of queued threads to allow for each stripe. If the given number of threads are
+         * waiting to acquire a stripe, and another thread joins, that thread will immediately fail any attempt to
+         * acquire the lock, as if it had timed out.
+         * <p>
+         * Defaults to unbounded.
+         *
+         * @param maximumQueued The maximum number of threads to allow in the queue for each stripe
+         * @return this Builder, for further configuration
+         */
+        public Builder queueLengthThreshold(int maximumQueued) {
+            Assert.isTrue(
+                    maximumQueued > 0,
+                    () -> "queueLengthThreshold needs to be a positive integer, but was '" + maximumQueued + "'"
+            );
+            this.maximumQueued = maximumQueued;
+            return this;
+        }
+
+        /**
+         * The duration of a single attempt to acquire the internal lock. In combination with the {@link
+         * #acquireAttempts(int)}, this defines the total timeout of an acquisition attempt.
+         * <p>
+         * Defaults to 600ms.
+         *
+         * @param lockAttemptTimeout The duration of a single acquisition attempt of the internal lock, in
+         *                           milliseconds
+         * @return this Builder, for further configuration
+         */
+        public Builder lockAttemptTimeout(int lockAttemptTimeout) {
+            Assert.isTrue(
+                    lockAttemptTimeout >= 0,
+                    () -> "lockAttemptTimeout needs to be a non negative integer, but was '" + lockAttemptTimeout + "'"
+            );
+            this.lockAttemptTimeout = lockAttemptTimeout;
+            return this;
+        }
+
+        /**
+         * Builds the StripedLockFactory instance using the properties defined in this builder
+         *
+         * @return a fully configured StripedLockFactory instance
+         */
+        public StripedLockFactory build() {
+            return new StripedLockFactory(this);
+        }
+    }
+
+    private final class StripeLock extends ReentrantLock implements Lock {
+
+        private static final long serialVersionUID = -1829475120574162835L;
+
+        @Override
+        public void release() {
+            unlock();
+        }
+
+        @Override
+        public boolean isHeld() {
+            return isHeldByCurrentThread();
+        }
+
+        private void lock(String identifier) {
+            if (getQueueLength() >= maximumQueued) {
+                throw new LockAcquisitionFailedException(
+                        "Failed to acquire lock for aggregate identifier " + identifier + ": too many queued threads."
+                );
+            }
+            try {
+                if (!tryLock(0, TimeUnit.NANOSECONDS)) {
+                    int remainingAttempts = acquireAttempts - 1;
+                    do {
+                        checkForDeadlock();
+                        if (remainingAttempts-- < 1) {
+                            throw new LockAcquisitionFailedException(
+                                    "Failed to acquire lock for aggregate identifier(" + identifier
+                                            + "), maximum attempts exceeded (" + acquireAttempts + ")"
+                            );
+                        }
+                    } while (!tryLock(lockAttemptTimeout, TimeUnit.MILLISECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LockAcquisitionFailedException("Thread was interrupted", e);
+            }
+        }
+
+        private void checkForDeadlock() {
+            if (!isHeldByCurrentThread() && isLocked()) {
+                for (Thread thread : threadsWaitingForMyLocks(Thread.currentThread(), new HashSet<>())) {
+                    if (isHeldBy(thread)) {
+                        throw new DeadlockException(
+                                "An imminent deadlock was detected while attempting to acquire a lock"
+                        );
+                    }
+                }
+            }
+        }
+
+        private Collection<Thread> queuedThreads() {
+            return getQueuedThreads();
+        }
+
+        private boolean isHeldBy(Thread thread) {
+            return thread.equals(getOwner());
+        }
+    }
+}
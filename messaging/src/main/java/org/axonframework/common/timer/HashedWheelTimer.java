@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.timer;
+
+import org.axonframework.common.Assert;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Timer that executes tasks after a delay, using a hierarchy of hashed timing wheels. Scheduling and cancelling a task
+ * take constant time, regardless of the number of tasks scheduled, which makes this timer suitable for large numbers
+ * of timeouts of which most are cancelled before they expire.
+ * <p/>
+ * Time is divided in ticks of a configurable duration. Each wheel consists of a number of buckets, each of which
+ * holds the tasks expiring in a range of ticks. The buckets of the lowest wheel each cover a single tick, while the
+ * buckets of each next wheel cover the full range of the wheel below. When the buckets of the lower wheel have all
+ * passed, the tasks in the next bucket of the higher wheel are distributed over the lower wheel. Tasks with a delay
+ * exceeding the range of the highest wheel are revisited each time the highest wheel completes a revolution.
+ * <p/>
+ * A single worker thread advances the wheels. Newly scheduled and cancelled tasks are handed to this thread through
+ * queues, so that neither scheduling nor cancelling requires a lock. The tasks expiring in the same tick are handed to
+ * the configured {@link Executor} as a single batch. Tasks are executed no earlier than their delay, but may be
+ * executed up to a tick later.
+ * <p/>
+ * The worker thread is started when the first task is scheduled and runs until {@link #shutDown()} is invoked. Tasks
+ * that have not expired at that moment are never executed.
+ *
+ * @since 4.3
+ */
+public class HashedWheelTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final int NOT_STARTED = 0;
+    private static final int STARTED = 1;
+    private static final int SHUT_DOWN = 2;
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final Bucket[][] wheels;
+    private final Executor executor;
+    private final ExecutorService defaultExecutor;
+    private final ThreadFactory threadFactory;
+
+    private final Queue<TimeoutEntry> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<TimeoutEntry> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final AtomicInteger state = new AtomicInteger(NOT_STARTED);
+    private volatile long startTime;
+    private volatile Thread workerThread;
+    private long tick;
+
+    /**
+     * Creates a builder to construct an instance of this timer.
+     *
+     * @return a builder allowing the definition of properties for this timer
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an instance of the timer using the given {@code builder} containing the configuration properties to use.
+     *
+     * @param builder the builder containing the configuration properties to use
+     */
+    protected HashedWheelTimer(Builder builder) {
+        builder.validate();
+        int wheelSize = Math.max(2, Integer.highestOneBit(builder.wheelSize - 1) << 1);
+        this.tickNanos = builder.tickDuration.toNanos();
+        this.wheelBits = Integer.numberOfTrailingZeros(wheelSize);
+        this.wheelMask = wheelSize - 1;
+        this.wheels = new Bucket[builder.levels][wheelSize];
+        for (Bucket[] wheel : wheels) {
+            for (int i = 0; i < wheel.length; i++) {
+                wheel[i] = new Bucket();
+            }
+        }
+        if (builder.executor == null) {
+            this.defaultExecutor = Executors.newSingleThreadExecutor(new AxonThreadFactory("HashedWheelTimer-tasks"));
+            this.executor = defaultExecutor;
+        } else {
+            this.defaultExecutor = null;
+            this.executor = builder.executor;
+        }
+        this.threadFactory = builder.threadFactory;
+    }
+
+    /**
+     * Schedules the given {@code task} for execution after the given {@code delay}. A delay that is zero or negative
+     * causes the task to be executed on the next tick.
+     *
+     * @param task  the task to execute
+     * @param delay the time to wait before executing the task
+     * @return a Timeout allowing the task to be cancelled
+     * @throws IllegalStateException if this timer has been shut down
+     */
+    public Timeout newTimeout(Runnable task, Duration delay) {
+        Assert.nonNull(task, () -> "The task may not be null");
+        start();
+        TimeoutEntry timeout = new TimeoutEntry(task, expiryTick(System.nanoTime() - startTime, delay));
+        pendingTimeouts.incrementAndGet();
+        scheduledTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of tasks that have been scheduled, but have not expired or been cancelled yet.
+     *
+     * @return the number of pending tasks
+     */
+    public long getPendingTimeoutCount() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Stops the worker thread of this timer. Tasks that have not expired are never executed. The executor used to
+     * execute tasks is shut down if it was created by this timer. Otherwise, it is left untouched.
+     */
+    public void shutDown() {
+        int previousState = state.getAndSet(SHUT_DOWN);
+        Thread worker = workerThread;
+        if (previousState == STARTED && worker != null && worker != Thread.currentThread()) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdown();
+        }
+    }
+
+    private void start() {
+        if (state.get() == STARTED) {
+            return;
+        }
+        synchronized (this) {
+            if (state.get() == NOT_STARTED) {
+                startTime = System.nanoTime();
+                workerThread = threadFactory.newThread(this::run);
+                state.set(STARTED);
+                workerThread.start();
+            } else if (state.get() == SHUT_DOWN) {
+                throw new IllegalStateException("Cannot schedule a task on a timer that has been shut down");
+            }
+        }
+    }
+
+    private long expiryTick(long now, Duration delay) {
+        long delayNanos;
+        try {
+            delayNanos = delay.isNegative() ? 0 : delay.toNanos();
+        } catch (ArithmeticException e) {
+            delayNanos = Long.MAX_VALUE;
+        }
+        long deadline = delayNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos;
+        return deadline / tickNanos + (deadline % tickNanos == 0 ? 0 : 1);
+    }
+
+    private void run() {
+        while (state.get() == STARTED) {
+            long sleepNanos = (tick + 1) * tickNanos - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            List<TimeoutEntry> expired = new ArrayList<>();
+            transferScheduledTimeouts(expired);
+            removeCancelledTimeouts();
+            tick++;
+            for (int level = dueLevels(); level > 0; level--) {
+                Bucket bucket = wheels[level][(int) (tick >>> (wheelBits * level)) & wheelMask];
+                for (TimeoutEntry timeout = bucket.clear(); timeout != null; ) {
+                    TimeoutEntry next = timeout.next;
+                    timeout.next = null;
+                    place(timeout, expired);
+                    timeout = next;
+                }
+            }
+            for (TimeoutEntry timeout = wheels[0][(int) tick & wheelMask].clear(); timeout != null; ) {
+                TimeoutEntry next = timeout.next;
+                timeout.next = null;
+                expired.add(timeout);
+                timeout = next;
+            }
+            dispatch(expired);
+        }
+    }
+
+    private int dueLevels() {
+        int level = 0;
+        while (level < wheels.length - 1 && (tick & ((1L << (wheelBits * (level + 1))) - 1)) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    private void transferScheduledTimeouts(List<TimeoutEntry> expired) {
+        TimeoutEntry timeout;
+        while ((timeout = scheduledTimeouts.poll()) != null) {
+            place(timeout, expired);
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        TimeoutEntry timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void place(TimeoutEntry timeout, List<TimeoutEntry> expired) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        if (timeout.expiryTick <= tick) {
+            expired.add(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < wheels.length - 1
+                && (timeout.expiryTick >>> (wheelBits * (level + 1))) != (tick >>> (wheelBits * (level + 1)))) {
+            level++;
+        }
+        wheels[level][(int) (timeout.expiryTick >>> (wheelBits * level)) & wheelMask].add(timeout);
+    }
+
+    private void dispatch(List<TimeoutEntry> expired) {
+        List<Runnable> tasks = new ArrayList<>(expired.size());
+        for (TimeoutEntry timeout : expired) {
+            if (timeout.expire()) {
+                pendingTimeouts.decrementAndGet();
+                tasks.add(timeout.task);
+            }
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> tasks.forEach(this::runTask));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Executor rejected the execution of {} expired task(s).", tasks.size(), e);
+        }
+    }
+
+    private void runTask(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            logger.warn("An exception occurred while executing an expired task.", e);
+        }
+    }
+
+    /**
+     * Builder class for the {@link HashedWheelTimer}.
+     * <p/>
+     * The tick duration defaults to 10 milliseconds, the wheel size to 256 buckets, the number of levels to 4 and the
+     * {@link ThreadFactory} to an {@link AxonThreadFactory}. If no {@link Executor} is provided, tasks are executed by
+     * a single thread owned by the timer.
+     */
+    public static class Builder {
+
+        private Duration tickDuration = Duration.ofMillis(10);
+        private int wheelSize = 256;
+        private int levels = 4;
+        private Executor executor;
+        private ThreadFactory threadFactory = new AxonThreadFactory("HashedWheelTimer");
+
+        /**
+         * Default constructor
+         */
+        protected Builder() {
+        }
+
+        /**
+         * Sets the duration of a single tick, which is the resolution of the timer. Tasks are executed up to one tick
+         * after their delay has passed. Defaults to 10 milliseconds.
+         *
+         * @param tickDuration the duration of a single tick
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder tickDuration(Duration tickDuration) {
+            assertNonNull(tickDuration, "Tick duration may not be null");
+            assertThat(tickDuration, d -> !d.isNegative() && !d.isZero(), "Tick duration should be positive");
+            this.tickDuration = tickDuration;
+            return this;
+        }
+
+        /**
+         * Sets the number of buckets of each wheel, which is rounded up to the next power of two. Defaults to 256.
+         *
+         * @param wheelSize the number of buckets of each wheel
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder wheelSize(int wheelSize) {
+            assertThat(wheelSize, s -> s > 0 && s <= 1 << 16,
+                       "Wheel size needs to be a positive integer up to 2^16, but was '" + wheelSize + "'");
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of wheels in the hierarchy. Together with the tick duration and the wheel size, this defines
+         * the delay up to which tasks are placed directly in the wheel that expires them. Defaults to 4.
+         *
+         * @param levels the number of wheels in the hierarchy
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder levels(int levels) {
+            assertThat(levels, l -> l > 0, "Levels needs to be a positive integer, but was '" + levels + "'");
+            this.levels = levels;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} to execute expired tasks with. The tasks expiring in the same tick are submitted
+         * to the executor as a single batch. Defaults to a single thread owned by the timer.
+         *
+         * @param executor the {@link Executor} to execute expired tasks with
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder executor(Executor executor) {
+            assertNonNull(executor, "Executor may not be null");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ThreadFactory} used to create the worker thread advancing the wheels. Defaults to an {@link
+         * AxonThreadFactory}.
+         *
+         * @param threadFactory the {@link ThreadFactory} used to create the worker thread
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            assertNonNull(threadFactory, "ThreadFactory may not be null");
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link HashedWheelTimer} as specified through this Builder.
+         *
+         * @return a {@link HashedWheelTimer} as specified through this Builder
+         */
+        public HashedWheelTimer build() {
+            return new HashedWheelTimer(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            int wheelBits = Integer.numberOfTrailingZeros(Math.max(2, Integer.highestOneBit(wheelSize - 1) << 1));
+            assertThat(wheelBits * levels, bits -> bits < 63,
+                       "The wheels cover more than 2^63 ticks. Reduce the wheel size or number of levels");
+        }
+    }
+
+    private class TimeoutEntry implements Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long expiryTick;
+        private final AtomicInteger timeoutState = new AtomicInteger(PENDING);
+        private Bucket bucket;
+        private TimeoutEntry previous;
+        private TimeoutEntry next;
+
+        private TimeoutEntry(Runnable task, long expiryTick) {
+            this.task = task;
+            this.expiryTick = expiryTick;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!timeoutState.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            pendingTimeouts.decrementAndGet();
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return timeoutState.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return timeoutState.get() == EXPIRED;
+        }
+
+        private boolean expire() {
+            return timeoutState.compareAndSet(PENDING, EXPIRED);
+        }
+    }
+
+    private static class Bucket {
+
+        private TimeoutEntry head;
+        private TimeoutEntry tail;
+
+        private void add(TimeoutEntry timeout) {
+            timeout.bucket = this;
+            timeout.previous = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(TimeoutEntry timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        private TimeoutEntry clear() {
+            TimeoutEntry first = head;
+            for (TimeoutEntry timeout = first; timeout != null; timeout = timeout.next) {
+                timeout.bucket = null;
+                timeout.previous = null;
+            }
+            head = null;
+            tail = null;
+            return first;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.timer;
+
+/**
+ * Handle to a task scheduled with a {@link HashedWheelTimer}, which may be used to cancel the task before it is
+ * executed.
+ *
+ * @since 4.3
+ */
+public interface Timeout {
+
+    /**
+     * Cancels the task of this timeout, preventing it from being executed. Has no effect if the task has already
+     * expired or was cancelled before.
+     *
+     * @return {@code true} if the task was cancelled by this invocation, otherwise {@code false}
+     */
+    boolean cancel();
+
+    /**
+     * Indicates whether this timeout has been cancelled.
+     *
+     * @return {@code true} if the timeout has been cancelled, otherwise {@code false}
+     */
+    boolean isCancelled();
+
+    /**
+     * Indicates whether this timeout has expired, meaning that its task has been handed over for execution.
+     *
+     * @return {@code true} if the timeout has expired, otherwise {@code false}
+     */
+    boolean isExpired();
+}
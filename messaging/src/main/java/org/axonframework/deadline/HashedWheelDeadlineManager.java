@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.timer.HashedWheelTimer;
+import org.axonframework.common.timer.Timeout;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.DefaultInterceptorChain;
+import org.axonframework.messaging.ExecutionException;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.ScopeAwareProvider;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+import static org.axonframework.deadline.GenericDeadlineMessage.asDeadlineMessage;
+
+/**
+ * Implementation of {@link DeadlineManager} which uses a {@link HashedWheelTimer} as scheduling and triggering
+ * mechanism. Scheduling and cancelling a deadline take constant time, making this implementation suitable for large
+ * numbers of short-lived deadlines, of which most are cancelled before they are met.
+ * <p>
+ * Deadlines kept in the timer are non-persistent, and are lost when the JVM is shut down. A persistent {@link
+ * DeadlineManager} may be configured to which deadlines that are further away than a given threshold are delegated,
+ * such as a {@link org.axonframework.deadline.quartz.QuartzDeadlineManager} backed by a JDBC job store. Cancelling a
+ * deadline that is not kept in the timer is delegated as well, so that deadlines may be cancelled regardless of where
+ * they were scheduled. Note that the interceptors registered with this DeadlineManager only apply to the deadlines
+ * kept in the timer. The delegate applies its own interceptors.
+ *
+ * @since 4.3
+ */
+public class HashedWheelDeadlineManager extends AbstractDeadlineManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelDeadlineManager.class);
+
+    private final ScopeAwareProvider scopeAwareProvider;
+    private final HashedWheelTimer timer;
+    private final TransactionManager transactionManager;
+    private final DeadlineManager longHorizonDeadlineManager;
+    private final Duration longHorizonThreshold;
+
+    private final Map<String, Map<String, Timeout>> scheduledDeadlines = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate a Builder to be able to create a {@link HashedWheelDeadlineManager}.
+     * <p>
+     * The {@link HashedWheelTimer} is defaulted to a timer using its default settings, the {@link TransactionManager}
+     * defaults to a {@link NoTransactionManager} and the long horizon threshold to one hour. The {@link
+     * ScopeAwareProvider} is a <b>hard requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link HashedWheelDeadlineManager}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link HashedWheelDeadlineManager} based on the fields contained in the {@link Builder} to handle
+     * the process around scheduling and triggering a {@link DeadlineMessage}.
+     * <p>
+     * Will assert that the {@link ScopeAwareProvider} is not {@code null}, and will throw an {@link
+     * AxonConfigurationException} if it is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link HashedWheelDeadlineManager} instance
+     */
+    protected HashedWheelDeadlineManager(Builder builder) {
+        builder.validate();
+        this.scopeAwareProvider = builder.scopeAwareProvider;
+        this.timer = builder.timer != null ? builder.timer : HashedWheelTimer.builder().build();
+        this.transactionManager = builder.transactionManager;
+        this.longHorizonDeadlineManager = builder.longHorizonDeadlineManager;
+        this.longHorizonThreshold = builder.longHorizonThreshold;
+    }
+
+    @Override
+    public String schedule(Instant triggerDateTime,
+                           String deadlineName,
+                           Object messageOrPayload,
+                           ScopeDescriptor deadlineScope) {
+        Duration triggerDuration = Duration.between(Instant.now(), triggerDateTime);
+        if (longHorizonDeadlineManager != null && triggerDuration.compareTo(longHorizonThreshold) >= 0) {
+            return longHorizonDeadlineManager.schedule(triggerDateTime, deadlineName, messageOrPayload, deadlineScope);
+        }
+        DeadlineMessage<?> deadlineMessage = asDeadlineMessage(deadlineName, messageOrPayload);
+        String deadlineId = deadlineMessage.getIdentifier();
+        runOnPrepareCommitOrNow(() -> {
+            DeadlineMessage<?> interceptedDeadlineMessage = processDispatchInterceptors(deadlineMessage);
+            DeadlineTask deadlineTask = new DeadlineTask(deadlineName,
+                                                         deadlineScope,
+                                                         interceptedDeadlineMessage,
+                                                         deadlineId);
+            Timeout timeout = timer.newTimeout(deadlineTask, Duration.between(Instant.now(), triggerDateTime));
+            scheduledDeadlines.computeIfAbsent(deadlineName, name -> new ConcurrentHashMap<>())
+                              .put(deadlineId, timeout);
+            if (timeout.isExpired()) {
+                removeDeadline(deadlineName, deadlineId);
+            }
+        });
+        return deadlineId;
+    }
+
+    @Override
+    public void cancelSchedule(String deadlineName, String scheduleId) {
+        runOnPrepareCommitOrNow(() -> {
+            Timeout timeout = removeDeadline(deadlineName, scheduleId);
+            if (timeout != null) {
+                timeout.cancel();
+            } else if (longHorizonDeadlineManager != null) {
+                longHorizonDeadlineManager.cancelSchedule(deadlineName, scheduleId);
+            }
+        });
+    }
+
+    @Override
+    public void cancelAll(String deadlineName) {
+        runOnPrepareCommitOrNow(() -> {
+            Map<String, Timeout> timeouts = scheduledDeadlines.remove(deadlineName);
+            if (timeouts != null) {
+                timeouts.values().forEach(Timeout::cancel);
+            }
+            if (longHorizonDeadlineManager != null) {
+                longHorizonDeadlineManager.cancelAll(deadlineName);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of deadlines kept in the timer that have not been met or cancelled yet. Deadlines scheduled
+     * with the long horizon DeadlineManager are not included.
+     *
+     * @return the number of pending deadlines kept in the timer
+     */
+    public long getPendingDeadlineCount() {
+        return timer.getPendingTimeoutCount();
+    }
+
+    /**
+     * Shuts down the {@link HashedWheelTimer} used by this DeadlineManager. Deadlines kept in the timer that have not
+     * been met yet are never triggered.
+     */
+    public void shutdown() {
+        timer.shutDown();
+    }
+
+    private Timeout removeDeadline(String deadlineName, String deadlineId) {
+        Map<String, Timeout> timeouts = scheduledDeadlines.get(deadlineName);
+        return timeouts == null ? null : timeouts.remove(deadlineId);
+    }
+
+    /**
+     * Builder class to instantiate a {@link HashedWheelDeadlineManager}.
+     * <p>
+     * The {@link HashedWheelTimer} is defaulted to a timer using its default settings, the {@link TransactionManager}
+     * defaults to a {@link NoTransactionManager} and the long horizon threshold to one hour. The {@link
+     * ScopeAwareProvider} is a <b>hard requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private ScopeAwareProvider scopeAwareProvider;
+        private HashedWheelTimer timer;
+        private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private DeadlineManager longHorizonDeadlineManager;
+        private Duration longHorizonThreshold = Duration.ofHours(1);
+
+        /**
+         * Sets the {@link ScopeAwareProvider} which is capable of providing a stream of
+         * {@link org.axonframework.messaging.Scope} instances for a given {@link ScopeDescriptor}. Used to return the
+         * right Scope to trigger a deadline in.
+         *
+         * @param scopeAwareProvider a {@link ScopeAwareProvider} used to find the right
+         *                           {@link org.axonframework.messaging.Scope} to trigger a deadline in
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scopeAwareProvider(ScopeAwareProvider scopeAwareProvider) {
+            assertNonNull(scopeAwareProvider, "ScopeAwareProvider may not be null");
+            this.scopeAwareProvider = scopeAwareProvider;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HashedWheelTimer} used for scheduling and triggering deadlines. The timer defines the
+         * resolution of deadlines and the {@link java.util.concurrent.Executor} that triggers them. Defaults to a
+         * timer using its default settings.
+         *
+         * @param timer a {@link HashedWheelTimer} used for scheduling and triggering deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder timer(HashedWheelTimer timer) {
+            assertNonNull(timer, "HashedWheelTimer may not be null");
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TransactionManager} used to build transactions and ties them to deadline. Defaults to a
+         * {@link NoTransactionManager}.
+         *
+         * @param transactionManager a {@link TransactionManager} used to build transactions and ties them to deadline
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder transactionManager(TransactionManager transactionManager) {
+            assertNonNull(transactionManager, "TransactionManager may not be null");
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        /**
+         * Sets the {@link DeadlineManager} to which deadlines are delegated that are further away than the {@link
+         * #longHorizonThreshold(Duration) long horizon threshold}. Typically, this is a persistent DeadlineManager, so
+         * that long-lived deadlines survive a restart. Defaults to {@code null}, in which case all deadlines are kept
+         * in the timer.
+         *
+         * @param longHorizonDeadlineManager a {@link DeadlineManager} to delegate deadlines beyond the threshold to
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder longHorizonDeadlineManager(DeadlineManager longHorizonDeadlineManager) {
+            assertNonNull(longHorizonDeadlineManager, "Long horizon DeadlineManager may not be null");
+            this.longHorizonDeadlineManager = longHorizonDeadlineManager;
+            return this;
+        }
+
+        /**
+         * Sets the threshold from which deadlines are delegated to the long horizon {@link DeadlineManager}, if one is
+         * configured. Defaults to one hour.
+         *
+         * @param longHorizonThreshold the time from which deadlines are delegated to the long horizon DeadlineManager
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder longHorizonThreshold(Duration longHorizonThreshold) {
+            assertNonNull(longHorizonThreshold, "Long horizon threshold may not be null");
+            assertThat(longHorizonThreshold, t -> !t.isNegative(), "Long horizon threshold may not be negative");
+            this.longHorizonThreshold = longHorizonThreshold;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link HashedWheelDeadlineManager} as specified through this Builder.
+         *
+         * @return a {@link HashedWheelDeadlineManager} as specified through this Builder
+         */
+        public HashedWheelDeadlineManager build() {
+            return new HashedWheelDeadlineManager(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(scopeAwareProvider, "The ScopeAwareProvider is a hard requirement and should be provided");
+        }
+    }
+
+    private class DeadlineTask implements Runnable {
+
+        private final String deadlineName;
+        private final ScopeDescriptor deadlineScope;
+        private final DeadlineMessage<?> deadlineMessage;
+        private final String deadlineId;
+
+        private DeadlineTask(String deadlineName,
+                             ScopeDescriptor deadlineScope,
+                             DeadlineMessage<?> deadlineMessage,
+                             String deadlineId) {
+            this.deadlineName = deadlineName;
+            this.deadlineScope = deadlineScope;
+            this.deadlineMessage = deadlineMessage;
+            this.deadlineId = deadlineId;
+        }
+
+        @Override
+        public void run() {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Triggered deadline");
+            }
+
+            try {
+                Instant triggerInstant = GenericEventMessage.clock.instant();
+                UnitOfWork<DeadlineMessage<?>> unitOfWork = new DefaultUnitOfWork<>(
+                        new GenericDeadlineMessage<>(deadlineName, deadlineMessage, () -> triggerInstant));
+                unitOfWork.attachTransaction(transactionManager);
+                InterceptorChain chain =
+                        new DefaultInterceptorChain<>(unitOfWork,
+                                                      handlerInterceptors(),
+                                                      deadlineMessage -> {
+                                                          executeScheduledDeadline(deadlineMessage, deadlineScope);
+                                                          return null;
+                                                      });
+                ResultMessage<?> resultMessage = unitOfWork.executeWithResult(chain::proceed);
+                if (resultMessage.isExceptional()) {
+                    Throwable e = resultMessage.exceptionResult();
+                    throw new DeadlineException(format("An error occurred while triggering the deadline %s %s",
+                                                       deadlineName,
+                                                       deadlineId), e);
+                }
+            } finally {
+                removeDeadline(deadlineName, deadlineId);
+            }
+        }
+
+        @SuppressWarnings("Duplicates")
+        private void executeScheduledDeadline(DeadlineMessage deadlineMessage, ScopeDescriptor deadlineScope) {
+            scopeAwareProvider.provideScopeAwareStream(deadlineScope)
+                              .filter(scopeAwareComponent -> scopeAwareComponent.canResolve(deadlineScope))
+                              .forEach(scopeAwareComponent -> {
+                                  try {
+                                      scopeAwareComponent.send(deadlineMessage, deadlineScope);
+                                  } catch (Exception e) {
+                                      String exceptionMessage = format(
+                                              "Failed to send a DeadlineMessage for scope [%s]",
+                                              deadlineScope.scopeDescription()
+                                      );
+                                      throw new ExecutionException(exceptionMessage, e);
+                                  }
+                              });
+        }
+    }
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.deadline.jdbc;
+
+/**
+ * Schema of a deadline entry to be stored using Jdbc.
+ *
+ * @since 4.3
+ */
+public class DeadlineSchema {
+
+    private final String deadlineTable, deadlineIdColumn, deadlineNameColumn, scopeKeyColumn, triggerTimeColumn,
+            timestampColumn, payloadTypeColumn, payloadRevisionColumn, payloadColumn, metaDataColumn, scopeTypeColumn,
+            scopeColumn, ownerColumn, leaseExpiryColumn;
+
+    /**
+     * Initializes the default Deadline Schema
+     */
+    public DeadlineSchema() {
+        this(builder());
+    }
+
+    private DeadlineSchema(Builder builder) {
+        deadlineTable = builder.deadlineTable;
+        deadlineIdColumn = builder.deadlineIdColumn;
+        deadlineNameColumn = builder.deadlineNameColumn;
+        scopeKeyColumn = builder.scopeKeyColumn;
+        triggerTimeColumn = builder.triggerTimeColumn;
+        timestampColumn = builder.timestampColumn;
+        payloadTypeColumn = builder.payloadTypeColumn;
+        payloadRevisionColumn = builder.payloadRevisionColumn;
+        payloadColumn = builder.payloadColumn;
+        metaDataColumn = builder.metaDataColumn;
+        scopeTypeColumn = builder.scopeTypeColumn;
+        scopeColumn = builder.scopeColumn;
+        ownerColumn = builder.ownerColumn;
+        leaseExpiryColumn = builder.leaseExpiryColumn;
+    }
+
+    /**
+     * Returns a new {@link Builder} initialized with default settings.
+     *
+     * @return a new builder for the deadline schema
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the name of the deadline table.
+     *
+     * @return the name of the deadline table
+     */
+    public String deadlineTable() {
+        return deadlineTable;
+    }
+
+    /**
+     * Get the name of the column containing the identifier of the deadline.
+     *
+     * @return the name of the column containing the identifier of the deadline
+     */
+    public String deadlineIdColumn() {
+        return deadlineIdColumn;
+    }
+
+    /**
+     * Get the name of the column containing the name of the deadline.
+     *
+     * @return the name of the column containing the name of the deadline
+     */
+    public String deadlineNameColumn() {
+        return deadlineNameColumn;
+    }
+
+    /**
+     * Get the name of the column containing the hash of the description of the deadline scope, used to cancel
+     * deadlines by scope.
+     *
+     * @return the name of the column containing the hash of the description of the deadline scope
+     */
+    public String scopeKeyColumn() {
+        return scopeKeyColumn;
+    }
+
+    /**
+     * Get the name of the column containing the time at which the deadline is due, in milliseconds since the epoch.
+     *
+     * @return the name of the column containing the time at which the deadline is due
+     */
+    public String triggerTimeColumn() {
+        return triggerTimeColumn;
+    }
+
+    /**
+     * Get the name of the column containing the timestamp of the deadline message, in milliseconds since the epoch.
+     *
+     * @return the name of the column containing the timestamp of the deadline message
+     */
+    public String timestampColumn() {
+        return timestampColumn;
+    }
+
+    /**
+     * Get the name of the column containing the type of the serialized payload.
+     *
+     * @return the name of the column containing the type of the serialized payload
+     */
+    public String payloadTypeColumn() {
+        return payloadTypeColumn;
+    }
+
+    /**
+     * Get the name of the column containing the revision of the serialized payload.
+     *
+     * @return the name of the column containing the revision of the serialized payload
+     */
+    public String payloadRevisionColumn() {
+        return payloadRevisionColumn;
+    }
+
+    /**
+     * Get the name of the column containing the serialized payload.
+     *
+     * @return the name of the column containing the serialized payload
+     */
+    public String payloadColumn() {
+        return payloadColumn;
+    }
+
+    /**
+     * Get the name of the column containing the serialized meta data.
+     *
+     * @return the name of the column containing the serialized meta data
+     */
+    public String metaDataColumn() {
+        return metaDataColumn;
+    }
+
+    /**
+     * Get the name of the column containing the type of the serialized deadline scope.
+     *
+     * @return the name of the column containing the type of the serialized deadline scope
+     */
+    public String scopeTypeColumn() {
+        return scopeTypeColumn;
+    }
+
+    /**
+     * Get the name of the column containing the serialized deadline scope.
+     *
+     * @return the name of the column containing the serialized deadline scope
+     */
+    public String scopeColumn() {
+        return scopeColumn;
+    }
+
+    /**
+     * Get the name of the column containing the identifier of the node that claimed the deadline.
+     *
+     * @return the name of the column containing the identifier of the node that claimed the deadline
+     */
+    public String ownerColumn() {
+        return ownerColumn;
+    }
+
+    /**
+     * Get the name of the column containing the time at which the claim on the deadline expires, in milliseconds
+     * since the epoch.
+     *
+     * @return the name of the column containing the time at which the claim on the deadline expires
+     */
+    public String leaseExpiryColumn() {
+        return leaseExpiryColumn;
+    }
+
+    /**
+     * Builder for a {@link DeadlineSchema} that gets initialized with default values.
+     */
+    public static class Builder {
+
+        private String deadlineTable = "DeadlineEntry";
+        private String deadlineIdColumn = "deadlineId";
+        private String deadlineNameColumn = "deadlineName";
+        private String scopeKeyColumn = "scopeKey";
+        private String triggerTimeColumn = "triggerTime";
+        private String timestampColumn = "timeStamp";
+        private String payloadTypeColumn = "payloadType";
+        private String payloadRevisionColumn = "payloadRevision";
+        private String payloadColumn = "payload";
+        private String metaDataColumn = "metaData";
+        private String scopeTypeColumn = "scopeType";
+        private String scopeColumn = "scope";
+        private String ownerColumn = "owner";
+        private String leaseExpiryColumn = "leaseExpiry";
+
+        /**
+         * Sets the name of the deadline table. Defaults to 'DeadlineEntry'.
+         *
+         * @param deadlineTable the deadline table name
+         * @return the modified Builder instance
+         */
+        public Builder deadlineTable(String deadlineTable) {
+            this.deadlineTable = deadlineTable;
+            return this;
+        }
+
+        /**
+         * Sets the name of the deadline id column. Defaults to 'deadlineId'.
+         *
+         * @param deadlineIdColumn the name of the deadline id column
+         * @return the modified Builder instance
+         */
+        public Builder deadlineIdColumn(String deadlineIdColumn) {
+            this.deadlineIdColumn = deadlineIdColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the deadline name column. Defaults to 'deadlineName'.
+         *
+         * @param deadlineNameColumn the name of the deadline name column
+         * @return the modified Builder instance
+         */
+        public Builder deadlineNameColumn(String deadlineNameColumn) {
+            this.deadlineNameColumn = deadlineNameColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the scope key column. Defaults to 'scopeKey'.
+         *
+         * @param scopeKeyColumn the name of the scope key column
+         * @return the modified Builder instance
+         */
+        public Builder scopeKeyColumn(String scopeKeyColumn) {
+            this.scopeKeyColumn = scopeKeyColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the trigger time column. Defaults to 'triggerTime'.
+         *
+         * @param triggerTimeColumn the name of the trigger time column
+         * @return the modified Builder instance
+         */
+        public Builder triggerTimeColumn(String triggerTimeColumn) {
+            this.triggerTimeColumn = triggerTimeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the timestamp column. Defaults to 'timeStamp'.
+         *
+         * @param timestampColumn the name of the timestamp column
+         * @return the modified Builder instance
+         */
+        public Builder timestampColumn(String timestampColumn) {
+            this.timestampColumn = timestampColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the payload type column. Defaults to 'payloadType'.
+         *
+         * @param payloadTypeColumn the name of the payload type column
+         * @return the modified Builder instance
+         */
+        public Builder payloadTypeColumn(String payloadTypeColumn) {
+            this.payloadTypeColumn = payloadTypeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the payload revision column. Defaults to 'payloadRevision'.
+         *
+         * @param payloadRevisionColumn the name of the payload revision column
+         * @return the modified Builder instance
+         */
+        public Builder payloadRevisionColumn(String payloadRevisionColumn) {
+            this.payloadRevisionColumn = payloadRevisionColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the payload column. Defaults to 'payload'.
+         *
+         * @param payloadColumn the name of the payload column
+         * @return the modified Builder instance
+         */
+        public Builder payloadColumn(String payloadColumn) {
+            this.payloadColumn = payloadColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the meta data column. Defaults to 'metaData'.
+         *
+         * @param metaDataColumn the name of the meta data column
+         * @return the modified Builder instance
+         */
+        public Builder metaDataColumn(String metaDataColumn) {
+            this.metaDataColumn = metaDataColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the scope type column. Defaults to 'scopeType'.
+         *
+         * @param scopeTypeColumn the name of the scope type column
+         * @return the modified Builder instance
+         */
+        public Builder scopeTypeColumn(String scopeTypeColumn) {
+            this.scopeTypeColumn = scopeTypeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the scope column. Defaults to 'scope'.
+         *
+         * @param scopeColumn the name of the scope column
+         * @return the modified Builder instance
+         */
+        public Builder scopeColumn(String scopeColumn) {
+            this.scopeColumn = scopeColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the owner column. Defaults to 'owner'.
+         *
+         * @param ownerColumn the name of the owner column
+         * @return the modified Builder instance
+         */
+        public Builder ownerColumn(String ownerColumn) {
+            this.ownerColumn = ownerColumn;
+            return this;
+        }
+
+        /**
+         * Sets the name of the lease expiry column. Defaults to 'leaseExpiry'.
+         *
+         * @param leaseExpiryColumn the name of the lease expiry column
+         * @return the modified Builder instance
+         */
+        public Builder leaseExpiryColumn(String leaseExpiryColumn) {
+            this.leaseExpiryColumn = leaseExpiryColumn;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link DeadlineSchema} from the properties of this builder.
+         *
+         * @return a DeadlineSchema instance with the properties of this builder
+         */
+        public DeadlineSchema build() {
+            return new DeadlineSchema(this);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.deadline.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Jdbc deadline entry table factory compatible with most databases.
+ *
+ * @since 4.3
+ */
+public class GenericDeadlineTableFactory implements DeadlineTableFactory {
+
+    @Override
+    public PreparedStatement createTable(Connection connection, DeadlineSchema schema) throws SQLException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + schema.deadlineTable() + " (\n" +
+                schema.deadlineIdColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.deadlineNameColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.scopeKeyColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.triggerTimeColumn() + " BIGINT NOT NULL,\n" +
+                schema.timestampColumn() + " BIGINT NOT NULL,\n" +
+                schema.payloadTypeColumn() + " VARCHAR(255) NULL,\n" +
+                schema.payloadRevisionColumn() + " VARCHAR(255) NULL,\n" +
+                schema.payloadColumn() + " " + payloadType() + " NULL,\n" +
+                schema.metaDataColumn() + " " + payloadType() + " NULL,\n" +
+                schema.scopeTypeColumn() + " VARCHAR(255) NOT NULL,\n" +
+                schema.scopeColumn() + " " + payloadType() + " NOT NULL,\n" +
+                schema.ownerColumn() + " VARCHAR(255) NULL,\n" +
+                schema.leaseExpiryColumn() + " BIGINT NOT NULL,\n" +
+                "PRIMARY KEY (" + schema.deadlineIdColumn() + ")\n" +
+                ")";
+        return connection.prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement createTriggerTimeIndex(Connection connection, DeadlineSchema schema)
+            throws SQLException {
+        String sql = "CREATE INDEX IF NOT EXISTS " + schema.deadlineTable() + "_" + schema.triggerTimeColumn() +
+                " ON " + schema.deadlineTable() + " (" + schema.triggerTimeColumn() + ")";
+        return connection.prepareStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement createScopeIndex(Connection connection, DeadlineSchema schema) throws SQLException {
+        String sql = "CREATE INDEX IF NOT EXISTS " + schema.deadlineTable() + "_" + schema.scopeKeyColumn() +
+                " ON " + schema.deadlineTable() + " (" + schema.deadlineNameColumn() + ", " +
+                schema.scopeKeyColumn() + ")";
+        return connection.prepareStatement(sql);
+    }
+
+    /**
+     * Returns the sql to describe the type of the columns containing serialized data.
+     *
+     * @return the sql for the columns containing serialized data
+     */
+    protected String payloadType() {
+        return "BLOB";
+    }
+}
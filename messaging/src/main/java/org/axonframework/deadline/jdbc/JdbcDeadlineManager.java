@@ -0,0 +1,1009 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.deadline.jdbc;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonNonTransientException;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.digest.Digester;
+import org.axonframework.common.jdbc.ConnectionProvider;
+import org.axonframework.common.jdbc.JdbcException;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.deadline.AbstractDeadlineManager;
+import org.axonframework.deadline.DeadlineMessage;
+import org.axonframework.deadline.GenericDeadlineMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.DefaultInterceptorChain;
+import org.axonframework.messaging.ExecutionException;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.ResultMessage;
+import org.axonframework.messaging.ScopeAwareProvider;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.xml.XStreamSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertStrictPositive;
+import static org.axonframework.common.BuilderUtils.assertThat;
+import static org.axonframework.common.ExceptionUtils.findException;
+import static org.axonframework.common.jdbc.JdbcUtils.*;
+import static org.axonframework.deadline.GenericDeadlineMessage.asDeadlineMessage;
+import static org.axonframework.messaging.GenericResultMessage.asResultMessage;
+
+/**
+ * Implementation of the {@link org.axonframework.deadline.DeadlineManager} which stores deadlines in a database
+ * table through plain JDBC. Deadlines survive a restart of the application and may be triggered by any instance
+ * sharing the table.
+ * <p>
+ * Once {@link #start() started}, a poller thread selects deadlines that are due in batches, ordered by their trigger
+ * time, and claims them by setting the owner and the expiry time of a lease in a single guarded batch update. A
+ * deadline that is claimed by another node, and of which the lease has not expired yet, is not updated. This makes
+ * claiming safe on any database, also in the absence of row locks. Optionally, the select statement is suffixed with
+ * {@code FOR UPDATE SKIP LOCKED}, so that concurrent pollers on databases supporting it skip each other's rows rather
+ * than contending on them. The claimed deadlines are dispatched in parallel through the {@link ScopeAwareProvider}.
+ * At most the batch size number of deadlines is handled at the same time. As soon as a deadline has been handled, the
+ * poller claims a new one, so that a single slow deadline does not hold up the others. The poller renews the leases of
+ * the deadlines that are still being handled, every time half of the lease duration has passed.
+ * A deadline is removed in the same transaction in which it is handled. If handling fails and the deadline should be
+ * retried, the claim is released with a lease that expires after a retry delay, so that failing deadlines do not
+ * crowd out the others. The retry delay roughly doubles the time that has passed since the deadline became due,
+ * bounded by the configured minimum and maximum retry delay. If the node crashes while handling a deadline, the
+ * deadline is picked up by any node once the lease has expired.
+ * <p>
+ * Next to the identifier and name, deadlines are stored with a hash of the description of their scope. Together with
+ * the indexes created by the {@link DeadlineTableFactory}, this allows all deadlines with a given name to be cancelled
+ * efficiently, either globally or within a single scope.
+ *
+ * @since 4.3
+ */
+public class JdbcDeadlineManager extends AbstractDeadlineManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcDeadlineManager.class);
+
+    private final ConnectionProvider connectionProvider;
+    private final ScopeAwareProvider scopeAwareProvider;
+    private final TransactionManager transactionManager;
+    private final Serializer serializer;
+    private final DeadlineSchema schema;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final boolean skipLockedClaims;
+    private final Executor configuredExecutor;
+    private final ThreadFactory threadFactory;
+    private final Predicate<Throwable> refirePolicy;
+
+    private final Object pollMonitor = new Object();
+    private final Set<String> inFlightDeadlines = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+    private Thread pollerThread;
+    private Executor executor;
+    private ExecutorService defaultExecutor;
+    private long lastLeaseRenewal;
+
+    /**
+     * Instantiate a Builder to be able to create a {@link JdbcDeadlineManager}.
+     * <p>
+     * The {@link TransactionManager} is defaulted to a {@link NoTransactionManager}, the {@link Serializer} to a
+     * {@link XStreamSerializer}, the {@link DeadlineSchema} to the default schema, the {@code nodeId} to the name of
+     * the managed bean for the runtime system of the Java virtual machine, the lease duration to one minute, the poll
+     * interval to one second, the batch size to 100 and the retry delay to between one second and one minute. Due
+     * deadlines are claimed without {@code SKIP LOCKED} and are dispatched on a thread pool owned by the
+     * DeadlineManager. Failed deadlines are retried on non-{@link AxonNonTransientException}s. The {@link ConnectionProvider} and {@link ScopeAwareProvider} are
+     * <b>hard requirements</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link JdbcDeadlineManager}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link JdbcDeadlineManager} based on the fields contained in the {@link Builder} to handle the
+     * process around scheduling and triggering a {@link DeadlineMessage}.
+     * <p>
+     * Will assert that the {@link ConnectionProvider} and {@link ScopeAwareProvider} are not {@code null}, and will
+     * throw an {@link AxonConfigurationException} if either of them is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link JdbcDeadlineManager} instance
+     */
+    protected JdbcDeadlineManager(Builder builder) {
+        builder.validate();
+        this.connectionProvider = builder.connectionProvider;
+        this.scopeAwareProvider = builder.scopeAwareProvider;
+        this.transactionManager = builder.transactionManager;
+        this.serializer = builder.serializer.get();
+        this.schema = builder.schema;
+        this.nodeId = builder.nodeId;
+        this.leaseDuration = builder.leaseDuration;
+        this.pollInterval = builder.pollInterval;
+        this.batchSize = builder.batchSize;
+        this.retryDelay = builder.retryDelay;
+        this.maxRetryDelay = builder.maxRetryDelay;
+        this.skipLockedClaims = builder.skipLockedClaims;
+        this.threadFactory = builder.threadFactory;
+        this.refirePolicy = builder.refirePolicy;
+        this.configuredExecutor = builder.executor;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Performs the DDL queries to create the table and indexes necessary for this DeadlineManager.
+     *
+     * @param schemaFactory factory of the deadline entry table and its indexes
+     */
+    public void createSchema(DeadlineTableFactory schemaFactory) {
+        executeUpdates(getConnection(), e -> {
+                           throw new JdbcException("Failed to create deadline table", e);
+                       },
+                       connection -> schemaFactory.createTable(connection, schema),
+                       connection -> schemaFactory.createTriggerTimeIndex(connection, schema),
+                       connection -> schemaFactory.createScopeIndex(connection, schema));
+    }
+
+    @Override
+    public String schedule(Instant triggerDateTime,
+                           String deadlineName,
+                           Object messageOrPayload,
+                           ScopeDescriptor deadlineScope) {
+        DeadlineMessage<?> deadlineMessage = asDeadlineMessage(deadlineName, messageOrPayload);
+        runOnPrepareCommitOrNow(() -> {
+            DeadlineMessage<?> interceptedDeadlineMessage = processDispatchInterceptors(deadlineMessage);
+            executeUpdates(getConnection(), e -> {
+                throw new JdbcException(format("Failed to schedule deadline [%s]", deadlineName), e);
+            }, connection -> insertDeadline(connection, triggerDateTime, interceptedDeadlineMessage, deadlineScope));
+        });
+        return deadlineMessage.getIdentifier();
+    }
+
+    @Override
+    public void cancelSchedule(String deadlineName, String scheduleId) {
+        runOnPrepareCommitOrNow(() -> executeUpdates(getConnection(), e -> {
+            throw new JdbcException(format("Failed to cancel deadline [%s] with id [%s]", deadlineName, scheduleId), e);
+        }, connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM " + schema.deadlineTable() + " WHERE " + schema.deadlineIdColumn() + " = ? AND "
+                            + schema.deadlineNameColumn() + " = ?"
+            );
+            statement.setString(1, scheduleId);
+            statement.setString(2, deadlineName);
+            return statement;
+        }));
+    }
+
+    @Override
+    public void cancelAll(String deadlineName) {
+        runOnPrepareCommitOrNow(() -> executeUpdates(getConnection(), e -> {
+            throw new JdbcException(format("Failed to cancel all deadlines with name [%s]", deadlineName), e);
+        }, connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM " + schema.deadlineTable() + " WHERE " + schema.deadlineNameColumn() + " = ?"
+            );
+            statement.setString(1, deadlineName);
+            return statement;
+        }));
+    }
+
+    /**
+     * Cancels all deadlines with the given {@code deadlineName} that are scheduled within the given {@code scope}.
+     * Deadlines with the same name scheduled in other scopes are left untouched. If there is a {@link
+     * org.axonframework.messaging.unitofwork.UnitOfWork} active, the deadlines are cancelled in its 'prepare commit'
+     * phase.
+     *
+     * @param deadlineName the name of the deadlines to cancel
+     * @param scope        the {@link ScopeDescriptor} of the scope to cancel the deadlines in
+     */
+    public void cancelAllWithinScope(String deadlineName, ScopeDescriptor scope) {
+        runOnPrepareCommitOrNow(() -> executeUpdates(getConnection(), e -> {
+            throw new JdbcException(format("Failed to cancel all deadlines with name [%s] within scope [%s]",
+                                           deadlineName, scope.scopeDescription()), e);
+        }, connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM " + schema.deadlineTable() + " WHERE " + schema.deadlineNameColumn() + " = ? AND "
+                            + schema.scopeKeyColumn() + " = ?"
+            );
+            statement.setString(1, deadlineName);
+            statement.setString(2, scopeKey(scope));
+            return statement;
+        }));
+    }
+
+    /**
+     * Starts the poller thread which claims and triggers due deadlines. Deadlines may be scheduled and cancelled
+     * regardless of whether this DeadlineManager is started. A DeadlineManager that has been shut down may be started
+     * again, in which case a new thread pool is created to handle deadlines if the DeadlineManager owns it.
+     */
+    public synchronized void start() {
+        if (pollerThread == null || !pollerThread.isAlive()) {
+            if (configuredExecutor == null && (defaultExecutor == null || defaultExecutor.isShutdown())) {
+                defaultExecutor = Executors.newFixedThreadPool(
+                        Runtime.getRuntime().availableProcessors(), new AxonThreadFactory("JdbcDeadlineManager-tasks")
+                );
+                executor = defaultExecutor;
+            }
+            running = true;
+            pollerThread = threadFactory.newThread(this::pollForDueDeadlines);
+            pollerThread.start();
+        }
+    }
+
+    /**
+     * Stops the poller thread, waiting for the deadlines it claimed to be handled. The executor used to handle
+     * deadlines is shut down if it was created by this DeadlineManager. Otherwise, it is left untouched. Deadlines
+     * that have not been triggered remain stored, and are triggered by another node or after a restart.
+     */
+    public synchronized void shutdown() {
+        running = false;
+        synchronized (pollMonitor) {
+            pollMonitor.notifyAll();
+        }
+        Thread poller = pollerThread;
+        if (poller != null && poller != Thread.currentThread()) {
+            try {
+                poller.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        pollerThread = null;
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdown();
+        }
+    }
+
+    private void pollForDueDeadlines() {
+        try {
+            while (running) {
+                int capacity = batchSize - inFlightDeadlines.size();
+                int claimed = 0;
+                renewLeases();
+                if (capacity > 0) {
+                    try {
+                        claimed = claimAndTriggerDueDeadlines(capacity);
+                    } catch (Exception e) {
+                        logger.warn("An exception occurred while claiming due deadlines. "
+                                            + "Retrying after the poll interval.", e);
+                    }
+                }
+                if (claimed < capacity || capacity <= 0) {
+                    waitForNextPoll(capacity <= 0);
+                }
+            }
+            awaitInFlightDeadlines();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+        }
+    }
+
+    private void waitForNextPoll(boolean awaitCapacity) throws InterruptedException {
+        long waitUntil = System.currentTimeMillis() + pollInterval.toMillis();
+        synchronized (pollMonitor) {
+            long remaining = pollInterval.toMillis();
+            while (running && remaining > 0 && (!awaitCapacity || inFlightDeadlines.size() >= batchSize)) {
+                pollMonitor.wait(remaining);
+                remaining = waitUntil - System.currentTimeMillis();
+            }
+        }
+    }
+
+    private void awaitInFlightDeadlines() throws InterruptedException {
+        while (!inFlightDeadlines.isEmpty()) {
+            renewLeases();
+            synchronized (pollMonitor) {
+                if (!inFlightDeadlines.isEmpty()) {
+                    pollMonitor.wait(pollInterval.toMillis());
+                }
+            }
+        }
+    }
+
+    private int claimAndTriggerDueDeadlines(int maxDeadlines) {
+        List<DeadlineEntry> claimedDeadlines =
+                transactionManager.fetchInTransaction(() -> claimDueDeadlines(maxDeadlines));
+        for (DeadlineEntry deadline : claimedDeadlines) {
+            inFlightDeadlines.add(deadline.deadlineId);
+            try {
+                executor.execute(() -> {
+                    try {
+                        triggerDeadline(deadline);
+                    } finally {
+                        completeDeadline(deadline.deadlineId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                logger.warn("Deadline [{}] was rejected by the executor. Releasing its claim.", deadline.deadlineId);
+                inFlightDeadlines.remove(deadline.deadlineId);
+                releaseClaim(deadline);
+            }
+        }
+        return claimedDeadlines.size();
+    }
+
+    private void completeDeadline(String deadlineId) {
+        inFlightDeadlines.remove(deadlineId);
+        synchronized (pollMonitor) {
+            pollMonitor.notifyAll();
+        }
+    }
+
+    private void renewLeases() {
+        long now = GenericEventMessage.clock.millis();
+        if (inFlightDeadlines.isEmpty()) {
+            lastLeaseRenewal = now;
+            return;
+        }
+        if (now - lastLeaseRenewal < leaseDuration.toMillis() / 2) {
+            return;
+        }
+        List<String> deadlineIds = new ArrayList<>(inFlightDeadlines);
+        try {
+            transactionManager.executeInTransaction(() -> executeBatch(
+                    getConnection(),
+                    connection -> renewLeases(connection, deadlineIds, now + leaseDuration.toMillis()),
+                    e -> {
+                        throw new JdbcException("Failed to renew the leases of the deadlines being handled", e);
+                    }
+            ));
+            lastLeaseRenewal = now;
+        } catch (Exception e) {
+            logger.warn("Failed to renew the leases of the deadlines being handled. Retrying on the next poll.", e);
+        }
+    }
+
+    private PreparedStatement renewLeases(Connection connection, List<String> deadlineIds, long leaseExpiry)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + schema.deadlineTable() + " SET " + schema.leaseExpiryColumn() + " = ? WHERE "
+                        + schema.deadlineIdColumn() + " = ? AND " + schema.ownerColumn() + " = ?"
+        );
+        for (String deadlineId : deadlineIds) {
+            statement.setLong(1, leaseExpiry);
+            statement.setString(2, deadlineId);
+            statement.setString(3, nodeId);
+            statement.addBatch();
+        }
+        return statement;
+    }
+
+    private List<DeadlineEntry> claimDueDeadlines(int maxDeadlines) {
+        long now = GenericEventMessage.clock.millis();
+        List<DeadlineEntry> selectedDeadlines = executeQuery(
+                getConnection(),
+                connection -> selectDueDeadlines(connection, now),
+                listResults(this::readDeadlineEntry),
+                e -> new JdbcException("Failed to select due deadlines", e)
+        );
+        if (selectedDeadlines.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DeadlineEntry> dueDeadlines =
+                selectedDeadlines.subList(0, Math.min(maxDeadlines, selectedDeadlines.size()));
+        int[] updateCounts = executeBatch(getConnection(),
+                                          connection -> claimDeadlines(connection, dueDeadlines, now),
+                                          e -> {
+                                              throw new JdbcException("Failed to claim due deadlines", e);
+                                          });
+        if (Arrays.stream(updateCounts).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)) {
+            Set<String> claimedIds = new HashSet<>(executeQuery(
+                    getConnection(),
+                    connection -> selectClaimedDeadlineIds(connection, now + leaseDuration.toMillis()),
+                    listResults(resultSet -> resultSet.getString(schema.deadlineIdColumn())),
+                    e -> new JdbcException("Failed to select claimed deadlines", e)
+            ));
+            return dueDeadlines.stream()
+                               .filter(deadline -> claimedIds.contains(deadline.deadlineId))
+                               .collect(Collectors.toList());
+        }
+        List<DeadlineEntry> claimedDeadlines = new ArrayList<>(dueDeadlines.size());
+        for (int i = 0; i < dueDeadlines.size(); i++) {
+            if (updateCounts[i] > 0) {
+                claimedDeadlines.add(dueDeadlines.get(i));
+            }
+        }
+        return claimedDeadlines;
+    }
+
+    private PreparedStatement selectClaimedDeadlineIds(Connection connection, long leaseExpiry) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(
+                "SELECT " + schema.deadlineIdColumn() + " FROM " + schema.deadlineTable() + " WHERE "
+                        + schema.ownerColumn() + " = ? AND " + schema.leaseExpiryColumn() + " = ?"
+        );
+        statement.setString(1, nodeId);
+        statement.setLong(2, leaseExpiry);
+        return statement;
+    }
+
+    private void triggerDeadline(DeadlineEntry deadline) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Triggered deadline [{}] with id [{}]", deadline.deadlineName, deadline.deadlineId);
+        }
+        ResultMessage<?> resultMessage;
+        try {
+            DeadlineMessage<?> deadlineMessage = deadline.deadlineMessage();
+            ScopeDescriptor deadlineScope = deadline.deadlineScope();
+            DefaultUnitOfWork<DeadlineMessage<?>> unitOfWork = new DefaultUnitOfWork<>(deadlineMessage);
+            unitOfWork.attachTransaction(transactionManager);
+            unitOfWork.onPrepareCommit(uow -> deleteClaimedDeadline(deadline.deadlineId));
+            InterceptorChain chain =
+                    new DefaultInterceptorChain<>(unitOfWork,
+                                                  handlerInterceptors(),
+                                                  interceptedDeadlineMessage -> {
+                                                      executeScheduledDeadline(interceptedDeadlineMessage,
+                                                                               deadlineScope);
+                                                      return null;
+                                                  });
+            resultMessage = unitOfWork.executeWithResult(chain::proceed);
+        } catch (Exception e) {
+            resultMessage = asResultMessage(e);
+        }
+        if (resultMessage.isExceptional()) {
+            Throwable exceptionResult = resultMessage.exceptionResult();
+            if (refirePolicy.test(exceptionResult)) {
+                logger.warn("An exception occurred while triggering deadline [{}] with id [{}]. It will be retried.",
+                            deadline.deadlineName, deadline.deadlineId, exceptionResult);
+                releaseClaim(deadline);
+            } else {
+                logger.error("An exception occurred while triggering deadline [{}] with id [{}]. It is removed.",
+                             deadline.deadlineName, deadline.deadlineId, exceptionResult);
+                deleteClaimedDeadline(deadline.deadlineId);
+            }
+        }
+    }
+
+    @SuppressWarnings("Duplicates")
+    private void executeScheduledDeadline(DeadlineMessage deadlineMessage, ScopeDescriptor deadlineScope) {
+        scopeAwareProvider.provideScopeAwareStream(deadlineScope)
+                          .filter(scopeAwareComponent -> scopeAwareComponent.canResolve(deadlineScope))
+                          .forEach(scopeAwareComponent -> {
+                              try {
+                                  scopeAwareComponent.send(deadlineMessage, deadlineScope);
+                              } catch (Exception e) {
+                                  String exceptionMessage = format(
+                                          "Failed to send a DeadlineMessage for scope [%s]",
+                                          deadlineScope.scopeDescription()
+                                  );
+                                  throw new ExecutionException(exceptionMessage, e);
+                              }
+                          });
+    }
+
+    private void deleteClaimedDeadline(String deadlineId) {
+        executeUpdates(getConnection(), e -> {
+            throw new JdbcException(format("Failed to remove triggered deadline [%s]", deadlineId), e);
+        }, connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM " + schema.deadlineTable() + " WHERE " + schema.deadlineIdColumn() + " = ? AND "
+                            + schema.ownerColumn() + " = ?"
+            );
+            statement.setString(1, deadlineId);
+            statement.setString(2, nodeId);
+            return statement;
+        });
+    }
+
+    private void releaseClaim(DeadlineEntry deadline) {
+        long now = GenericEventMessage.clock.millis();
+        long delay = Math.min(maxRetryDelay.toMillis(), Math.max(retryDelay.toMillis(), now - deadline.triggerTime));
+        try {
+            transactionManager.executeInTransaction(() -> executeUpdates(getConnection(), e -> {
+                throw new JdbcException(
+                        format("Failed to release the claim on deadline [%s]", deadline.deadlineId), e
+                );
+            }, connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "UPDATE " + schema.deadlineTable() + " SET " + schema.ownerColumn() + " = NULL, "
+                                + schema.leaseExpiryColumn() + " = ? WHERE " + schema.deadlineIdColumn()
+                                + " = ? AND " + schema.ownerColumn() + " = ?"
+                );
+                statement.setLong(1, now + delay);
+                statement.setString(2, deadline.deadlineId);
+                statement.setString(3, nodeId);
+                return statement;
+            }));
+        } catch (Exception e) {
+            logger.warn("Failed to release the claim on deadline [{}]. It will be retried once its lease expired.",
+                        deadline.deadlineId, e);
+        }
+    }
+
+    /**
+     * Creates a statement to insert a deadline entry for the given {@code deadlineMessage}, to be triggered at the
+     * given {@code triggerDateTime} in the given {@code deadlineScope}. The inserted deadline is not claimed.
+     *
+     * @param connection      the connection to create the statement with
+     * @param triggerDateTime the moment the deadline should be triggered
+     * @param deadlineMessage the {@link DeadlineMessage} to store
+     * @param deadlineScope   the {@link ScopeDescriptor} of the scope to trigger the deadline in
+     * @return a {@link PreparedStatement} inserting the deadline entry
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement insertDeadline(Connection connection,
+                                               Instant triggerDateTime,
+                                               DeadlineMessage<?> deadlineMessage,
+                                               ScopeDescriptor deadlineScope) throws SQLException {
+        SerializedObject<byte[]> payload = serializer.serialize(deadlineMessage.getPayload(), byte[].class);
+        SerializedObject<byte[]> metaData = serializer.serialize(deadlineMessage.getMetaData(), byte[].class);
+        SerializedObject<byte[]> scope = serializer.serialize(deadlineScope, byte[].class);
+        String sql = "INSERT INTO " + schema.deadlineTable() + " (" + String.join(", ",
+                schema.deadlineIdColumn(), schema.deadlineNameColumn(), schema.scopeKeyColumn(),
+                schema.triggerTimeColumn(), schema.timestampColumn(), schema.payloadTypeColumn(),
+                schema.payloadRevisionColumn(), schema.payloadColumn(), schema.metaDataColumn(),
+                schema.scopeTypeColumn(), schema.scopeColumn(), schema.leaseExpiryColumn()
+        ) + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setString(1, deadlineMessage.getIdentifier());
+        statement.setString(2, deadlineMessage.getDeadlineName());
+        statement.setString(3, scopeKey(deadlineScope));
+        statement.setLong(4, triggerDateTime.toEpochMilli());
+        statement.setLong(5, deadlineMessage.getTimestamp().toEpochMilli());
+        statement.setString(6, payload.getType().getName());
+        statement.setString(7, payload.getType().getRevision());
+        statement.setBytes(8, payload.getData());
+        statement.setBytes(9, metaData.getData());
+        statement.setString(10, scope.getType().getName());
+        statement.setBytes(11, scope.getData());
+        return statement;
+    }
+
+    /**
+     * Creates a statement to select at most the batch size number of deadlines that are due at the given {@code now}
+     * and are not claimed by a node with an unexpired lease, ordered by their trigger time. If claims should skip
+     * locked rows, the statement is suffixed with {@code FOR UPDATE SKIP LOCKED}. Override this method to use a
+     * database specific syntax.
+     *
+     * @param connection the connection to create the statement with
+     * @param now        the current time in milliseconds since the epoch
+     * @return a {@link PreparedStatement} selecting the due deadlines
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement selectDueDeadlines(Connection connection, long now) throws SQLException {
+        String sql = "SELECT " + String.join(", ",
+                schema.deadlineIdColumn(), schema.deadlineNameColumn(), schema.triggerTimeColumn(),
+                schema.timestampColumn(),
+                schema.payloadTypeColumn(), schema.payloadRevisionColumn(), schema.payloadColumn(),
+                schema.metaDataColumn(), schema.scopeTypeColumn(), schema.scopeColumn()
+        ) + " FROM " + schema.deadlineTable() + " WHERE " + schema.triggerTimeColumn() + " <= ? AND "
+                + schema.leaseExpiryColumn() + " < ? ORDER BY " + schema.triggerTimeColumn()
+                + (skipLockedClaims ? " FOR UPDATE SKIP LOCKED" : "");
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setLong(1, now);
+        statement.setLong(2, now);
+        statement.setMaxRows(batchSize);
+        return statement;
+    }
+
+    /**
+     * Creates a batch statement claiming each of the given {@code dueDeadlines} for this node, provided it was not
+     * claimed by another node in the meantime. A deadline is claimed when its update count is positive. If the driver
+     * does not report the update counts, but returns {@link Statement#SUCCESS_NO_INFO} instead, the claimed deadlines
+     * are selected by the owner and the lease expiry set by this statement, being {@code now} plus the lease
+     * duration.
+     *
+     * @param connection   the connection to create the statement with
+     * @param dueDeadlines the deadlines to claim
+     * @param now          the current time in milliseconds since the epoch
+     * @return a {@link PreparedStatement} with a batch update claiming the given deadlines
+     * @throws SQLException when an exception occurs while creating the prepared statement
+     */
+    protected PreparedStatement claimDeadlines(Connection connection,
+                                               List<DeadlineEntry> dueDeadlines,
+                                               long now) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(
+                "UPDATE " + schema.deadlineTable() + " SET " + schema.ownerColumn() + " = ?, "
+                        + schema.leaseExpiryColumn() + " = ? WHERE " + schema.deadlineIdColumn() + " = ? AND "
+                        + schema.leaseExpiryColumn() + " < ?"
+        );
+        long leaseExpiry = now + leaseDuration.toMillis();
+        for (DeadlineEntry deadline : dueDeadlines) {
+            statement.setString(1, nodeId);
+            statement.setLong(2, leaseExpiry);
+            statement.setString(3, deadline.deadlineId);
+            statement.setLong(4, now);
+            statement.addBatch();
+        }
+        return statement;
+    }
+
+    private DeadlineEntry readDeadlineEntry(ResultSet resultSet) throws SQLException {
+        return new DeadlineEntry(resultSet.getString(schema.deadlineIdColumn()),
+                                 resultSet.getString(schema.deadlineNameColumn()),
+                                 resultSet.getLong(schema.triggerTimeColumn()),
+                                 resultSet.getLong(schema.timestampColumn()),
+                                 new SimpleSerializedObject<>(resultSet.getBytes(schema.payloadColumn()),
+                                                              byte[].class,
+                                                              resultSet.getString(schema.payloadTypeColumn()),
+                                                              resultSet.getString(schema.payloadRevisionColumn())),
+                                 new SimpleSerializedObject<>(resultSet.getBytes(schema.metaDataColumn()),
+                                                              byte[].class,
+                                                              MetaData.class.getName(),
+                                                              null),
+                                 new SimpleSerializedObject<>(resultSet.getBytes(schema.scopeColumn()),
+                                                              byte[].class,
+                                                              resultSet.getString(schema.scopeTypeColumn()),
+                                                              null));
+    }
+
+    private static String scopeKey(ScopeDescriptor scope) {
+        return Digester.md5Hex(scope.scopeDescription());
+    }
+
+    /**
+     * Returns a {@link Connection} to the database.
+     *
+     * @return a database Connection
+     */
+    protected Connection getConnection() {
+        try {
+            return connectionProvider.getConnection();
+        } catch (SQLException e) {
+            throw new JdbcException("Failed to obtain a database connection", e);
+        }
+    }
+
+    /**
+     * A deadline selected from the database, holding its serialized message and scope.
+     */
+    protected class DeadlineEntry {
+
+        private final String deadlineId;
+        private final String deadlineName;
+        private final long triggerTime;
+        private final long timestamp;
+        private final SerializedObject<byte[]> payload;
+        private final SerializedObject<byte[]> metaData;
+        private final SerializedObject<byte[]> scope;
+
+        private DeadlineEntry(String deadlineId,
+                              String deadlineName,
+                              long triggerTime,
+                              long timestamp,
+                              SerializedObject<byte[]> payload,
+                              SerializedObject<byte[]> metaData,
+                              SerializedObject<byte[]> scope) {
+            this.deadlineId = deadlineId;
+            this.deadlineName = deadlineName;
+            this.triggerTime = triggerTime;
+            this.timestamp = timestamp;
+            this.payload = payload;
+            this.metaData = metaData;
+            this.scope = scope;
+        }
+
+        private DeadlineMessage<?> deadlineMessage() {
+            Map<String, ?> deserializedMetaData = serializer.deserialize(metaData);
+            return new GenericDeadlineMessage<>(deadlineName,
+                                                deadlineId,
+                                                serializer.deserialize(payload),
+                                                deserializedMetaData,
+                                                Instant.ofEpochMilli(timestamp));
+        }
+
+        private ScopeDescriptor deadlineScope() {
+            return serializer.deserialize(scope);
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link JdbcDeadlineManager}.
+     * <p>
+     * The {@link TransactionManager} is defaulted to a {@link NoTransactionManager}, the {@link Serializer} to a
+     * {@link XStreamSerializer}, the {@link DeadlineSchema} to the default schema, the {@code nodeId} to the name of
+     * the managed bean for the runtime system of the Java virtual machine, the lease duration to one minute, the poll
+     * interval to one second, the batch size to 100 and the retry delay to between one second and one minute. Due
+     * deadlines are claimed without {@code SKIP LOCKED} and are dispatched on a thread pool owned by the
+     * DeadlineManager. Failed deadlines are retried on non-{@link AxonNonTransientException}s. The {@link ConnectionProvider} and {@link ScopeAwareProvider} are
+     * <b>hard requirements</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private ConnectionProvider connectionProvider;
+        private ScopeAwareProvider scopeAwareProvider;
+        private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private Supplier<Serializer> serializer = XStreamSerializer::defaultSerializer;
+        private DeadlineSchema schema = new DeadlineSchema();
+        private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        private Duration leaseDuration = Duration.ofMinutes(1);
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 100;
+        private Duration retryDelay = Duration.ofSeconds(1);
+        private Duration maxRetryDelay = Duration.ofMinutes(1);
+        private boolean skipLockedClaims = false;
+        private Executor executor;
+        private ThreadFactory threadFactory = new AxonThreadFactory("JdbcDeadlineManager");
+        private Predicate<Throwable> refirePolicy =
+                throwable -> !findException(throwable, t -> t instanceof AxonNonTransientException).isPresent();
+
+        /**
+         * Sets the {@link ConnectionProvider} used to provide connections to the underlying database.
+         *
+         * @param connectionProvider a {@link ConnectionProvider} used to provide connections to the underlying database
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder connectionProvider(ConnectionProvider connectionProvider) {
+            assertNonNull(connectionProvider, "ConnectionProvider may not be null");
+            this.connectionProvider = connectionProvider;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ScopeAwareProvider} which is capable of providing a stream of
+         * {@link org.axonframework.messaging.Scope} instances for a given {@link ScopeDescriptor}. Used to return the
+         * right Scope to trigger a deadline in.
+         *
+         * @param scopeAwareProvider a {@link ScopeAwareProvider} used to find the right
+         *                           {@link org.axonframework.messaging.Scope} to trigger a deadline in
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder scopeAwareProvider(ScopeAwareProvider scopeAwareProvider) {
+            assertNonNull(scopeAwareProvider, "ScopeAwareProvider may not be null");
+            this.scopeAwareProvider = scopeAwareProvider;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TransactionManager} used to claim deadlines and to build transactions and ties them to
+         * deadline. Defaults to a {@link NoTransactionManager}.
+         *
+         * @param transactionManager a {@link TransactionManager} used to claim deadlines and to build transactions
+         *                           and ties them to deadline
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder transactionManager(TransactionManager transactionManager) {
+            assertNonNull(transactionManager, "TransactionManager may not be null");
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Serializer} used to de-/serialize the {@link DeadlineMessage} and the {@link
+         * ScopeDescriptor} into the deadline table. Defaults to a {@link XStreamSerializer}.
+         *
+         * @param serializer a {@link Serializer} used to de-/serialize the {@link DeadlineMessage} and the {@link
+         *                   ScopeDescriptor} into the deadline table
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder serializer(Serializer serializer) {
+            assertNonNull(serializer, "Serializer may not be null");
+            this.serializer = () -> serializer;
+            return this;
+        }
+
+        /**
+         * Sets the {@code schema} which describes the deadline table. Defaults to a default {@link DeadlineSchema}
+         * instance.
+         *
+         * @param schema a {@link DeadlineSchema} which describes the deadline table
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder schema(DeadlineSchema schema) {
+            assertNonNull(schema, "DeadlineSchema may not be null");
+            this.schema = schema;
+            return this;
+        }
+
+        /**
+         * Sets the {@code nodeId} to identify ownership of claimed deadlines. Defaults to the name of the managed bean
+         * for the runtime system of the Java virtual machine.
+         *
+         * @param nodeId the id as a {@link String} to identify ownership of claimed deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder nodeId(String nodeId) {
+            assertNodeId(nodeId, "The nodeId may not be null or empty");
+            this.nodeId = nodeId;
+            return this;
+        }
+
+        /**
+         * Sets the duration of the lease on a claimed deadline. If a claimed deadline has not been handled within this
+         * duration, for example because the node crashed, it may be claimed by any node. The leases of deadlines that
+         * are being handled are renewed by the poller every half lease duration, so the poll interval should be
+         * considerably shorter than that. Defaults to one minute.
+         * <p>
+         * Note that deadlines are triggered at least once. If a lease expires while the deadline is still being
+         * handled, for example because its renewal failed or the node was paused for longer than the lease duration,
+         * the deadline may be triggered again by another node.
+         *
+         * @param leaseDuration the duration of the lease on a claimed deadline
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder leaseDuration(Duration leaseDuration) {
+            assertNonNull(leaseDuration, "The lease duration may not be null");
+            assertThat(leaseDuration, d -> !d.isNegative() && !d.isZero(), "The lease duration should be positive");
+            this.leaseDuration = leaseDuration;
+            return this;
+        }
+
+        /**
+         * Sets the time to wait between polls for due deadlines, when the last poll claimed fewer deadlines than
+         * could be handled at the same time. Defaults to one second.
+         *
+         * @param pollInterval the time to wait between polls for due deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder pollInterval(Duration pollInterval) {
+            assertNonNull(pollInterval, "The poll interval may not be null");
+            assertThat(pollInterval, d -> !d.isNegative() && !d.isZero(), "The poll interval should be positive");
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of due deadlines to claim in a single poll, which is also the maximum number of
+         * deadlines that are handled at the same time. Defaults to 100.
+         *
+         * @param batchSize the maximum number of due deadlines to claim in a single poll
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder batchSize(int batchSize) {
+            assertStrictPositive(batchSize, "The batch size should be positive");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum time to wait before a failed deadline is retried. A retried deadline is released with a
+         * lease that expires after the time that has passed since it became due, but no sooner than this retry delay
+         * and no later than the {@link #maxRetryDelay(Duration) maximum retry delay}. As such, the delay between
+         * attempts roughly doubles. Defaults to one second.
+         *
+         * @param retryDelay the minimum time to wait before a failed deadline is retried
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder retryDelay(Duration retryDelay) {
+            assertNonNull(retryDelay, "The retry delay may not be null");
+            assertThat(retryDelay, d -> !d.isNegative() && !d.isZero(), "The retry delay should be positive");
+            this.retryDelay = retryDelay;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait before a failed deadline is retried. Should not be shorter than the {@link
+         * #retryDelay(Duration) retry delay}. Defaults to one minute.
+         *
+         * @param maxRetryDelay the maximum time to wait before a failed deadline is retried
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxRetryDelay(Duration maxRetryDelay) {
+            assertNonNull(maxRetryDelay, "The maximum retry delay may not be null");
+            assertThat(maxRetryDelay, d -> !d.isNegative() && !d.isZero(),
+                       "The maximum retry delay should be positive");
+            this.maxRetryDelay = maxRetryDelay;
+            return this;
+        }
+
+        /**
+         * Sets whether due deadlines are selected with {@code FOR UPDATE SKIP LOCKED}, so that concurrent pollers
+         * skip rows locked by one another. Only enable this when the database supports this syntax, and the {@link
+         * TransactionManager} shares a single connection for the duration of the claim. Defaults to {@code false}.
+         *
+         * @param skipLockedClaims whether due deadlines are selected with {@code FOR UPDATE SKIP LOCKED}
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder skipLockedClaims(boolean skipLockedClaims) {
+            this.skipLockedClaims = skipLockedClaims;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} used to handle claimed deadlines in parallel. Defaults to a fixed thread pool,
+         * sized to the number of available processors, which is owned by the DeadlineManager and created when it is
+         * started.
+         *
+         * @param executor the {@link Executor} used to handle claimed deadlines
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder executor(Executor executor) {
+            assertNonNull(executor, "Executor may not be null");
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ThreadFactory} used to create the thread polling for due deadlines. Defaults to an {@link
+         * AxonThreadFactory}.
+         *
+         * @param threadFactory the {@link ThreadFactory} used to create the poller thread
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder threadFactory(ThreadFactory threadFactory) {
+            assertNonNull(threadFactory, "ThreadFactory may not be null");
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * Sets a {@link Predicate} taking a {@link Throwable} to decide whether a failed deadline should be retried.
+         * A retried deadline is released, and triggered again once its {@link #retryDelay(Duration) retry delay} has
+         * passed. Otherwise, it is removed. Defaults to a Predicate which will retry on non-{@link
+         * AxonNonTransientException}s.
+         *
+         * @param refirePolicy a {@link Predicate} taking a {@link Throwable} to decide whether a failed deadline
+         *                     should be retried
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder refirePolicy(Predicate<Throwable> refirePolicy) {
+            assertNonNull(refirePolicy, "The refire policy may not be null");
+            this.refirePolicy = refirePolicy;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link JdbcDeadlineManager} as specified through this Builder.
+         *
+         * @return a {@link JdbcDeadlineManager} as specified through this Builder
+         */
+        public JdbcDeadlineManager build() {
+            return new JdbcDeadlineManager(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(connectionProvider, "The ConnectionProvider is a hard requirement and should be provided");
+            assertNonNull(scopeAwareProvider, "The ScopeAwareProvider is a hard requirement and should be provided");
+            assertThat(maxRetryDelay, d -> d.compareTo(retryDelay) >= 0,
+                       "The maximum retry delay may not be shorter than the retry delay");
+        }
+
+        private void assertNodeId(String nodeId, String exceptionMessage) {
+            assertThat(nodeId, name -> Objects.nonNull(name) && !"".equals(name), exceptionMessage);
+        }
+    }
+}
@@ -32,6 +32,8 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -62,6 +64,7 @@ public abstract class AbstractEventProcessor implements EventProcessor {
     private final ErrorHandler errorHandler;
     private final MessageMonitor<? super EventMessage<?>> messageMonitor;
     private final List<MessageHandlerInterceptor<? super EventMessage<?>>> interceptors = new CopyOnWriteArrayList<>();
+    private final ConcurrentMap<Class<?>, Boolean> supportedPayloadTypes = new ConcurrentHashMap<>();
 
     /**
      * Instantiate a {@link AbstractEventProcessor} based on the fields contained in the {@link Builder}.
@@ -121,12 +124,25 @@ protected boolean canHandle(EventMessage<?> eventMessage, Segment segment) throw
         }
     }
 
-    protected boolean canHandleType(Class<?> payloadType)  {
-        try {
-            return eventHandlerInvoker.canHandleType(payloadType);
-        } catch (Exception e) {
-            return false;
-        }
+    /**
+     * Indicates whether the processor can handle events with given {@code payloadType}. This check only considers the
+     * type of the payload, which allows implementations to skip events that none of the event handlers is interested
+     * in, without inspecting the event any further.
+     * <p>
+     * This implementation delegates the decision to the {@link EventHandlerInvoker}. As the handlers of the invoker do
+     * not change, the outcome is cached per payload type.
+     *
+     * @param payloadType The type of payload to check
+     * @return {@code true} if events with given payload type may be handled, {@code false} if they are certainly not
+     */
+    protected boolean canHandleType(Class<?> payloadType) {
+        return supportedPayloadTypes.computeIfAbsent(payloadType, type -> {
+            try {
+                return eventHandlerInvoker.canHandleType(type);
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
 
     /**
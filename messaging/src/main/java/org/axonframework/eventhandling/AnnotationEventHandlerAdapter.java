@@ -18,6 +18,12 @@
 
 import org.axonframework.messaging.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Adapter that turns any bean with {@link EventHandler} annotated methods into an {@link
  * EventMessageHandler}.
@@ -31,6 +37,8 @@ public class AnnotationEventHandlerAdapter implements EventMessageHandler {
     private final AnnotatedHandlerInspector<Object> inspector;
     private final Class<?> listenerType;
     private final Object annotatedEventListener;
+    private final ConcurrentMap<Class<?>, List<MessageHandlingMember<? super Object>>> handlersByPayloadType =
+            new ConcurrentHashMap<>();
 
     /**
      * Wraps the given {@code annotatedEventListener}, allowing it to be subscribed to an Event Bus.
@@ -76,7 +84,7 @@ public AnnotationEventHandlerAdapter(Object annotatedEventListener,
 
     @Override
     public Object handle(EventMessage<?> event) throws Exception {
-        for (MessageHandlingMember<? super Object> handler : inspector.getHandlers()) {
+        for (MessageHandlingMember<? super Object> handler : handlersFor(event.getPayloadType())) {
             if (handler.canHandle(event)) {
                 return handler.handle(event, annotatedEventListener);
             }
@@ -86,7 +94,7 @@ public Object handle(EventMessage<?> event) throws Exception {
 
     @Override
     public boolean canHandle(EventMessage<?> event) {
-        for (MessageHandlingMember<? super Object> handler : inspector.getHandlers()) {
+        for (MessageHandlingMember<? super Object> handler : handlersFor(event.getPayloadType())) {
             if (handler.canHandle(event)) {
                 return true;
             }
@@ -96,7 +104,37 @@ public boolean canHandle(EventMessage<?> event) {
 
     @Override
     public boolean canHandleType(Class<?> payloadType) {
-        return inspector.getHandlers().stream().anyMatch(handler -> handler.canHandleType(payloadType));
+        return !handlersFor(payloadType).isEmpty();
+    }
+
+    /**
+     * Returns the handlers of the annotated event listener that may handle events with given {@code payloadType}, in
+     * order of precedence. These are the handlers for which {@link MessageHandlingMember#canHandleType(Class)} returns
+     * {@code true}, which includes handlers declaring a supertype or interface of the given type. Whether a handler
+     * can actually handle an event is still decided by {@link MessageHandlingMember#canHandle}, which takes parameter
+     * resolvers into account.
+     * <p>
+     * The handlers are resolved once per payload type, after which they are served from a cache.
+     *
+     * @param payloadType the payload type of the event
+     * @return the handlers that may handle events with given payload type
+     */
+    private List<MessageHandlingMember<? super Object>> handlersFor(Class<?> payloadType) {
+        List<MessageHandlingMember<? super Object>> handlers = handlersByPayloadType.get(payloadType);
+        if (handlers == null) {
+            handlers = handlersByPayloadType.computeIfAbsent(payloadType, this::resolveHandlers);
+        }
+        return handlers;
+    }
+
+    private List<MessageHandlingMember<? super Object>> resolveHandlers(Class<?> payloadType) {
+        List<MessageHandlingMember<? super Object>> handlers = new ArrayList<>();
+        for (MessageHandlingMember<? super Object> handler : inspector.getHandlers()) {
+            if (handler.canHandleType(payloadType)) {
+                handlers.add(handler);
+            }
+        }
+        return handlers.isEmpty() ? Collections.emptyList() : handlers;
     }
 
     @Override
@@ -19,7 +19,6 @@
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.axonframework.common.Assert;
-import org.axonframework.common.CollectionUtils;
 
 import java.beans.ConstructorProperties;
 import java.io.Serializable;
@@ -29,7 +28,6 @@
 import java.util.OptionalLong;
 import java.util.SortedSet;
 import java.util.concurrent.ConcurrentSkipListSet;
-import java.util.stream.LongStream;
 
 /**
  * Implementation of a {@link TrackingToken} that uses the global insertion sequence number of the event to determine
@@ -40,6 +38,10 @@
  * been committed to the store, consumers are able to track the event store uninterruptedly even when there are gaps
  * in the sequence numbers of events. If a gap is detected the event store can check if meanwhile this gap has been
  * filled each time a new batch of events is fetched.
+ * <p>
+ * Gaps are kept in a compact, immutable structure that stores ranges of sequence numbers as bits, rather than as a set
+ * of individual {@link Long} instances. When serialized, the gaps are written in the same form as previous versions of
+ * this token, so tokens can be exchanged with, and read by, nodes running those versions.
  *
  * @author Rene de Waele
  */
@@ -49,6 +51,7 @@ public class GapAwareTrackingToken implements TrackingToken, Serializable {
 
     private final long index;
     private final SortedSet<Long> gaps;
+    private final transient GapSet gapSet;
     private final transient long gapTruncationIndex;
 
     /**
@@ -77,12 +80,17 @@ public static GapAwareTrackingToken newInstance(long index, Collection<Long> gap
     @JsonCreator
     @ConstructorProperties({"index", "gaps"})
     public GapAwareTrackingToken(@JsonProperty("index") long index, @JsonProperty("gaps") Collection<Long> gaps) {
-        this(index, createSortedSetOf(gaps, index), 0);
+        this(index, GapSet.of(createSortedSetOf(gaps, index)), 0);
+    }
+
+    private GapAwareTrackingToken(long index, GapSet gaps, long gapTruncationIndex) {
+        this(index, gaps, gaps, gapTruncationIndex);
     }
 
-    private GapAwareTrackingToken(long index, SortedSet<Long> gaps, long gapTruncationIndex) {
+    private GapAwareTrackingToken(long index, SortedSet<Long> gaps, GapSet gapSet, long gapTruncationIndex) {
         this.index = index;
         this.gaps = gaps;
+        this.gapSet = gapSet;
         this.gapTruncationIndex = gapTruncationIndex;
     }
 
@@ -96,11 +104,8 @@ private GapAwareTrackingToken(long index, SortedSet<Long> gaps, long gapTruncati
      * @return a {@link SortedSet} constructed out of the given {@code gaps}
      */
     protected static SortedSet<Long> createSortedSetOf(Collection<Long> gaps, long index) {
-        if (gaps.isEmpty()) {
-            return Collections.emptySortedSet();
-        }
-        SortedSet<Long> gapSet = new ConcurrentSkipListSet<>(gaps);
-        Assert.isTrue(gapSet.last() < index,
+        GapSet gapSet = GapSet.of(gaps);
+        Assert.isTrue(gapSet.isEmpty() || gapSet.lastValue() < index,
                       () -> String.format("Gap indices [%s] should all be smaller than head index [%d]", gaps, index));
         return gapSet;
     }
@@ -122,20 +127,22 @@ protected static SortedSet<Long> createSortedSetOf(Collection<Long> gaps, long i
      */
     public GapAwareTrackingToken advanceTo(long index, int maxGapOffset) {
         long newIndex;
-        SortedSet<Long> gaps = new ConcurrentSkipListSet<>(this.gaps);
-        if (gaps.remove(index)) {
+        GapSet gaps;
+        if (gapSet.contains(index)) {
             newIndex = this.index;
+            gaps = gapSet.without(index);
         } else if (index > this.index) {
             newIndex = index;
-            LongStream.range(this.index + 1L, index).forEach(gaps::add);
+            // only add the gaps that survive truncation, to avoid building a large range when the index jumps far ahead
+            long firstGap = Math.max(this.index + 1L, Math.max(gapTruncationIndex, index - maxGapOffset));
+            gaps = gapSet.withRange(firstGap, index);
         } else {
             throw new IllegalArgumentException(String.format(
                     "The given index [%d] should be larger than the token index [%d] or be one of the token's gaps [%s]",
-                    index, this.index, gaps));
+                    index, this.index, gapSet));
         }
         long smalledAllowedGap = Math.max(gapTruncationIndex, newIndex - maxGapOffset);
-        gaps.removeAll(gaps.headSet(smalledAllowedGap));
-        return new GapAwareTrackingToken(newIndex, gaps, smalledAllowedGap);
+        return new GapAwareTrackingToken(newIndex, gaps.from(smalledAllowedGap), smalledAllowedGap);
     }
 
     /**
@@ -149,11 +156,10 @@ public GapAwareTrackingToken advanceTo(long index, int maxGapOffset) {
      * @return a Token without any gaps strictly smaller than given {@code truncationPoint}
      */
     public GapAwareTrackingToken withGapsTruncatedAt(long truncationPoint) {
-        if (gaps.isEmpty() || gaps.first() > truncationPoint) {
+        if (gapSet.isEmpty() || gapSet.firstValue() > truncationPoint) {
             return this;
         }
-        SortedSet<Long> truncatedGaps = new ConcurrentSkipListSet<>(this.gaps.tailSet(truncationPoint));
-        return new GapAwareTrackingToken(this.index, truncatedGaps, truncationPoint);
+        return new GapAwareTrackingToken(this.index, gapSet.from(truncationPoint), truncationPoint);
     }
 
     /**
@@ -166,12 +172,12 @@ public long getIndex() {
     }
 
     /**
-     * Get a {@link SortedSet} of this token's gaps.
+     * Get a {@link SortedSet} of this token's gaps. The returned set is immutable.
      *
      * @return the gaps of this token
      */
     public SortedSet<Long> getGaps() {
-        return Collections.unmodifiableSortedSet(gaps);
+        return gapSet;
     }
 
     @Override
@@ -179,29 +185,26 @@ public GapAwareTrackingToken lowerBound(TrackingToken other) {
         Assert.isTrue(other instanceof GapAwareTrackingToken, () -> "Incompatible token type provided.");
         GapAwareTrackingToken otherToken = (GapAwareTrackingToken) other;
 
-        SortedSet<Long> mergedGaps = new ConcurrentSkipListSet<>(this.gaps);
-        mergedGaps.addAll(otherToken.gaps);
+        GapSet mergedGaps = this.gapSet.union(otherToken.gapSet);
         long mergedIndex = calculateIndex(otherToken, mergedGaps);
-        mergedGaps.removeIf(i -> i >= mergedIndex);
-        return new GapAwareTrackingToken(mergedIndex, mergedGaps, Math.min(gapTruncationIndex,
-                                                                           otherToken.gapTruncationIndex));
+        return new GapAwareTrackingToken(mergedIndex, mergedGaps.below(mergedIndex),
+                                         Math.min(gapTruncationIndex, otherToken.gapTruncationIndex));
     }
 
     @Override
     public TrackingToken upperBound(TrackingToken otherToken) {
         Assert.isTrue(otherToken instanceof GapAwareTrackingToken, () -> "Incompatible token type provided.");
         GapAwareTrackingToken other = (GapAwareTrackingToken) otherToken;
-        SortedSet<Long> newGaps = CollectionUtils.intersect(this.gaps, other.gaps, ConcurrentSkipListSet::new);
         long min = Math.min(this.index, other.index) + 1;
-        SortedSet<Long> mergedGaps =
-                CollectionUtils.merge(this.gaps.tailSet(min), other.gaps.tailSet(min), ConcurrentSkipListSet::new);
-        newGaps.addAll(mergedGaps);
+        GapSet newGaps = this.gapSet.intersection(other.gapSet)
+                                    .union(this.gapSet.from(min))
+                                    .union(other.gapSet.from(min));
 
         return new GapAwareTrackingToken(Math.max(this.index, other.index), newGaps,
                                          Math.min(gapTruncationIndex, other.gapTruncationIndex));
     }
 
-    private long calculateIndex(GapAwareTrackingToken otherToken, SortedSet<Long> mergedGaps) {
+    private long calculateIndex(GapAwareTrackingToken otherToken, GapSet mergedGaps) {
         long mergedIndex = Math.min(this.index, otherToken.index);
         while (mergedGaps.contains(mergedIndex)) {
             mergedIndex--;
@@ -215,15 +218,15 @@ public boolean covers(TrackingToken other) {
         GapAwareTrackingToken otherToken = (GapAwareTrackingToken) other;
 
         // if the token we compare to has a higher gap truncation index, we need to truncate this instance to compare
-        if (!this.gaps.isEmpty()
-                && !this.gaps.headSet(otherToken.gapTruncationIndex).isEmpty()
+        if (!this.gapSet.isEmpty()
+                && this.gapSet.firstValue() < otherToken.gapTruncationIndex
                 && this.gapTruncationIndex < otherToken.gapTruncationIndex) {
             return this.withGapsTruncatedAt(otherToken.gapTruncationIndex).covers(other);
         }
 
         return otherToken.index <= this.index
-                && !this.gaps.contains(otherToken.index)
-                && otherToken.gaps.containsAll(this.gaps.headSet(otherToken.index));
+                && !this.gapSet.contains(otherToken.index)
+                && this.gapSet.isSubsetOf(otherToken.gapSet, otherToken.index);
     }
 
     /**
@@ -232,7 +235,32 @@ public boolean covers(TrackingToken other) {
      * @return {@code true} if this token contains gaps, {@code false} otherwise
      */
     public boolean hasGaps() {
-        return !gaps.isEmpty();
+        return !gapSet.isEmpty();
+    }
+
+    /**
+     * Replaces this token with an instance holding its gaps in the {@link SortedSet} implementations used by previous
+     * versions of this class, keeping the serialized form of this token unchanged.
+     *
+     * @return the instance to serialize in place of this token
+     */
+    private Object writeReplace() {
+        if (gapSet == null || gaps != gapSet) {
+            return this;
+        }
+        SortedSet<Long> serializedGaps = gapSet.isEmpty()
+                ? Collections.emptySortedSet()
+                : new ConcurrentSkipListSet<>(gapSet);
+        return new GapAwareTrackingToken(index, serializedGaps, null, gapTruncationIndex);
+    }
+
+    /**
+     * Restores the compact representation of the gaps after deserialization.
+     *
+     * @return the deserialized token, with its gaps in their compact representation
+     */
+    private Object readResolve() {
+        return new GapAwareTrackingToken(index, gaps);
     }
 
     @Override
@@ -245,7 +273,7 @@ public boolean equals(Object o) {
         }
         GapAwareTrackingToken that = (GapAwareTrackingToken) o;
         long truncationIndex = Math.max(this.gapTruncationIndex, that.gapTruncationIndex) + 1;
-        return index == that.index && Objects.equals(gaps.tailSet(truncationIndex), that.gaps.tailSet(truncationIndex));
+        return index == that.index && gapSet.from(truncationIndex).equals(that.gapSet.from(truncationIndex));
     }
 
     @Override
@@ -255,7 +283,7 @@ public int hashCode() {
 
     @Override
     public String toString() {
-        return "GapAwareTrackingToken{" + "index=" + index + ", gaps=" + gaps + '}';
+        return "GapAwareTrackingToken{" + "index=" + index + ", gaps=" + gapSet + '}';
     }
 
     @Override
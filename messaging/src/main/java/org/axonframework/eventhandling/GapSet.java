@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * Immutable {@link SortedSet} of {@code long} values, used by the {@link GapAwareTrackingToken} to store its gaps.
+ * <p>
+ * Values are stored in a sparse bitmap: a sorted array of block keys and an array with a 64 bit word for each of these
+ * blocks. Each bit in a word represents a single value. As gaps tend to be clustered just below the index of a token,
+ * this representation is considerably more compact than a set of boxed {@link Long} instances.
+ * <p>
+ * Operations that modify the set return a new instance. Operations that don't change the contents of the set return
+ * the same instance, and operations that only change the words of existing blocks share the array of keys.
+ *
+ * @since 4.3
+ */
+final class GapSet extends AbstractSet<Long> implements SortedSet<Long>, Serializable {
+
+    private static final long serialVersionUID = 4364211386425478264L;
+
+    private static final long[] NO_BLOCKS = new long[0];
+    private static final GapSet EMPTY = new GapSet(NO_BLOCKS, NO_BLOCKS, 0);
+
+    private final long[] keys;
+    private final long[] words;
+    private final int size;
+
+    private GapSet(long[] keys, long[] words, int size) {
+        this.keys = keys;
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty set.
+     *
+     * @return an empty set
+     */
+    static GapSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set containing the given {@code values}. If the given collection is a {@link GapSet}, it is returned
+     * as is.
+     *
+     * @param values the values to include in the set
+     * @return a set containing the given values
+     */
+    static GapSet of(Collection<Long> values) {
+        if (values instanceof GapSet) {
+            return (GapSet) values;
+        }
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = new long[values.size()];
+        int i = 0;
+        for (Long value : values) {
+            sorted[i++] = value;
+        }
+        Arrays.sort(sorted);
+        Builder builder = new Builder(sorted.length);
+        for (long value : sorted) {
+            builder.append(key(value), bit(value));
+        }
+        return builder.build();
+    }
+
+    private static long key(long value) {
+        return value >> 6;
+    }
+
+    private static long bit(long value) {
+        return 1L << (value & 63);
+    }
+
+    /**
+     * Returns a mask with all bits of the given {@code value} and higher set.
+     */
+    private static long bitsFrom(long value) {
+        return -1L << (value & 63);
+    }
+
+    /**
+     * Indicates whether this set contains the given {@code value}.
+     *
+     * @param value the value to check
+     * @return {@code true} if the value is part of this set, otherwise {@code false}
+     */
+    boolean contains(long value) {
+        int block = Arrays.binarySearch(keys, key(value));
+        return block >= 0 && (words[block] & bit(value)) != 0;
+    }
+
+    /**
+     * Returns the lowest value in this set.
+     *
+     * @return the lowest value in this set
+     * @throws NoSuchElementException if this set is empty
+     */
+    long firstValue() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (keys[0] << 6) + Long.numberOfTrailingZeros(words[0]);
+    }
+
+    /**
+     * Returns the highest value in this set.
+     *
+     * @return the highest value in this set
+     * @throws NoSuchElementException if this set is empty
+     */
+    long lastValue() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int last = keys.length - 1;
+        return (keys[last] << 6) + 63 - Long.numberOfLeadingZeros(words[last]);
+    }
+
+    /**
+     * Returns a set containing the values of this set, except the given {@code value}.
+     *
+     * @param value the value to remove
+     * @return a set without the given value
+     */
+    GapSet without(long value) {
+        int block = Arrays.binarySearch(keys, key(value));
+        if (block < 0 || (words[block] & bit(value)) == 0) {
+            return this;
+        }
+        long word = words[block] & ~bit(value);
+        if (word != 0) {
+            long[] newWords = words.clone();
+            newWords[block] = word;
+            return new GapSet(keys, newWords, size - 1);
+        }
+        long[] newKeys = new long[keys.length - 1];
+        long[] newWords = new long[words.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, block);
+        System.arraycopy(words, 0, newWords, 0, block);
+        System.arraycopy(keys, block + 1, newKeys, block, keys.length - block - 1);
+        System.arraycopy(words, block + 1, newWords, block, words.length - block - 1);
+        return new GapSet(newKeys, newWords, size - 1);
+    }
+
+    /**
+     * Returns a set containing the values of this set, as well as all values between {@code fromInclusive} and {@code
+     * toExclusive}. All values in the range must be higher than the highest value in this set.
+     *
+     * @param fromInclusive the lowest value to add
+     * @param toExclusive   the value up to which (excluding) values are added
+     * @return a set with the given range of values added
+     */
+    GapSet withRange(long fromInclusive, long toExclusive) {
+        if (fromInclusive >= toExclusive) {
+            return this;
+        }
+        long firstKey = key(fromInclusive);
+        long lastKey = key(toExclusive - 1);
+        Builder builder = new Builder(keys.length + (int) (lastKey - firstKey + 1));
+        builder.appendAll(this, 0, keys.length);
+        for (long blockKey = firstKey; blockKey <= lastKey; blockKey++) {
+            long word = -1L;
+            if (blockKey == firstKey) {
+                word &= bitsFrom(fromInclusive);
+            }
+            if (blockKey == lastKey) {
+                word &= ~bitsFrom(toExclusive - 1) | bit(toExclusive - 1);
+            }
+            builder.append(blockKey, word);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a set containing only the values of this set that are equal to or higher than the given {@code
+     * fromInclusive} value.
+     *
+     * @param fromInclusive the lowest value to retain
+     * @return a set with only the values equal to or higher than given value
+     */
+    GapSet from(long fromInclusive) {
+        if (size == 0 || firstValue() >= fromInclusive) {
+            return this;
+        }
+        long fromKey = key(fromInclusive);
+        int block = Arrays.binarySearch(keys, fromKey);
+        int start = block >= 0 ? block : -block - 1;
+        Builder builder = new Builder(keys.length - start);
+        if (block >= 0) {
+            builder.append(fromKey, words[block] & bitsFrom(fromInclusive));
+            start++;
+        }
+        builder.appendAll(this, start, keys.length);
+        return builder.build();
+    }
+
+    /**
+     * Returns a set containing only the values of this set that are lower than the given {@code toExclusive} value.
+     *
+     * @param toExclusive the value below which values are retained
+     * @return a set with only the values lower than given value
+     */
+    GapSet below(long toExclusive) {
+        if (size == 0 || lastValue() < toExclusive) {
+            return this;
+        }
+        long toKey = key(toExclusive);
+        int block = Arrays.binarySearch(keys, toKey);
+        int end = block >= 0 ? block : -block - 1;
+        Builder builder = new Builder(end + 1);
+        builder.appendAll(this, 0, end);
+        if (block >= 0) {
+            builder.append(toKey, words[block] & ~bitsFrom(toExclusive));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a set containing the values of both this set and the given {@code other} set.
+     *
+     * @param other the set to combine with this one
+     * @return the union of this set and the given set
+     */
+    GapSet union(GapSet other) {
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return other;
+        }
+        Builder builder = new Builder(keys.length + other.keys.length);
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                builder.append(keys[i], words[i++]);
+            } else if (i == keys.length || other.keys[j] < keys[i]) {
+                builder.append(other.keys[j], other.words[j++]);
+            } else {
+                builder.append(keys[i], words[i++] | other.words[j++]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a set containing only the values present in both this set and the given {@code other} set.
+     *
+     * @param other the set to intersect with this one
+     * @return the intersection of this set and the given set
+     */
+    GapSet intersection(GapSet other) {
+        if (size == 0 || other.size == 0) {
+            return EMPTY;
+        }
+        Builder builder = new Builder(Math.min(keys.length, other.keys.length));
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                builder.append(keys[i], words[i++] & other.words[j++]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Indicates whether all values in this set that are lower than given {@code toExclusive} are also present in the
+     * given {@code other} set.
+     *
+     * @param other       the set that should contain the values of this set
+     * @param toExclusive the value below which values of this set are checked
+     * @return {@code true} if the given set contains all values of this set below given value, otherwise {@code false}
+     */
+    boolean isSubsetOf(GapSet other, long toExclusive) {
+        long toKey = key(toExclusive);
+        int j = 0;
+        for (int i = 0; i < keys.length && keys[i] <= toKey; i++) {
+            long word = keys[i] == toKey ? words[i] & ~bitsFrom(toExclusive) : words[i];
+            if (word == 0) {
+                continue;
+            }
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            long otherWord = j < other.keys.length && other.keys[j] == keys[i] ? other.words[j] : 0;
+            if ((word & ~otherWord) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && contains(((Long) o).longValue());
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<Long>() {
+            private int block = 0;
+            private long remaining = words.length > 0 ? words[0] : 0;
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0 && block < words.length - 1) {
+                    remaining = words[++block];
+                }
+                return remaining != 0;
+            }
+
+            @Override
+            public Long next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long lowestBit = Long.lowestOneBit(remaining);
+                remaining &= ~lowestBit;
+                return (keys[block] << 6) + Long.numberOfTrailingZeros(lowestBit);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Comparator<? super Long> comparator() {
+        return null;
+    }
+
+    @Override
+    public SortedSet<Long> subSet(Long fromElement, Long toElement) {
+        if (fromElement > toElement) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+        return from(fromElement).below(toElement);
+    }
+
+    @Override
+    public SortedSet<Long> headSet(Long toElement) {
+        return below(toElement);
+    }
+
+    @Override
+    public SortedSet<Long> tailSet(Long fromElement) {
+        return from(fromElement);
+    }
+
+    @Override
+    public Long first() {
+        return firstValue();
+    }
+
+    @Override
+    public Long last() {
+        return lastValue();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof GapSet) {
+            GapSet other = (GapSet) o;
+            return size == other.size && Arrays.equals(keys, other.keys) && Arrays.equals(words, other.words);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Builder collecting blocks in ascending order of their key. Blocks without values are skipped, and blocks with a
+     * key equal to the last appended block are merged into that block.
+     */
+    private static final class Builder {
+
+        private long[] keys;
+        private long[] words;
+        private int blockCount;
+        private int size;
+
+        private Builder(int expectedBlocks) {
+            this.keys = new long[Math.max(expectedBlocks, 1)];
+            this.words = new long[keys.length];
+        }
+
+        private void append(long key, long word) {
+            if (word == 0) {
+                return;
+            }
+            if (blockCount > 0 && keys[blockCount - 1] == key) {
+                size += Long.bitCount(word & ~words[blockCount - 1]);
+                words[blockCount - 1] |= word;
+                return;
+            }
+            if (blockCount == keys.length) {
+                keys = Arrays.copyOf(keys, blockCount * 2);
+                words = Arrays.copyOf(words, blockCount * 2);
+            }
+            keys[blockCount] = key;
+            words[blockCount++] = word;
+            size += Long.bitCount(word);
+        }
+
+        private void appendAll(GapSet source, int fromBlock, int toBlock) {
+            for (int i = fromBlock; i < toBlock; i++) {
+                append(source.keys[i], source.words[i]);
+            }
+        }
+
+        private GapSet build() {
+            if (blockCount == 0) {
+                return EMPTY;
+            }
+            return new GapSet(blockCount == keys.length ? keys : Arrays.copyOf(keys, blockCount),
+                              blockCount == words.length ? words : Arrays.copyOf(words, blockCount),
+                              size);
+        }
+    }
+}
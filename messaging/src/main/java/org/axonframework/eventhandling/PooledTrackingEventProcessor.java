@@ -0,0 +1,960 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.AxonNonTransientException;
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.tokenstore.TokenStore;
+import org.axonframework.eventhandling.tokenstore.UnableToClaimTokenException;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.RollbackConfiguration;
+import org.axonframework.messaging.unitofwork.RollbackConfigurationType;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+import static org.axonframework.common.io.IOUtils.closeQuietly;
+
+/**
+ * EventProcessor implementation that tracks events from a {@link StreamableMessageSource}, processing many segments
+ * using a bounded pool of threads.
+ * <p>
+ * Where the {@link TrackingEventProcessor} dedicates a thread to each segment it has claimed, this processor decouples
+ * the number of segments from the number of threads. A single coordinator thread claims segments in the
+ * {@link TokenStore}, reads events from a single stream opened on the message source and hands them to a work
+ * package per claimed segment. Work packages process their events in batches, which are scheduled on a configurable
+ * {@link ExecutorService}. By default, a work-stealing pool sized to the number of available processors is used.
+ * <p>
+ * This allows a processor to claim a large number of segments (e.g. 256) on a limited number of cores, without
+ * requiring a thread per segment. Each segment is still processed sequentially, and its progress is stored in the
+ * TokenStore in the same way the TrackingEventProcessor does.
+ * <p>
+ * Note that this processor does not support splitting and merging segments. Tokens of segments that have been
+ * merged by a {@link TrackingEventProcessor} are processed correctly, however.
+ *
+ * @since 4.3
+ */
+public class PooledTrackingEventProcessor extends AbstractEventProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledTrackingEventProcessor.class);
+
+    private final StreamableMessageSource<TrackedEventMessage<?>> messageSource;
+    private final TokenStore tokenStore;
+    private final TransactionManager transactionManager;
+    private final ExecutorService configuredWorkerExecutor;
+    private final ThreadFactory coordinatorThreadFactory;
+    private final Function<StreamableMessageSource, TrackingToken> initialToken;
+    private final int batchSize;
+    private final int maxClaimedSegments;
+    private final int initialSegmentCount;
+    private final int maxBufferedEvents;
+    private final long tokenClaimInterval;
+    private final int eventAvailabilityTimeout;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ConcurrentMap<Integer, WorkPackage> workPackages = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Integer, Long> segmentReleaseDeadlines = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Integer, Long> segmentErrorWaitTimes = new ConcurrentSkipListMap<>();
+    private volatile ExecutorService workerExecutor;
+    private volatile Thread coordinatorThread;
+    private volatile CompletableFuture<Void> coordinatorTermination = CompletableFuture.completedFuture(null);
+
+    /**
+     * Instantiate a Builder to be able to create a {@link PooledTrackingEventProcessor}.
+     * <p>
+     * The {@link RollbackConfigurationType} defaults to a {@link RollbackConfigurationType#ANY_THROWABLE}, the
+     * {@link ErrorHandler} is defaulted to a {@link PropagatingErrorHandler} and the {@link MessageMonitor} defaults to
+     * a {@link NoOpMessageMonitor}. The worker {@link ExecutorService} defaults to a work-stealing pool sized to the
+     * number of available processors. The Event Processor {@code name}, {@link EventHandlerInvoker},
+     * {@link StreamableMessageSource}, {@link TokenStore} and {@link TransactionManager} are <b>hard requirements</b>
+     * and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link PooledTrackingEventProcessor}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a {@link PooledTrackingEventProcessor} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the Event Processor {@code name}, {@link EventHandlerInvoker}, {@link StreamableMessageSource},
+     * {@link TokenStore} and {@link TransactionManager} are not {@code null}, and will throw an
+     * {@link AxonConfigurationException} if any of them is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link PooledTrackingEventProcessor} instance
+     */
+    protected PooledTrackingEventProcessor(Builder builder) {
+        super(builder);
+        this.messageSource = builder.messageSource;
+        this.tokenStore = builder.tokenStore;
+        this.transactionManager = builder.transactionManager;
+        this.configuredWorkerExecutor = builder.workerExecutor;
+        this.coordinatorThreadFactory = builder.coordinatorThreadFactory != null
+                ? builder.coordinatorThreadFactory
+                : new AxonThreadFactory("PooledEventProcessor[" + builder.name + "]");
+        this.initialToken = builder.initialToken;
+        this.batchSize = builder.batchSize;
+        this.maxClaimedSegments = builder.maxClaimedSegments;
+        this.initialSegmentCount = builder.initialSegmentCount;
+        this.maxBufferedEvents = builder.maxBufferedEvents;
+        this.tokenClaimInterval = builder.tokenClaimInterval;
+        this.eventAvailabilityTimeout = builder.eventAvailabilityTimeout;
+    }
+
+    /**
+     * Start this processor. A coordinator thread will be started to claim segments and read events from the
+     * {@link StreamableMessageSource}. Processing of the events is performed by the configured worker executor. If no
+     * worker executor was configured, a work-stealing pool is created, which is shut down when the processor stops.
+     */
+    @Override
+    public void start() {
+        if (running.compareAndSet(false, true)) {
+            CompletableFuture<Void> termination = new CompletableFuture<>();
+            coordinatorTermination = termination;
+            ExecutorService executor = configuredWorkerExecutor != null
+                    ? configuredWorkerExecutor
+                    : Executors.newWorkStealingPool(Runtime.getRuntime().availableProcessors());
+            workerExecutor = executor;
+            coordinatorThread = coordinatorThreadFactory.newThread(new Coordinator(termination, executor));
+            coordinatorThread.start();
+        }
+    }
+
+    /**
+     * Shuts down the processor. Blocks until all work packages have finished their current batch and released their
+     * claims.
+     */
+    @Override
+    public void shutDown() {
+        shutdownAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdownAsync() {
+        if (running.getAndSet(false)) {
+            logger.info("Shutdown state set for Processor '{}'.", getName());
+            Thread coordinator = coordinatorThread;
+            if (coordinator != null) {
+                LockSupport.unpark(coordinator);
+            }
+        }
+        return coordinatorTermination;
+    }
+
+    /**
+     * Indicates whether this processor is currently running (i.e. consuming events from a stream).
+     *
+     * @return {@code true} when running, otherwise {@code false}
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Instructs the processor to release the segment with given {@code segmentId}. The segment will not be claimed
+     * again by this instance for twice the token claim interval.
+     *
+     * @param segmentId the id of the segment to release
+     */
+    public void releaseSegment(int segmentId) {
+        releaseSegment(segmentId, tokenClaimInterval * 2, MILLISECONDS);
+    }
+
+    /**
+     * Instructs the processor to release the segment with given {@code segmentId}. The segment will not be claimed
+     * again by this instance for the given {@code blacklistDuration}.
+     *
+     * @param segmentId         the id of the segment to release
+     * @param blacklistDuration the amount of time to blacklist this segment for processing by this processor instance
+     * @param unit              the unit of time used to express the {@code blacklistDuration}
+     */
+    public void releaseSegment(int segmentId, long blacklistDuration, TimeUnit unit) {
+        segmentReleaseDeadlines.put(segmentId, System.currentTimeMillis() + unit.toMillis(blacklistDuration));
+        WorkPackage workPackage = workPackages.get(segmentId);
+        if (workPackage != null) {
+            workPackage.abort(null);
+        }
+    }
+
+    /**
+     * Returns the number of segments currently claimed by this processor.
+     *
+     * @return the number of segments currently claimed by this processor
+     */
+    public int claimedSegmentCount() {
+        return workPackages.size();
+    }
+
+    /**
+     * Returns the status for each of the Segments claimed by the current processor. The key of the map represents the
+     * SegmentID processed by this instance. The values of the returned Map represent the last known status of that
+     * Segment.
+     *
+     * @return the status for each of the Segments claimed by the current processor
+     */
+    public Map<Integer, EventTrackerStatus> processingStatus() {
+        return Collections.unmodifiableMap(workPackages);
+    }
+
+    /**
+     * Returns the {@link StreamableMessageSource} this processor is using
+     *
+     * @return {@link StreamableMessageSource}
+     */
+    public StreamableMessageSource<? extends TrackedEventMessage<?>> getMessageSource() {
+        return messageSource;
+    }
+
+    private boolean canClaimSegment(int segmentId) {
+        return segmentReleaseDeadlines.getOrDefault(segmentId, Long.MIN_VALUE) < System.currentTimeMillis();
+    }
+
+    private static boolean isRegularProcessing(Segment segment, Collection<Segment> processingSegments) {
+        return processingSegments.size() == 1 && Objects.equals(processingSegments.iterator().next(), segment);
+    }
+
+    /**
+     * Indicates for which segments an event with given {@code token} should be processed, when received by a work
+     * package for the given {@code segment}. This is aware of merged tokens, and will recursively detect the
+     * (sub)segments in which an event should be handled.
+     */
+    private static Set<Segment> processingSegments(TrackingToken token, Segment segment) {
+        Optional<MergedTrackingToken> mergedToken = WrappedToken.unwrap(token, MergedTrackingToken.class);
+        if (mergedToken.isPresent()) {
+            Segment[] splitSegments = segment.split();
+            Set<Segment> segments = new TreeSet<>();
+            if (mergedToken.get().isLowerSegmentAdvanced()) {
+                segments.addAll(processingSegments(mergedToken.get().lowerSegmentToken(), splitSegments[0]));
+            }
+            if (mergedToken.get().isUpperSegmentAdvanced()) {
+                segments.addAll(processingSegments(mergedToken.get().upperSegmentToken(), splitSegments[1]));
+            }
+            return segments;
+        }
+        return singleton(segment);
+    }
+
+    /**
+     * The coordinator claims segments, reads events from the stream and distributes them over the work packages.
+     */
+    private class Coordinator implements Runnable {
+
+        private final CompletableFuture<Void> termination;
+        private final ExecutorService executor;
+        private BlockingStream<TrackedEventMessage<?>> eventStream;
+        private TrackingToken lastDispatchedToken;
+        private long nextClaimAttempt;
+        private long fetchSegmentsWaitTime = 1;
+
+        private Coordinator(CompletableFuture<Void> termination, ExecutorService executor) {
+            this.termination = termination;
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            long errorWaitTime = 1;
+            try {
+                while (running.get()) {
+                    try {
+                        coordinationCycle();
+                        errorWaitTime = 1;
+                    } catch (InterruptedException e) {
+                        logger.error("Coordinator of processor [{}] was interrupted. Shutting down.", getName(), e);
+                        running.set(false);
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        if (AxonNonTransientException.isCauseOf(e)) {
+                            throw e;
+                        }
+                        if (errorWaitTime == 1) {
+                            logger.warn("Error occurred in coordinator of processor [{}]. Starting retry mode.",
+                                        getName(), e);
+                        }
+                        logger.warn("Closing event stream and preparing for retry in {}s", errorWaitTime);
+                        closeStream();
+                        waitFor(TimeUnit.SECONDS.toMillis(errorWaitTime));
+                        errorWaitTime = Math.min(errorWaitTime * 2, 60);
+                    }
+                }
+            } catch (Throwable e) {
+                logger.error("Coordinator of processor [{}] failed. Shutting down processor.", getName(), e);
+                running.set(false);
+            } finally {
+                closeStream();
+                workPackages.values().forEach(workPackage -> workPackage.abort(null));
+                while (!workPackages.isEmpty()) {
+                    removeAbortedWorkPackages();
+                    if (!workPackages.isEmpty()) {
+                        LockSupport.parkNanos(MILLISECONDS.toNanos(10));
+                    }
+                }
+                if (executor != configuredWorkerExecutor) {
+                    executor.shutdown();
+                }
+                logger.info("Processor [{}] stopped.", getName());
+                termination.complete(null);
+            }
+        }
+
+        private void coordinationCycle() throws InterruptedException {
+            removeAbortedWorkPackages();
+            if (System.currentTimeMillis() >= nextClaimAttempt) {
+                claimNewSegments();
+            }
+            if (workPackages.isEmpty()) {
+                closeStream();
+                waitFor(nextClaimAttempt - System.currentTimeMillis());
+                return;
+            }
+            if (eventStream == null) {
+                openStream();
+            }
+            if (workPackages.values().stream().anyMatch(WorkPackage::isFull)) {
+                // wait for work packages to catch up. They will unpark the coordinator when done processing
+                waitFor(eventAvailabilityTimeout);
+                return;
+            }
+            if (eventStream.hasNextAvailable(eventAvailabilityTimeout, MILLISECONDS)) {
+                int dispatched = 0;
+                do {
+                    dispatch(eventStream.nextAvailable());
+                    dispatched++;
+                } while (dispatched < batchSize * 10 && eventStream.hasNextAvailable()
+                        && workPackages.values().stream().noneMatch(WorkPackage::isFull));
+                workPackages.values().forEach(WorkPackage::scheduleWorker);
+            } else {
+                workPackages.values().forEach(WorkPackage::caughtUp);
+            }
+        }
+
+        private void dispatch(TrackedEventMessage<?> event) {
+            lastDispatchedToken = event.trackingToken();
+            if (!canHandleType(event.getPayloadType())) {
+                eventStream.blacklist(event);
+            }
+            for (WorkPackage workPackage : workPackages.values()) {
+                workPackage.offer(event);
+            }
+        }
+
+        private void openStream() {
+            TrackingToken startPosition = null;
+            boolean first = true;
+            for (WorkPackage workPackage : workPackages.values()) {
+                TrackingToken position = workPackage.deliveredPosition;
+                if (first) {
+                    startPosition = position;
+                    first = false;
+                } else if (startPosition != null) {
+                    startPosition = position == null ? null : startPosition.lowerBound(position);
+                }
+            }
+            TrackingToken finalStartPosition = startPosition;
+            logger.info("Processor [{}] opening event stream at position {}", getName(), startPosition);
+            eventStream = transactionManager.fetchInTransaction(() -> messageSource.openStream(finalStartPosition));
+            lastDispatchedToken = startPosition;
+        }
+
+        private void closeStream() {
+            closeQuietly(eventStream);
+            eventStream = null;
+        }
+
+        private void claimNewSegments() {
+            String processorName = getName();
+            int[] segmentIds;
+            try {
+                segmentIds = transactionManager.fetchInTransaction(() -> {
+                    int[] current = tokenStore.fetchSegments(processorName);
+                    if (current.length == 0 && initialSegmentCount > 0) {
+                        tokenStore.initializeTokenSegments(processorName,
+                                                           initialSegmentCount,
+                                                           initialToken.apply(messageSource));
+                        current = tokenStore.fetchSegments(processorName);
+                    }
+                    return current;
+                });
+                fetchSegmentsWaitTime = 1;
+            } catch (Exception e) {
+                logger.warn("Fetch Segments for Processor '{}' failed: {}. Preparing for retry in {}s",
+                            processorName, e.getMessage(), fetchSegmentsWaitTime);
+                nextClaimAttempt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(fetchSegmentsWaitTime);
+                fetchSegmentsWaitTime = Math.min(fetchSegmentsWaitTime * 2, 60);
+                return;
+            }
+
+            boolean restartStream = false;
+            for (int segmentId : segmentIds) {
+                if (workPackages.size() >= maxClaimedSegments) {
+                    break;
+                }
+                if (workPackages.containsKey(segmentId) || !canClaimSegment(segmentId)) {
+                    continue;
+                }
+                try {
+                    TrackingToken token = transactionManager.fetchInTransaction(
+                            () -> tokenStore.fetchToken(processorName, segmentId)
+                    );
+                    Segment segment = Segment.computeSegment(segmentId, segmentIds);
+                    WorkPackage workPackage = new WorkPackage(segment, token);
+                    workPackages.put(segmentId, workPackage);
+                    logger.info("Processor [{}] claimed segment {} for processing", processorName, segment);
+                    restartStream |= !canServe(workPackage.deliveredPosition);
+                } catch (UnableToClaimTokenException e) {
+                    logger.debug("Unable to claim the token for segment: {}. It is owned by another process",
+                                 segmentId);
+                } catch (Exception e) {
+                    if (AxonNonTransientException.isCauseOf(e)) {
+                        throw e;
+                    }
+                    logger.info("An error occurred while attempting to claim a token for segment: {}. "
+                                        + "Will retry later...", segmentId, e);
+                    break;
+                }
+            }
+            if (restartStream) {
+                closeStream();
+            }
+            nextClaimAttempt = System.currentTimeMillis() + tokenClaimInterval;
+        }
+
+        /**
+         * Indicates whether a work package starting at given {@code position} receives all events it requires from the
+         * currently open stream. That is the case when the given position covers the position of the stream.
+         */
+        private boolean canServe(TrackingToken position) {
+            return eventStream == null || lastDispatchedToken == null
+                    || (position != null && position.covers(lastDispatchedToken));
+        }
+
+        private void removeAbortedWorkPackages() {
+            for (WorkPackage workPackage : workPackages.values()) {
+                if (workPackage.isAborted() && !workPackage.isScheduled()) {
+                    int segmentId = workPackage.segment.getSegmentId();
+                    workPackages.remove(segmentId);
+                    if (workPackage.error != null) {
+                        long errorWaitTime = segmentErrorWaitTimes.getOrDefault(segmentId, 1L);
+                        logger.warn("Releasing claim on segment {} and preparing for retry in {}s",
+                                    segmentId, errorWaitTime);
+                        segmentReleaseDeadlines.put(segmentId, System.currentTimeMillis()
+                                + TimeUnit.SECONDS.toMillis(errorWaitTime));
+                        segmentErrorWaitTimes.put(segmentId, Math.min(errorWaitTime * 2, 60));
+                    } else {
+                        segmentErrorWaitTimes.remove(segmentId);
+                    }
+                    try {
+                        transactionManager.executeInTransaction(
+                                () -> tokenStore.releaseClaim(getName(), segmentId)
+                        );
+                        logger.info("Released claim on segment {}", segmentId);
+                    } catch (Exception e) {
+                        logger.info("Release claim failed", e);
+                        // Ignore exception
+                    }
+                }
+            }
+        }
+
+        private void waitFor(long millis) {
+            if (millis > 0 && running.get()) {
+                LockSupport.parkNanos(MILLISECONDS.toNanos(millis));
+            }
+        }
+    }
+
+    /**
+     * The work package holds the events to process for a single segment, and is scheduled on the worker executor to
+     * process them in batches.
+     */
+    private class WorkPackage implements EventTrackerStatus {
+
+        private final Segment segment;
+        private final Queue<TrackedEventMessage<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueSize = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile TrackingToken deliveredPosition;
+        private volatile TrackingToken lastToken;
+        private volatile long lastClaimUpdate = System.currentTimeMillis();
+        private volatile boolean caughtUp;
+        private volatile boolean aborted;
+        private volatile Exception error;
+
+        private WorkPackage(Segment segment, TrackingToken token) {
+            this.segment = segment;
+            this.lastToken = token;
+            this.deliveredPosition = WrappedToken.unwrapLowerBound(token);
+        }
+
+        /**
+         * Adds the given {@code event} to the queue of this package, unless the position of this package already
+         * covers it. Invoked by the coordinator thread only.
+         */
+        private void offer(TrackedEventMessage<?> event) {
+            TrackingToken token = event.trackingToken();
+            if (aborted || (deliveredPosition != null && token != null && deliveredPosition.covers(token))) {
+                return;
+            }
+            queue.add(event);
+            queueSize.incrementAndGet();
+            deliveredPosition = deliveredPosition == null || token == null ? token : deliveredPosition.upperBound(token);
+        }
+
+        private boolean isFull() {
+            return queueSize.get() >= maxBufferedEvents;
+        }
+
+        private boolean isScheduled() {
+            return scheduled.get();
+        }
+
+        private boolean isAborted() {
+            return aborted;
+        }
+
+        private void abort(Exception cause) {
+            this.error = cause;
+            this.aborted = true;
+        }
+
+        private void caughtUp() {
+            if (queueSize.get() == 0) {
+                caughtUp = true;
+                if (System.currentTimeMillis() - lastClaimUpdate > eventAvailabilityTimeout) {
+                    scheduleWorker();
+                }
+            }
+        }
+
+        private void scheduleWorker() {
+            if (!aborted && scheduled.compareAndSet(false, true)) {
+                try {
+                    workerExecutor.execute(this::processBatch);
+                } catch (Exception e) {
+                    scheduled.set(false);
+                    logger.warn("Unable to schedule processing of segment {}", segment, e);
+                    abort(e);
+                }
+            }
+        }
+
+        private void processBatch() {
+            try {
+                if (!aborted) {
+                    if (queueSize.get() > 0) {
+                        processQueuedEvents();
+                    } else {
+                        transactionManager.executeInTransaction(
+                                () -> tokenStore.extendClaim(getName(), segment.getSegmentId())
+                        );
+                        lastClaimUpdate = System.currentTimeMillis();
+                    }
+                }
+            } catch (UnableToClaimTokenException e) {
+                logger.info("Segment {} is owned by another node. Releasing it.", segment.getSegmentId());
+                abort(null);
+            } catch (Exception e) {
+                logger.warn("Error occurred while processing segment {}. Releasing claim.", segment.getSegmentId(), e);
+                abort(e);
+            } finally {
+                scheduled.set(false);
+                LockSupport.unpark(coordinatorThread);
+                if (queueSize.get() > 0) {
+                    scheduleWorker();
+                }
+            }
+        }
+
+        private void processQueuedEvents() throws Exception {
+            List<TrackedEventMessage<?>> batch = new ArrayList<>();
+            Collection<Segment> processingSegments = singleton(segment);
+            TrackingToken batchToken = lastToken;
+            int polled = 0;
+            TrackedEventMessage<?> next;
+            while ((next = queue.peek()) != null) {
+                TrackingToken token = advance(batchToken, next.trackingToken());
+                Collection<Segment> eventSegments = processingSegments(token, segment);
+                // events with the same token as the previous one are the result of upcasting, and must always be
+                // processed in the same batch. Events for merged segments are processed in a batch of their own.
+                if (polled > 0 && !Objects.equals(batchToken, token)
+                        && (batch.size() >= batchSize || polled >= batchSize * 10
+                        || !isRegularProcessing(segment, eventSegments)
+                        || !isRegularProcessing(segment, processingSegments))) {
+                    break;
+                }
+                queue.poll();
+                queueSize.decrementAndGet();
+                polled++;
+                batchToken = token;
+                processingSegments = eventSegments;
+                TrackedEventMessage<?> message = token == next.trackingToken() ? next : next.withTrackingToken(token);
+                if (canHandle(message, eventSegments)) {
+                    batch.add(message);
+                } else {
+                    reportIgnored(message);
+                }
+            }
+
+            TrackingToken finalToken = batchToken;
+            if (batch.isEmpty()) {
+                transactionManager.executeInTransaction(
+                        () -> tokenStore.storeToken(finalToken, getName(), segment.getSegmentId())
+                );
+            } else {
+                UnitOfWork<? extends EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(batch);
+                unitOfWork.attachTransaction(transactionManager);
+                unitOfWork.onPrepareCommit(
+                        uow -> tokenStore.storeToken(finalToken, getName(), segment.getSegmentId())
+                );
+                processInUnitOfWork(batch, unitOfWork, processingSegments);
+            }
+            lastToken = finalToken;
+            lastClaimUpdate = System.currentTimeMillis();
+            caughtUp = caughtUp || queueSize.get() == 0;
+        }
+
+        private boolean canHandle(EventMessage<?> message, Collection<Segment> segments) throws Exception {
+            if (!canHandleType(message.getPayloadType())) {
+                return false;
+            }
+            for (Segment candidate : segments) {
+                if (PooledTrackingEventProcessor.this.canHandle(message, candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private TrackingToken advance(TrackingToken current, TrackingToken eventToken) {
+            return current instanceof WrappedToken ? ((WrappedToken) current).advancedTo(eventToken) : eventToken;
+        }
+
+        @Override
+        public Segment getSegment() {
+            return segment;
+        }
+
+        @Override
+        public boolean isCaughtUp() {
+            return caughtUp;
+        }
+
+        @Override
+        public boolean isReplaying() {
+            return ReplayToken.isReplay(lastToken);
+        }
+
+        @Override
+        public TrackingToken getTrackingToken() {
+            return WrappedToken.unwrapLowerBound(lastToken);
+        }
+
+        @Override
+        public boolean isErrorState() {
+            return error != null;
+        }
+
+        @Override
+        public Throwable getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link PooledTrackingEventProcessor}.
+     * <p>
+     * The {@link RollbackConfigurationType} defaults to a {@link RollbackConfigurationType#ANY_THROWABLE}, the
+     * {@link ErrorHandler} is defaulted to a {@link PropagatingErrorHandler} and the {@link MessageMonitor} defaults to
+     * a {@link NoOpMessageMonitor}. The worker {@link ExecutorService} defaults to a work-stealing pool sized to the
+     * number of available processors, the {@code batchSize} to {@code 1}, the {@code initialSegmentCount} to
+     * {@code 16}, the {@code maxBufferedEvents} to {@code 1024} and the {@code tokenClaimInterval} to 5 seconds. By
+     * default, there is no limit to the number of segments a single instance claims. The Event Processor
+     * {@code name}, {@link EventHandlerInvoker}, {@link StreamableMessageSource}, {@link TokenStore} and
+     * {@link TransactionManager} are <b>hard requirements</b> and as such should be provided.
+     */
+    public static class Builder extends AbstractEventProcessor.Builder {
+
+        private StreamableMessageSource<TrackedEventMessage<?>> messageSource;
+        private TokenStore tokenStore;
+        private TransactionManager transactionManager;
+        private ExecutorService workerExecutor;
+        private ThreadFactory coordinatorThreadFactory;
+        private Function<StreamableMessageSource, TrackingToken> initialToken = StreamableMessageSource::createTailToken;
+        private int batchSize = 1;
+        private int maxClaimedSegments = Integer.MAX_VALUE;
+        private int initialSegmentCount = 16;
+        private int maxBufferedEvents = 1024;
+        private long tokenClaimInterval = 5000;
+        private int eventAvailabilityTimeout = 1000;
+
+        public Builder() {
+            super.rollbackConfiguration(RollbackConfigurationType.ANY_THROWABLE);
+        }
+
+        @Override
+        public Builder name(String name) {
+            super.name(name);
+            return this;
+        }
+
+        @Override
+        public Builder eventHandlerInvoker(EventHandlerInvoker eventHandlerInvoker) {
+            super.eventHandlerInvoker(eventHandlerInvoker);
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}. Defaults to a {@link RollbackConfigurationType#ANY_THROWABLE})
+         */
+        @Override
+        public Builder rollbackConfiguration(RollbackConfiguration rollbackConfiguration) {
+            super.rollbackConfiguration(rollbackConfiguration);
+            return this;
+        }
+
+        @Override
+        public Builder errorHandler(ErrorHandler errorHandler) {
+            super.errorHandler(errorHandler);
+            return this;
+        }
+
+        @Override
+        public Builder messageMonitor(MessageMonitor<? super EventMessage<?>> messageMonitor) {
+            super.messageMonitor(messageMonitor);
+            return this;
+        }
+
+        /**
+         * Sets the {@link StreamableMessageSource} (e.g. the {@link EventBus}) which this {@link EventProcessor} will
+         * track.
+         *
+         * @param messageSource the {@link StreamableMessageSource} (e.g. the {@link EventBus}) which this {@link
+         *                      EventProcessor} will track
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder messageSource(StreamableMessageSource<TrackedEventMessage<?>> messageSource) {
+            assertNonNull(messageSource, "StreamableMessageSource may not be null");
+            this.messageSource = messageSource;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TokenStore} used to store and fetch event tokens that enable this {@link EventProcessor} to
+         * track its progress.
+         *
+         * @param tokenStore the {@link TokenStore} used to store and fetch event tokens that enable this {@link
+         *                   EventProcessor} to track its progress
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder tokenStore(TokenStore tokenStore) {
+            assertNonNull(tokenStore, "TokenStore may not be null");
+            this.tokenStore = tokenStore;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TransactionManager} used when processing {@link EventMessage}s.
+         *
+         * @param transactionManager the {@link TransactionManager} used when processing {@link EventMessage}s
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder transactionManager(TransactionManager transactionManager) {
+            assertNonNull(transactionManager, "TransactionManager may not be null");
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ExecutorService} on which batches of events of all claimed segments are processed. At most
+         * one batch per segment is processed at any time. Defaults to a work-stealing pool sized to the number of
+         * available processors, which is created when the processor starts and shut down when it stops. A provided
+         * ExecutorService is never shut down by the processor.
+         *
+         * @param workerExecutor the {@link ExecutorService} on which batches of events are processed
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder workerExecutor(ExecutorService workerExecutor) {
+            assertNonNull(workerExecutor, "Worker ExecutorService may not be null");
+            this.workerExecutor = workerExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ThreadFactory} used to create the coordinator thread, which claims segments and reads events
+         * from the message source. Defaults to an {@link AxonThreadFactory} with a group named after the processor.
+         *
+         * @param coordinatorThreadFactory the {@link ThreadFactory} used to create the coordinator thread
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder coordinatorThreadFactory(ThreadFactory coordinatorThreadFactory) {
+            assertNonNull(coordinatorThreadFactory, "Coordinator ThreadFactory may not be null");
+            this.coordinatorThreadFactory = coordinatorThreadFactory;
+            return this;
+        }
+
+        /**
+         * Sets the function to build the initial token with, used when no tokens exist in the {@link TokenStore} for
+         * this processor. Defaults to {@link StreamableMessageSource#createTailToken()}.
+         *
+         * @param initialToken the function to build the initial token with
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder initialToken(Function<StreamableMessageSource, TrackingToken> initialToken) {
+            assertNonNull(initialToken, "Initial token builder may not be null");
+            this.initialToken = initialToken;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of events to process for a single segment in one batch. Defaults to {@code 1}.
+         *
+         * @param batchSize the maximum number of events to process in a single batch
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder batchSize(int batchSize) {
+            assertThat(batchSize, size -> size > 0, "Batch size must be greater or equal to 1");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of segments this instance will claim. Defaults to no limit.
+         *
+         * @param maxClaimedSegments the maximum number of segments this instance will claim
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxClaimedSegments(int maxClaimedSegments) {
+            assertThat(maxClaimedSegments, max -> max > 0, "Max claimed segments must be greater or equal to 1");
+            this.maxClaimedSegments = maxClaimedSegments;
+            return this;
+        }
+
+        /**
+         * Sets the number of segments to initialize in the {@link TokenStore} when no tokens exist yet for this
+         * processor. Defaults to {@code 16}.
+         *
+         * @param initialSegmentCount the number of segments to initialize
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder initialSegmentCount(int initialSegmentCount) {
+            assertThat(initialSegmentCount, count -> count > 0, "Initial segment count must be greater or equal to 1");
+            this.initialSegmentCount = initialSegmentCount;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of events buffered per segment. When the buffer of any segment is full, the
+         * coordinator will stop reading events until its work package has processed them. Defaults to {@code 1024}.
+         *
+         * @param maxBufferedEvents the maximum number of events buffered per segment
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder maxBufferedEvents(int maxBufferedEvents) {
+            assertThat(maxBufferedEvents, max -> max > 0, "Max buffered events must be greater or equal to 1");
+            this.maxBufferedEvents = maxBufferedEvents;
+            return this;
+        }
+
+        /**
+         * Sets the time to wait in between attempts to claim additional segments. Defaults to 5 seconds.
+         *
+         * @param tokenClaimInterval the time to wait in between attempts to claim segments
+         * @param timeUnit           the unit of time
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder tokenClaimInterval(long tokenClaimInterval, TimeUnit timeUnit) {
+            assertThat(tokenClaimInterval, interval -> interval > 0, "Token claim interval must be strictly positive");
+            this.tokenClaimInterval = timeUnit.toMillis(tokenClaimInterval);
+            return this;
+        }
+
+        /**
+         * Sets the time the coordinator waits for events to become available before extending the claims on idle
+         * segments. This value should be significantly shorter than the claim timeout configured on the Token Store.
+         * Defaults to 1 second.
+         *
+         * @param interval the time to wait for events to become available
+         * @param unit     the unit of time
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder eventAvailabilityTimeout(long interval, TimeUnit unit) {
+            long millis = unit.toMillis(interval);
+            assertThat(millis, it -> it <= Integer.MAX_VALUE,
+                       "Interval may not be longer than Integer.MAX_VALUE milliseconds long");
+            assertThat(millis, it -> it > 0, "Interval must be strictly positive");
+            this.eventAvailabilityTimeout = (int) millis;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link PooledTrackingEventProcessor} as specified through this Builder.
+         *
+         * @return a {@link PooledTrackingEventProcessor} as specified through this Builder
+         */
+        public PooledTrackingEventProcessor build() {
+            return new PooledTrackingEventProcessor(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        @Override
+        protected void validate() throws AxonConfigurationException {
+            super.validate();
+            assertNonNull(messageSource, "The StreamableMessageSource is a hard requirement and should be provided");
+            assertNonNull(tokenStore, "The TokenStore is a hard requirement and should be provided");
+            assertNonNull(transactionManager, "The TransactionManager is a hard requirement and should be provided");
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling;
+
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.axonframework.common.io.IOUtils.closeQuietly;
+
+/**
+ * {@link StreamableMessageSource} decorator that allows several consumers to share a single stream opened on a
+ * delegate source. A single reader thread reads messages from the delegate and fans each of them out to a bounded
+ * buffer per consumer, meaning that the cost of reading (and deserializing) a message is paid only once regardless of
+ * the number of consumers.
+ * <p>
+ * Each consumer only receives messages that are not covered by the token it opened its stream with. When a consumer
+ * opens a stream at a position before the one the reader has already passed, the reader is restarted at the lower
+ * bound of the positions of all consumers. Consumers that are further ahead silently skip the messages they have
+ * already received.
+ * <p>
+ * Note that the reader will block when any of the consumer buffers is full. This means that the slowest consumer
+ * dictates the pace at which all consumers of this source receive messages.
+ *
+ * @since 4.3
+ */
+class SharedEventStreamSource implements StreamableMessageSource<TrackedEventMessage<?>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedEventStreamSource.class);
+
+    private final StreamableMessageSource<TrackedEventMessage<?>> delegate;
+    private final ThreadFactory threadFactory;
+    private final int bufferSize;
+    private final int pollTimeout;
+    private final Set<SharedStream> consumers = new CopyOnWriteArraySet<>();
+    private final Object readerLock = new Object();
+    private Reader reader;
+
+    /**
+     * Initialize the source to share streams opened on given {@code delegate}, using the given {@code threadFactory}
+     * to create reader threads. Each consumer is given a buffer for {@code bufferSize} messages. The reader will wait
+     * at most {@code pollTimeout} milliseconds for messages to become available, before checking whether it should
+     * still be running.
+     *
+     * @param delegate      the source to read messages from
+     * @param threadFactory the factory to create the reader thread with
+     * @param bufferSize    the number of messages to buffer for each consumer
+     * @param pollTimeout   the time, in milliseconds, to wait for messages in a single poll
+     */
+    SharedEventStreamSource(StreamableMessageSource<TrackedEventMessage<?>> delegate, ThreadFactory threadFactory,
+                            int bufferSize, int pollTimeout) {
+        this.delegate = delegate;
+        this.threadFactory = threadFactory;
+        this.bufferSize = bufferSize;
+        this.pollTimeout = pollTimeout;
+    }
+
+    @Override
+    public BlockingStream<TrackedEventMessage<?>> openStream(TrackingToken trackingToken) {
+        SharedStream stream = new SharedStream(trackingToken);
+        synchronized (readerLock) {
+            consumers.add(stream);
+            if (reader == null || !reader.canServe(trackingToken)) {
+                restartReader();
+            }
+        }
+        return stream;
+    }
+
+    @Override
+    public TrackingToken createTailToken() {
+        return delegate.createTailToken();
+    }
+
+    @Override
+    public TrackingToken createHeadToken() {
+        return delegate.createHeadToken();
+    }
+
+    @Override
+    public TrackingToken createTokenAt(Instant dateTime) {
+        return delegate.createTokenAt(dateTime);
+    }
+
+    @Override
+    public TrackingToken createTokenSince(Duration duration) {
+        return delegate.createTokenSince(duration);
+    }
+
+    /**
+     * Returns the number of streams currently consuming messages from the shared reader.
+     *
+     * @return the number of streams currently consuming messages from the shared reader
+     */
+    int consumerCount() {
+        return consumers.size();
+    }
+
+    private void restartReader() {
+        if (reader != null) {
+            reader.stop();
+        }
+        TrackingToken startPosition = null;
+        boolean first = true;
+        for (SharedStream consumer : consumers) {
+            TrackingToken position = consumer.position;
+            if (first) {
+                startPosition = position;
+                first = false;
+            } else if (startPosition != null) {
+                startPosition = position == null ? null : startPosition.lowerBound(position);
+            }
+        }
+        reader = new Reader(startPosition);
+        logger.debug("Starting shared event stream reader at position {}", startPosition);
+        threadFactory.newThread(reader).start();
+    }
+
+    private void unsubscribe(SharedStream stream) {
+        synchronized (readerLock) {
+            if (consumers.remove(stream) && consumers.isEmpty() && reader != null) {
+                reader.stop();
+                reader = null;
+            }
+        }
+    }
+
+    private void readerFailed(Reader failedReader, Exception cause) {
+        synchronized (readerLock) {
+            if (reader != failedReader) {
+                // this reader was already replaced. Its consumers are served by another reader
+                return;
+            }
+            reader = null;
+            consumers.forEach(consumer -> consumer.fail(cause));
+            consumers.clear();
+        }
+    }
+
+    private class Reader implements Runnable {
+
+        private final TrackingToken startPosition;
+        private final Queue<TrackedEventMessage<?>> blacklistRequests = new ConcurrentLinkedQueue<>();
+        private volatile TrackingToken lastToken;
+        private volatile boolean running = true;
+
+        private Reader(TrackingToken startPosition) {
+            this.startPosition = startPosition;
+            this.lastToken = startPosition;
+        }
+
+        /**
+         * Indicates whether a consumer starting at given {@code position} will receive all messages it requires from
+         * this reader. That is the case when the given position covers the position this reader has reached.
+         */
+        private boolean canServe(TrackingToken position) {
+            TrackingToken current = lastToken;
+            return current == null || (position != null && position.covers(current));
+        }
+
+        private void stop() {
+            running = false;
+        }
+
+        @Override
+        public void run() {
+            BlockingStream<TrackedEventMessage<?>> stream = null;
+            try {
+                stream = delegate.openStream(startPosition);
+                while (running) {
+                    TrackedEventMessage<?> toBlacklist;
+                    while ((toBlacklist = blacklistRequests.poll()) != null) {
+                        stream.blacklist(toBlacklist);
+                    }
+                    if (stream.hasNextAvailable(pollTimeout, MILLISECONDS)) {
+                        dispatch(stream.nextAvailable());
+                    }
+                }
+            } catch (InterruptedException e) {
+                logger.info("Shared event stream reader was interrupted. Shutting down.");
+                Thread.currentThread().interrupt();
+                readerFailed(this, e);
+            } catch (Exception e) {
+                logger.warn("Shared event stream reader failed. Consumers will need to reopen their stream.", e);
+                readerFailed(this, e);
+            } finally {
+                closeQuietly(stream);
+            }
+        }
+
+        private void dispatch(TrackedEventMessage<?> message) throws InterruptedException {
+            List<SharedStream> targets;
+            synchronized (readerLock) {
+                if (!running) {
+                    return;
+                }
+                lastToken = message.trackingToken();
+                targets = new ArrayList<>(consumers);
+            }
+            for (SharedStream target : targets) {
+                target.offer(message, this);
+            }
+        }
+    }
+
+    private class SharedStream implements BlockingStream<TrackedEventMessage<?>> {
+
+        private final BlockingQueue<TrackedEventMessage<?>> buffer = new LinkedBlockingQueue<>(bufferSize);
+        private volatile TrackingToken position;
+        private volatile boolean closed;
+        private volatile Exception failure;
+        private TrackedEventMessage<?> peeked;
+
+        private SharedStream(TrackingToken position) {
+            this.position = position;
+        }
+
+        /**
+         * Synchronized, as a reader that is being replaced may still be offering messages while its replacement
+         * offers the same messages. Checking and updating the position atomically prevents duplicate delivery.
+         */
+        private synchronized void offer(TrackedEventMessage<?> message, Reader source) throws InterruptedException {
+            TrackingToken token = message.trackingToken();
+            if (!source.running || (position != null && token != null && position.covers(token))) {
+                return;
+            }
+            while (!closed && source.running) {
+                if (buffer.offer(message, pollTimeout, MILLISECONDS)) {
+                    position = position == null || token == null ? token : position.upperBound(token);
+                    return;
+                }
+            }
+        }
+
+        private void fail(Exception cause) {
+            this.failure = cause;
+        }
+
+        @Override
+        public Optional<TrackedEventMessage<?>> peek() {
+            if (peeked == null) {
+                peeked = buffer.poll();
+                if (peeked == null) {
+                    checkFailure();
+                }
+            }
+            return Optional.ofNullable(peeked);
+        }
+
+        @Override
+        public boolean hasNextAvailable(int timeout, TimeUnit unit) throws InterruptedException {
+            if (peeked == null) {
+                peeked = buffer.poll(timeout, unit);
+                if (peeked == null) {
+                    checkFailure();
+                }
+            }
+            return peeked != null;
+        }
+
+        @Override
+        public TrackedEventMessage<?> nextAvailable() throws InterruptedException {
+            while (!hasNextAvailable(pollTimeout, MILLISECONDS)) {
+                // keep waiting until a message is available, or a failure is reported
+            }
+            TrackedEventMessage<?> next = peeked;
+            peeked = null;
+            return next;
+        }
+
+        @Override
+        public void blacklist(TrackedEventMessage<?> ignoredMessage) {
+            synchronized (readerLock) {
+                if (reader != null) {
+                    reader.blacklistRequests.add(ignoredMessage);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            unsubscribe(this);
+        }
+
+        private void checkFailure() {
+            Exception cause = failure;
+            if (cause != null) {
+                throw new EventProcessingException("The shared event stream reader has failed", cause);
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -41,6 +43,8 @@ public class SimpleEventHandlerInvoker implements EventHandlerInvoker {
 
     private final List<?> eventHandlers;
     private final List<EventMessageHandler> wrappedEventHandlers;
+    private final ConcurrentMap<Class<?>, List<EventMessageHandler>> handlersByPayloadType =
+            new ConcurrentHashMap<>();
     private final ListenerInvocationErrorHandler listenerInvocationErrorHandler;
     private final SequencingPolicy<? super EventMessage<?>> sequencingPolicy;
 
@@ -103,7 +107,7 @@ public List<?> eventHandlers() {
     @Override
     public void handle(EventMessage<?> message, Segment segment) throws Exception {
         if (sequencingPolicyMatchesSegment(message, segment)) {
-            for (EventMessageHandler handler : wrappedEventHandlers) {
+            for (EventMessageHandler handler : handlersFor(message.getPayloadType())) {
                 try {
                     handler.handle(message);
                 } catch (Exception e) {
@@ -120,11 +124,32 @@ public boolean canHandle(EventMessage<?> eventMessage, Segment segment) {
 
     @Override
     public boolean canHandleType(Class<?> payloadType) {
-        return wrappedEventHandlers.stream().anyMatch(eh -> eh.canHandleType(payloadType));
+        return !handlersFor(payloadType).isEmpty();
+    }
+
+    /**
+     * Returns the event handlers that are interested in events with given {@code payloadType}, as indicated by {@link
+     * EventMessageHandler#canHandleType(Class)}, in the order in which they were registered. The handlers are resolved
+     * once per payload type, after which they are served from a cache.
+     *
+     * @param payloadType the payload type of the event
+     * @return the event handlers interested in events with given payload type
+     */
+    private List<EventMessageHandler> handlersFor(Class<?> payloadType) {
+        List<EventMessageHandler> handlers = handlersByPayloadType.get(payloadType);
+        if (handlers == null) {
+            handlers = handlersByPayloadType.computeIfAbsent(
+                    payloadType,
+                    type -> wrappedEventHandlers.stream()
+                                                .filter(eh -> eh.canHandleType(type))
+                                                .collect(Collectors.toList())
+            );
+        }
+        return handlers;
     }
 
     private boolean hasHandler(EventMessage<?> eventMessage) {
-        for (EventMessageHandler eventHandler : wrappedEventHandlers) {
+        for (EventMessageHandler eventHandler : handlersFor(eventMessage.getPayloadType())) {
             if (eventHandler.canHandle(eventMessage)) {
                 return true;
             }
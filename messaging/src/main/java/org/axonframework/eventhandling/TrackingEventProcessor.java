@@ -74,6 +74,7 @@ public class TrackingEventProcessor extends AbstractEventProcessor {
     private static final Logger logger = LoggerFactory.getLogger(TrackingEventProcessor.class);
 
     private final StreamableMessageSource<TrackedEventMessage<?>> messageSource;
+    private final StreamableMessageSource<TrackedEventMessage<?>> streamSource;
     private final TokenStore tokenStore;
     private final Function<StreamableMessageSource, TrackingToken> initialTrackingTokenBuilder;
     private final TransactionManager transactionManager;
@@ -137,6 +138,10 @@ protected TrackingEventProcessor(Builder builder) {
         this.segmentIdResourceKey = "Processor[" + builder.name + "]/SegmentId";
         this.lastTokenResourceKey = "Processor[" + builder.name + "]/Token";
         this.initialTrackingTokenBuilder = config.getInitialTrackingToken();
+        this.streamSource = config.isSharedEventStream()
+                ? new SharedEventStreamSource(messageSource, threadFactory,
+                                              config.getSharedEventStreamBufferSize(), eventAvailabilityTimeout)
+                : messageSource;
 
         registerHandlerInterceptor((unitOfWork, interceptorChain) -> {
             if (!(unitOfWork instanceof BatchingUnitOfWork) || ((BatchingUnitOfWork) unitOfWork).isFirstMessage()) {
@@ -355,7 +360,7 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
                 final TrackedEventMessage<?> firstMessage = eventStream.nextAvailable();
                 lastToken = firstMessage.trackingToken();
                 processingSegments = processingSegments(lastToken, segment);
-                if (canHandle(firstMessage, processingSegments)) {
+                if (shouldHandle(firstMessage, processingSegments)) {
                     batch.add(firstMessage);
                 } else {
                     canBlacklist(eventStream, firstMessage);
@@ -368,7 +373,7 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
                         && eventStream.peek().map(m -> isRegularProcessing(segment, m)).orElse(false); i++) {
                     final TrackedEventMessage<?> trackedEventMessage = eventStream.nextAvailable();
                     lastToken = trackedEventMessage.trackingToken();
-                    if (canHandle(trackedEventMessage, processingSegments)) {
+                    if (shouldHandle(trackedEventMessage, processingSegments)) {
                         batch.add(trackedEventMessage);
                     } else {
                         canBlacklist(eventStream, trackedEventMessage);
@@ -397,7 +402,7 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
             while (lastToken != null
                     && eventStream.peek().filter(event -> finalLastToken.equals(event.trackingToken())).isPresent()) {
                 final TrackedEventMessage<?> trackedEventMessage = eventStream.nextAvailable();
-                if (canHandle(trackedEventMessage, processingSegments)) {
+                if (shouldHandle(trackedEventMessage, processingSegments)) {
                     batch.add(trackedEventMessage);
                 } else {
                     canBlacklist(eventStream, trackedEventMessage);
@@ -419,6 +424,16 @@ private void processBatch(Segment segment, BlockingStream<TrackedEventMessage<?>
         }
     }
 
+    /**
+     * Indicates whether the given {@code eventMessage} should be handled in any of the given {@code segments}. Events
+     * with a payload type that none of the handlers can handle are skipped based on their payload type only. This
+     * avoids evaluating handlers and the sequencing policy for events this processor is not interested in.
+     */
+    private boolean shouldHandle(TrackedEventMessage<?> eventMessage,
+                                 Collection<Segment> segments) throws Exception {
+        return canHandleType(eventMessage.getPayloadType()) && canHandle(eventMessage, segments);
+    }
+
     private void canBlacklist(BlockingStream<TrackedEventMessage<?>> eventStream, TrackedEventMessage<?> trackedEventMessage) {
         if (!canHandleType(trackedEventMessage.getPayloadType())) {
             eventStream.blacklist(trackedEventMessage);
@@ -482,9 +497,9 @@ private BlockingStream<TrackedEventMessage<?>> ensureEventStreamOpened(
 
     private BlockingStream<TrackedEventMessage<?>> doOpenStream(TrackingToken trackingToken) {
         if (trackingToken instanceof WrappedToken) {
-            return new WrappedMessageStream((WrappedToken) trackingToken, messageSource.openStream(WrappedToken.unwrapLowerBound(trackingToken)));
+            return new WrappedMessageStream((WrappedToken) trackingToken, streamSource.openStream(WrappedToken.unwrapLowerBound(trackingToken)));
         }
-        return messageSource.openStream(WrappedToken.unwrapLowerBound(trackingToken));
+        return streamSource.openStream(WrappedToken.unwrapLowerBound(trackingToken));
     }
 
     /**
@@ -48,6 +48,7 @@ public class TrackingEventProcessorConfiguration {
     private Function<String, ThreadFactory> threadFactory;
     private long tokenClaimInterval;
     private int eventAvailabilityTimeout = 1000;
+    private int sharedEventStreamBufferSize = 0;
 
     /**
      * Initialize a configuration with single threaded processing.
@@ -162,6 +163,26 @@ public TrackingEventProcessorConfiguration andTokenClaimInterval(long tokenClaim
         return this;
     }
 
+    /**
+     * Configures the processor to share a single event stream between all segments it processes. Instead of each
+     * segment thread opening its own stream on the message source, a single reader thread per processor reads events
+     * once and hands them to a buffer of given {@code bufferSize} per segment. This keeps the cost of reading (and
+     * deserializing) events constant regardless of the number of segments processed.
+     * <p>
+     * Note that the reader will wait for the buffer of the slowest segment to have capacity available, which means
+     * segments processed by this instance will progress at the pace of the slowest one.
+     * <p>
+     * Defaults to each segment opening its own stream.
+     *
+     * @param bufferSize The number of events to buffer for each segment
+     * @return {@code this} for method chaining
+     */
+    public TrackingEventProcessorConfiguration andSharedEventStream(int bufferSize) {
+        Assert.isTrue(bufferSize > 0, () -> "Buffer size must be greater or equal to 1");
+        this.sharedEventStreamBufferSize = bufferSize;
+        return this;
+    }
+
     /**
      * @return the maximum number of events to process in a single batch.
      */
@@ -208,6 +229,26 @@ public ThreadFactory getThreadFactory(String processorName) {
         return threadFactory.apply(processorName);
     }
 
+    /**
+     * Indicates whether all segments processed by a processor share a single event stream.
+     *
+     * @return {@code true} if segments share a single event stream, {@code false} if each segment opens its own
+     * @see #andSharedEventStream(int)
+     */
+    public boolean isSharedEventStream() {
+        return sharedEventStreamBufferSize > 0;
+    }
+
+    /**
+     * Returns the number of events buffered for each segment when segments share a single event stream.
+     *
+     * @return the number of events buffered for each segment when sharing an event stream
+     * @see #andSharedEventStream(int)
+     */
+    public int getSharedEventStreamBufferSize() {
+        return sharedEventStreamBufferSize;
+    }
+
     /**
      * Returns the time, in milliseconds, the processor should wait after a failed attempt to claim any segments for
      * processing. Generally, this means all segments are claimed.
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling.scheduling.java;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.common.IdentifierFactory;
+import org.axonframework.common.timer.HashedWheelTimer;
+import org.axonframework.common.timer.Timeout;
+import org.axonframework.common.transaction.NoTransactionManager;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.eventhandling.EventBus;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.scheduling.EventScheduler;
+import org.axonframework.eventhandling.scheduling.ScheduleToken;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * An {@link EventScheduler} implementation that uses a {@link HashedWheelTimer} as scheduling and triggering
+ * mechanism. Scheduling and cancelling an event take constant time, making this implementation suitable for large
+ * numbers of short-lived schedules, of which most are cancelled before they are met.
+ * <p/>
+ * Events kept in the timer are non-persistent, and are lost when the JVM is shut down. A persistent {@link
+ * EventScheduler} may be configured to which events that are further away than a given threshold are delegated, such
+ * as a {@link org.axonframework.eventhandling.scheduling.quartz.QuartzEventScheduler} backed by a JDBC job store.
+ * Tokens other than a {@link SimpleScheduleToken} are cancelled with the delegate. Cancelling a {@link
+ * SimpleScheduleToken} of an event that has already been published or cancelled has no effect.
+ *
+ * @since 4.3
+ */
+public class HashedWheelEventScheduler implements EventScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelEventScheduler.class);
+
+    private final HashedWheelTimer timer;
+    private final EventBus eventBus;
+    private final TransactionManager transactionManager;
+    private final EventScheduler longHorizonEventScheduler;
+    private final Duration longHorizonThreshold;
+
+    private final Map<String, Timeout> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiate a {@link HashedWheelEventScheduler} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the {@link EventBus} is not {@code null}, and will throw an {@link AxonConfigurationException}
+     * if it is {@code null}.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link HashedWheelEventScheduler} instance
+     */
+    protected HashedWheelEventScheduler(Builder builder) {
+        builder.validate();
+        this.timer = builder.timer != null ? builder.timer : HashedWheelTimer.builder().build();
+        this.eventBus = builder.eventBus;
+        this.transactionManager = builder.transactionManager;
+        this.longHorizonEventScheduler = builder.longHorizonEventScheduler;
+        this.longHorizonThreshold = builder.longHorizonThreshold;
+    }
+
+    /**
+     * Instantiate a Builder to be able to create a {@link HashedWheelEventScheduler}.
+     * <p>
+     * The {@link HashedWheelTimer} is defaulted to a timer using its default settings, the {@link TransactionManager}
+     * to a {@link NoTransactionManager} and the long horizon threshold to one hour. The {@link EventBus} is a <b>hard
+     * requirement</b> and as such should be provided.
+     *
+     * @return a Builder to be able to create a {@link HashedWheelEventScheduler}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public ScheduleToken schedule(Instant triggerDateTime, Object event) {
+        return schedule(Duration.between(Instant.now(), triggerDateTime), event);
+    }
+
+    @Override
+    public ScheduleToken schedule(Duration triggerDuration, Object event) {
+        if (longHorizonEventScheduler != null && triggerDuration.compareTo(longHorizonThreshold) >= 0) {
+            return longHorizonEventScheduler.schedule(triggerDuration, event);
+        }
+        String tokenId = IdentifierFactory.getInstance().generateIdentifier();
+        Timeout timeout = timer.newTimeout(new PublishEventTask(event, tokenId), triggerDuration);
+        tokens.put(tokenId, timeout);
+        if (timeout.isExpired()) {
+            tokens.remove(tokenId);
+        }
+        return new SimpleScheduleToken(tokenId);
+    }
+
+    @Override
+    public void cancelSchedule(ScheduleToken scheduleToken) {
+        if (scheduleToken instanceof SimpleScheduleToken) {
+            Timeout timeout = tokens.remove(((SimpleScheduleToken) scheduleToken).getTokenId());
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        } else if (longHorizonEventScheduler != null) {
+            longHorizonEventScheduler.cancelSchedule(scheduleToken);
+        } else {
+            throw new IllegalArgumentException("The given ScheduleToken was not provided by this scheduler.");
+        }
+    }
+
+    /**
+     * Returns the number of events kept in the timer that have not been published or cancelled yet. Events scheduled
+     * with the long horizon EventScheduler are not included.
+     *
+     * @return the number of pending events kept in the timer
+     */
+    public long getPendingScheduleCount() {
+        return timer.getPendingTimeoutCount();
+    }
+
+    /**
+     * Shuts down the {@link HashedWheelTimer} used by this EventScheduler. Events kept in the timer that have not been
+     * published yet are never published.
+     */
+    public void shutdown() {
+        timer.shutDown();
+    }
+
+    private class PublishEventTask implements Runnable {
+
+        private final Object event;
+        private final String tokenId;
+
+        public PublishEventTask(Object event, String tokenId) {
+            this.event = event;
+            this.tokenId = tokenId;
+        }
+
+        @Override
+        public void run() {
+            EventMessage<?> eventMessage = createMessage();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Triggered the publication of event [{}]", eventMessage.getPayloadType().getSimpleName());
+            }
+            try {
+                UnitOfWork<EventMessage<?>> unitOfWork = new DefaultUnitOfWork<>(null);
+                unitOfWork.attachTransaction(transactionManager);
+                unitOfWork.execute(() -> eventBus.publish(eventMessage));
+            } finally {
+                tokens.remove(tokenId);
+            }
+        }
+
+        /**
+         * Creates a new message for the scheduled event. This ensures that a new identifier and timestamp will always
+         * be generated, so that the timestamp will reflect the actual moment the trigger occurred.
+         *
+         * @return the message to publish
+         */
+        private EventMessage<?> createMessage() {
+            EventMessage<?> eventMessage;
+            if (event instanceof EventMessage) {
+                eventMessage = new GenericEventMessage<>(((EventMessage) event).getPayload(),
+                                                         ((EventMessage) event).getMetaData());
+            } else {
+                eventMessage = new GenericEventMessage<>(event, MetaData.emptyInstance());
+            }
+            return eventMessage;
+        }
+    }
+
+    /**
+     * Builder class to instantiate a {@link HashedWheelEventScheduler}.
+     * <p>
+     * The {@link HashedWheelTimer} is defaulted to a timer using its default settings, the {@link TransactionManager}
+     * to a {@link NoTransactionManager} and the long horizon threshold to one hour. The {@link EventBus} is a <b>hard
+     * requirement</b> and as such should be provided.
+     */
+    public static class Builder {
+
+        private HashedWheelTimer timer;
+        private EventBus eventBus;
+        private TransactionManager transactionManager = NoTransactionManager.INSTANCE;
+        private EventScheduler longHorizonEventScheduler;
+        private Duration longHorizonThreshold = Duration.ofHours(1);
+
+        /**
+         * Sets the {@link EventBus} used to publish events on to, once the schedule has been met.
+         *
+         * @param eventBus a {@link EventBus} used to publish events on to, once the schedule has been met
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder eventBus(EventBus eventBus) {
+            assertNonNull(eventBus, "EventBus may not be null");
+            this.eventBus = eventBus;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HashedWheelTimer} used for scheduling and triggering events. The timer defines the
+         * resolution of schedules and the {@link java.util.concurrent.Executor} that publishes the events. Defaults
+         * to a timer using its default settings.
+         *
+         * @param timer a {@link HashedWheelTimer} used for scheduling and triggering events
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder timer(HashedWheelTimer timer) {
+            assertNonNull(timer, "HashedWheelTimer may not be null");
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TransactionManager} used to build transactions and ties them on event publication. Defaults
+         * to a {@link NoTransactionManager}.
+         *
+         * @param transactionManager a {@link TransactionManager} used to build transactions and ties them on event
+         *                           publication
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder transactionManager(TransactionManager transactionManager) {
+            assertNonNull(transactionManager, "TransactionManager may not be null");
+            this.transactionManager = transactionManager;
+            return this;
+        }
+
+        /**
+         * Sets the {@link EventScheduler} to which events are delegated that are further away than the long horizon
+         * threshold. Typically, this is a persistent EventScheduler, so that long-lived schedules survive a restart.
+         * Defaults to {@code null}, in which case all events are kept in the timer.
+         * <p>
+         * Note that the given EventScheduler must not provide {@link SimpleScheduleToken}s, as these are considered
+         * tokens of the timer when cancelling a schedule.
+         *
+         * @param longHorizonEventScheduler an {@link EventScheduler} to delegate events beyond the threshold to
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder longHorizonEventScheduler(EventScheduler longHorizonEventScheduler) {
+            assertNonNull(longHorizonEventScheduler, "Long horizon EventScheduler may not be null");
+            this.longHorizonEventScheduler = longHorizonEventScheduler;
+            return this;
+        }
+
+        /**
+         * Sets the threshold from which events are delegated to the long horizon {@link EventScheduler}, if one is
+         * configured. Defaults to one hour.
+         *
+         * @param longHorizonThreshold the time from which events are delegated to the long horizon EventScheduler
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder longHorizonThreshold(Duration longHorizonThreshold) {
+            assertNonNull(longHorizonThreshold, "Long horizon threshold may not be null");
+            assertThat(longHorizonThreshold, t -> !t.isNegative(), "Long horizon threshold may not be negative");
+            this.longHorizonThreshold = longHorizonThreshold;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link HashedWheelEventScheduler} as specified through this Builder.
+         *
+         * @return a {@link HashedWheelEventScheduler} as specified through this Builder
+         */
+        public HashedWheelEventScheduler build() {
+            return new HashedWheelEventScheduler(this);
+        }
+
+        /**
+         * Validates whether the fields contained in this Builder are set accordingly.
+         *
+         * @throws AxonConfigurationException if one field is asserted to be incorrect according to the Builder's
+         *                                    specifications
+         */
+        protected void validate() throws AxonConfigurationException {
+            assertNonNull(eventBus, "The EventBus is a hard requirement and should be provided");
+        }
+    }
+}
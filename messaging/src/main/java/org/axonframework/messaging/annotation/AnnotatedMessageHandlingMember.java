@@ -150,7 +150,14 @@ private void checkAndRethrowForExceptionOrError(ReflectiveOperationException e)
         }
     }
 
-    private Object[] resolveParameterValues(Message<?> message) {
+    /**
+     * Resolves the values for all parameters of the handler method for the given {@code message}, using the
+     * {@link ParameterResolver}s of this member.
+     *
+     * @param message the message to resolve the parameter values for
+     * @return an array containing the value for each of the parameters of the handler method
+     */
+    protected Object[] resolveParameterValues(Message<?> message) {
         Object[] params = new Object[parameterCount];
         for (int i = 0; i < parameterCount; i++) {
             params[i] = parameterResolvers[i].resolveParameterValue(message);
@@ -158,6 +165,18 @@ private Object[] resolveParameterValues(Message<?> message) {
         return params;
     }
 
+    /**
+     * Resolves the value for the parameter at given {@code index} of the handler method for the given {@code
+     * message}, using the {@link ParameterResolver} of this member for that parameter.
+     *
+     * @param message the message to resolve the parameter value for
+     * @param index   the index of the parameter to resolve the value for
+     * @return the value for the parameter at given {@code index}
+     */
+    protected Object resolveParameterValue(Message<?> message, int index) {
+        return parameterResolvers[index].resolveParameterValue(message);
+    }
+
     @Override
     public Optional<Map<String, Object>> annotationAttributes(Class<? extends Annotation> annotationType) {
         return AnnotationUtils.findAnnotationAttributes(executable, annotationType);
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.messaging.Message;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Implementation of a {@link MessageHandlingMember} that invokes message handler methods through a {@link
+ * MethodHandle} rather than through reflection. The handle is created once, when the handler is inspected, and adapted
+ * to a generic signature that takes the target and parameter values as {@link Object}s. For handlers with up to
+ * {@value #MAX_SPECIALIZED_PARAMETER_COUNT} parameters, the parameter values are passed to the handle directly,
+ * avoiding the creation of a parameter array for each invocation.
+ * <p>
+ * Parameters are resolved using the same {@link ParameterResolver}s as the {@link AnnotatedMessageHandlingMember}, which
+ * means this member behaves identical to its reflective counterpart.
+ *
+ * @param <T> the target type
+ * @see MethodHandleMessageHandlingMemberDefinition
+ * @since 4.3
+ */
+public class MethodHandleMessageHandlingMember<T> extends AnnotatedMessageHandlingMember<T> {
+
+    private static final int MAX_SPECIALIZED_PARAMETER_COUNT = 3;
+
+    private final MethodHandle invoker;
+    private final int parameterCount;
+
+    /**
+     * Initializes a new instance that will invoke the given {@code executable} (method) on a target to handle a message
+     * of the given {@code messageType}.
+     *
+     * @param executable               the method to invoke on a target
+     * @param messageType              the type of message that is expected by the target method
+     * @param explicitPayloadType      the expected message payload type
+     * @param parameterResolverFactory factory used to resolve method parameters
+     */
+    public MethodHandleMessageHandlingMember(Executable executable, Class<? extends Message> messageType,
+                                             Class<?> explicitPayloadType,
+                                             ParameterResolverFactory parameterResolverFactory) {
+        super(executable, messageType, explicitPayloadType, parameterResolverFactory);
+        this.parameterCount = executable.getParameterCount();
+        this.invoker = createInvoker(executable, parameterCount);
+    }
+
+    private static MethodHandle createInvoker(Executable executable, int parameterCount) {
+        MethodHandle handle;
+        try {
+            if (executable instanceof Method) {
+                handle = MethodHandles.lookup().unreflect((Method) executable);
+            } else if (executable instanceof Constructor) {
+                handle = MethodHandles.lookup().unreflectConstructor((Constructor<?>) executable);
+            } else {
+                throw new UnsupportedHandlerException("What kind of handler is this?", executable);
+            }
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedHandlerException(
+                    "Unable to create a method handle for handler " + executable.toGenericString(), executable);
+        }
+        if (executable instanceof Constructor || Modifier.isStatic(executable.getModifiers())) {
+            // align the signature with instance methods, which take the target as first parameter
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        handle = handle.asType(MethodType.genericMethodType(parameterCount + 1));
+        if (parameterCount > MAX_SPECIALIZED_PARAMETER_COUNT) {
+            handle = handle.asSpreader(Object[].class, parameterCount);
+        }
+        return handle;
+    }
+
+    @Override
+    public Object handle(Message<?> message, T target) throws Exception {
+        try {
+            switch (parameterCount) {
+                case 0:
+                    return invoker.invokeExact((Object) target);
+                case 1:
+                    return invoker.invokeExact((Object) target,
+                                               resolveParameterValue(message, 0));
+                case 2:
+                    return invoker.invokeExact((Object) target,
+                                               resolveParameterValue(message, 0),
+                                               resolveParameterValue(message, 1));
+                case 3:
+                    return invoker.invokeExact((Object) target,
+                                               resolveParameterValue(message, 0),
+                                               resolveParameterValue(message, 1),
+                                               resolveParameterValue(message, 2));
+                default:
+                    return invoker.invokeExact((Object) target, resolveParameterValues(message));
+            }
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MessageHandlerInvocationException(
+                    String.format("Error handling an object of type [%s]", message.getPayloadType()), e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.common.Priority;
+import org.axonframework.messaging.Message;
+
+import java.lang.reflect.Executable;
+import java.util.Optional;
+
+import static org.axonframework.common.annotation.AnnotationUtils.findAnnotationAttributes;
+
+/**
+ * HandlerDefinition implementation that recognizes the same handlers as the {@link
+ * AnnotatedMessageHandlingMemberDefinition}, but creates {@link MethodHandleMessageHandlingMember}s to invoke them.
+ * These invoke the handler methods through a {@link java.lang.invoke.MethodHandle} created when the handler is
+ * inspected, instead of through reflection.
+ * <p>
+ * This definition is not registered on the class path, so it needs to be configured explicitly. As it has a higher
+ * priority than the default definition, it can be combined with the definitions found on the class path:
+ * <pre>
+ * configurer.registerHandlerDefinition((config, type) -&gt; MultiHandlerDefinition.ordered(
+ *         new MethodHandleMessageHandlingMemberDefinition(), ClasspathHandlerDefinition.forClass(type)
+ * ));
+ * </pre>
+ *
+ * @see MethodHandleMessageHandlingMember
+ * @since 4.3
+ */
+@Priority(Priority.HIGH)
+public class MethodHandleMessageHandlingMemberDefinition implements HandlerDefinition {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<MessageHandlingMember<T>> createHandler(Class<T> declaringType, Executable executable,
+                                                                ParameterResolverFactory parameterResolverFactory) {
+        return findAnnotationAttributes(executable, MessageHandler.class)
+                .map(attr -> new MethodHandleMessageHandlingMember<>(
+                        executable,
+                        (Class<? extends Message>) attr.getOrDefault("messageType", Message.class),
+                        (Class<? extends Message>) attr.getOrDefault("payloadType", Object.class),
+                        parameterResolverFactory));
+    }
+}
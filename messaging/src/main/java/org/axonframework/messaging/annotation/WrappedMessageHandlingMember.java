@@ -56,6 +56,11 @@ public boolean canHandle(Message<?> message) {
         return delegate.canHandle(message);
     }
 
+    @Override
+    public boolean canHandleType(Class<?> payloadType) {
+        return delegate.canHandleType(payloadType);
+    }
+
     @Override
     public Object handle(Message<?> message, T target) throws Exception {
         return delegate.handle(message, target);
@@ -98,6 +98,27 @@ default <Q, U> void emit(Class<Q> queryType, Predicate<? super Q> filter, U upda
         }
     }
 
+    /**
+     * Emits given incremental update to subscription queries with given {@code queryName} of which the key equals the
+     * given {@code key}. Implementations supporting this operation index subscription queries on a key extracted from
+     * each query, making this a cheaper alternative to the predicate based {@code emit} methods when many
+     * subscription queries are active. The default implementation throws an {@link UnsupportedOperationException}, as
+     * it does not know how the key of a subscription query is extracted.
+     * <p>
+     * To emit a plain payload, wrap it using {@link GenericSubscriptionQueryUpdateMessage#asUpdateMessage(Object)}.
+     *
+     * @param queryName the name of the subscription queries to emit the update to
+     * @param key       the key subscription queries must match to receive the update
+     * @param update    incremental update message
+     * @param <U>       the type of the update
+     * @throws UnsupportedOperationException if this emitter does not index subscription queries on a key
+     */
+    default <U> void emitKeyed(String queryName, Object key, SubscriptionQueryUpdateMessage<U> update) {
+        throw new UnsupportedOperationException(
+                "This QueryUpdateEmitter does not support emitting updates to subscription queries by key"
+        );
+    }
+
     /**
      * Completes subscription queries matching given filter.
      *
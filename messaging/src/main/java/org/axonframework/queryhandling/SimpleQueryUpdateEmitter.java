@@ -30,12 +30,15 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -43,6 +46,11 @@
 
 /**
  * Implementation of {@link QueryUpdateEmitter} that uses Project Reactor to implement Update Handlers.
+ * <p>
+ * Subscription queries with a query name for which a key extractor has been configured are indexed on the extracted
+ * key. Updates emitted through {@link #emitKeyed(String, Object, SubscriptionQueryUpdateMessage)} are delivered using
+ * this index, instead of evaluating a filter against each of the active subscription queries. Emitting an update by
+ * key to subscription queries without a key extractor results in an {@link IllegalArgumentException}.
  *
  * @author Milan Savic
  * @since 4.0
@@ -59,6 +67,7 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
             new ConcurrentHashMap<>();
     private final List<MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>>> dispatchInterceptors =
             new CopyOnWriteArrayList<>();
+    private final Map<String, QueryIndex> queryIndices;
 
     /**
      * Instantiate a {@link SimpleQueryUpdateEmitter} based on the fields contained in the {@link Builder}.
@@ -68,6 +77,10 @@ public class SimpleQueryUpdateEmitter implements QueryUpdateEmitter {
     protected SimpleQueryUpdateEmitter(Builder builder) {
         builder.validate();
         this.updateMessageMonitor = builder.updateMessageMonitor;
+        Map<String, QueryIndex> indices = new HashMap<>();
+        builder.queryKeyExtractors.forEach((queryName, keyExtractor) -> indices.put(queryName,
+                                                                                    new QueryIndex(keyExtractor)));
+        this.queryIndices = Collections.unmodifiableMap(indices);
     }
 
     /**
@@ -95,9 +108,13 @@ public <U> UpdateHandlerRegistration<U> registerUpdateHandler(
             int updateBufferSize) {
         EmitterProcessor<SubscriptionQueryUpdateMessage<U>> processor = EmitterProcessor.create(updateBufferSize);
         FluxSink<SubscriptionQueryUpdateMessage<U>> sink = processor.sink(backpressure.getOverflowStrategy());
-        sink.onDispose(() -> updateHandlers.remove(query));
+        sink.onDispose(() -> removeUpdateHandler(query));
         FluxSinkWrapper<SubscriptionQueryUpdateMessage<U>> fluxSinkWrapper = new FluxSinkWrapper<>(sink);
         updateHandlers.put(query, fluxSinkWrapper);
+        QueryIndex queryIndex = queryIndices.get(query.getQueryName());
+        if (queryIndex != null) {
+            queryIndex.add(query);
+        }
 
         Registration registration = () -> {
             fluxSinkWrapper.complete();
@@ -114,6 +131,18 @@ public <U> void emit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
         runOnAfterCommitOrNow(() -> doEmit(filter, intercept(update)));
     }
 
+    @Override
+    public <U> void emitKeyed(String queryName, Object key, SubscriptionQueryUpdateMessage<U> update) {
+        QueryIndex queryIndex = queryIndices.get(queryName);
+        if (queryIndex == null) {
+            throw new IllegalArgumentException(format(
+                    "Cannot emit an update by key to subscription queries named [%s], "
+                            + "as no key extractor has been registered for them", queryName
+            ));
+        }
+        runOnAfterCommitOrNow(() -> doEmit(queryIndex, key, intercept(update)));
+    }
+
     private <U> SubscriptionQueryUpdateMessage<U> intercept(SubscriptionQueryUpdateMessage<U> message) {
         SubscriptionQueryUpdateMessage<U> intercepted = message;
         for (MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> interceptor : dispatchInterceptors) {
@@ -150,6 +179,12 @@ private <U> void doEmit(Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
                                                 .ifPresent(uh -> doEmit(query, uh, update)));
     }
 
+    private <U> void doEmit(QueryIndex queryIndex, Object key, SubscriptionQueryUpdateMessage<U> update) {
+        queryIndex.matching(key)
+                  .forEach(query -> Optional.ofNullable(updateHandlers.get(query))
+                                            .ifPresent(uh -> doEmit(query, uh, update)));
+    }
+
     @SuppressWarnings("unchecked")
     private <U> void doEmit(SubscriptionQueryMessage<?, ?, ?> query, FluxSinkWrapper<?> updateHandler,
                             SubscriptionQueryUpdateMessage<U> update) {
@@ -162,11 +197,19 @@ private <U> void doEmit(SubscriptionQueryMessage<?, ?, ?> query, FluxSinkWrapper
                                 "The subscription will be cancelled. Exception summary: {}",
                         query.getQueryName(), e.toString(), logger.isDebugEnabled() ? e : "");
             monitorCallback.reportFailure(e);
-            updateHandlers.remove(query);
+            removeUpdateHandler(query);
             emitError(query, e, updateHandler);
         }
     }
 
+    private void removeUpdateHandler(SubscriptionQueryMessage<?, ?, ?> query) {
+        updateHandlers.remove(query);
+        QueryIndex queryIndex = queryIndices.get(query.getQueryName());
+        if (queryIndex != null) {
+            queryIndex.remove(query);
+        }
+    }
+
     private void doComplete(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
         updateHandlers.keySet()
                       .stream()
@@ -251,15 +294,65 @@ private boolean inStartedPhaseOfUnitOfWork() {
         return Collections.unmodifiableSet(updateHandlers.keySet());
     }
 
+    /**
+     * Index of the subscription queries with a specific query name, on the key extracted from each query.
+     */
+    private static class QueryIndex {
+
+        private final Function<? super SubscriptionQueryMessage<?, ?, ?>, ?> keyExtractor;
+        private final ConcurrentMap<Object, Set<SubscriptionQueryMessage<?, ?, ?>>> queriesByKey =
+                new ConcurrentHashMap<>();
+        private final ConcurrentMap<SubscriptionQueryMessage<?, ?, ?>, Object> keysByQuery =
+                new ConcurrentHashMap<>();
+
+        private QueryIndex(Function<? super SubscriptionQueryMessage<?, ?, ?>, ?> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+
+        private void add(SubscriptionQueryMessage<?, ?, ?> query) {
+            Object key;
+            try {
+                key = keyExtractor.apply(query);
+            } catch (Exception e) {
+                logger.warn("Unable to extract key from subscription query '{}'. "
+                                    + "It will only receive updates emitted using a filter.",
+                            query.getQueryName(), e);
+                return;
+            }
+            if (key == null) {
+                return;
+            }
+            keysByQuery.put(query, key);
+            queriesByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(query);
+        }
+
+        private void remove(SubscriptionQueryMessage<?, ?, ?> query) {
+            Object key = keysByQuery.remove(query);
+            if (key != null) {
+                queriesByKey.computeIfPresent(key, (k, queries) -> {
+                    queries.remove(query);
+                    return queries.isEmpty() ? null : queries;
+                });
+            }
+        }
+
+        private Set<SubscriptionQueryMessage<?, ?, ?>> matching(Object key) {
+            return key == null ? Collections.emptySet() : queriesByKey.getOrDefault(key, Collections.emptySet());
+        }
+    }
+
     /**
      * Builder class to instantiate a {@link SimpleQueryUpdateEmitter}.
      * <p>
-     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}.
+     * The {@link MessageMonitor} is defaulted to a {@link NoOpMessageMonitor}. By default, no key extractors are
+     * configured.
      */
     public static class Builder {
 
         private MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor =
                 NoOpMessageMonitor.INSTANCE;
+        private final Map<String, Function<? super SubscriptionQueryMessage<?, ?, ?>, ?>> queryKeyExtractors =
+                new HashMap<>();
 
         /**
          * Sets the {@link MessageMonitor} used to monitor {@link SubscriptionQueryUpdateMessage}s being processed.
@@ -276,6 +369,26 @@ public Builder updateMessageMonitor(
             return this;
         }
 
+        /**
+         * Registers a {@code keyExtractor} for subscription queries with given {@code queryName}. Active subscription
+         * queries with this name are indexed on the extracted key, allowing updates emitted through {@link
+         * QueryUpdateEmitter#emitKeyed(String, Object, SubscriptionQueryUpdateMessage)} to reach the matching queries
+         * without evaluating each of them. Subscription queries for which the extractor returns {@code null} only
+         * receive updates emitted using a filter. Updates can only be emitted by key to subscription queries with a
+         * registered key extractor.
+         *
+         * @param queryName    the name of the subscription queries to index
+         * @param keyExtractor the function extracting the key to index a subscription query on
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder queryKeyExtractor(String queryName,
+                                         Function<? super SubscriptionQueryMessage<?, ?, ?>, ?> keyExtractor) {
+            assertNonNull(queryName, "The query name may not be null");
+            assertNonNull(keyExtractor, "The key extractor may not be null");
+            this.queryKeyExtractors.put(queryName, keyExtractor);
+            return this;
+        }
+
         /**
          * Initializes a {@link SimpleQueryUpdateEmitter} as specified through this Builder.
          *
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.serialization.AnnotationRevisionResolver;
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.RevisionResolver;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+
+import static org.axonframework.common.BuilderUtils.assertNonNull;
+import static org.axonframework.common.BuilderUtils.assertThat;
+
+/**
+ * Serializer implementation that uses Jackson to serialize objects into a binary format, such as CBOR or Smile. By
+ * default, the CBOR format is used, which produces smaller output than JSON and is faster to write and parse.
+ * <p>
+ * As the binary formats share Jackson's data model with JSON, the serialized form may be converted to a {@link
+ * JsonNode}, allowing upcasters written for the {@link JacksonSerializer} to be used unchanged. The {@link
+ * ByteArrayToJsonNodeConverter} and {@link JsonNodeToByteArrayConverter} registered by this serializer read and write
+ * the binary format. Therefore, a {@link ChainingConverter} should not be shared between this serializer and a
+ * {@link JacksonSerializer}.
+ * <p>
+ * Since the serialized form is binary, this serializer does not support serializing to or deserializing from a {@link
+ * String}.
+ *
+ * @since 4.3
+ */
+public class BinaryJacksonSerializer extends JacksonSerializer {
+
+    /**
+     * Instantiate a Builder to be able to create a {@link BinaryJacksonSerializer}.
+     * <p>
+     * The {@link RevisionResolver} is defaulted to an {@link AnnotationRevisionResolver}, the {@link Converter} to a
+     * {@link ChainingConverter} and the {@link ObjectMapper} to an ObjectMapper using a {@link CBORFactory}.
+     * <p>
+     * Upon instantiation, the ObjectMapper will get two modules registered to it by default, (1) the
+     * {@link MetaDataDeserializer} and the (2) {@link JavaTimeModule}. Lastly, if the provided converter is of type
+     * ChainingConverter, the {@link JacksonSerializer#registerConverters} is performed to automatically add the
+     * {@link JsonNodeToByteArrayConverter} and {@link ByteArrayToJsonNodeConverter}.
+     *
+     * @return a Builder to be able to create a {@link BinaryJacksonSerializer}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Instantiate a default {@link BinaryJacksonSerializer}, which serializes objects to the CBOR format.
+     *
+     * @return a {@link BinaryJacksonSerializer}
+     * @see #builder()
+     */
+    public static BinaryJacksonSerializer defaultSerializer() {
+        return builder().build();
+    }
+
+    /**
+     * Instantiate a {@link BinaryJacksonSerializer} based on the fields contained in the {@link Builder}.
+     * <p>
+     * Will assert that the ObjectMapper uses a binary data format. An {@link AxonConfigurationException} is thrown if
+     * this is not the case.
+     *
+     * @param builder the {@link Builder} used to instantiate a {@link BinaryJacksonSerializer} instance
+     */
+    protected BinaryJacksonSerializer(Builder builder) {
+        super(builder);
+    }
+
+    @Override
+    public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+        if (String.class.equals(expectedRepresentation)) {
+            throw new SerializationException(
+                    "Unable to serialize object. A binary format cannot be represented as a String");
+        }
+        return super.serialize(object, expectedRepresentation);
+    }
+
+    @Override
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        if (String.class.equals(serializedObject.getContentType())) {
+            throw new SerializationException(
+                    "Error while deserializing object. A binary format cannot be read from a String");
+        }
+        return super.deserialize(serializedObject);
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return !String.class.equals(expectedRepresentation) && super.canSerializeTo(expectedRepresentation);
+    }
+
+    /**
+     * Builder class to instantiate a {@link BinaryJacksonSerializer}.
+     * <p>
+     * The {@link RevisionResolver} is defaulted to an {@link AnnotationRevisionResolver}, the {@link Converter} to a
+     * {@link ChainingConverter} and the {@link ObjectMapper} to an ObjectMapper using a {@link CBORFactory}. An
+     * ObjectMapper using another binary format, such as Smile, may be provided instead.
+     * <p>
+     * Upon instantiation, the ObjectMapper will get two modules registered to it by default, (1) the
+     * {@link MetaDataDeserializer} and the (2) {@link JavaTimeModule}. Lastly, if the provided converter is of type
+     * ChainingConverter, the {@link JacksonSerializer#registerConverters} is performed to automatically add the
+     * {@link JsonNodeToByteArrayConverter} and {@link ByteArrayToJsonNodeConverter}.
+     */
+    public static class Builder extends JacksonSerializer.Builder {
+
+        private ObjectMapper objectMapper;
+
+        @Override
+        public Builder revisionResolver(RevisionResolver revisionResolver) {
+            super.revisionResolver(revisionResolver);
+            return this;
+        }
+
+        @Override
+        public Builder converter(Converter converter) {
+            super.converter(converter);
+            return this;
+        }
+
+        /**
+         * Sets the {@link ObjectMapper} used to serialize and parse the objects to a binary format. The ObjectMapper
+         * must use a binary data format, such as CBOR or Smile. Defaults to an ObjectMapper using a {@link
+         * CBORFactory}.
+         *
+         * @param objectMapper an {@link ObjectMapper} used to serialize and parse the objects to a binary format
+         * @return the current Builder instance, for fluent interfacing
+         */
+        @Override
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            super.objectMapper(objectMapper);
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        /**
+         * Initializes a {@link BinaryJacksonSerializer} as specified through this Builder.
+         *
+         * @return a {@link BinaryJacksonSerializer} as specified through this Builder
+         */
+        @Override
+        public BinaryJacksonSerializer build() {
+            if (objectMapper == null) {
+                objectMapper(new ObjectMapper(new CBORFactory()));
+            }
+            return new BinaryJacksonSerializer(this);
+        }
+
+        @Override
+        protected void validate() throws AxonConfigurationException {
+            super.validate();
+            assertNonNull(objectMapper, "The ObjectMapper is a hard requirement and should be provided");
+            assertThat(objectMapper.getFactory(), factory -> factory.canHandleBinaryNatively(),
+                       "The ObjectMapper should use a binary data format, such as CBOR or Smile");
+        }
+    }
+}
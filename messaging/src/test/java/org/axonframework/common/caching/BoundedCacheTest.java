@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.caching;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link BoundedCache}.
+ */
+public class BoundedCacheTest {
+
+    private Cache.EntryListener mockListener;
+
+    @Before
+    public void setUp() {
+        mockListener = mock(Cache.EntryListener.class);
+    }
+
+    @Test
+    public void testPutGetAndRemoveNotifyListeners() {
+        BoundedCache testSubject = BoundedCache.builder().maximumSize(10).build();
+        testSubject.registerCacheEntryListener(mockListener);
+        Object value = new Object();
+        Object newValue = new Object();
+
+        testSubject.put("key", value);
+        assertSame(value, testSubject.get("key"));
+        assertFalse(testSubject.putIfAbsent("key", newValue));
+        testSubject.put("key", newValue);
+        assertTrue(testSubject.containsKey("key"));
+        assertTrue(testSubject.remove("key"));
+        assertFalse(testSubject.remove("key"));
+        assertFalse(testSubject.containsKey("key"));
+
+        verify(mockListener).onEntryCreated("key", value);
+        verify(mockListener).onEntryRead("key", value);
+        verify(mockListener).onEntryUpdated("key", newValue);
+        verify(mockListener).onEntryRemoved("key");
+        verifyNoMoreInteractions(mockListener);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        BoundedCache testSubject = BoundedCache.builder()
+                                               .maximumSize(3)
+                                               .frequencyAwareEviction(false)
+                                               .build();
+        testSubject.registerCacheEntryListener(mockListener);
+        testSubject.put("key1", "value1");
+        testSubject.put("key2", "value2");
+        testSubject.put("key3", "value3");
+        testSubject.get("key1");
+
+        testSubject.put("key4", "value4");
+
+        assertTrue(testSubject.containsKey("key1"));
+        assertFalse(testSubject.containsKey("key2"));
+        assertTrue(testSubject.containsKey("key3"));
+        assertTrue(testSubject.containsKey("key4"));
+        assertEquals(3, testSubject.size());
+        assertEquals(1, testSubject.getEvictionCount());
+        verify(mockListener).onEntryExpired("key2");
+    }
+
+    @Test
+    public void testFrequentlyUsedEntriesAreNotEvictedByScan() {
+        BoundedCache testSubject = BoundedCache.builder().maximumSize(10).build();
+        for (int i = 0; i < 10; i++) {
+            testSubject.put("hot" + i, i);
+            testSubject.get("hot" + i);
+            testSubject.get("hot" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            testSubject.put("scan" + i, i);
+            testSubject.get("hot" + (i % 10));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, (int) testSubject.get("hot" + i));
+        }
+        assertEquals(10, testSubject.size());
+    }
+
+    @Test
+    public void testNewEntryIsAdmittedWhenAccessedMoreFrequentlyThanVictim() {
+        BoundedCache testSubject = BoundedCache.builder().maximumSize(2).build();
+        testSubject.put("key1", "value1");
+        testSubject.put("key2", "value2");
+        testSubject.get("key3");
+        testSubject.get("key3");
+
+        testSubject.put("key3", "value3");
+
+        assertTrue(testSubject.containsKey("key3"));
+        assertEquals(2, testSubject.size());
+    }
+
+    @Test
+    public void testEntriesAreEvictedBasedOnWeight() {
+        BoundedCache testSubject = BoundedCache.builder()
+                                               .maximumWeight(10)
+                                               .weigher((key, value) -> ((String) value).length())
+                                               .frequencyAwareEviction(false)
+                                               .build();
+        testSubject.put("key1", "1234");
+        testSubject.put("key2", "1234");
+        testSubject.put("key3", "1234");
+
+        assertFalse(testSubject.containsKey("key1"));
+        assertEquals(8, testSubject.weight());
+
+        testSubject.put("key4", "12345678901");
+        assertFalse(testSubject.containsKey("key4"));
+        assertEquals(8, testSubject.weight());
+
+        testSubject.put("key3", "1");
+        assertEquals(5, testSubject.weight());
+    }
+
+    @Test
+    public void testPutIfAbsentReturnsFalseWhenEntryIsNotAdmitted() {
+        BoundedCache testSubject = BoundedCache.builder().maximumSize(2).build();
+        testSubject.put("key1", "value1");
+        testSubject.put("key2", "value2");
+        for (int i = 0; i < 5; i++) {
+            testSubject.get("key1");
+            testSubject.get("key2");
+        }
+
+        assertFalse(testSubject.putIfAbsent("key3", "value3"));
+        assertFalse(testSubject.containsKey("key3"));
+        assertFalse(testSubject.putIfAbsent("key1", "other"));
+        assertEquals("value1", testSubject.get("key1"));
+    }
+
+    @Test
+    public void testPutIfAbsentReturnsFalseWhenEntryExceedsMaximumWeight() {
+        BoundedCache testSubject = BoundedCache.builder()
+                                               .maximumWeight(10)
+                                               .weigher((key, value) -> ((String) value).length())
+                                               .build();
+
+        assertFalse(testSubject.putIfAbsent("key", "12345678901"));
+        assertTrue(testSubject.putIfAbsent("key", "1234"));
+        assertEquals(4, testSubject.weight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeightsAreRejected() {
+        BoundedCache.builder().maximumWeight(10).weigher((key, value) -> -1).build().put("key", "value");
+    }
+
+    @Test
+    public void testHitAndMissCountsAreRecorded() {
+        BoundedCache testSubject = BoundedCache.builder().maximumSize(10).build();
+        testSubject.put("key", "value");
+
+        testSubject.get("key");
+        testSubject.get("key");
+        testSubject.get("otherKey");
+
+        assertEquals(2, testSubject.getHitCount());
+        assertEquals(1, testSubject.getMissCount());
+        assertEquals(0, testSubject.getEvictionCount());
+    }
+
+    @Test
+    public void testMaximumSizeIsKeptWithManySegments() {
+        BoundedCache testSubject = BoundedCache.builder()
+                                               .maximumSize(1000)
+                                               .concurrencyLevel(64)
+                                               .frequencyAwareEviction(false)
+                                               .build();
+        for (int i = 0; i < 5000; i++) {
+            testSubject.put(i, i);
+        }
+
+        assertTrue(testSubject.size() <= 1000);
+        assertEquals(5000 - testSubject.size(), testSubject.getEvictionCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullValuesAreRejected() {
+        BoundedCache.builder().maximumSize(10).build().put("key", null);
+    }
+
+    @Test(expected = AxonConfigurationException.class)
+    public void testBuildWithoutMaximumThrowsAxonConfigurationException() {
+        BoundedCache.builder().build();
+    }
+
+    @Test(expected = AxonConfigurationException.class)
+    public void testBuildWithWeigherAndMaximumSizeThrowsAxonConfigurationException() {
+        BoundedCache.builder().maximumSize(10).weigher((key, value) -> 1).build();
+    }
+}
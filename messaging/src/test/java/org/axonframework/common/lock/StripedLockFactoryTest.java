@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.lock;
+
+import org.junit.*;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class validating the {@link StripedLockFactory}.
+ */
+public class StripedLockFactoryTest {
+
+    private static final String IDENTIFIER = "mockId";
+
+    @Test
+    public void testStripeCountIsRoundedUpToPowerOfTwo() {
+        assertEquals(1024, StripedLockFactory.usingDefaults().getStripeCount());
+        assertEquals(8, StripedLockFactory.builder().stripes(5).build().getStripeCount());
+        assertEquals(1, StripedLockFactory.builder().stripes(1).build().getStripeCount());
+    }
+
+    @Test
+    public void testLockIsReentrant() {
+        StripedLockFactory testSubject = StripedLockFactory.usingDefaults();
+
+        Lock first = testSubject.obtainLock(IDENTIFIER);
+        Lock second = testSubject.obtainLock(IDENTIFIER);
+        assertTrue(first.isHeld());
+
+        second.release();
+        assertTrue(first.isHeld());
+        first.release();
+        assertFalse(first.isHeld());
+    }
+
+    @Test
+    public void testTryObtainLockFailsWhenStripeIsHeldByAnotherThread() throws Exception {
+        StripedLockFactory testSubject = StripedLockFactory.builder().stripes(1).build();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            Lock lock = testSubject.obtainLock("other");
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.release();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(1, TimeUnit.SECONDS));
+
+        assertFalse(testSubject.tryObtainLock(IDENTIFIER).isPresent());
+
+        release.countDown();
+        holder.join(1000);
+        Optional<Lock> lock = testSubject.tryObtainLock(IDENTIFIER);
+        assertTrue(lock.isPresent());
+        assertTrue(lock.get().isHeld());
+        lock.get().release();
+    }
+
+    @Test(timeout = 5000)
+    public void testQueueLengthIsReportedPerStripe() throws Exception {
+        StripedLockFactory testSubject = StripedLockFactory.builder().stripes(4).build();
+        int stripe = testSubject.stripeIndex(IDENTIFIER);
+        Lock lock = testSubject.obtainLock(IDENTIFIER);
+        AtomicReference<Lock> waiterLock = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            Lock obtained = testSubject.obtainLock(IDENTIFIER);
+            waiterLock.set(obtained);
+            obtained.release();
+        });
+        waiter.start();
+
+        while (testSubject.getQueueLength(stripe) == 0) {
+            Thread.sleep(10);
+        }
+        int[] queueLengths = testSubject.getQueueLengths();
+        assertEquals(4, queueLengths.length);
+        assertEquals(1, queueLengths[stripe]);
+        assertEquals(1, queueLengths[0] + queueLengths[1] + queueLengths[2] + queueLengths[3]);
+
+        lock.release();
+        waiter.join();
+        assertNotNull(waiterLock.get());
+        assertEquals(0, testSubject.getQueueLength(stripe));
+    }
+
+    @Test(timeout = 5000)
+    public void testLockFailsWhenQueueLengthThresholdIsReached() throws Exception {
+        StripedLockFactory testSubject = StripedLockFactory.builder().stripes(1).queueLengthThreshold(1).build();
+        Lock lock = testSubject.obtainLock(IDENTIFIER);
+        Thread waiter = new Thread(() -> testSubject.obtainLock("other").release());
+        waiter.start();
+        while (testSubject.getQueueLength(0) == 0) {
+            Thread.sleep(10);
+        }
+
+        try {
+            testSubject.obtainLock("another");
+            fail("Expected lock acquisition to fail");
+        } catch (LockAcquisitionFailedException e) {
+            assertTrue(e.getMessage().contains("too many queued threads"));
+        }
+
+        lock.release();
+        waiter.join();
+    }
+
+    @Test(timeout = 5000)
+    public void testLockFailsWhenAcquireAttemptsAreExceeded() throws Exception {
+        StripedLockFactory testSubject = StripedLockFactory.builder()
+                                                           .stripes(1)
+                                                           .acquireAttempts(3)
+                                                           .lockAttemptTimeout(10)
+                                                           .build();
+        Lock lock = testSubject.obtainLock(IDENTIFIER);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread other = new Thread(() -> {
+            try {
+                testSubject.obtainLock("other").release();
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        other.start();
+        other.join();
+        lock.release();
+
+        assertTrue(failure.get() instanceof LockAcquisitionFailedException);
+    }
+
+    @Test(timeout = 10000)
+    public void testDeadlockBetweenStripesIsDetected() throws Exception {
+        StripedLockFactory testSubject = StripedLockFactory.builder().stripes(2).lockAttemptTimeout(50).build();
+        String first = "a";
+        String second = identifierOnOtherStripe(testSubject, first);
+        CountDownLatch bothLocked = new CountDownLatch(2);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread t1 = lockInOrder(testSubject, first, second, bothLocked, failure);
+        Thread t2 = lockInOrder(testSubject, second, first, bothLocked, failure);
+        t1.start();
+        t2.start();
+        t1.join();
+        t2.join();
+
+        assertTrue(failure.get() instanceof DeadlockException);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testObtainLockWithNullIdentifierIsRejected() {
+        StripedLockFactory.usingDefaults().obtainLock(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildWithNonPositiveStripesIsRejected() {
+        StripedLockFactory.builder().stripes(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildWithNonPositiveAcquireAttemptsIsRejected() {
+        StripedLockFactory.builder().acquireAttempts(-1);
+    }
+
+    private static String identifierOnOtherStripe(StripedLockFactory testSubject, String identifier) {
+        int stripe = testSubject.stripeIndex(identifier);
+        for (int i = 0; ; i++) {
+            String candidate = "id" + i;
+            if (testSubject.stripeIndex(candidate) != stripe) {
+                return candidate;
+            }
+        }
+    }
+
+    private static Thread lockInOrder(StripedLockFactory testSubject, String first, String second,
+                                      CountDownLatch bothLocked, AtomicReference<Exception> failure) {
+        return new Thread(() -> {
+            Lock firstLock = testSubject.obtainLock(first);
+            try {
+                bothLocked.countDown();
+                bothLocked.await();
+                testSubject.obtainLock(second).release();
+            } catch (Exception e) {
+                failure.set(e);
+            } finally {
+                firstLock.release();
+            }
+        });
+    }
+}
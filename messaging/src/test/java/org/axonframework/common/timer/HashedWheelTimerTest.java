@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.common.timer;
+
+import org.axonframework.common.AxonConfigurationException;
+import org.junit.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class validating the {@link HashedWheelTimer}.
+ */
+public class HashedWheelTimerTest {
+
+    private HashedWheelTimer testSubject;
+
+    @After
+    public void tearDown() {
+        if (testSubject != null) {
+            testSubject.shutDown();
+        }
+    }
+
+    @Test
+    public void testTasksAreExecutedNoEarlierThanTheirDelayAcrossAllLevels() throws InterruptedException {
+        testSubject = HashedWheelTimer.builder()
+                                      .tickDuration(Duration.ofMillis(1))
+                                      .wheelSize(4)
+                                      .levels(2)
+                                      .build();
+        // delays up to the first level, up to the second level and beyond the range of the highest wheel
+        long[] delays = {0, 3, 7, 15, 40, 100};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        ConcurrentHashMap<Long, Long> executionTimes = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            testSubject.newTimeout(() -> {
+                executionTimes.put(delay, System.nanoTime() - start);
+                latch.countDown();
+            }, Duration.ofMillis(delay));
+        }
+
+        assertTrue("Not all tasks were executed", latch.await(5, TimeUnit.SECONDS));
+        for (long delay : delays) {
+            assertTrue("Task with delay " + delay + " executed too early",
+                       executionTimes.get(delay) >= TimeUnit.MILLISECONDS.toNanos(delay));
+        }
+        assertEquals(0, testSubject.getPendingTimeoutCount());
+    }
+
+    @Test
+    public void testCancelledTasksAreNotExecuted() throws InterruptedException {
+        testSubject = HashedWheelTimer.builder().tickDuration(Duration.ofMillis(1)).build();
+        AtomicInteger executed = new AtomicInteger();
+        List<Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            timeouts.add(testSubject.newTimeout(executed::incrementAndGet, Duration.ofMillis(50)));
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        testSubject.newTimeout(latch::countDown, Duration.ofMillis(100));
+
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            assertTrue(timeouts.get(i).cancel());
+            assertFalse(timeouts.get(i).cancel());
+        }
+        assertEquals(501, testSubject.getPendingTimeoutCount());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(500, executed.get());
+        assertTrue(timeouts.get(0).isCancelled());
+        assertTrue(timeouts.get(1).isExpired());
+        assertFalse(timeouts.get(1).cancel());
+        assertEquals(0, testSubject.getPendingTimeoutCount());
+    }
+
+    @Test
+    public void testTasksExpiringInTheSameTickAreDispatchedAsSingleBatch() throws InterruptedException {
+        AtomicInteger batches = new AtomicInteger();
+        Executor executor = task -> {
+            batches.incrementAndGet();
+            task.run();
+        };
+        testSubject = HashedWheelTimer.builder().tickDuration(Duration.ofSeconds(1)).executor(executor).build();
+        CountDownLatch latch = new CountDownLatch(10);
+        for (int i = 0; i < 10; i++) {
+            testSubject.newTimeout(latch::countDown, Duration.ZERO);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, batches.get());
+    }
+
+    @Test
+    public void testExceptionInTaskDoesNotPreventOtherTasksFromExecuting() throws InterruptedException {
+        testSubject = HashedWheelTimer.builder().tickDuration(Duration.ofMillis(1)).build();
+        CountDownLatch latch = new CountDownLatch(1);
+        testSubject.newTimeout(() -> {
+            throw new IllegalStateException("Mock");
+        }, Duration.ZERO);
+        testSubject.newTimeout(latch::countDown, Duration.ZERO);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSchedulingOnShutDownTimerIsRejected() {
+        testSubject = HashedWheelTimer.builder().build();
+        testSubject.shutDown();
+
+        testSubject.newTimeout(() -> {
+        }, Duration.ZERO);
+    }
+
+    @Test(expected = AxonConfigurationException.class)
+    public void testBuildWithWheelsCoveringTooManyTicksThrowsAxonConfigurationException() {
+        HashedWheelTimer.builder().wheelSize(1 << 16).levels(4).build();
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.axonframework.deadline.jdbc;
+
+import org.axonframework.common.AxonNonTransientException;
+import org.axonframework.deadline.DeadlineMessage;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.ScopeAware;
+import org.axonframework.messaging.ScopeDescriptor;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.junit.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link JdbcDeadlineManager}.
+ */
+public class JdbcDeadlineManagerTest {
+
+    private static final TestScope SCOPE_ONE = new TestScope("one");
+    private static final TestScope SCOPE_TWO = new TestScope("two");
+
+    private JDBCDataSource dataSource;
+    private RecordingScopeAware scopeAware;
+    private JdbcDeadlineManager testSubject;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:deadlines");
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("DROP TABLE IF EXISTS DeadlineEntry").executeUpdate();
+        }
+        scopeAware = new RecordingScopeAware();
+        testSubject = JdbcDeadlineManager.builder()
+                                         .connectionProvider(dataSource::getConnection)
+                                         .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                         .pollInterval(Duration.ofMillis(10))
+                                         .batchSize(2)
+                                         .retryDelay(Duration.ofMillis(10))
+                                         .nodeId("local")
+                                         .build();
+        testSubject.createSchema(new GenericDeadlineTableFactory());
+    }
+
+    @After
+    public void tearDown() {
+        testSubject.shutdown();
+    }
+
+    @Test
+    public void testDueDeadlinesAreTriggeredInTheirScopeAndRemoved() throws Exception {
+        scopeAware.expect(5);
+        for (int i = 0; i < 5; i++) {
+            testSubject.schedule(Instant.now(), "deadline", "payload" + i, i % 2 == 0 ? SCOPE_ONE : SCOPE_TWO);
+        }
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        List<Object> payloads = scopeAware.triggered.stream()
+                                                    .map(Message::getPayload)
+                                                    .sorted()
+                                                    .collect(Collectors.toList());
+        assertEquals(5, payloads.size());
+        assertEquals("payload0", payloads.get(0));
+        assertEquals(3, scopeAware.scopes.stream().filter(SCOPE_ONE::equals).count());
+        assertEquals("deadline", ((DeadlineMessage<?>) scopeAware.triggered.get(0)).getDeadlineName());
+        waitForDeadlineCount(0);
+    }
+
+    @Test
+    public void testDeadlinesAreNotTriggeredBeforeTheirTriggerTime() throws Exception {
+        scopeAware.expect(1);
+        testSubject.schedule(Instant.now().plusSeconds(60), "later", "later", SCOPE_ONE);
+        testSubject.schedule(Duration.ofMillis(50), "soon", "soon", SCOPE_ONE);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        assertEquals("soon", scopeAware.triggered.get(0).getPayload());
+        waitForDeadlineCount(1);
+    }
+
+    @Test
+    public void testCancelledDeadlinesAreNotTriggered() throws Exception {
+        scopeAware.expect(1);
+        String cancelledId = testSubject.schedule(Instant.now(), "single", "single", SCOPE_ONE);
+        testSubject.schedule(Instant.now(), "all", "all", SCOPE_ONE);
+        testSubject.schedule(Instant.now(), "all", "all", SCOPE_TWO);
+        testSubject.schedule(Instant.now(), "scoped", "scopeOne", SCOPE_ONE);
+        testSubject.schedule(Instant.now(), "scoped", "scopeTwo", SCOPE_TWO);
+
+        testSubject.cancelSchedule("single", cancelledId);
+        testSubject.cancelAll("all");
+        testSubject.cancelAllWithinScope("scoped", SCOPE_ONE);
+        assertEquals(1, countDeadlines());
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        assertEquals(1, scopeAware.triggered.size());
+        assertEquals("scopeTwo", scopeAware.triggered.get(0).getPayload());
+    }
+
+    @Test
+    public void testDeadlineClaimedByOtherNodeIsOnlyTriggeredOnceItsLeaseExpired() throws Exception {
+        scopeAware.expect(1);
+        String claimedId = testSubject.schedule(Instant.now(), "claimed", "claimed", SCOPE_ONE);
+        testSubject.schedule(Instant.now(), "expired", "expired", SCOPE_ONE);
+        claim(claimedId, System.currentTimeMillis() + 60000);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        assertEquals("expired", scopeAware.triggered.get(0).getPayload());
+        waitForDeadlineCount(1);
+
+        scopeAware.expect(1);
+        claim(claimedId, System.currentTimeMillis() - 1);
+
+        assertTrue(scopeAware.await());
+        assertEquals("claimed", scopeAware.triggered.get(1).getPayload());
+        waitForDeadlineCount(0);
+    }
+
+    @Test
+    public void testFailedDeadlineIsRetriedUnlessTheFailureIsNonTransient() throws Exception {
+        scopeAware.expect(3);
+        AtomicInteger transientAttempts = new AtomicInteger();
+        AtomicInteger nonTransientAttempts = new AtomicInteger();
+        scopeAware.failure = payload -> {
+            if ("transient".equals(payload) && transientAttempts.getAndIncrement() == 0) {
+                throw new IllegalStateException("Mock");
+            } else if ("nonTransient".equals(payload)) {
+                nonTransientAttempts.incrementAndGet();
+                throw new AxonNonTransientException("Mock") {
+                };
+            }
+        };
+        testSubject.schedule(Instant.now(), "deadline", "transient", SCOPE_ONE);
+        testSubject.schedule(Instant.now(), "deadline", "nonTransient", SCOPE_ONE);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        waitForDeadlineCount(0);
+        assertEquals(2, transientAttempts.get());
+        assertEquals(1, nonTransientAttempts.get());
+        assertEquals(1, scopeAware.triggered.size());
+        assertEquals("transient", scopeAware.triggered.get(0).getPayload());
+    }
+
+    @Test
+    public void testFailingDeadlinesAreRetriedAfterTheRetryDelayWithoutBlockingOthers() throws Exception {
+        testSubject.shutdown();
+        testSubject = JdbcDeadlineManager.builder()
+                                         .connectionProvider(dataSource::getConnection)
+                                         .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                         .pollInterval(Duration.ofMillis(10))
+                                         .batchSize(2)
+                                         .retryDelay(Duration.ofSeconds(10))
+                                         .nodeId("local")
+                                         .build();
+        scopeAware.expect(4);
+        AtomicInteger failedAttempts = new AtomicInteger();
+        scopeAware.failure = payload -> {
+            if ("failing".equals(payload)) {
+                failedAttempts.incrementAndGet();
+                throw new IllegalStateException("Mock");
+            }
+        };
+        for (int i = 0; i < 3; i++) {
+            testSubject.schedule(Instant.now().minusSeconds(1), "deadline", "failing", SCOPE_ONE);
+        }
+        testSubject.schedule(Instant.now(), "deadline", "succeeding", SCOPE_ONE);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        waitForDeadlineCount(3);
+        Thread.sleep(200);
+        assertEquals(3, failedAttempts.get());
+        assertEquals(1, scopeAware.triggered.size());
+        assertEquals("succeeding", scopeAware.triggered.get(0).getPayload());
+    }
+
+    @Test
+    public void testDeadlinesClaimedConcurrentlyAreSkippedWhenTheDriverDoesNotReportUpdateCounts() throws Exception {
+        AtomicReference<String> concurrentlyClaimedId = new AtomicReference<>();
+        testSubject.shutdown();
+        testSubject = JdbcDeadlineManager.builder()
+                                         .connectionProvider(() -> {
+                                             Connection connection = spy(dataSource.getConnection());
+                                             doAnswer(invocation -> {
+                                                 PreparedStatement statement =
+                                                         spy((PreparedStatement) invocation.callRealMethod());
+                                                 doAnswer(batch -> {
+                                                     String claimedId = concurrentlyClaimedId.getAndSet(null);
+                                                     if (claimedId != null) {
+                                                         claim(claimedId, System.currentTimeMillis() + 60000);
+                                                     }
+                                                     int[] updateCounts = (int[]) batch.callRealMethod();
+                                                     Arrays.fill(updateCounts, Statement.SUCCESS_NO_INFO);
+                                                     return updateCounts;
+                                                 }).when(statement).executeBatch();
+                                                 return statement;
+                                             }).when(connection).prepareStatement(anyString());
+                                             return connection;
+                                         })
+                                         .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                         .pollInterval(Duration.ofMillis(10))
+                                         .batchSize(2)
+                                         .nodeId("local")
+                                         .build();
+        scopeAware.expect(1);
+        concurrentlyClaimedId.set(testSubject.schedule(Instant.now(), "claimed", "claimed", SCOPE_ONE));
+        testSubject.schedule(Instant.now(), "free", "free", SCOPE_ONE);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        waitForDeadlineCount(1);
+        Thread.sleep(100);
+        assertEquals(1, scopeAware.triggered.size());
+        assertEquals("free", scopeAware.triggered.get(0).getPayload());
+    }
+
+    @Test
+    public void testSlowDeadlineDoesNotHoldUpOthersAndKeepsItsLease() throws Exception {
+        testSubject.shutdown();
+        testSubject = JdbcDeadlineManager.builder()
+                                         .connectionProvider(dataSource::getConnection)
+                                         .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                         .pollInterval(Duration.ofMillis(10))
+                                         .leaseDuration(Duration.ofMillis(200))
+                                         .batchSize(2)
+                                         .executor(task -> new Thread(task).start())
+                                         .nodeId("local")
+                                         .build();
+        CountDownLatch slowDeadlineLatch = new CountDownLatch(1);
+        AtomicInteger slowAttempts = new AtomicInteger();
+        scopeAware.failure = payload -> {
+            if ("slow".equals(payload)) {
+                slowAttempts.incrementAndGet();
+                try {
+                    slowDeadlineLatch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        scopeAware.expect(3);
+        String slowId = testSubject.schedule(Instant.now().minusSeconds(1), "deadline", "slow", SCOPE_ONE);
+        for (int i = 0; i < 3; i++) {
+            testSubject.schedule(Instant.now(), "deadline", "fast" + i, SCOPE_ONE);
+        }
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        waitForDeadlineCount(1);
+        Thread.sleep(500);
+        assertTrue(leaseExpiry(slowId) > System.currentTimeMillis());
+        assertEquals(1, slowAttempts.get());
+
+        scopeAware.expect(1);
+        slowDeadlineLatch.countDown();
+        assertTrue(scopeAware.await());
+        waitForDeadlineCount(0);
+        assertEquals(1, slowAttempts.get());
+    }
+
+    @Test
+    public void testDeadlineManagerCanBeRestartedAfterShutdown() throws Exception {
+        scopeAware.expect(1);
+        testSubject.schedule(Instant.now(), "deadline", "first", SCOPE_ONE);
+        testSubject.start();
+        assertTrue(scopeAware.await());
+        testSubject.shutdown();
+
+        scopeAware.expect(1);
+        testSubject.schedule(Instant.now(), "deadline", "second", SCOPE_ONE);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        assertEquals("second", scopeAware.triggered.get(1).getPayload());
+    }
+
+    @Test
+    public void testDeadlineManagerCanBeStartedAgainAfterThePollerWasInterrupted() throws Exception {
+        List<Thread> pollers = new CopyOnWriteArrayList<>();
+        testSubject.shutdown();
+        testSubject = JdbcDeadlineManager.builder()
+                                         .connectionProvider(dataSource::getConnection)
+                                         .scopeAwareProvider(scope -> Stream.of(scopeAware))
+                                         .pollInterval(Duration.ofSeconds(1))
+                                         .threadFactory(runnable -> {
+                                             Thread poller = new Thread(runnable);
+                                             pollers.add(poller);
+                                             return poller;
+                                         })
+                                         .nodeId("local")
+                                         .build();
+        testSubject.start();
+        // let the poller finish its first poll, so that it is interrupted while waiting for the next
+        Thread.sleep(200);
+        pollers.get(0).interrupt();
+        pollers.get(0).join(5000);
+        assertFalse(pollers.get(0).isAlive());
+
+        scopeAware.expect(1);
+        testSubject.schedule(Instant.now(), "deadline", "payload", SCOPE_ONE);
+        testSubject.start();
+
+        assertTrue(scopeAware.await());
+        assertEquals(2, pollers.size());
+    }
+
+    private long leaseExpiry(String deadlineId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT leaseExpiry FROM DeadlineEntry WHERE deadlineId = ?")) {
+            statement.setString(1, deadlineId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private void claim(String deadlineId, long leaseExpiry) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "UPDATE DeadlineEntry SET owner = 'other', leaseExpiry = ? WHERE deadlineId = ?")) {
+            statement.setLong(1, leaseExpiry);
+            statement.setString(2, deadlineId);
+            assertEquals(1, statement.executeUpdate());
+        }
+    }
+
+    private int countDeadlines() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet resultSet = connection.prepareStatement("SELECT COUNT(*) FROM DeadlineEntry").executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private void waitForDeadlineCount(int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (countDeadlines() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, countDeadlines());
+    }
+
+    private interface Failure {
+
+        void apply(Object payload);
+    }
+
+    private static class RecordingScopeAware implements ScopeAware {
+
+        private final List<Message<?>> triggered = new CopyOnWriteArrayList<>();
+        private final List<ScopeDescriptor> scopes = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+        private volatile Failure failure = payload -> {
+        };
+
+        private void expect(int count) {
+            latch = new CountDownLatch(count);
+        }
+
+        private boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void send(Message<?> message, ScopeDescriptor scopeDescription) {
+            try {
+                failure.apply(message.getPayload());
+                triggered.add(message);
+                scopes.add(scopeDescription);
+            } finally {
+                latch.countDown();
+            }
+        }
+
+        @Override
+        public boolean canResolve(ScopeDescriptor scopeDescription) {
+            return scopeDescription instanceof TestScope;
+        }
+    }
+
+    private static class TestScope implements ScopeDescriptor {
+
+        private final String id;
+
+        private TestScope(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String scopeDescription() {
+            return "TestScope " + id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestScope && Objects.equals(id, ((TestScope) o).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.axonframework.eventhandling;
 
 import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.MetaDataValue;
 import org.axonframework.messaging.annotation.MultiParameterResolverFactory;
 import org.axonframework.messaging.annotation.SimpleResourceParameterResolverFactory;
 import org.junit.Test;
@@ -24,8 +25,10 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
-import static org.junit.Assert.assertEquals;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.*;
 
 public class AnnotationEventMessageHandlerAdapterTest {
 
@@ -39,6 +42,35 @@ public void testInvokeResetHandler() {
         assertEquals(singletonList("reset"), annotatedEventListener.invocations);
     }
 
+    @Test
+    public void testEventsAreRoutedByPayloadTypeIncludingSupertypesAndInterfaces() throws Exception {
+        RoutingHandler annotatedEventListener = new RoutingHandler();
+        AnnotationEventHandlerAdapter testSubject = new AnnotationEventHandlerAdapter(annotatedEventListener);
+
+        testSubject.handle(GenericEventMessage.asEventMessage(1));
+        testSubject.handle(GenericEventMessage.asEventMessage(1L));
+        testSubject.handle(GenericEventMessage.asEventMessage((Runnable) () -> {
+        }));
+
+        assertEquals(asList("integer", "number", "runnable"), annotatedEventListener.invocations);
+        assertTrue(testSubject.canHandleType(Double.class));
+        assertFalse(testSubject.canHandleType(Boolean.class));
+        assertFalse(testSubject.canHandle(GenericEventMessage.asEventMessage(true)));
+        assertNull(testSubject.handle(GenericEventMessage.asEventMessage(true)));
+    }
+
+    @Test
+    public void testParameterResolversAreEvaluatedForHandlersMatchingThePayloadType() throws Exception {
+        RoutingHandler annotatedEventListener = new RoutingHandler();
+        AnnotationEventHandlerAdapter testSubject = new AnnotationEventHandlerAdapter(annotatedEventListener);
+
+        testSubject.handle(GenericEventMessage.asEventMessage("event")
+                                              .andMetaData(singletonMap("key", "value")));
+        testSubject.handle(GenericEventMessage.asEventMessage("event"));
+
+        assertEquals(asList("string with value", "string"), annotatedEventListener.invocations);
+    }
+
     public static class SomeHandler {
 
         private List<String> invocations = new ArrayList<>();
@@ -54,6 +86,36 @@ public void doReset(SomeResource someResource) {
         }
     }
 
+    public static class RoutingHandler {
+
+        private List<String> invocations = new ArrayList<>();
+
+        @EventHandler
+        public void handle(Integer event) {
+            invocations.add("integer");
+        }
+
+        @EventHandler
+        public void handle(Number event) {
+            invocations.add("number");
+        }
+
+        @EventHandler
+        public void handle(Runnable event) {
+            invocations.add("runnable");
+        }
+
+        @EventHandler
+        public void handle(String event, @MetaDataValue(value = "key", required = true) String value) {
+            invocations.add("string with " + value);
+        }
+
+        @EventHandler
+        public void handle(String event) {
+            invocations.add("string");
+        }
+    }
+
     public static class SomeResource {
     }
 }
@@ -16,8 +16,14 @@
 
 package org.axonframework.eventhandling;
 
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.axonframework.serialization.xml.XStreamSerializer;
 import org.junit.Test;
 
+import java.util.Base64;
 import java.util.Collections;
 import java.util.TreeSet;
 import java.util.concurrent.ExecutorService;
@@ -37,6 +43,31 @@
 
 public class GapAwareTrackingTokenTest {
 
+    // serialized forms of GapAwareTrackingToken{index=10, gaps=[3, 7, 8]}, as written by previous versions
+    private static final String LEGACY_XSTREAM_TOKEN =
+            "<org.axonframework.eventhandling.GapAwareTrackingToken><index>10</index><gaps class=\"java."
+            + "util.concurrent.ConcurrentSkipListSet\"><m class=\"java.util.concurrent.ConcurrentSkipListMa"
+            + "p\" serialization=\"custom\"><unserializable-parents/><java.util.concurrent.ConcurrentSkipLis"
+            + "tMap><default/><long>3</long><boolean>true</boolean><long>7</long><boolean>true</boolean><"
+            + "long>8</long><boolean>true</boolean><null/></java.util.concurrent.ConcurrentSkipListMap></"
+            + "m></gaps></org.axonframework.eventhandling.GapAwareTrackingToken>";
+    private static final String LEGACY_JACKSON_TOKEN = "{\"index\":10,\"gaps\":[3,7,8]}";
+    private static final String LEGACY_JAVA_TOKEN =
+            "rO0ABXNyADVvcmcuYXhvbmZyYW1ld29yay5ldmVudGhhbmRsaW5nLkdhcEF3YXJlVHJhY2tpbmdUb2tlbtO5dt+nNt"
+            + "z/AgACSgAFaW5kZXhMAARnYXBzdAAVTGphdmEvdXRpbC9Tb3J0ZWRTZXQ7eHAAAAAAAAAACnNyACpqYXZhLnV0aWwu"
+            + "Y29uY3VycmVudC5Db25jdXJyZW50U2tpcExpc3RTZXTdmFB5vc/xWwIAAUwAAW10AC1MamF2YS91dGlsL2NvbmN1cn"
+            + "JlbnQvQ29uY3VycmVudE5hdmlnYWJsZU1hcDt4cHNyACpqYXZhLnV0aWwuY29uY3VycmVudC5Db25jdXJyZW50U2tp"
+            + "cExpc3RNYXCIRnWuBhFGpwMAAUwACmNvbXBhcmF0b3J0ABZMamF2YS91dGlsL0NvbXBhcmF0b3I7eHBwc3IADmphdm"
+            + "EubGFuZy5Mb25nO4vkkMyPI98CAAFKAAV2YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAAA"
+            + "AAADc3IAEWphdmEubGFuZy5Cb29sZWFuzSBygNWc+u4CAAFaAAV2YWx1ZXhwAXNxAH4ACQAAAAAAAAAHcQB+AA1zcQ"
+            + "B+AAkAAAAAAAAACHEAfgANcHg=";
+    // serialized form of GapAwareTrackingToken{index=10, gaps=[]}, as written by previous versions
+    private static final String LEGACY_XSTREAM_TOKEN_WITHOUT_GAPS =
+            "<org.axonframework.eventhandling.GapAwareTrackingToken><index>10</index><gaps class=\"java."
+            + "util.Collections$UnmodifiableNavigableSet$EmptyNavigableSet\"><c class=\"sorted-set\"/><ss re"
+            + "ference=\"../c\"/><ns class=\"sorted-set\" reference=\"../c\"/></gaps></org.axonframework.eventh"
+            + "andling.GapAwareTrackingToken>";
+
     @Test
     public void testGapAwareTokenConcurrency() throws InterruptedException {
         AtomicLong counter = new AtomicLong();
@@ -220,6 +251,77 @@ public void testPosition() {
         assertEquals(15L, token.position().getAsLong());
     }
 
+    @Test
+    public void testAdvanceToLargeIndexKeepsAllGaps() {
+        GapAwareTrackingToken token = GapAwareTrackingToken.newInstance(-1, emptySortedSet()).advanceTo(10_000, 20_000);
+
+        assertEquals(10_000, token.getGaps().size());
+        assertEquals(0L, (long) token.getGaps().first());
+        assertEquals(9_999L, (long) token.getGaps().last());
+
+        GapAwareTrackingToken advanced = token.advanceTo(5_000, 20_000).advanceTo(10_001, 5_000);
+        assertEquals(4_999, advanced.getGaps().size());
+        assertEquals(5_001L, (long) advanced.getGaps().first());
+        assertFalse(advanced.getGaps().contains(5_000L));
+    }
+
+    @Test
+    public void testAdvanceToFarAheadIndexOnlyKeepsGapsWithinMaxGapOffset() {
+        GapAwareTrackingToken token = GapAwareTrackingToken.newInstance(10, asList(3L, 7L));
+
+        GapAwareTrackingToken advanced = token.advanceTo(1L << 40, 3);
+
+        assertEquals(1L << 40, advanced.getIndex());
+        assertEquals(3, advanced.getGaps().size());
+        assertEquals((1L << 40) - 3, (long) advanced.getGaps().first());
+        assertEquals((1L << 40) - 1, (long) advanced.getGaps().last());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGapsCannotBeModified() {
+        GapAwareTrackingToken.newInstance(10, asList(3L, 7L)).getGaps().remove(3L);
+    }
+
+    @Test
+    public void testDeserializeTokenWrittenByPreviousVersions() {
+        GapAwareTrackingToken expected = GapAwareTrackingToken.newInstance(10, asList(3L, 7L, 8L));
+
+        assertEquals(expected, deserialize(XStreamSerializer.builder().build(), LEGACY_XSTREAM_TOKEN.getBytes()));
+        assertEquals(expected, deserialize(JacksonSerializer.builder().build(), LEGACY_JACKSON_TOKEN.getBytes()));
+        assertEquals(expected, deserialize(JavaSerializer.builder().build(),
+                                           Base64.getDecoder().decode(LEGACY_JAVA_TOKEN)));
+        assertEquals(GapAwareTrackingToken.newInstance(10, emptySet()),
+                     deserialize(XStreamSerializer.builder().build(), LEGACY_XSTREAM_TOKEN_WITHOUT_GAPS.getBytes()));
+    }
+
+    @Test
+    public void testSerializedFormIsCompatibleWithPreviousVersions() {
+        GapAwareTrackingToken token = GapAwareTrackingToken.newInstance(-1, emptySortedSet())
+                                                           .advanceTo(10, 100)
+                                                           .advanceTo(0, 100)
+                                                           .advanceTo(1, 100)
+                                                           .advanceTo(2, 100)
+                                                           .advanceTo(4, 100)
+                                                           .advanceTo(5, 100)
+                                                           .advanceTo(6, 100)
+                                                           .advanceTo(9, 100);
+
+        assertEquals(LEGACY_XSTREAM_TOKEN, serialize(XStreamSerializer.builder().build(), token));
+        assertEquals(LEGACY_JACKSON_TOKEN, serialize(JacksonSerializer.builder().build(), token));
+        assertEquals(LEGACY_XSTREAM_TOKEN_WITHOUT_GAPS,
+                     serialize(XStreamSerializer.builder().build(), GapAwareTrackingToken.newInstance(10, emptySet())));
+    }
+
+    private static String serialize(Serializer serializer, GapAwareTrackingToken token) {
+        return new String(serializer.serialize(token, byte[].class).getData());
+    }
+
+    private static GapAwareTrackingToken deserialize(Serializer serializer, byte[] serialized) {
+        return serializer.deserialize(new SimpleSerializedObject<>(
+                serialized, byte[].class, GapAwareTrackingToken.class.getName(), null
+        ));
+    }
+
     private TreeSet<Long> asTreeSet(Long... elements) {
         return new TreeSet<>(asList(elements));
     }
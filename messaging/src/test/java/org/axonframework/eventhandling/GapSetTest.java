@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling;
+
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.*;
+
+/**
+ * Test class validating the {@link GapSet}, comparing its results with those of a {@link TreeSet}.
+ */
+public class GapSetTest {
+
+    @Test
+    public void testEmptySet() {
+        GapSet testSubject = GapSet.of(new ArrayList<>());
+
+        assertSame(GapSet.empty(), testSubject);
+        assertTrue(testSubject.isEmpty());
+        assertFalse(testSubject.iterator().hasNext());
+        assertEquals("[]", testSubject.toString());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFirstOfEmptySetThrowsException() {
+        GapSet.empty().first();
+    }
+
+    @Test
+    public void testValuesAcrossBlocksAreKeptInOrder() {
+        GapSet testSubject = GapSet.of(asList(130L, -1L, 3L, 64L, 63L, 0L, 3L));
+
+        assertEquals(new TreeSet<>(asList(-1L, 0L, 3L, 63L, 64L, 130L)), testSubject);
+        assertEquals(asList(-1L, 0L, 3L, 63L, 64L, 130L), new ArrayList<>(testSubject));
+        assertEquals(6, testSubject.size());
+        assertEquals(-1L, (long) testSubject.first());
+        assertEquals(130L, (long) testSubject.last());
+        assertTrue(testSubject.contains(64L));
+        assertFalse(testSubject.contains(65L));
+    }
+
+    @Test
+    public void testOperationsWithoutEffectReturnSameInstance() {
+        GapSet testSubject = GapSet.of(asList(3L, 70L));
+
+        assertSame(testSubject, GapSet.of(testSubject));
+        assertSame(testSubject, testSubject.without(4L));
+        assertSame(testSubject, testSubject.from(3L));
+        assertSame(testSubject, testSubject.below(71L));
+        assertSame(testSubject, testSubject.withRange(80L, 80L));
+        assertSame(testSubject, testSubject.union(GapSet.empty()));
+    }
+
+    @Test
+    public void testRangeOperationsMatchSortedSetSemantics() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            TreeSet<Long> expected = new TreeSet<>();
+            List<Long> values = new ArrayList<>();
+            for (int i = 0; i < random.nextInt(50); i++) {
+                long value = random.nextInt(500) - 100;
+                values.add(value);
+                expected.add(value);
+            }
+            GapSet testSubject = GapSet.of(values);
+            long bound = random.nextInt(600) - 150;
+            long upper = bound + random.nextInt(200);
+            GapSet other = GapSet.of(asList(bound, upper, bound + 1));
+
+            assertEquals(expected, testSubject);
+            assertEquals(expected.tailSet(bound), testSubject.from(bound));
+            assertEquals(expected.headSet(bound), testSubject.below(bound));
+            assertEquals(expected.subSet(bound, upper), testSubject.subSet(bound, upper));
+            assertEquals(expected.tailSet(bound).size(), testSubject.from(bound).size());
+
+            TreeSet<Long> union = new TreeSet<>(expected);
+            union.addAll(other);
+            assertEquals(union, testSubject.union(other));
+            TreeSet<Long> intersection = new TreeSet<>(expected);
+            intersection.retainAll(other);
+            assertEquals(intersection, testSubject.intersection(other));
+            assertEquals(other.containsAll(expected.headSet(upper)), testSubject.isSubsetOf(other, upper));
+
+            TreeSet<Long> withoutBound = new TreeSet<>(expected);
+            withoutBound.remove(bound);
+            assertEquals(withoutBound, testSubject.without(bound));
+            assertEquals(withoutBound.size(), testSubject.without(bound).size());
+
+            long rangeStart = expected.isEmpty() ? bound : expected.last() + 1 + random.nextInt(100);
+            long rangeEnd = rangeStart + random.nextInt(200);
+            TreeSet<Long> withRange = new TreeSet<>(expected);
+            for (long value = rangeStart; value < rangeEnd; value++) {
+                withRange.add(value);
+            }
+            assertEquals(withRange, testSubject.withRange(rangeStart, rangeEnd));
+            assertEquals(withRange.size(), testSubject.withRange(rangeStart, rangeEnd).size());
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetCannotBeModified() {
+        GapSet.of(asList(1L, 2L)).add(3L);
+    }
+}
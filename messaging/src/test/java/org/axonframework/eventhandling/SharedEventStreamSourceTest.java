@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling;
+
+import org.axonframework.common.AxonThreadFactory;
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.utils.MockException;
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.axonframework.utils.AssertUtils.assertWithin;
+import static org.junit.Assert.*;
+
+/**
+ * Test class validating the {@link SharedEventStreamSource}.
+ */
+public class SharedEventStreamSourceTest {
+
+    private List<TrackedEventMessage<?>> events;
+    private AtomicInteger openedStreams;
+    private volatile boolean released;
+    private SharedEventStreamSource testSubject;
+
+    @Before
+    public void setUp() {
+        events = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(new GenericTrackedEventMessage<>(new GlobalSequenceTrackingToken(i),
+                                                        GenericEventMessage.asEventMessage("event" + i)));
+        }
+        openedStreams = new AtomicInteger();
+        released = true;
+        StreamableMessageSource<TrackedEventMessage<?>> delegate = token -> {
+            openedStreams.incrementAndGet();
+            return new ListStream(token);
+        };
+        testSubject = new SharedEventStreamSource(delegate, new AxonThreadFactory("shared"), 10, 10);
+    }
+
+    @Test
+    public void testConsumersShareSingleStream() throws Exception {
+        // hold back the messages until both consumers opened their stream, to prevent the reader from moving ahead
+        released = false;
+        BlockingStream<TrackedEventMessage<?>> first = testSubject.openStream(null);
+        BlockingStream<TrackedEventMessage<?>> second = testSubject.openStream(null);
+        released = true;
+
+        assertEquals(events, read(first, 10));
+        assertEquals(events, read(second, 10));
+        assertEquals(1, openedStreams.get());
+
+        first.close();
+        second.close();
+        assertEquals(0, testSubject.consumerCount());
+    }
+
+    @Test
+    public void testConsumerAheadOfReaderSkipsMessagesItAlreadyReceived() throws Exception {
+        BlockingStream<TrackedEventMessage<?>> ahead = testSubject.openStream(new GlobalSequenceTrackingToken(5));
+        BlockingStream<TrackedEventMessage<?>> behind = testSubject.openStream(new GlobalSequenceTrackingToken(1));
+
+        assertEquals(events.subList(2, 10), read(behind, 8));
+        assertEquals(events.subList(6, 10), read(ahead, 4));
+        assertFalse(ahead.hasNextAvailable(50, TimeUnit.MILLISECONDS));
+        assertFalse(behind.hasNextAvailable());
+    }
+
+    @Test
+    public void testConsumerBehindReaderRestartsReaderAtLowerPosition() throws Exception {
+        BlockingStream<TrackedEventMessage<?>> first = testSubject.openStream(null);
+        assertEquals(events.subList(0, 3), read(first, 3));
+
+        BlockingStream<TrackedEventMessage<?>> second = testSubject.openStream(null);
+        assertEquals(events, read(second, 10));
+        assertEquals(events.subList(3, 10), read(first, 7));
+        assertFalse(first.hasNextAvailable(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testReaderFailureIsReportedToConsumers() throws Exception {
+        StreamableMessageSource<TrackedEventMessage<?>> failingSource = token -> {
+            throw new MockException();
+        };
+        testSubject = new SharedEventStreamSource(failingSource, new AxonThreadFactory("shared"), 3, 10);
+        BlockingStream<TrackedEventMessage<?>> stream = testSubject.openStream(null);
+
+        assertWithin(1, SECONDS, () -> {
+            try {
+                stream.hasNextAvailable();
+                fail("Expected failure to be reported");
+            } catch (EventProcessingException e) {
+                assertTrue(e.getCause() instanceof MockException);
+            }
+        });
+        assertEquals(0, testSubject.consumerCount());
+    }
+
+    private List<TrackedEventMessage<?>> read(BlockingStream<TrackedEventMessage<?>> stream, int count)
+            throws InterruptedException {
+        List<TrackedEventMessage<?>> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            assertTrue("Expected message " + i + " to be available", stream.hasNextAvailable(1, SECONDS));
+            result.add(stream.nextAvailable());
+        }
+        return result;
+    }
+
+    private class ListStream implements BlockingStream<TrackedEventMessage<?>> {
+
+        private int position;
+
+        private ListStream(TrackingToken token) {
+            this.position = token == null ? 0 : (int) ((GlobalSequenceTrackingToken) token).getGlobalIndex() + 1;
+        }
+
+        @Override
+        public Optional<TrackedEventMessage<?>> peek() {
+            return released && position < events.size() ? Optional.of(events.get(position)) : Optional.empty();
+        }
+
+        @Override
+        public boolean hasNextAvailable(int timeout, TimeUnit unit) throws InterruptedException {
+            if (released && position < events.size()) {
+                return true;
+            }
+            Thread.sleep(unit.toMillis(timeout));
+            return released && position < events.size();
+        }
+
+        @Override
+        public TrackedEventMessage<?> nextAvailable() {
+            return events.get(position++);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -23,6 +23,7 @@
 
 import static org.axonframework.utils.EventTestUtils.createEvent;
 import static org.axonframework.utils.EventTestUtils.createEvents;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,6 +35,8 @@ public class SimpleEventHandlerInvokerTest {
     public void testSingleEventPublication() throws Exception {
         EventMessageHandler mockHandler1 = mock(EventMessageHandler.class);
         EventMessageHandler mockHandler2 = mock(EventMessageHandler.class);
+        when(mockHandler1.canHandleType(any())).thenReturn(true);
+        when(mockHandler2.canHandleType(any())).thenReturn(true);
         SimpleEventHandlerInvoker subject =
                 SimpleEventHandlerInvoker.builder()
                                          .eventHandlers("test", mockHandler1, mockHandler2)
@@ -51,6 +54,8 @@ public void testSingleEventPublication() throws Exception {
     public void testRepeatedEventPublication() throws Exception {
         EventMessageHandler mockHandler1 = mock(EventMessageHandler.class);
         EventMessageHandler mockHandler2 = mock(EventMessageHandler.class);
+        when(mockHandler1.canHandleType(any())).thenReturn(true);
+        when(mockHandler2.canHandleType(any())).thenReturn(true);
         SimpleEventHandlerInvoker subject =
                 SimpleEventHandlerInvoker.builder()
                                          .eventHandlers("test", mockHandler1, mockHandler2)
@@ -67,4 +72,31 @@ public void testRepeatedEventPublication() throws Exception {
         inOrder.verify(mockHandler2).handle(events.get(1));
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    public void testEventIsOnlyPublishedToHandlersInterestedInItsPayloadType() throws Exception {
+        EventMessageHandler mockHandler1 = mock(EventMessageHandler.class);
+        EventMessageHandler mockHandler2 = mock(EventMessageHandler.class);
+        when(mockHandler1.canHandleType(any())).thenReturn(true);
+        when(mockHandler1.canHandle(any())).thenReturn(true);
+        when(mockHandler2.canHandleType(any())).thenReturn(false);
+        SimpleEventHandlerInvoker subject =
+                SimpleEventHandlerInvoker.builder()
+                                         .eventHandlers(mockHandler1, mockHandler2)
+                                         .build();
+
+        List<? extends EventMessage<?>> events = createEvents(2);
+        for (EventMessage<?> event : events) {
+            assertTrue(subject.canHandle(event, Segment.ROOT_SEGMENT));
+            subject.handle(event, Segment.ROOT_SEGMENT);
+        }
+
+        verify(mockHandler1).handle(events.get(0));
+        verify(mockHandler1).handle(events.get(1));
+        verify(mockHandler2, never()).handle(any());
+        verify(mockHandler2, never()).canHandle(any());
+        // the interest of each handler is resolved once per payload type
+        verify(mockHandler1, times(1)).canHandleType(events.get(0).getPayloadType());
+        verify(mockHandler2, times(1)).canHandleType(events.get(0).getPayloadType());
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.eventhandling.scheduling.java;
+
+import org.axonframework.common.timer.HashedWheelTimer;
+import org.axonframework.eventhandling.EventBus;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.scheduling.EventScheduler;
+import org.axonframework.eventhandling.scheduling.ScheduleToken;
+import org.junit.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class validating the {@link HashedWheelEventScheduler}.
+ */
+public class HashedWheelEventSchedulerTest {
+
+    private HashedWheelEventScheduler testSubject;
+    private EventBus eventBus;
+    private EventScheduler longHorizonEventScheduler;
+
+    @Before
+    public void setUp() {
+        eventBus = mock(EventBus.class);
+        longHorizonEventScheduler = mock(EventScheduler.class);
+        testSubject = HashedWheelEventScheduler.builder()
+                                               .timer(HashedWheelTimer.builder()
+                                                                      .tickDuration(Duration.ofMillis(1))
+                                                                      .build())
+                                               .eventBus(eventBus)
+                                               .longHorizonEventScheduler(longHorizonEventScheduler)
+                                               .longHorizonThreshold(Duration.ofMinutes(5))
+                                               .build();
+    }
+
+    @After
+    public void tearDown() {
+        testSubject.shutdown();
+    }
+
+    @Test
+    public void testScheduleEvent() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(eventBus).publish(isA(EventMessage.class));
+
+        testSubject.schedule(Duration.ofMillis(30), new Object());
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        verifyZeroInteractions(longHorizonEventScheduler);
+    }
+
+    @Test
+    public void testCancelledEventIsNotPublished() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(eventBus).publish(isA(EventMessage.class));
+
+        ScheduleToken token = testSubject.schedule(Duration.ofMillis(30), "cancelled");
+        testSubject.schedule(Duration.ofMillis(60), "published");
+        testSubject.cancelSchedule(token);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        verify(eventBus).publish(argThat((EventMessage<?> e) -> "published".equals(e.getPayload())));
+        verify(eventBus, never()).publish(argThat((EventMessage<?> e) -> "cancelled".equals(e.getPayload())));
+        verifyZeroInteractions(longHorizonEventScheduler);
+    }
+
+    @Test
+    public void testCancellingPublishedEventIsNotDelegated() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            latch.countDown();
+            return null;
+        }).when(eventBus).publish(isA(EventMessage.class));
+
+        ScheduleToken token = testSubject.schedule(Duration.ofMillis(30), new Object());
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        testSubject.cancelSchedule(token);
+        testSubject.cancelSchedule(token);
+
+        verifyZeroInteractions(longHorizonEventScheduler);
+    }
+
+    @Test
+    public void testLongHorizonEventsAreDelegated() {
+        ScheduleToken delegateToken = mock(ScheduleToken.class);
+        when(longHorizonEventScheduler.schedule(any(Duration.class), any())).thenReturn(delegateToken);
+
+        ScheduleToken token = testSubject.schedule(Duration.ofHours(1), new Object());
+        testSubject.cancelSchedule(token);
+
+        assertSame(delegateToken, token);
+        assertEquals(0, testSubject.getPendingScheduleCount());
+        verify(longHorizonEventScheduler).cancelSchedule(delegateToken);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.messaging.annotation;
+
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.utils.MockException;
+import org.junit.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class validating the {@link MethodHandleMessageHandlingMember} and its definition.
+ */
+public class MethodHandleMessageHandlingMemberTest {
+
+    private AnnotatedHandlerInspector<MyEventHandler> inspector;
+    private MyEventHandler target;
+
+    @Before
+    public void setUp() {
+        inspector = AnnotatedHandlerInspector.inspectType(MyEventHandler.class,
+                                                          ClasspathParameterResolverFactory.forClass(MyEventHandler.class),
+                                                          new MethodHandleMessageHandlingMemberDefinition());
+        target = new MyEventHandler();
+    }
+
+    @Test
+    public void testDefinitionCreatesMethodHandleMembers() {
+        assertFalse(inspector.getHandlers().isEmpty());
+        inspector.getHandlers().forEach(h -> assertTrue(h instanceof MethodHandleMessageHandlingMember));
+    }
+
+    @Test
+    public void testDefinitionTakesPrecedenceOverDefaultDefinition() {
+        MultiHandlerDefinition definition = MultiHandlerDefinition.ordered(
+                new AnnotatedMessageHandlingMemberDefinition(), new MethodHandleMessageHandlingMemberDefinition()
+        );
+
+        assertTrue(definition.getDelegates().get(0) instanceof MethodHandleMessageHandlingMemberDefinition);
+    }
+
+    @Test
+    public void testInvokeNonPublicHandlerWithSingleParameter() throws Exception {
+        assertNull(handle(GenericEventMessage.asEventMessage("hello")));
+
+        assertEquals(Collections.singletonList("hello"), target.received);
+    }
+
+    @Test
+    public void testInvokeHandlerWithReturnValueAndMetaDataParameter() throws Exception {
+        EventMessage<Integer> message = GenericEventMessage.<Integer>asEventMessage(41)
+                .andMetaData(Collections.singletonMap("key", "value"));
+
+        assertEquals("42value", handle(message));
+    }
+
+    @Test
+    public void testInvokeHandlerWithManyParameters() throws Exception {
+        EventMessage<Long> message = GenericEventMessage.<Long>asEventMessage(1L)
+                .andMetaData(Collections.singletonMap("key", "value"));
+
+        handle(message);
+
+        assertEquals(4, target.received.size());
+        assertEquals(1L, target.received.get(0));
+        assertSame(message, target.received.get(1));
+        assertEquals(message.getMetaData(), target.received.get(2));
+        assertEquals(message.getIdentifier(), target.received.get(3));
+    }
+
+    @Test(expected = MockException.class)
+    public void testExceptionFromHandlerIsRethrownAsIs() throws Exception {
+        handle(GenericEventMessage.asEventMessage(1.0d));
+    }
+
+    private Object handle(EventMessage<?> message) throws Exception {
+        MessageHandlingMember<? super MyEventHandler> handler =
+                inspector.getHandlers()
+                         .stream()
+                         .filter(h -> h.canHandle(message))
+                         .findFirst()
+                         .orElseThrow(() -> new AssertionError("No handler found for " + message.getPayloadType()));
+        return handler.handle(message, target);
+    }
+
+    private static class MyEventHandler {
+
+        private final List<Object> received = new ArrayList<>();
+
+        @EventHandler
+        private void on(String event) {
+            received.add(event);
+        }
+
+        @EventHandler
+        public String on(Integer event, @MetaDataValue("key") String metaDataValue) {
+            return (event + 1) + metaDataValue;
+        }
+
+        @EventHandler
+        void on(Long event, EventMessage<?> message, MetaData metaData, @MessageIdentifier String identifier) {
+            received.add(event);
+            received.add(message);
+            received.add(metaData);
+            received.add(identifier);
+        }
+
+        @EventHandler
+        void on(Double event) throws Exception {
+            throw new MockException();
+        }
+    }
+}
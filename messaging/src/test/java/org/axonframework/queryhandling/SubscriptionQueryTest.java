@@ -34,7 +34,9 @@
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.axonframework.queryhandling.GenericSubscriptionQueryUpdateMessage.asUpdateMessage;
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Tests for subscription query functionality.
@@ -131,6 +133,85 @@ public void testEmittingNullUpdate() {
                     .verifyComplete();
     }
 
+    @Test
+    public void testEmittingUpdateByKeyOnlyReachesMatchingSubscriptions() {
+        SimpleQueryUpdateEmitter indexedEmitter =
+                SimpleQueryUpdateEmitter.builder()
+                                        .queryKeyExtractor("chatMessages", SubscriptionQueryMessage::getPayload)
+                                        .build();
+        SimpleQueryBus indexedQueryBus = SimpleQueryBus.builder().queryUpdateEmitter(indexedEmitter).build();
+        new AnnotationQueryHandlerAdapter<>(new ChatQueryHandler(indexedEmitter)).subscribe(indexedQueryBus);
+
+        SubscriptionQueryResult<QueryResponseMessage<List<String>>, SubscriptionQueryUpdateMessage<String>> result1 =
+                indexedQueryBus.subscriptionQuery(new GenericSubscriptionQueryMessage<>(
+                        "axonFrameworkCR",
+                        "chatMessages",
+                        ResponseTypes.multipleInstancesOf(String.class),
+                        ResponseTypes.instanceOf(String.class)));
+        SubscriptionQueryResult<QueryResponseMessage<List<String>>, SubscriptionQueryUpdateMessage<String>> result2 =
+                indexedQueryBus.subscriptionQuery(new GenericSubscriptionQueryMessage<>(
+                        "otherRoom",
+                        "chatMessages",
+                        ResponseTypes.multipleInstancesOf(String.class),
+                        ResponseTypes.instanceOf(String.class)));
+
+        indexedEmitter.emitKeyed("chatMessages", "axonFrameworkCR", asUpdateMessage("Update1"));
+        indexedEmitter.emitKeyed("chatMessages", "otherRoom", asUpdateMessage("Update2"));
+        indexedEmitter.emitKeyed("chatMessages", "unknownRoom", asUpdateMessage("Update3"));
+        indexedEmitter.emit(String.class, "axonFrameworkCR"::equals, "Update4");
+        indexedEmitter.complete(String.class, room -> true);
+
+        StepVerifier.create(result1.updates().map(Message::getPayload))
+                    .expectNext("Update1", "Update4")
+                    .verifyComplete();
+        StepVerifier.create(result2.updates().map(Message::getPayload))
+                    .expectNext("Update2")
+                    .verifyComplete();
+        assertTrue(indexedEmitter.activeSubscriptions().isEmpty());
+    }
+
+    @Test
+    public void testEmittingUpdateByKeyDoesNotReachCancelledSubscription() {
+        SimpleQueryUpdateEmitter indexedEmitter =
+                SimpleQueryUpdateEmitter.builder()
+                                        .queryKeyExtractor("chatMessages", SubscriptionQueryMessage::getPayload)
+                                        .build();
+        SubscriptionQueryMessage<String, List<String>, String> queryMessage = new GenericSubscriptionQueryMessage<>(
+                "axonFrameworkCR",
+                "chatMessages",
+                ResponseTypes.multipleInstancesOf(String.class),
+                ResponseTypes.instanceOf(String.class));
+        UpdateHandlerRegistration<Object> registration =
+                indexedEmitter.registerUpdateHandler(queryMessage, SubscriptionQueryBackpressure.defaultBackpressure(), 8);
+        List<Object> updates = new ArrayList<>();
+        registration.getUpdates().subscribe(m -> updates.add(m.getPayload()));
+
+        indexedEmitter.emitKeyed("chatMessages", "axonFrameworkCR", asUpdateMessage("Update1"));
+        registration.getRegistration().cancel();
+        indexedEmitter.emitKeyed("chatMessages", "axonFrameworkCR", asUpdateMessage("Update2"));
+
+        assertEquals(Collections.singletonList("Update1"), updates);
+        assertFalse(indexedEmitter.queryUpdateHandlerRegistered(queryMessage));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmittingUpdateByKeyWithoutKeyExtractorIsRejected() {
+        queryBus.subscriptionQuery(new GenericSubscriptionQueryMessage<>(
+                "axonFrameworkCR",
+                "chatMessages",
+                ResponseTypes.multipleInstancesOf(String.class),
+                ResponseTypes.instanceOf(String.class)));
+
+        queryUpdateEmitter.emitKeyed("chatMessages", "axonFrameworkCR", asUpdateMessage("Update1"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEmittingUpdateByKeyIsNotSupportedByDefault() {
+        QueryUpdateEmitter emitter = mock(QueryUpdateEmitter.class, CALLS_REAL_METHODS);
+
+        emitter.emitKeyed("chatMessages", "axonFrameworkCR", asUpdateMessage("Update1"));
+    }
+
     @Test
     public void testEmittingUpdateInUnitOfWorkLifecycleRunsUpdatesOnAfterCommit() {
         String testQueryPayload = "axonFrameworkCR";
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.serialization.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.axonframework.common.AxonConfigurationException;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.serialization.Revision;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.json.JacksonSerializerTest.SimpleSerializableType;
+import org.junit.*;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.*;
+
+/**
+ * Test class validating the {@link BinaryJacksonSerializer}.
+ */
+public class BinaryJacksonSerializerTest {
+
+    private BinaryJacksonSerializer testSubject;
+    private Instant time;
+
+    @Before
+    public void setUp() {
+        testSubject = BinaryJacksonSerializer.builder().build();
+        time = Instant.now();
+    }
+
+    @Test
+    public void testCanSerializeToByteArrayAndInputStreamButNotString() {
+        assertTrue(testSubject.canSerializeTo(byte[].class));
+        assertTrue(testSubject.canSerializeTo(InputStream.class));
+        assertTrue(testSubject.canSerializeTo(JsonNode.class));
+        assertFalse(testSubject.canSerializeTo(String.class));
+    }
+
+    @Test
+    public void testSerializeAndDeserializeObject_ByteArrayFormat() {
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first", time,
+                                                                        new SimpleSerializableType("nested"));
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(toSerialize, byte[].class);
+
+        SimpleSerializableType actual = testSubject.deserialize(serialized);
+        assertEquals(toSerialize.getValue(), actual.getValue());
+        assertEquals(toSerialize.getTime(), actual.getTime());
+        assertEquals(toSerialize.getNested().getValue(), actual.getNested().getValue());
+    }
+
+    @Test
+    public void testSerializedFormIsSmallerThanJson() {
+        SimpleSerializableType toSerialize = new SimpleSerializableType("first", time,
+                                                                        new SimpleSerializableType("nested"));
+
+        byte[] binary = testSubject.serialize(toSerialize, byte[].class).getData();
+        byte[] json = JacksonSerializer.defaultSerializer().serialize(toSerialize, byte[].class).getData();
+
+        assertTrue(binary.length < json.length);
+    }
+
+    @Test
+    public void testSerializeMetaData() {
+        MetaData metaData = MetaData.with("key", "value").and("number", 42);
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(metaData, byte[].class);
+        MetaData actual = testSubject.deserialize(serialized);
+
+        assertEquals(metaData, actual);
+    }
+
+    @Test
+    public void testRevisionIsResolvedForSerializedType() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new RevisionedType("value"), byte[].class);
+
+        assertEquals(RevisionedType.class.getName(), serialized.getType().getName());
+        assertEquals("2", serialized.getType().getRevision());
+    }
+
+    @Test
+    public void testSerializedFormCanBeUpcastThroughJsonNode() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new RevisionedType("value"), byte[].class);
+
+        JsonNode node = testSubject.getConverter().convert(serialized.getData(), byte[].class, JsonNode.class);
+        assertEquals("value", node.get("value").asText());
+        ((ObjectNode) node).put("value", "upcast");
+        SerializedObject<JsonNode> upcast = new SimpleSerializedObject<>(node, JsonNode.class, serialized.getType());
+        byte[] upcastBytes = testSubject.getConverter().convert(upcast, byte[].class).getData();
+
+        RevisionedType actual = testSubject.deserialize(
+                new SimpleSerializedObject<>(upcastBytes, byte[].class, serialized.getType())
+        );
+        assertEquals("upcast", actual.getValue());
+        RevisionedType actualFromNode = testSubject.deserialize(upcast);
+        assertEquals("upcast", actualFromNode.getValue());
+    }
+
+    @Test
+    public void testSerializeAndDeserializeUsingSmileFormat() {
+        testSubject = BinaryJacksonSerializer.builder()
+                                             .objectMapper(new ObjectMapper(new SmileFactory()))
+                                             .build();
+        MetaData metaData = MetaData.from(singletonMap("key", "value"));
+
+        SerializedObject<byte[]> serialized = testSubject.serialize(metaData, byte[].class);
+
+        assertEquals(metaData, testSubject.deserialize(serialized));
+    }
+
+    @Test(expected = SerializationException.class)
+    public void testSerializeToStringIsRejected() {
+        testSubject.serialize(new RevisionedType("value"), String.class);
+    }
+
+    @Test(expected = SerializationException.class)
+    public void testDeserializeFromStringIsRejected() {
+        testSubject.deserialize(new SimpleSerializedObject<>("{}", String.class,
+                                                             new SimpleSerializedType(RevisionedType.class.getName(),
+                                                                                      "2")));
+    }
+
+    @Test(expected = AxonConfigurationException.class)
+    public void testBuildWithTextualObjectMapperThrowsAxonConfigurationException() {
+        BinaryJacksonSerializer.builder().objectMapper(new ObjectMapper()).build();
+    }
+
+    @Revision("2")
+    public static class RevisionedType {
+
+        private String value;
+
+        @SuppressWarnings("unused")
+        public RevisionedType() {
+        }
+
+        public RevisionedType(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -30,11 +30,15 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
 
@@ -127,6 +131,40 @@ public A load(String aggregateIdentifier, Long expectedVersion) {
         return aggregate;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Aggregates that are not yet managed by the current Unit of Work are loaded together using {@link
+     * #doLoadAll(List)}, in the natural order of their identifiers.
+     *
+     * @throws AggregateNotFoundException if any of the aggregates with given ids cannot be found
+     * @throws RuntimeException           any exception thrown by implementing classes
+     */
+    @Override
+    public Map<String, Aggregate<T>> loadAll(Collection<String> aggregateIdentifiers) {
+        UnitOfWork<?> uow = CurrentUnitOfWork.get();
+        Map<String, A> aggregates = managedAggregates(uow);
+        List<String> identifiersToLoad = aggregateIdentifiers.stream()
+                                                             .distinct()
+                                                             .filter(identifier -> !aggregates.containsKey(identifier))
+                                                             .sorted()
+                                                             .collect(Collectors.toList());
+        if (!identifiersToLoad.isEmpty()) {
+            aggregates.putAll(doLoadAll(identifiersToLoad));
+        }
+        Map<String, Aggregate<T>> result = new LinkedHashMap<>();
+        for (String aggregateIdentifier : aggregateIdentifiers) {
+            if (!result.containsKey(aggregateIdentifier)) {
+                A aggregate = aggregates.get(aggregateIdentifier);
+                uow.onRollback(u -> aggregates.remove(aggregateIdentifier));
+                validateOnLoad(aggregate, null);
+                prepareForCommit(aggregate);
+                result.put(aggregateIdentifier, aggregate);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns the map of aggregates currently managed by this repository under the given unit of work. Note that the
      * repository keeps the managed aggregates in the root unit of work, to guarantee each Unit of Work works with the
@@ -258,6 +296,24 @@ protected Class<? extends T> getAggregateType() {
      */
     protected abstract A doLoad(String aggregateIdentifier, Long expectedVersion);
 
+    /**
+     * Loads and initializes the aggregates with the given aggregateIdentifiers, none of which is managed by the
+     * current Unit of Work yet. The identifiers are provided in their natural order.
+     * <p>
+     * This implementation invokes {@link #doLoad(String, Long)} for each of the identifiers. Implementations may
+     * override this method to load the aggregates concurrently, or using a single query.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load, in their natural order
+     * @return a map with a fully initialized aggregate per identifier
+     *
+     * @throws AggregateNotFoundException if any of the aggregates with given identifiers does not exist
+     */
+    protected Map<String, A> doLoadAll(List<String> aggregateIdentifiers) {
+        Map<String, A> aggregates = new HashMap<>();
+        aggregateIdentifiers.forEach(identifier -> aggregates.put(identifier, doLoad(identifier, null)));
+        return aggregates;
+    }
+
     /**
      * Removes the aggregate from the repository. Typically, the repository should ensure that any calls to {@link
      * #doLoad(String, Long)} throw a {@link AggregateNotFoundException} when
@@ -27,6 +27,10 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -125,6 +129,34 @@ protected LockAwareAggregate<T, A> doLoad(String aggregateIdentifier, Long expec
         }
     }
 
+    /**
+     * Perform the actual loading of several aggregates. The locks of all aggregates are obtained in the order of the
+     * given identifiers, which is their natural order, before the aggregates are loaded using {@link
+     * #doLoadAllWithLock(List)}. If any of the aggregates fails to load, all locks obtained are released.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load, in their natural order
+     * @return a map with the fully initialized aggregate per identifier
+     * @throws AggregateNotFoundException if any of the aggregates with given ids cannot be found
+     */
+    @Override
+    protected Map<String, LockAwareAggregate<T, A>> doLoadAll(List<String> aggregateIdentifiers) {
+        Map<String, Lock> locks = new LinkedHashMap<>();
+        try {
+            aggregateIdentifiers.forEach(identifier -> locks.put(identifier, lockFactory.obtainLock(identifier)));
+            Map<String, A> aggregates = doLoadAllWithLock(aggregateIdentifiers);
+            Map<String, LockAwareAggregate<T, A>> lockAwareAggregates = new HashMap<>();
+            locks.forEach((identifier, lock) -> {
+                lockAwareAggregates.put(identifier, new LockAwareAggregate<>(aggregates.get(identifier), lock));
+                CurrentUnitOfWork.get().onCleanup(u -> lock.release());
+            });
+            return lockAwareAggregates;
+        } catch (Throwable ex) {
+            logger.debug("Exception occurred while trying to load aggregates. Releasing locks.", ex);
+            locks.values().forEach(Lock::release);
+            throw ex;
+        }
+    }
+
     @Override
     protected void prepareForCommit(LockAwareAggregate<T, A> aggregate) {
         Assert.state(aggregate.isLockHeld(), () -> "An aggregate is being used for which a lock is no longer held");
@@ -191,6 +223,22 @@ protected final void doDelete(LockAwareAggregate<T, A> aggregate) {
      */
     protected abstract A doLoadWithLock(String aggregateIdentifier, Long expectedVersion);
 
+    /**
+     * Loads the aggregates with the given aggregateIdentifiers. All necessary locks have been obtained.
+     * <p>
+     * This implementation invokes {@link #doLoadWithLock(String, Long)} for each of the identifiers. Implementations
+     * may override this method to load the aggregates concurrently, or using a single query.
+     *
+     * @param aggregateIdentifiers the identifiers of the aggregates to load, in their natural order
+     * @return a map with a fully initialized aggregate per identifier
+     * @throws AggregateNotFoundException if any of the aggregates with given identifiers does not exist
+     */
+    protected Map<String, A> doLoadAllWithLock(List<String> aggregateIdentifiers) {
+        Map<String, A> aggregates = new HashMap<>();
+        aggregateIdentifiers.forEach(identifier -> aggregates.put(identifier, doLoadWithLock(identifier, null)));
+        return aggregates;
+    }
+
     /**
      * Abstract Builder class to instantiate {@link LockingRepository} implementations.
      * <p>
@@ -238,7 +286,8 @@ public Builder<T> aggregateModel(AggregateModel<T> aggregateModel) {
 
         /**
          * Sets the {@link LockFactory} used to lock an aggregate. Defaults to a pessimistic locking strategy,
-         * implemented in the {@link PessimisticLockFactory}.
+         * implemented in the {@link PessimisticLockFactory}. A {@link org.axonframework.common.lock.StripedLockFactory}
+         * may be used to lock aggregates using a fixed number of locks.
          *
          * @param lockFactory a {@link LockFactory} used to lock an aggregate
          * @return the current Builder instance, for fluent interfacing
@@ -18,6 +18,9 @@
 
 import org.axonframework.messaging.ScopeAware;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -49,6 +52,28 @@
      */
     Aggregate<T> load(String aggregateIdentifier, Long expectedVersion);
 
+    /**
+     * Load the aggregates with the given unique identifiers. No version checks are done when loading the aggregates,
+     * meaning that concurrent access will not be checked for. Implementations may load the aggregates concurrently, or
+     * using a single query, rather than one after the other.
+     * <p>
+     * The default implementation loads the aggregates one by one, in the natural order of their identifiers. This
+     * order prevents deadlocks between components loading overlapping sets of aggregates.
+     *
+     * @param aggregateIdentifiers The identifiers of the aggregates to load
+     * @return a map with the aggregate root per identifier, in the iteration order of the given identifiers
+     *
+     * @throws AggregateNotFoundException if any of the aggregates with given ids cannot be found
+     */
+    default Map<String, Aggregate<T>> loadAll(Collection<String> aggregateIdentifiers) {
+        Map<String, Aggregate<T>> aggregates = new LinkedHashMap<>();
+        aggregateIdentifiers.stream().distinct().sorted()
+                            .forEach(identifier -> aggregates.put(identifier, load(identifier)));
+        Map<String, Aggregate<T>> result = new LinkedHashMap<>();
+        aggregateIdentifiers.forEach(identifier -> result.put(identifier, aggregates.get(identifier)));
+        return result;
+    }
+
     /**
      * Creates a new managed instance for the aggregate, using the given {@code factoryMethod}
      * to instantiate the aggregate's root.
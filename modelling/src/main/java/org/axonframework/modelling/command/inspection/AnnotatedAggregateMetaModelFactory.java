@@ -145,7 +145,10 @@ public <T> AnnotatedAggregateModel<T> createModel(Class<? extends T> aggregateTy
         private final List<MessageHandlingMember<? super T>> commandHandlerInterceptors;
         private final List<MessageHandlingMember<? super T>> commandHandlers;
         private final List<MessageHandlingMember<? super T>> eventHandlers;
+        private final Map<Class<?>, List<MessageHandlingMember<? super T>>> eventHandlersByPayloadType;
+        private final Map<Class<?>, List<ChildEntity<T>>> childrenByPayloadType;
         private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final ThreadLocal<Boolean> resolvingHandledType = new ThreadLocal<>();
 
         private String aggregateType;
         private Field identifierField;
@@ -159,6 +162,8 @@ public AnnotatedAggregateModel(Class<? extends T> aggregateType, AnnotatedHandle
             this.commandHandlerInterceptors = new ArrayList<>();
             this.commandHandlers = new ArrayList<>();
             this.eventHandlers = new ArrayList<>();
+            this.eventHandlersByPayloadType = new ConcurrentHashMap<>();
+            this.childrenByPayloadType = new ConcurrentHashMap<>();
             this.children = new ArrayList<>();
             this.handlerInspector = handlerInspector;
         }
@@ -252,15 +257,98 @@ public void publish(EventMessage<?> message, T target) {
         }
 
         private void doPublish(EventMessage<?> message, T target) {
-            getHandler(message).ifPresent(h -> {
+            MessageHandlingMember<? super T> handler = findHandler(message);
+            if (handler != null) {
                 try {
-                    h.handle(message, target);
+                    handler.handle(message, target);
                 } catch (Exception e) {
                     throw new MessageHandlerInvocationException(
                             format("Error handling event of type [%s] in aggregate", message.getPayloadType()), e);
                 }
+            }
+            for (ChildEntity<T> child : childrenFor(message.getPayloadType())) {
+                child.publish(message, target);
+            }
+        }
+
+        /**
+         * Returns the event handlers that may handle messages with given {@code payloadType}, in the order in which
+         * they were declared. The result is calculated once per payload type, after which it is served from a
+         * dispatch table.
+         *
+         * @param payloadType the payload type of the message
+         * @return the event handlers that may handle messages with given payload type
+         */
+        private List<MessageHandlingMember<? super T>> eventHandlersFor(Class<?> payloadType) {
+            List<MessageHandlingMember<? super T>> handlers = eventHandlersByPayloadType.get(payloadType);
+            if (handlers != null) {
+                return handlers;
+            }
+            return eventHandlersByPayloadType.computeIfAbsent(payloadType, type -> {
+                List<MessageHandlingMember<? super T>> candidates = new ArrayList<>();
+                for (MessageHandlingMember<? super T> handler : eventHandlers) {
+                    if (handler.payloadType().isAssignableFrom(type)) {
+                        candidates.add(handler);
+                    }
+                }
+                return candidates.isEmpty() ? Collections.emptyList() : candidates;
             });
-            children.forEach(i -> i.publish(message, target));
+        }
+
+        /**
+         * Returns the child entities that may handle events with given {@code payloadType}, in the order in which
+         * they were declared. The result is calculated once per payload type, after which it is served from a routing
+         * table.
+         *
+         * @param payloadType the payload type of the event
+         * @return the child entities to publish events with given payload type to
+         */
+        private List<ChildEntity<T>> childrenFor(Class<?> payloadType) {
+            List<ChildEntity<T>> routedChildren = childrenByPayloadType.get(payloadType);
+            if (routedChildren != null) {
+                return routedChildren;
+            }
+            return childrenByPayloadType.computeIfAbsent(payloadType, type -> {
+                List<ChildEntity<T>> candidates = new ArrayList<>();
+                for (ChildEntity<T> child : children) {
+                    if (child.canHandleType(type)) {
+                        candidates.add(child);
+                    }
+                }
+                return candidates.isEmpty() ? Collections.emptyList() : candidates;
+            });
+        }
+
+        private MessageHandlingMember<? super T> findHandler(Message<?> message) {
+            for (MessageHandlingMember<? super T> handler : eventHandlersFor(message.getPayloadType())) {
+                if (handler.canHandle(message)) {
+                    return handler;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean canHandleType(Class<?> payloadType) {
+            if (!eventHandlersFor(payloadType).isEmpty()) {
+                return true;
+            }
+            if (Boolean.TRUE.equals(resolvingHandledType.get())) {
+                // this entity contains itself, either directly or through another entity; its children are being
+                // inspected by an outer invocation
+                return false;
+            }
+            resolvingHandledType.set(Boolean.TRUE);
+            try {
+                for (ChildEntity<T> child : children) {
+                    if (child.canHandleType(payloadType)) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                resolvingHandledType.remove();
+            }
         }
 
         @Override
@@ -288,9 +376,8 @@ public List<MessageHandlingMember<? super T>> commandHandlerInterceptors() {
          * @param message the message to find a handler for
          * @return the handler of the message if present on the model
          */
-        @SuppressWarnings("unchecked")
         protected Optional<MessageHandlingMember<? super T>> getHandler(Message<?> message) {
-            return eventHandlers.stream().filter(handler -> handler.canHandle(message)).findAny();
+            return Optional.ofNullable(findHandler(message));
         }
 
         @Override
@@ -21,6 +21,7 @@
 import org.axonframework.eventhandling.EventMessage;
 import org.axonframework.messaging.annotation.MessageHandlingMember;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
@@ -82,4 +83,19 @@ public void publish(EventMessage<?> msg, P declaringInstance) {
     public List<MessageHandlingMember<? super P>> commandHandlers() {
         return commandHandlers;
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The decision is based on the event handlers declared by the entity type, where a handler for a given payload
+     * type also handles its subtypes. Entities referenced by an interface, an abstract type or {@link Object} are
+     * always of another runtime type, whose handlers are only known when events are published. Such entities are
+     * visited for every payload type.
+     */
+    @Override
+    public boolean canHandleType(Class<?> payloadType) {
+        Class<?> entityType = entityModel.entityClass();
+        boolean polymorphic = Object.class.equals(entityType) || Modifier.isAbstract(entityType.getModifiers());
+        return polymorphic || entityModel.canHandleType(payloadType);
+    }
 }
@@ -42,4 +42,16 @@
      * @return a list of message handling members that are capable of processing command messages
      */
     List<MessageHandlingMember<? super T>> commandHandlers();
+
+    /**
+     * Indicates whether this child entity may declare a handler for events with given {@code payloadType}. Events for
+     * which this method returns {@code false} are not published to this child entity. Defaults to {@code true}.
+     *
+     * @param payloadType the payload type of the event
+     * @return {@code true} if events with given payload type may be handled by this child entity, otherwise {@code
+     * false}
+     */
+    default boolean canHandleType(Class<?> payloadType) {
+        return true;
+    }
 }
@@ -83,4 +83,16 @@
      * @return the class this model describes
      */
     Class<? extends T> entityClass();
+
+    /**
+     * Indicates whether this entity, or any of its child entities, may declare a handler for events with given {@code
+     * payloadType}. Events for which this method returns {@code false} do not need to be published to entities of this
+     * kind. Defaults to {@code true}.
+     *
+     * @param payloadType the payload type of the event
+     * @return {@code true} if events with given payload type may be handled by this entity, otherwise {@code false}
+     */
+    default boolean canHandleType(Class<?> payloadType) {
+        return true;
+    }
 }
@@ -27,6 +27,9 @@
 import org.axonframework.messaging.Message;
 import org.axonframework.messaging.ScopeAware;
 import org.axonframework.messaging.ScopeDescriptor;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +56,7 @@
     private final SagaRepository<T> sagaRepository;
     private final Class<T> sagaType;
     private final Supplier<T> sagaFactory;
+    private final String prefetchedResourceKey;
     private volatile ListenerInvocationErrorHandler listenerInvocationErrorHandler;
 
     /**
@@ -70,10 +74,12 @@ protected AbstractSagaManager(Builder<T> builder) {
         this.sagaType = builder.sagaType;
         this.sagaFactory = builder.sagaFactory;
         this.listenerInvocationErrorHandler = builder.listenerInvocationErrorHandler;
+        this.prefetchedResourceKey = "SagaManager[" + sagaType.getSimpleName() + "]/Prefetched";
     }
 
     @Override
     public void handle(EventMessage<?> event, Segment segment) throws Exception {
+        prefetchSagas(segment);
         Set<AssociationValue> associationValues = extractAssociationValues(event);
         List<String> sagaIds =
                 associationValues.stream()
@@ -99,6 +105,35 @@ public void handle(EventMessage<?> event, Segment segment) throws Exception {
         }
     }
 
+    /**
+     * Prefetches the sagas associated with any of the events in the batch processed by the current {@link
+     * BatchingUnitOfWork}, allowing the {@link SagaRepository} to find and load them in bulk rather than for each event
+     * separately. Prefetching is done once for each batch, and only if the batch contains more than one event.
+     *
+     * @param segment The segment the sagas to load must match with
+     */
+    private void prefetchSagas(Segment segment) {
+        if (!CurrentUnitOfWork.isStarted()) {
+            return;
+        }
+        UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get().root();
+        if (!(unitOfWork instanceof BatchingUnitOfWork)
+                || unitOfWork.resources().putIfAbsent(prefetchedResourceKey, Boolean.TRUE) != null) {
+            return;
+        }
+        List<? extends Message<?>> messages = ((BatchingUnitOfWork<?>) unitOfWork).getMessages();
+        if (messages.size() > 1) {
+            Set<AssociationValue> associationValues =
+                    messages.stream()
+                            .filter(message -> message instanceof EventMessage)
+                            .flatMap(message -> extractAssociationValues((EventMessage<?>) message).stream())
+                            .collect(Collectors.toSet());
+            if (!associationValues.isEmpty()) {
+                sagaRepository.prefetch(associationValues, sagaId -> matchesSegment(segment, sagaId));
+            }
+        }
+    }
+
     private boolean shouldCreateSaga(Segment segment, boolean sagaInvoked,
                                      SagaInitializationPolicy initializationPolicy) {
         return ((initializationPolicy.getCreationPolicy() == SagaCreationPolicy.ALWAYS
@@ -17,6 +17,7 @@
 package org.axonframework.modelling.saga;
 
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -40,6 +41,20 @@
      */
     Set<String> find(AssociationValue associationValue);
 
+    /**
+     * Prepares this repository for finding and loading the sagas associated with any of the given {@code
+     * associationValues} in the current Unit of Work. Implementations may use this to resolve the associations and load
+     * the sagas in bulk, rather than one by one on each invocation of {@link #find(AssociationValue)} and {@link
+     * #load(String)}. Only sagas of which the identifier matches the given {@code sagaFilter} need to be loaded.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param associationValues The association values that will be used to find sagas in the current Unit of Work
+     * @param sagaFilter        The predicate that identifiers of sagas to load must match
+     */
+    default void prefetch(Set<AssociationValue> associationValues, Predicate<String> sagaFilter) {
+    }
+
     /**
      * Loads a known Saga instance by its unique identifier.
      * Due to the concurrent nature of Sagas, it is not unlikely for a Saga to have ceased to exist after it has been
@@ -30,13 +30,20 @@
 import org.axonframework.messaging.annotation.ParameterResolverFactory;
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.serialization.Serializer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -59,9 +66,15 @@
     private final SagaStore<? super T> sagaStore;
     private final SagaModel<T> sagaModel;
     private final ResourceInjector resourceInjector;
+    private final Serializer stateSerializer;
 
     private final Map<String, AnnotatedSaga<T>> managedSagas;
     private final String unsavedSagasResourceKey;
+    private final String prefetchedAssociationsResourceKey;
+    private final String prefetchedSagasResourceKey;
+    private final String pendingUpdatesResourceKey;
+    private final String loadedStatesResourceKey;
+    private final AtomicLong skippedUpdates = new AtomicLong();
 
     /**
      * Instantiate a {@link AnnotatedSagaRepository} based on the fields contained in the {@link Builder}.
@@ -80,8 +93,14 @@ protected AnnotatedSagaRepository(Builder<T> builder) {
         this.sagaModel = builder.buildSagaModel();
         this.sagaStore = builder.sagaStore;
         this.resourceInjector = builder.resourceInjector;
+        this.stateSerializer = builder.stateSerializer;
         this.managedSagas = new ConcurrentHashMap<>();
         this.unsavedSagasResourceKey = "Repository[" + sagaType.getSimpleName() + "]/UnsavedSagas";
+        this.prefetchedAssociationsResourceKey =
+                "Repository[" + sagaType.getSimpleName() + "]/PrefetchedAssociations";
+        this.prefetchedSagasResourceKey = "Repository[" + sagaType.getSimpleName() + "]/PrefetchedSagas";
+        this.pendingUpdatesResourceKey = "Repository[" + sagaType.getSimpleName() + "]/PendingUpdates";
+        this.loadedStatesResourceKey = "Repository[" + sagaType.getSimpleName() + "]/LoadedStates";
     }
 
     /**
@@ -116,14 +135,62 @@ public AnnotatedSaga<T> doLoad(String sagaIdentifier) {
         });
 
         if (loadedSaga != null && unsavedSagaResource(processRoot).add(sagaIdentifier)) {
-            unitOfWork.onPrepareCommit(u -> {
-                unsavedSagaResource(processRoot).remove(sagaIdentifier);
-                commit(loadedSaga);
-            });
+            if (stateSerializer != null) {
+                loadedStates(processRoot).put(sagaIdentifier, serializeState(loadedSaga));
+            }
+            if (processRoot.resources().containsKey(prefetchedAssociationsResourceKey)) {
+                List<AnnotatedSaga<T>> pendingUpdates = pendingUpdates(processRoot);
+                if (pendingUpdates.isEmpty()) {
+                    processRoot.onPrepareCommit(u -> commitPendingUpdates(processRoot));
+                }
+                pendingUpdates.add(loadedSaga);
+            } else {
+                unitOfWork.onPrepareCommit(u -> {
+                    unsavedSagaResource(processRoot).remove(sagaIdentifier);
+                    if (!skipUnchanged(processRoot, loadedSaga)) {
+                        commit(loadedSaga);
+                    }
+                });
+            }
         }
         return loadedSaga;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation finds the sagas associated with the given {@code associationValues} in a single operation on
+     * the {@link SagaStore}, and locks and loads the sagas matching the given {@code sagaFilter} in a single operation.
+     * Subsequent invocations of {@link #find(AssociationValue)} and {@link #load(String)} in the current Unit of Work
+     * use the prefetched results. The sagas loaded in the current Unit of Work are updated in a single operation when
+     * it is committed.
+     */
+    @Override
+    public void prefetch(Set<AssociationValue> associationValues, Predicate<String> sagaFilter) {
+        UnitOfWork<?> processRoot = CurrentUnitOfWork.get().root();
+        Map<AssociationValue, Set<String>> prefetchedAssociations = prefetchedAssociations(processRoot);
+        Set<AssociationValue> unresolved = associationValues.stream()
+                                                            .filter(av -> !prefetchedAssociations.containsKey(av))
+                                                            .collect(Collectors.toSet());
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        Map<AssociationValue, Set<String>> found = sagaStore.findAllSagas(sagaType, unresolved);
+        unresolved.forEach(av -> prefetchedAssociations.put(av, found.getOrDefault(av, Collections.emptySet())));
+
+        Map<String, SagaStore.Entry<T>> prefetchedSagas = prefetchedSagas(processRoot);
+        Set<String> sagaIdentifiers = found.values().stream()
+                                           .flatMap(Set::stream)
+                                           .filter(sagaFilter)
+                                           .filter(id -> !managedSagas.containsKey(id))
+                                           .filter(id -> !prefetchedSagas.containsKey(id))
+                                           .collect(Collectors.toCollection(TreeSet::new));
+        if (!sagaIdentifiers.isEmpty()) {
+            sagaIdentifiers.forEach(this::lockSagaAccess);
+            prefetchedSagas.putAll(sagaStore.loadSagas(sagaType, sagaIdentifiers));
+        }
+    }
+
     @Override
     public AnnotatedSaga<T> doCreateInstance(String sagaIdentifier, Supplier<T> sagaFactory) {
         try {
@@ -161,6 +228,70 @@ protected Set<String> unsavedSagaResource(UnitOfWork<?> unitOfWork) {
         return unitOfWork.getOrComputeResource(unsavedSagasResourceKey, i -> new HashSet<>());
     }
 
+    private Map<AssociationValue, Set<String>> prefetchedAssociations(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(prefetchedAssociationsResourceKey, i -> new HashMap<>());
+    }
+
+    private Map<String, SagaStore.Entry<T>> prefetchedSagas(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(prefetchedSagasResourceKey, i -> new HashMap<>());
+    }
+
+    private List<AnnotatedSaga<T>> pendingUpdates(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(pendingUpdatesResourceKey, i -> new ArrayList<>());
+    }
+
+    private void commitPendingUpdates(UnitOfWork<?> processRoot) {
+        List<AnnotatedSaga<T>> pendingUpdates = pendingUpdates(processRoot);
+        List<AnnotatedSaga<T>> activeSagas = new ArrayList<>();
+        for (AnnotatedSaga<T> saga : pendingUpdates) {
+            unsavedSagaResource(processRoot).remove(saga.getSagaIdentifier());
+            if (!saga.isActive()) {
+                deleteSaga(saga);
+            } else if (!skipUnchanged(processRoot, saga)) {
+                activeSagas.add(saga);
+            }
+        }
+        pendingUpdates.clear();
+        if (!activeSagas.isEmpty()) {
+            updateSagas(activeSagas);
+            activeSagas.forEach(saga -> saga.getAssociationValues().commit());
+        }
+    }
+
+    private Map<String, byte[]> loadedStates(UnitOfWork<?> unitOfWork) {
+        return unitOfWork.getOrComputeResource(loadedStatesResourceKey, i -> new HashMap<>());
+    }
+
+    private byte[] serializeState(AnnotatedSaga<T> saga) {
+        return stateSerializer.serialize(saga.root(), byte[].class).getData();
+    }
+
+    private boolean skipUnchanged(UnitOfWork<?> processRoot, AnnotatedSaga<T> saga) {
+        if (stateSerializer == null) {
+            return false;
+        }
+        byte[] loadedState = loadedStates(processRoot).remove(saga.getSagaIdentifier());
+        if (loadedState == null || !saga.isActive()
+                || !saga.getAssociationValues().addedAssociations().isEmpty()
+                || !saga.getAssociationValues().removedAssociations().isEmpty()
+                || !Arrays.equals(loadedState, serializeState(saga))) {
+            return false;
+        }
+        skippedUpdates.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns the number of updates of loaded sagas that were skipped, because neither their state nor their
+     * associations changed while they were loaded. Updates are only skipped when a {@link
+     * Builder#stateSerializer(Serializer) state serializer} has been configured.
+     *
+     * @return the number of skipped saga updates
+     */
+    public long getSkippedUpdateCount() {
+        return skippedUpdates.get();
+    }
+
     /**
      * Commits the given modified {@code saga} to the underlying saga store. If the saga is not active anymore it will
      * be deleted. Otherwise the stored saga and its associations will be updated.
@@ -182,10 +313,20 @@ public Set<String> find(AssociationValue associationValue) {
         sagasFound.addAll(managedSagas.values().stream()
                                       .filter(saga -> saga.getAssociationValues().contains(associationValue))
                                       .map(Saga::getSagaIdentifier).collect(Collectors.toList()));
-        sagasFound.addAll(sagaStore.findSagas(sagaType, associationValue));
+        Set<String> prefetched = prefetchedSagaIdentifiers(associationValue);
+        sagasFound.addAll(prefetched != null ? prefetched : sagaStore.findSagas(sagaType, associationValue));
         return sagasFound;
     }
 
+    private Set<String> prefetchedSagaIdentifiers(AssociationValue associationValue) {
+        if (!CurrentUnitOfWork.isStarted()) {
+            return null;
+        }
+        Map<AssociationValue, Set<String>> prefetchedAssociations =
+                CurrentUnitOfWork.get().root().getResource(prefetchedAssociationsResourceKey);
+        return prefetchedAssociations == null ? null : prefetchedAssociations.get(associationValue);
+    }
+
     /**
      * Remove the given saga as well as all known association values pointing to it from the repository. If no such
      * saga exists, nothing happens.
@@ -208,6 +349,20 @@ protected void updateSaga(AnnotatedSaga<T> saga) {
         sagaStore.updateSaga(sagaType, saga.getSagaIdentifier(), saga.root(), saga.getAssociationValues());
     }
 
+    /**
+     * Update the stored Sagas, by replacing them with the given {@code sagas} instances. Used to update the sagas
+     * loaded in a Unit of Work for which the sagas have been {@link #prefetch(Set, Predicate) prefetched}.
+     *
+     * @param sagas The sagas that have been modified and need to be updated in the storage
+     */
+    protected void updateSagas(List<AnnotatedSaga<T>> sagas) {
+        sagaStore.updateSagas(sagaType, sagas.stream()
+                                             .map(saga -> new SagaStore.Update<>(saga.getSagaIdentifier(),
+                                                                                 saga.root(),
+                                                                                 saga.getAssociationValues()))
+                                             .collect(Collectors.toList()));
+    }
+
     /**
      * Stores a newly created Saga instance.
      *
@@ -226,7 +381,10 @@ protected void storeSaga(AnnotatedSaga<T> saga) {
      * @return AnnotatedSaga instance with the loaded saga
      */
     protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
-        SagaStore.Entry<T> entry = sagaStore.loadSaga(sagaType, sagaIdentifier);
+        SagaStore.Entry<T> entry = prefetchedSaga(sagaIdentifier);
+        if (entry == null) {
+            entry = sagaStore.loadSaga(sagaType, sagaIdentifier);
+        }
         if (entry != null) {
             T saga = entry.saga();
             resourceInjector.injectResources(saga);
@@ -235,6 +393,15 @@ protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
         return null;
     }
 
+    private SagaStore.Entry<T> prefetchedSaga(String sagaIdentifier) {
+        if (!CurrentUnitOfWork.isStarted()) {
+            return null;
+        }
+        Map<String, SagaStore.Entry<T>> prefetchedSagas =
+                CurrentUnitOfWork.get().root().getResource(prefetchedSagasResourceKey);
+        return prefetchedSagas == null ? null : prefetchedSagas.remove(sagaIdentifier);
+    }
+
     /**
      * Builder class to instantiate a {@link AnnotatedSagaRepository}.
      * <p>
@@ -256,6 +423,7 @@ protected AnnotatedSaga<T> doLoadSaga(String sagaIdentifier) {
         private SagaModel<T> sagaModel;
         private SagaStore<? super T> sagaStore;
         private ResourceInjector resourceInjector = NoResourceInjector.INSTANCE;
+        private Serializer stateSerializer;
 
         @Override
         public Builder<T> lockFactory(LockFactory lockFactory) {
@@ -347,6 +515,24 @@ public Builder<T> resourceInjector(ResourceInjector resourceInjector) {
             return this;
         }
 
+        /**
+         * Sets the {@link Serializer} used to detect changes to loaded {@link Saga} instances. When set, the state of
+         * each saga is serialized when it is loaded and compared with its state when the Unit of Work is committed.
+         * Sagas of which neither the serialized state nor the associations changed are not updated in the {@link
+         * SagaStore}. Defaults to {@code null}, in which case all loaded sagas are updated.
+         * <p>
+         * The serializer should produce the same output for equal state, and is preferably the serializer used by
+         * the SagaStore.
+         *
+         * @param stateSerializer a {@link Serializer} used to detect changes to loaded {@link Saga} instances
+         * @return the current Builder instance, for fluent interfacing
+         */
+        public Builder<T> stateSerializer(Serializer stateSerializer) {
+            assertNonNull(stateSerializer, "State Serializer may not be null");
+            this.stateSerializer = stateSerializer;
+            return this;
+        }
+
         /**
          * Initializes a {@link AnnotatedSagaRepository} as specified through this Builder.
          *
@@ -18,10 +18,14 @@
 
 import org.axonframework.modelling.saga.AssociationValue;
 
-import java.io.Serializable;
-import java.util.*;
-import java.util.concurrent.ConcurrentSkipListSet;
-
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * In-memory storage for AssociationValue to Saga mappings. A single AssociationValue can map to several Sagas, and a
@@ -30,21 +34,22 @@
  * Note that this "map" does not implement the Map interface. This is mainly due to the specific nature and intent of
  * this implementation. For example, the Map interface does not allow a single key to point to more than one value.
  * <p/>
- * This implementation is thread safe and has an expected average time cost of {@code log(n)}.
+ * Mappings are kept in a hash index on saga type, association key and association value. As saga types and
+ * association keys typically have few distinct values, these are encoded through a dictionary, sharing a single
+ * instance of each. An association value mapping to a single Saga refers to its identifier directly, rather than to a
+ * set of identifiers. Use {@link #forEachSaga(String, AssociationValue, Consumer)} to iterate over the Sagas mapped by
+ * an association value without allocating a result set.
+ * <p/>
+ * This implementation is thread safe and has an expected average time cost of {@code O(1)}.
  *
  * @author Allard Buijze
  * @since 0.7
  */
 public class AssociationValueMap {
 
-    private final NavigableSet<SagaAssociationValue> mappings;
-
-    /**
-     * Initializes a new and empty AssociationValueMap.
-     */
-    public AssociationValueMap() {
-        mappings = new ConcurrentSkipListSet<>(new AssociationValueComparator());
-    }
+    private final ConcurrentMap<String, String> dictionary = new ConcurrentHashMap<>();
+    private final ConcurrentMap<IndexKey, Object> mappings = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
 
     /**
      * Returns the identifiers of the Sagas that have been associated with the given {@code associationValue}.
@@ -55,18 +60,29 @@ public AssociationValueMap() {
      */
     public Set<String> findSagas(String sagaType, AssociationValue associationValue) {
         Set<String> identifiers = new HashSet<>();
-        for (SagaAssociationValue item : mappings.tailSet(new SagaAssociationValue(associationValue, sagaType, null))) {
-            if (!item.getKey().equals(associationValue.getKey())) {
-                // we've had all relevant items
-                break;
-            }
-            if (associationValue.equals(item.getAssociationValue()) && sagaType.equals(item.getSagaType())) {
-                identifiers.add(item.getSagaIdentifier());
-            }
-        }
+        forEachSaga(sagaType, associationValue, identifiers::add);
         return identifiers;
     }
 
+    /**
+     * Performs the given {@code action} for the identifier of each Saga that has been associated with the given {@code
+     * associationValue}.
+     *
+     * @param sagaType         The type of the associated Saga
+     * @param associationValue The associationValue to find Sagas for
+     * @param action           The action to perform for each Saga identifier
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachSaga(String sagaType, AssociationValue associationValue, Consumer<String> action) {
+        Object sagaIdentifiers =
+                mappings.get(new IndexKey(sagaType, associationValue.getKey(), associationValue.getValue()));
+        if (sagaIdentifiers instanceof String) {
+            action.accept((String) sagaIdentifiers);
+        } else if (sagaIdentifiers != null) {
+            ((Set<String>) sagaIdentifiers).forEach(action);
+        }
+    }
+
     /**
      * Adds an association between the given {@code associationValue} and {@code sagaIdentifier}.
      *
@@ -74,8 +90,30 @@ public Set<String> findSagas(String sagaType, AssociationValue associationValue)
      * @param sagaType         The type of the associated Saga
      * @param sagaIdentifier   The identifier of the associated Saga
      */
+    @SuppressWarnings("unchecked")
     public void add(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
-        mappings.add(new SagaAssociationValue(associationValue, sagaType, sagaIdentifier));
+        IndexKey indexKey = new IndexKey(encode(sagaType), encode(associationValue.getKey()),
+                                         associationValue.getValue());
+        mappings.compute(indexKey, (k, current) -> {
+            if (current == null) {
+                size.incrementAndGet();
+                return sagaIdentifier;
+            }
+            if (current instanceof String) {
+                if (current.equals(sagaIdentifier)) {
+                    return current;
+                }
+                Set<String> sagaIdentifiers = ConcurrentHashMap.newKeySet();
+                sagaIdentifiers.add((String) current);
+                sagaIdentifiers.add(sagaIdentifier);
+                size.incrementAndGet();
+                return sagaIdentifiers;
+            }
+            if (((Set<String>) current).add(sagaIdentifier)) {
+                size.incrementAndGet();
+            }
+            return current;
+        });
     }
 
     /**
@@ -85,8 +123,23 @@ public void add(AssociationValue associationValue, String sagaType, String sagaI
      * @param sagaType         The type of the associated Saga
      * @param sagaIdentifier   The identifier of the associated Saga
      */
+    @SuppressWarnings("unchecked")
     public void remove(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
-        mappings.remove(new SagaAssociationValue(associationValue, sagaType, sagaIdentifier));
+        IndexKey indexKey = new IndexKey(sagaType, associationValue.getKey(), associationValue.getValue());
+        mappings.computeIfPresent(indexKey, (k, current) -> {
+            if (current instanceof String) {
+                if (!current.equals(sagaIdentifier)) {
+                    return current;
+                }
+                size.decrementAndGet();
+                return null;
+            }
+            Set<String> sagaIdentifiers = (Set<String>) current;
+            if (sagaIdentifiers.remove(sagaIdentifier)) {
+                size.decrementAndGet();
+            }
+            return sagaIdentifiers.size() == 1 ? sagaIdentifiers.iterator().next() : sagaIdentifiers;
+        });
     }
 
     /**
@@ -94,6 +147,8 @@ public void remove(AssociationValue associationValue, String sagaType, String sa
      */
     public void clear() {
         mappings.clear();
+        dictionary.clear();
+        size.set(0);
     }
 
     /**
@@ -107,92 +162,50 @@ public boolean isEmpty() {
 
     /**
      * Returns an approximation of the size of this map. Due to the concurrent nature of this map, size cannot return
-     * an
-     * accurate value.
-     * <p/>
-     * This is not a constant-time operation. The backing store of this map requires full traversal of elements to
-     * calculate this size.
+     * an accurate value while associations are being added or removed.
      *
      * @return an approximation of the number of elements in this map
      */
     public int size() {
-        return mappings.size();
+        return size.get();
     }
 
-    private static final class SagaAssociationValue {
+    private String encode(String value) {
+        return dictionary.computeIfAbsent(value, Function.identity());
+    }
+
+    private static final class IndexKey {
 
-        private final AssociationValue associationValue;
         private final String sagaType;
-        private final String sagaIdentifier;
+        private final String key;
+        private final String value;
+        private final int hashCode;
 
-        private SagaAssociationValue(AssociationValue associationValue, String sagaType, String sagaIdentifier) {
-            this.associationValue = associationValue;
+        private IndexKey(String sagaType, String key, String value) {
             this.sagaType = sagaType;
-            this.sagaIdentifier = sagaIdentifier;
-        }
-
-        public AssociationValue getAssociationValue() {
-            return associationValue;
-        }
-
-        public String getSagaIdentifier() {
-            return sagaIdentifier;
+            this.key = key;
+            this.value = value;
+            this.hashCode = 31 * (31 * sagaType.hashCode() + key.hashCode()) + Objects.hashCode(value);
         }
 
-        public String getKey() {
-            return associationValue.getKey();
-        }
-
-        public Object getValue() {
-            return associationValue.getValue();
-        }
-
-        public String getSagaType() {
-            return sagaType;
-        }
-    }
-
-    private static class AssociationValueComparator implements Comparator<SagaAssociationValue>, Serializable {
-
-        private static final long serialVersionUID = -8733800489211327001L;
-
-        @SuppressWarnings({"unchecked"})
         @Override
-        public int compare(SagaAssociationValue o1, SagaAssociationValue o2) {
-            int value = o1.getKey().compareTo(o2.getKey());
-            if (value == 0 && !Objects.equals(o1.getValue(), o2.getValue())) {
-                value = o1.getValue().getClass().getName().compareTo(o2.getValue().getClass().getName());
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
-            if (value == 0 && !Objects.equals(o1.getValue(), o2.getValue())) {
-                // the objects are of the same class
-                if (o1.getValue() instanceof Comparable) {
-                    value = ((Comparable) o1.getValue()).compareTo(o2.getValue());
-                } else {
-                    value = o1.getValue().hashCode() - o2.getValue().hashCode();
-                    if (value == 0 && o1.getValue() != o2.getValue()) {
-                        value = o1.getValue().toString().compareTo(o2.getValue().toString());
-                    }
-                }
-            }
-
-            if (value == 0 && !Objects.equals(o1.getSagaType(), o2.getSagaType())) {
-                if (o1.getSagaType() == null) {
-                    return -1;
-                } else if (o2.getSagaType() == null) {
-                    return 1;
-                }
-                return o1.getSagaType().compareTo(o2.getSagaType());
+            if (o == null || getClass() != o.getClass()) {
+                return false;
             }
+            IndexKey other = (IndexKey) o;
+            return hashCode == other.hashCode
+                    && Objects.equals(value, other.value)
+                    && key.equals(other.key)
+                    && sagaType.equals(other.sagaType);
+        }
 
-            if (value == 0 && !Objects.equals(o1.getSagaIdentifier(), o2.getSagaIdentifier())) {
-                if (o1.getSagaIdentifier() == null) {
-                    return -1;
-                } else if (o2.getSagaIdentifier() == null) {
-                    return 1;
-                }
-                return o1.getSagaIdentifier().compareTo(o2.getSagaIdentifier());
-            }
-            return value;
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 }
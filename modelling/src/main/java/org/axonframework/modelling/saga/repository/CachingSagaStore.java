@@ -23,7 +23,10 @@
 import org.axonframework.modelling.saga.SagaRepository;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.axonframework.common.BuilderUtils.assertNonNull;
@@ -87,6 +90,30 @@ public Set<String> findSagas(Class<? extends T> sagaType, AssociationValue assoc
         return new HashSet<>(associations);
     }
 
+    @Override
+    public Map<AssociationValue, Set<String>> findAllSagas(Class<? extends T> sagaType,
+                                                            Set<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        Set<AssociationValue> uncached = new HashSet<>();
+        for (AssociationValue associationValue : associationValues) {
+            Set<String> associations = associationsCache.get(cacheKey(associationValue, sagaType));
+            if (associations == null) {
+                uncached.add(associationValue);
+            } else {
+                result.put(associationValue, new HashSet<>(associations));
+            }
+        }
+        if (!uncached.isEmpty()) {
+            Map<AssociationValue, Set<String>> found = delegate.findAllSagas(sagaType, uncached);
+            for (AssociationValue associationValue : uncached) {
+                Set<String> associations = found.getOrDefault(associationValue, new HashSet<>());
+                associationsCache.put(cacheKey(associationValue, sagaType), associations);
+                result.put(associationValue, new HashSet<>(associations));
+            }
+        }
+        return result;
+    }
+
     @Override
     public <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
         Entry<S> saga = sagaCache.get(sagaIdentifier);
@@ -99,6 +126,27 @@ public <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier)
         return saga;
     }
 
+    @Override
+    public <S extends T> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        Map<String, Entry<S>> result = new HashMap<>();
+        Set<String> uncached = new HashSet<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            Entry<S> saga = sagaCache.get(sagaIdentifier);
+            if (saga == null) {
+                uncached.add(sagaIdentifier);
+            } else {
+                result.put(sagaIdentifier, saga);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            delegate.loadSagas(sagaType, uncached).forEach((sagaIdentifier, saga) -> {
+                sagaCache.put(sagaIdentifier, new CacheEntry<T>(saga));
+                result.put(sagaIdentifier, saga);
+            });
+        }
+        return result;
+    }
+
     @Override
     public void insertSaga(Class<? extends T> sagaType, String sagaIdentifier, T saga,
                            Set<AssociationValue> associationValues) {
@@ -153,6 +201,19 @@ public void updateSaga(Class<? extends T> sagaType, String sagaIdentifier, T sag
         addCachedAssociations(associationValues.addedAssociations(), sagaIdentifier, sagaType);
     }
 
+    @Override
+    public void updateSagas(Class<? extends T> sagaType, Collection<? extends Update<? extends T>> sagas) {
+        sagas.forEach(update -> sagaCache.put(update.sagaIdentifier(),
+                                              new CacheEntry<>(update.saga(), update.associationValues().asSet())));
+        delegate.updateSagas(sagaType, sagas);
+        for (Update<? extends T> update : sagas) {
+            AssociationValues associationValues = update.associationValues();
+            associationValues.removedAssociations()
+                             .forEach(av -> removeAssociationValueFromCache(sagaType, update.sagaIdentifier(), av));
+            addCachedAssociations(associationValues.addedAssociations(), update.sagaIdentifier(), sagaType);
+        }
+    }
+
     private String cacheKey(AssociationValue associationValue, Class<?> sagaType) {
         return sagaType.getName() + "/" + associationValue.getKey() + "=" + associationValue.getValue();
     }
@@ -76,7 +76,13 @@ public Saga<T> createInstance(String sagaIdentifier, Supplier<T> factoryMethod)
         return doCreateInstance(sagaIdentifier, factoryMethod);
     }
 
-    private void lockSagaAccess(String sagaIdentifier) {
+    /**
+     * Locks access to sagas with the given {@code sagaIdentifier}, releasing the lock in the clean-up phase of the
+     * current {@link UnitOfWork}.
+     *
+     * @param sagaIdentifier The identifier of the saga to lock access to
+     */
+    protected void lockSagaAccess(String sagaIdentifier) {
         UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
         Lock lock = lockFactory.obtainLock(sagaIdentifier);
         unitOfWork.root().onCleanup(u -> lock.release());
@@ -19,6 +19,9 @@
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -39,6 +42,26 @@
      */
     Set<String> findSagas(Class<? extends T> sagaType, AssociationValue associationValue);
 
+    /**
+     * Returns identifiers of saga instances of the given {@code sagaType} that have been associated with any of the
+     * given {@code associationValues}, grouped by association value. The returned map contains an entry for each of
+     * the given association values, which is empty if no saga is associated with it.
+     * <p>
+     * The default implementation invokes {@link #findSagas(Class, AssociationValue)} for each association value.
+     * Implementations are encouraged to find the sagas for all association values in a single operation.
+     *
+     * @param sagaType          The type of the returned sagas
+     * @param associationValues The values that the returned sagas must be associated with
+     * @return A map of association value to the identifiers of sagas having the correct type and association value
+     */
+    default Map<AssociationValue, Set<String>> findAllSagas(Class<? extends T> sagaType,
+                                                             Set<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        associationValues.forEach(associationValue -> result.put(associationValue,
+                                                                 findSagas(sagaType, associationValue)));
+        return result;
+    }
+
     /**
      * Loads a known saga {@link Entry} instance with given {@code sagaType} and unique {@code sagaIdentifier}.
      * <p>
@@ -52,6 +75,28 @@
      */
     <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier);
 
+    /**
+     * Loads the known saga {@link Entry} instances with given {@code sagaType} and {@code sagaIdentifiers}. Sagas that
+     * do not exist are absent from the returned map.
+     * <p>
+     * The default implementation invokes {@link #loadSaga(Class, String)} for each identifier. Implementations are
+     * encouraged to load all sagas in a single operation.
+     *
+     * @param sagaType        The type of the returned saga entries
+     * @param sagaIdentifiers The unique identifiers of the returned saga entries
+     * @return A map of saga identifier to saga entry, containing the sagas that exist
+     */
+    default <S extends T> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        Map<String, Entry<S>> result = new HashMap<>();
+        for (String sagaIdentifier : sagaIdentifiers) {
+            Entry<S> entry = loadSaga(sagaType, sagaIdentifier);
+            if (entry != null) {
+                result.put(sagaIdentifier, entry);
+            }
+        }
+        return result;
+    }
+
     /**
      * Deletes a Saga with given {@code sagaType} and {@code sagaIdentifier} and all its associations. For convenience
      * all known association values are passed along as well, which has the  advantage that the saga store is not
@@ -87,6 +132,20 @@
      */
     void updateSaga(Class<? extends T> sagaType, String sagaIdentifier, T saga, AssociationValues associationValues);
 
+    /**
+     * Updates the given {@code sagas} after their state was modified.
+     * <p>
+     * The default implementation invokes {@link #updateSaga(Class, String, Object, AssociationValues)} for each saga.
+     * Implementations are encouraged to update all sagas in a single operation.
+     *
+     * @param sagaType The type of the Sagas
+     * @param sagas    The Saga instances to update, along with their identifiers and association values
+     */
+    default void updateSagas(Class<? extends T> sagaType, Collection<? extends Update<? extends T>> sagas) {
+        sagas.forEach(update -> updateSaga(sagaType, update.sagaIdentifier(), update.saga(),
+                                           update.associationValues()));
+    }
+
     /**
      * Interface describing a Saga entry fetched from a SagaStore.
      *
@@ -108,4 +167,59 @@
          */
         T saga();
     }
+
+    /**
+     * Describes the update of a single Saga, as passed to {@link #updateSagas(Class, Collection)}. It holds the same
+     * information that is passed to {@link #updateSaga(Class, String, Object, AssociationValues)}.
+     *
+     * @param <T> The type of the Saga
+     */
+    final class Update<T> {
+
+        private final String sagaIdentifier;
+        private final T saga;
+        private final AssociationValues associationValues;
+
+        /**
+         * Initialize an update of the Saga with given {@code sagaIdentifier} to the given {@code saga} instance and
+         * {@code associationValues}.
+         *
+         * @param sagaIdentifier    The identifier of the Saga
+         * @param saga              The Saga instance
+         * @param associationValues The association values of the Saga
+         */
+        public Update(String sagaIdentifier, T saga, AssociationValues associationValues) {
+            this.sagaIdentifier = sagaIdentifier;
+            this.saga = saga;
+            this.associationValues = associationValues;
+        }
+
+        /**
+         * Returns the identifier of the Saga to update.
+         *
+         * @return the identifier of the Saga
+         */
+        public String sagaIdentifier() {
+            return sagaIdentifier;
+        }
+
+        /**
+         * Returns the Saga instance to store.
+         *
+         * @return the Saga instance
+         */
+        public T saga() {
+            return saga;
+        }
+
+        /**
+         * Returns the association values of the Saga, including the associations added and removed since it was
+         * loaded.
+         *
+         * @return the association values of the Saga
+         */
+        public AssociationValues associationValues() {
+            return associationValues;
+        }
+    }
 }
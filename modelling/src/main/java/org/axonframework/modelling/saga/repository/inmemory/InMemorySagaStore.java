@@ -18,16 +18,17 @@
 
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.AssociationValues;
+import org.axonframework.modelling.saga.repository.AssociationValueMap;
 import org.axonframework.modelling.saga.repository.SagaStore;
 
-import java.util.Map;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
 
 /**
- * SagaRepository implementation that stores all Saga instances in memory.
+ * SagaRepository implementation that stores all Saga instances in memory. The associations of the Sagas are indexed in
+ * an {@link AssociationValueMap}, allowing Sagas to be found without inspecting all stored Sagas.
  *
  * @author Allard Buijze
  * @since 0.7
@@ -35,20 +36,28 @@
 public class InMemorySagaStore implements SagaStore<Object> {
 
     private final ConcurrentMap<String, ManagedSaga> managedSagas = new ConcurrentHashMap<>();
+    private final AssociationValueMap associations = new AssociationValueMap();
 
     @Override
     public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValue) {
-        return managedSagas.entrySet()
-                .stream()
-                .filter(avEntry -> sagaType.isInstance(avEntry.getValue().saga()))
-                .filter(avEntry -> avEntry.getValue().associationValues().contains(associationValue))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
+        Set<String> sagaIdentifiers = new HashSet<>();
+        associations.forEachSaga(sagaType.getName(), associationValue, sagaIdentifier -> {
+            ManagedSaga managedSaga = managedSagas.get(sagaIdentifier);
+            if (managedSaga != null && sagaType.isInstance(managedSaga.saga())) {
+                sagaIdentifiers.add(sagaIdentifier);
+            }
+        });
+        return sagaIdentifiers;
     }
 
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
-        managedSagas.remove(sagaIdentifier);
+        ManagedSaga removed = managedSagas.remove(sagaIdentifier);
+        if (removed != null) {
+            removed.associationValues()
+                   .forEach(associationValue -> associations.remove(associationValue, sagaType.getName(),
+                                                                     sagaIdentifier));
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -59,12 +68,27 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
 
     @Override
     public void insertSaga(Class<?> sagaType, String sagaIdentifier, Object saga, Set<AssociationValue> associationValues) {
-        managedSagas.put(sagaIdentifier, new ManagedSaga(saga, associationValues));
+        storeSaga(sagaType, sagaIdentifier, saga, associationValues);
     }
 
     @Override
     public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, AssociationValues associationValues) {
-        managedSagas.put(sagaIdentifier, new ManagedSaga(saga, associationValues.asSet()));
+        storeSaga(sagaType, sagaIdentifier, saga, associationValues.asSet());
+    }
+
+    private void storeSaga(Class<?> sagaType, String sagaIdentifier, Object saga,
+                           Set<AssociationValue> associationValues) {
+        Set<AssociationValue> currentAssociations = new HashSet<>(associationValues);
+        ManagedSaga previous = managedSagas.put(sagaIdentifier, new ManagedSaga(saga, currentAssociations));
+        if (previous != null) {
+            previous.associationValues()
+                    .stream()
+                    .filter(associationValue -> !currentAssociations.contains(associationValue))
+                    .forEach(associationValue -> associations.remove(associationValue, sagaType.getName(),
+                                                                      sagaIdentifier));
+        }
+        currentAssociations.forEach(associationValue -> associations.add(associationValue, sagaType.getName(),
+                                                                         sagaIdentifier));
     }
 
     /**
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.saga.repository.jdbc;
+
+import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Extension of the {@link SagaSqlSchema} describing the SQL statements that load, find and update multiple Sagas at
+ * once. The {@link JdbcSagaStore} uses these statements instead of the statements for a single Saga or association
+ * value when {@link #batchedQueriesEnabled()} returns {@code true}.
+ *
+ * @since 4.3
+ */
+public interface BatchingSagaSqlSchema extends SagaSqlSchema {
+
+    /**
+     * Indicates whether the Saga Store should use the statements of this schema for multiple Sagas. Implementations
+     * that derive their statements from a schema that may have been customized should only enable this when
+     * explicitly configured to do so.
+     * <p>
+     * Defaults to {@code true}.
+     *
+     * @return {@code true} if the statements for multiple Sagas should be used, {@code false} otherwise
+     */
+    default boolean batchedQueriesEnabled() {
+        return true;
+    }
+
+    /**
+     * Creates a PreparedStatement that loads the Sagas with given {@code sagaIds}. The result set contains the columns
+     * read by {@link #readSerializedSaga(java.sql.ResultSet)}, followed by the identifier of the Saga.
+     *
+     * @param connection The connection to create the PreparedStatement for
+     * @param sagaIds    The identifiers of the Sagas to return
+     * @return a statement, that creates a result set of serialized Sagas and their identifiers, when executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    PreparedStatement sql_loadSagas(Connection connection, Collection<String> sagaIds) throws SQLException;
+
+    /**
+     * Creates a PreparedStatement that finds identifiers of Sagas of given {@code sagaType} associated with any of the
+     * given {@code associationValues}. The result set contains the association key, association value and saga
+     * identifier, in that order. The result set may contain associations other than the given ones, which should be
+     * ignored.
+     *
+     * @param connection        The connection to create the PreparedStatement for
+     * @param associationValues The association values to find Sagas for
+     * @param sagaType          The type of saga to find associations for
+     * @return a PreparedStatement that creates a ResultSet containing associations and saga identifiers when executed
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    PreparedStatement sql_findAssocSagaIdentifiers(Connection connection,
+                                                   Collection<AssociationValue> associationValues,
+                                                   String sagaType) throws SQLException;
+
+    /**
+     * Creates a PreparedStatement that finds the associations of the Sagas of given {@code sagaType} and given {@code
+     * sagaIdentifiers}. The result set contains the association key, association value and saga identifier, in that
+     * order.
+     *
+     * @param connection      The connection to create the PreparedStatement for
+     * @param sagaIdentifiers The identifiers of the Sagas
+     * @param sagaType        The type of saga to find associations for
+     * @return a PreparedStatement that creates a ResultSet containing associations and saga identifiers
+     * @throws SQLException when an error occurs while creating the PreparedStatement
+     */
+    PreparedStatement sql_findAssociations(Connection connection, Collection<String> sagaIdentifiers,
+                                           String sagaType) throws SQLException;
+
+    /**
+     * Creates a PreparedStatement that updates the serialized form of the existing Saga entries given in {@code
+     * sagaEntries}, as a single batch. The statement is executed using {@link PreparedStatement#executeBatch()}, which
+     * returns the update count of each entry in the order given.
+     *
+     * @param connection  The connection to create the PreparedStatement for
+     * @param sagaEntries The serialized Sagas to update
+     * @return a statement that updates the Saga entries, when executed as a batch
+     * @throws SQLException when an error occurs creating the PreparedStatement
+     */
+    PreparedStatement sql_updateSagas(Connection connection, Collection<SagaEntry<?>> sagaEntries)
+            throws SQLException;
+}
@@ -16,6 +16,7 @@
 package org.axonframework.modelling.saga.repository.jdbc;
 
 import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.serialization.SerializedObject;
 import org.axonframework.serialization.SimpleSerializedObject;
 
@@ -23,6 +24,8 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -34,7 +37,7 @@
  * @author Allard Buijze
  * @since 2.2
  */
-public class GenericSagaSqlSchema implements SagaSqlSchema {
+public class GenericSagaSqlSchema implements BatchingSagaSqlSchema {
 
     private final SagaSchema sagaSchema;
 
@@ -64,6 +67,29 @@ public PreparedStatement sql_loadSaga(Connection connection, String sagaId) thro
         return preparedStatement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Statements for multiple Sagas are only used when enabled on the {@link SagaSchema} this schema is initialized
+     * with, as subclasses may have customized the statements for a single Saga.
+     */
+    @Override
+    public boolean batchedQueriesEnabled() {
+        return sagaSchema.batchedQueriesEnabled();
+    }
+
+    @Override
+    public PreparedStatement sql_loadSagas(Connection connection, Collection<String> sagaIds) throws SQLException {
+        final String sql = "SELECT serializedSaga, sagaType, revision, sagaId FROM " + sagaSchema.sagaEntryTable()
+                + " WHERE sagaId IN (" + parameters(sagaIds.size()) + ")";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        int index = 1;
+        for (String sagaId : sagaIds) {
+            preparedStatement.setString(index++, sagaId);
+        }
+        return preparedStatement;
+    }
+
     @Override
     public PreparedStatement sql_removeAssocValue(Connection connection, String key, String value, String sagaType,
             String sagaIdentifier) throws SQLException {
@@ -117,6 +143,49 @@ public PreparedStatement sql_findAssociations(Connection connection, String saga
         return preparedStatement;
     }
 
+    @Override
+    public PreparedStatement sql_findAssocSagaIdentifiers(Connection connection,
+                                                          Collection<AssociationValue> associationValues,
+                                                          String sagaType) throws SQLException {
+        Set<String> keys = new HashSet<>();
+        Set<String> values = new HashSet<>();
+        associationValues.forEach(associationValue -> {
+            keys.add(associationValue.getKey());
+            values.add(associationValue.getValue());
+        });
+        final String sql = "SELECT associationKey, associationValue, sagaId FROM "
+                + sagaSchema.associationValueEntryTable()
+                + " WHERE sagaType = ?"
+                + " AND associationKey IN (" + parameters(keys.size()) + ")"
+                + " AND associationValue IN (" + parameters(values.size()) + ")";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, sagaType);
+        int index = 2;
+        for (String key : keys) {
+            preparedStatement.setString(index++, key);
+        }
+        for (String value : values) {
+            preparedStatement.setString(index++, value);
+        }
+        return preparedStatement;
+    }
+
+    @Override
+    public PreparedStatement sql_findAssociations(Connection connection, Collection<String> sagaIdentifiers,
+                                                  String sagaType) throws SQLException {
+        final String sql = "SELECT associationKey, associationValue, sagaId FROM "
+                + sagaSchema.associationValueEntryTable()
+                + " WHERE sagaType = ?"
+                + " AND sagaId IN (" + parameters(sagaIdentifiers.size()) + ")";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        preparedStatement.setString(1, sagaType);
+        int index = 2;
+        for (String sagaIdentifier : sagaIdentifiers) {
+            preparedStatement.setString(index++, sagaIdentifier);
+        }
+        return preparedStatement;
+    }
+
     @Override
     public String readToken(ResultSet resultSet) {
         // tokens not supported by this implementation
@@ -161,6 +230,21 @@ public PreparedStatement sql_updateSaga(Connection connection, String sagaIdenti
         return preparedStatement;
     }
 
+    @Override
+    public PreparedStatement sql_updateSagas(Connection connection, Collection<SagaEntry<?>> sagaEntries)
+            throws SQLException {
+        final String sql = "UPDATE " + sagaSchema.sagaEntryTable()
+                + " SET serializedSaga = ?, revision = ? WHERE sagaId = ?";
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        for (SagaEntry<?> sagaEntry : sagaEntries) {
+            preparedStatement.setBytes(1, sagaEntry.getSerializedSaga());
+            preparedStatement.setString(2, sagaEntry.getRevision());
+            preparedStatement.setString(3, sagaEntry.getSagaId());
+            preparedStatement.addBatch();
+        }
+        return preparedStatement;
+    }
+
     @Override
     public PreparedStatement sql_storeSaga(Connection connection, String sagaIdentifier, String revision,
                                            String sagaType,
@@ -205,6 +289,10 @@ public SerializedObject<byte[]> readSerializedSaga(ResultSet resultSet) throws S
                                             resultSet.getString(3));
     }
 
+    private static String parameters(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     /**
      * Returns the {@link SagaSchema} used to configure this sql saga schema.
      *
@@ -27,6 +27,21 @@
  */
 public class HsqlSagaSqlSchema extends GenericSagaSqlSchema {
 
+    /**
+     * Initialize a HsqlSagaSqlSchema using the default schema configuration.
+     */
+    public HsqlSagaSqlSchema() {
+    }
+
+    /**
+     * Initialize a HsqlSagaSqlSchema using the given {@code sagaSchema}.
+     *
+     * @param sagaSchema the saga schema configuration
+     */
+    public HsqlSagaSqlSchema(SagaSchema sagaSchema) {
+        super(sagaSchema);
+    }
+
     @Override
     public PreparedStatement sql_createTableAssocValueEntry(Connection conn) throws SQLException {
         final String s = "create table AssociationValueEntry (\n" +
@@ -37,6 +37,12 @@
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -55,6 +61,7 @@
 public class JdbcSagaStore implements SagaStore<Object> {
 
     private static final Logger logger = LoggerFactory.getLogger(JdbcSagaStore.class);
+    private static final int MAX_IN_LIST_SIZE = 1000;
 
     private final ConnectionProvider connectionProvider;
     private final SagaSqlSchema sqlSchema;
@@ -122,6 +129,59 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
         }
     }
 
+    @Override
+    public <S> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        BatchingSagaSqlSchema batchingSqlSchema = batchingSqlSchema();
+        if (batchingSqlSchema == null) {
+            return SagaStore.super.loadSagas(sagaType, sagaIdentifiers);
+        }
+        Map<String, S> loadedSagas = new HashMap<>();
+        Map<String, Set<AssociationValue>> associations = new HashMap<>();
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            for (List<String> identifiers : partition(sagaIdentifiers)) {
+                statement = batchingSqlSchema.sql_loadSagas(conn, identifiers);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    SerializedObject<?> serializedSaga = sqlSchema.readSerializedSaga(resultSet);
+                    String sagaIdentifier = resultSet.getString(4);
+                    loadedSagas.put(sagaIdentifier, serializer.deserialize(serializedSaga));
+                    associations.put(sagaIdentifier, new HashSet<>());
+                }
+                closeQuietly(resultSet);
+                closeQuietly(statement);
+
+                statement = batchingSqlSchema.sql_findAssociations(conn, identifiers, sagaTypeName(sagaType));
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    Set<AssociationValue> sagaAssociations = associations.get(resultSet.getString(3));
+                    if (sagaAssociations != null) {
+                        sagaAssociations.add(new AssociationValue(resultSet.getString(1), resultSet.getString(2)));
+                    }
+                }
+                closeQuietly(resultSet);
+                closeQuietly(statement);
+            }
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while loading Sagas", e);
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(resultSet);
+            closeQuietly(conn);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Loaded saga ids {} of type [{}]", loadedSagas.keySet(), sagaType.getName());
+        }
+        Map<String, Entry<S>> result = new HashMap<>();
+        loadedSagas.forEach((sagaIdentifier, saga) -> result.put(
+                sagaIdentifier, new EntryImpl<>(associations.get(sagaIdentifier), saga)
+        ));
+        return result;
+    }
+
     @Override
     public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValue) {
         ResultSet resultSet = null;
@@ -147,6 +207,42 @@ public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValu
         }
     }
 
+    @Override
+    public Map<AssociationValue, Set<String>> findAllSagas(Class<?> sagaType, Set<AssociationValue> associationValues) {
+        BatchingSagaSqlSchema batchingSqlSchema = batchingSqlSchema();
+        if (batchingSqlSchema == null) {
+            return SagaStore.super.findAllSagas(sagaType, associationValues);
+        }
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        associationValues.forEach(associationValue -> result.put(associationValue, new TreeSet<>()));
+        ResultSet resultSet = null;
+        PreparedStatement statement = null;
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            for (List<AssociationValue> values : partition(associationValues)) {
+                statement = batchingSqlSchema.sql_findAssocSagaIdentifiers(conn, values, sagaTypeName(sagaType));
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    Set<String> sagaIdentifiers =
+                            result.get(new AssociationValue(resultSet.getString(1), resultSet.getString(2)));
+                    if (sagaIdentifiers != null) {
+                        sagaIdentifiers.add(resultSet.getString(3));
+                    }
+                }
+                closeQuietly(resultSet);
+                closeQuietly(statement);
+            }
+            return result;
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception while reading saga associations", e);
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(resultSet);
+            closeQuietly(conn);
+        }
+    }
+
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
         PreparedStatement statement1 = null;
@@ -188,24 +284,7 @@ public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, As
             );
             updateCount = statement.executeUpdate();
             if (updateCount != 0) {
-                for (AssociationValue associationValue : associationValues.addedAssociations()) {
-                    closeQuietly(statement);
-                    statement = sqlSchema.sql_storeAssocValue(conn,
-                                                              associationValue.getKey(),
-                                                              associationValue.getValue(),
-                                                              sagaTypeName(sagaType),
-                                                              sagaIdentifier);
-                    statement.executeUpdate();
-                }
-                for (AssociationValue associationValue : associationValues.removedAssociations()) {
-                    closeQuietly(statement);
-                    statement = sqlSchema.sql_removeAssocValue(conn,
-                                                               associationValue.getKey(),
-                                                               associationValue.getValue(),
-                                                               sagaTypeName(sagaType),
-                                                               sagaIdentifier);
-                    statement.executeUpdate();
-                }
+                updateAssociations(conn, sagaTypeName(sagaType), sagaIdentifier, associationValues);
             }
         } catch (SQLException e) {
             throw new SagaStorageException("Exception occurred while attempting to update a saga", e);
@@ -220,6 +299,82 @@ public void updateSaga(Class<?> sagaType, String sagaIdentifier, Object saga, As
         }
     }
 
+    @Override
+    public void updateSagas(Class<?> sagaType, Collection<? extends Update<?>> sagas) {
+        if (sagas.isEmpty()) {
+            return;
+        }
+        BatchingSagaSqlSchema batchingSqlSchema = batchingSqlSchema();
+        if (batchingSqlSchema == null) {
+            SagaStore.super.updateSagas(sagaType, sagas);
+            return;
+        }
+        List<SagaEntry<?>> entries = new ArrayList<>();
+        for (Update<?> update : sagas) {
+            SagaEntry<?> entry = new SagaEntry<>(update.saga(), update.sagaIdentifier(), serializer);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Updating saga id {} as {}", update.sagaIdentifier(),
+                             new String(entry.getSerializedSaga(), Charset.forName("UTF-8")));
+            }
+            entries.add(entry);
+        }
+
+        List<Update<?>> missingSagas = new ArrayList<>();
+        PreparedStatement statement = null;
+        Connection conn = null;
+        try {
+            conn = connectionProvider.getConnection();
+            statement = batchingSqlSchema.sql_updateSagas(conn, entries);
+            int[] updateCounts = statement.executeBatch();
+            int index = 0;
+            for (Update<?> update : sagas) {
+                if (updateCounts[index++] == 0) {
+                    missingSagas.add(update);
+                } else {
+                    updateAssociations(conn, sagaTypeName(sagaType), update.sagaIdentifier(),
+                                       update.associationValues());
+                }
+            }
+        } catch (SQLException e) {
+            throw new SagaStorageException("Exception occurred while attempting to update Sagas", e);
+        } finally {
+            closeQuietly(statement);
+            closeQuietly(conn);
+        }
+
+        for (Update<?> update : missingSagas) {
+            logger.warn("Expected to be able to update a Saga instance, but no rows were found. Inserting instead.");
+            insertSaga(sagaType, update.sagaIdentifier(), update.saga(), update.associationValues().asSet());
+        }
+    }
+
+    private void updateAssociations(Connection conn, String sagaTypeName, String sagaIdentifier,
+                                    AssociationValues associationValues) throws SQLException {
+        PreparedStatement statement = null;
+        try {
+            for (AssociationValue associationValue : associationValues.addedAssociations()) {
+                closeQuietly(statement);
+                statement = sqlSchema.sql_storeAssocValue(conn,
+                                                          associationValue.getKey(),
+                                                          associationValue.getValue(),
+                                                          sagaTypeName,
+                                                          sagaIdentifier);
+                statement.executeUpdate();
+            }
+            for (AssociationValue associationValue : associationValues.removedAssociations()) {
+                closeQuietly(statement);
+                statement = sqlSchema.sql_removeAssocValue(conn,
+                                                           associationValue.getKey(),
+                                                           associationValue.getValue(),
+                                                           sagaTypeName,
+                                                           sagaIdentifier);
+                statement.executeUpdate();
+            }
+        } finally {
+            closeQuietly(statement);
+        }
+    }
+
     @Override
     public void insertSaga(Class<?> sagaType, String sagaIdentifier, Object saga,
                            Set<AssociationValue> associationValues) {
@@ -267,6 +422,30 @@ private Set<AssociationValue> loadAssociations(final Connection conn, final Stri
     }
 
 
+    private BatchingSagaSqlSchema batchingSqlSchema() {
+        if (sqlSchema instanceof BatchingSagaSqlSchema
+                && ((BatchingSagaSqlSchema) sqlSchema).batchedQueriesEnabled()) {
+            return (BatchingSagaSqlSchema) sqlSchema;
+        }
+        return null;
+    }
+
+    private static <E> List<List<E>> partition(Collection<E> elements) {
+        List<List<E>> partitions = new ArrayList<>();
+        List<E> current = new ArrayList<>();
+        for (E element : elements) {
+            if (current.size() == MAX_IN_LIST_SIZE) {
+                partitions.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(element);
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
     private String sagaTypeName(Class<?> sagaType) {
         return serializer.typeForClass(sagaType).getName();
     }
@@ -342,7 +521,9 @@ public Builder dataSource(DataSource dataSource) {
 
         /**
          * Sets the {@link SagaSqlSchema} defining the SQL operations to execute for this {@link SagaStore}
-         * implementation. Defaults to a {@link GenericSagaSqlSchema}.
+         * implementation. Multiple Sagas are loaded, found and updated using a single statement if the schema is a
+         * {@link BatchingSagaSqlSchema} with {@link BatchingSagaSqlSchema#batchedQueriesEnabled() batched queries
+         * enabled}. Defaults to a {@link GenericSagaSqlSchema}.
          *
          * @param sqlSchema the {@link SagaSqlSchema} defining the SQL operations to execute for this {@link SagaStore}
          *                  implementation
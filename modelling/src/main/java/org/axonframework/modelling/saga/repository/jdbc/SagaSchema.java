@@ -31,6 +31,7 @@ public class SagaSchema {
 
     private final String sagaEntryTable;
     private final String associationValueEntryTable;
+    private final boolean batchedQueriesEnabled;
 
     /**
      * Initialize SagaSchema with default values.
@@ -46,8 +47,24 @@ public SagaSchema() {
      * @param associationValueEntryTable  The name of the association value table
      */
     public SagaSchema(String sagaEntryTable, String associationValueEntryTable) {
+        this(sagaEntryTable, associationValueEntryTable, false);
+    }
+
+    /**
+     * Initialize SagaSchema with custom locations for event entry tables, indicating whether statements loading, finding
+     * and updating multiple Sagas at once should be used. These statements are only used by schemas that support them,
+     * such as the {@link GenericSagaSqlSchema}. Schemas overriding the statements for a single Saga, for example to use
+     * custom column names, should only enable them when the statements for multiple Sagas are adjusted accordingly.
+     *
+     * @param sagaEntryTable             The name of the entry table
+     * @param associationValueEntryTable The name of the association value table
+     * @param batchedQueriesEnabled      Whether statements loading, finding and updating multiple Sagas at once should
+     *                                   be used
+     */
+    public SagaSchema(String sagaEntryTable, String associationValueEntryTable, boolean batchedQueriesEnabled) {
         this.sagaEntryTable = sagaEntryTable;
         this.associationValueEntryTable = associationValueEntryTable;
+        this.batchedQueriesEnabled = batchedQueriesEnabled;
     }
 
     /**
@@ -67,4 +84,14 @@ public String associationValueEntryTable() {
     public String sagaEntryTable() {
         return sagaEntryTable;
     }
+
+    /**
+     * Returns whether statements loading, finding and updating multiple Sagas at once should be used. Defaults to
+     * {@code false}.
+     *
+     * @return whether statements loading, finding and updating multiple Sagas at once should be used
+     */
+    public boolean batchedQueriesEnabled() {
+        return batchedQueriesEnabled;
+    }
 }
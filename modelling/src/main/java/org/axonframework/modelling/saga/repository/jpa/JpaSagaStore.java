@@ -31,8 +31,12 @@
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityNotFoundException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Supplier;
@@ -53,6 +57,7 @@
  */
 public class JpaSagaStore implements SagaStore<Object> {
 
+    private static final int MAX_IN_LIST_SIZE = 1000;
     private static final Logger logger = LoggerFactory.getLogger(JpaSagaStore.class);
 
 
@@ -62,6 +67,9 @@ public class JpaSagaStore implements SagaStore<Object> {
                     "se.serializedSaga, se.sagaType, se.revision) " + "FROM " + sagaEntryEntityName() + " se " +
                     "WHERE se.sagaId = :sagaId";
 
+    private final String LOAD_SAGAS_QUERY =
+            "SELECT se.sagaId, se.serializedSaga, se.sagaType, se.revision " +
+                    "FROM " + sagaEntryEntityName() + " se WHERE se.sagaId IN :sagaIds";
 
     private final String DELETE_SAGA_QUERY = "DELETE FROM " + sagaEntryEntityName() + " se WHERE se.sagaId = :id";
 
@@ -79,16 +87,27 @@ public class JpaSagaStore implements SagaStore<Object> {
             "SELECT ae.sagaId FROM AssociationValueEntry ae WHERE ae.associationKey = :associationKey " +
                     "AND ae.associationValue = :associationValue AND ae.sagaType = :sagaType";
 
+    private static final String FIND_ASSOCIATION_ENTRIES_BY_VALUES_QUERY =
+            "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType " +
+                    "AND ae.associationKey IN :associationKeys AND ae.associationValue IN :associationValues";
+
     private static final String FIND_ASSOCIATIONS_QUERY =
             "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType AND ae.sagaId = :sagaId";
 
+    private static final String FIND_ASSOCIATIONS_BY_SAGA_IDS_QUERY =
+            "SELECT ae FROM AssociationValueEntry ae WHERE ae.sagaType = :sagaType AND ae.sagaId IN :sagaIds";
+
     private static final String DELETE_ASSOCIATIONS_QUERY =
             "DELETE FROM AssociationValueEntry ae WHERE ae.sagaId = :sagaId";
 
     private static final String LOAD_SAGA_NAMED_QUERY = "LOAD_SAGA_NAMED_QUERY";
+    private static final String LOAD_SAGAS_NAMED_QUERY = "LOAD_SAGAS_NAMED_QUERY";
     private static final String DELETE_ASSOCIATION_NAMED_QUERY = "DELETE_ASSOCIATION_NAMED_QUERY";
     private static final String FIND_ASSOCIATION_IDS_NAMED_QUERY = "FIND_ASSOCIATION_IDS_NAMED_QUERY";
+    private static final String FIND_ASSOCIATION_ENTRIES_BY_VALUES_NAMED_QUERY =
+            "FIND_ASSOCIATION_ENTRIES_BY_VALUES_NAMED_QUERY";
     private static final String FIND_ASSOCIATIONS_NAMED_QUERY = "FIND_ASSOCIATIONS_NAMED_QUERY";
+    private static final String FIND_ASSOCIATIONS_BY_SAGA_IDS_NAMED_QUERY = "FIND_ASSOCIATIONS_BY_SAGA_IDS_NAMED_QUERY";
     private static final String DELETE_ASSOCIATIONS_NAMED_QUERY = "DELETE_ASSOCIATIONS_NAMED_QUERY";
     private static final String DELETE_SAGA_NAMED_QUERY = "DELETE_SAGA_NAMED_QUERY";
     private static final String UPDATE_SAGA_NAMED_QUERY = "UPDATE_SAGA_NAMED_QUERY";
@@ -128,6 +147,7 @@ public static Builder builder() {
     private void addNamedQueriesTo(EntityManager entityManager) {
         EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
         entityManagerFactory.addNamedQuery(LOAD_SAGA_NAMED_QUERY, entityManager.createQuery(LOAD_SAGA_QUERY));
+        entityManagerFactory.addNamedQuery(LOAD_SAGAS_NAMED_QUERY, entityManager.createQuery(LOAD_SAGAS_QUERY));
         entityManagerFactory.addNamedQuery(
                 DELETE_ASSOCIATION_NAMED_QUERY, entityManager.createQuery(DELETE_ASSOCIATION_QUERY)
         );
@@ -136,9 +156,16 @@ private void addNamedQueriesTo(EntityManager entityManager) {
         entityManagerFactory.addNamedQuery(
                 DELETE_ASSOCIATIONS_NAMED_QUERY, entityManager.createQuery(DELETE_ASSOCIATIONS_QUERY)
         );
+        entityManagerFactory.addNamedQuery(
+                FIND_ASSOCIATION_ENTRIES_BY_VALUES_NAMED_QUERY,
+                entityManager.createQuery(FIND_ASSOCIATION_ENTRIES_BY_VALUES_QUERY)
+        );
         entityManagerFactory.addNamedQuery(
                 FIND_ASSOCIATIONS_NAMED_QUERY, entityManager.createQuery(FIND_ASSOCIATIONS_QUERY)
         );
+        entityManagerFactory.addNamedQuery(
+                FIND_ASSOCIATIONS_BY_SAGA_IDS_NAMED_QUERY, entityManager.createQuery(FIND_ASSOCIATIONS_BY_SAGA_IDS_QUERY)
+        );
         entityManagerFactory.addNamedQuery(DELETE_SAGA_NAMED_QUERY, entityManager.createQuery(DELETE_SAGA_QUERY));
         entityManagerFactory.addNamedQuery(UPDATE_SAGA_NAMED_QUERY, entityManager.createQuery(UPDATE_SAGA_QUERY));
     }
@@ -167,6 +194,48 @@ public <S> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
         return new EntryImpl<>(associationValues, loadedSaga);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation loads the serialized sagas with a single query, and the associations of these sagas with
+     * another. Large sets of identifiers are split into chunks of at most 1000 identifiers, each loaded with its own
+     * pair of queries.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S> Map<String, Entry<S>> loadSagas(Class<S> sagaType, Set<String> sagaIdentifiers) {
+        Map<String, Entry<S>> result = new HashMap<>();
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        for (List<String> identifiers : partition(sagaIdentifiers)) {
+            Map<String, Set<AssociationValue>> associationValues = new HashMap<>();
+            entityManager.createNamedQuery(FIND_ASSOCIATIONS_BY_SAGA_IDS_NAMED_QUERY, AssociationValueEntry.class)
+                         .setParameter("sagaType", getSagaTypeName(sagaType))
+                         .setParameter("sagaIds", identifiers)
+                         .getResultList()
+                         .forEach(entry -> associationValues.computeIfAbsent(entry.getSagaIdentifier(),
+                                                                             id -> new HashSet<>())
+                                                            .add(entry.getAssociationValue()));
+
+            List<Object[]> serializedSagas = entityManager.createNamedQuery(LOAD_SAGAS_NAMED_QUERY, Object[].class)
+                                                          .setParameter("sagaIds", identifiers)
+                                                          .getResultList();
+            for (Object[] serializedSaga : serializedSagas) {
+                String sagaIdentifier = (String) serializedSaga[0];
+                S loadedSaga = serializer.deserialize(new SimpleSerializedObject<>(
+                        serializedSaga[1], (Class<Object>) serializedSaga[1].getClass(),
+                        (String) serializedSaga[2], (String) serializedSaga[3]
+                ));
+                result.put(sagaIdentifier, new EntryImpl<>(
+                        associationValues.getOrDefault(sagaIdentifier, new HashSet<>()), loadedSaga
+                ));
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Loaded saga ids {} of type [{}]", result.keySet(), sagaType.getName());
+        }
+        return result;
+    }
+
     /**
      * Loads the {@link AssociationValue association values} of the saga with given {@code sagaIdentifier} and {@code
      * sagaType}.
@@ -237,6 +306,35 @@ public Set<String> findSagas(Class<?> sagaType, AssociationValue associationValu
         return new TreeSet<>(entries);
     }
 
+    @Override
+    public Map<AssociationValue, Set<String>> findAllSagas(Class<?> sagaType, Set<AssociationValue> associationValues) {
+        Map<AssociationValue, Set<String>> result = new HashMap<>();
+        associationValues.forEach(associationValue -> result.put(associationValue, new TreeSet<>()));
+        if (associationValues.isEmpty()) {
+            return result;
+        }
+        EntityManager entityManager = entityManagerProvider.getEntityManager();
+        for (List<AssociationValue> chunk : partition(associationValues)) {
+            // the query may match combinations of keys and values that were not requested, which are ignored below
+            Set<String> keys = chunk.stream().map(AssociationValue::getKey).collect(Collectors.toSet());
+            Set<String> values = chunk.stream().map(AssociationValue::getValue).collect(Collectors.toSet());
+            List<AssociationValueEntry> entries =
+                    entityManager.createNamedQuery(FIND_ASSOCIATION_ENTRIES_BY_VALUES_NAMED_QUERY,
+                                                   AssociationValueEntry.class)
+                                 .setParameter("sagaType", getSagaTypeName(sagaType))
+                                 .setParameter("associationKeys", keys)
+                                 .setParameter("associationValues", values)
+                                 .getResultList();
+            for (AssociationValueEntry entry : entries) {
+                Set<String> sagaIdentifiers = result.get(entry.getAssociationValue());
+                if (sagaIdentifiers != null) {
+                    sagaIdentifiers.add(entry.getSagaIdentifier());
+                }
+            }
+        }
+        return result;
+    }
+
     @Override
     public void deleteSaga(Class<?> sagaType, String sagaIdentifier, Set<AssociationValue> associationValues) {
         EntityManager entityManager = entityManagerProvider.getEntityManager();
@@ -319,6 +417,22 @@ public void setUseExplicitFlush(boolean useExplicitFlush) {
         this.useExplicitFlush = useExplicitFlush;
     }
 
+    private static <E> List<List<E>> partition(Collection<E> elements) {
+        List<List<E>> partitions = new ArrayList<>();
+        List<E> current = new ArrayList<>();
+        for (E element : elements) {
+            if (current.size() == MAX_IN_LIST_SIZE) {
+                partitions.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(element);
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
     /**
      * Intended for clients to override. Defaults to {@link SagaEntry}.
      *
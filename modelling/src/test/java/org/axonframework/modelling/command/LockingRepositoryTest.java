@@ -31,12 +31,18 @@
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
@@ -49,14 +55,19 @@ public class LockingRepositoryTest {
     private EventBus mockEventBus;
     private LockFactory lockFactory;
     private Lock lock;
+    private List<Lock> obtainedLocks;
     private static final Message<?> MESSAGE = new GenericMessage<Object>("test");
 
     @Before
     public void setUp() {
         mockEventBus = mock(EventBus.class);
         lockFactory = spy(PessimisticLockFactory.usingDefaults());
-        when(lockFactory.obtainLock(anyString()))
-                .thenAnswer(invocation -> lock = spy((Lock) invocation.callRealMethod()));
+        obtainedLocks = new ArrayList<>();
+        when(lockFactory.obtainLock(anyString())).thenAnswer(invocation -> {
+            lock = spy((Lock) invocation.callRealMethod());
+            obtainedLocks.add(lock);
+            return lock;
+        });
         testSubject = InMemoryLockingRepository.builder().lockFactory(lockFactory).eventStore(mockEventBus).build();
         testSubject = spy(testSubject);
         while (CurrentUnitOfWork.isStarted()) {
@@ -168,6 +179,60 @@ public void testLoadAndStoreAggregate_PessimisticLockReleasedOnException() throw
         verify(lock).release();
     }
 
+    @Test
+    public void testLoadAllObtainsLocksInNaturalOrderOfIdentifiers() throws Exception {
+        startAndGetUnitOfWork();
+        StubAggregate first = new StubAggregate("a");
+        StubAggregate second = new StubAggregate("b");
+        StubAggregate third = new StubAggregate("c");
+        for (StubAggregate aggregate : Arrays.asList(first, second, third)) {
+            testSubject.newInstance(() -> aggregate).execute(StubAggregate::doSomething);
+        }
+        CurrentUnitOfWork.commit();
+        clearInvocations(lockFactory);
+        obtainedLocks.clear();
+
+        startAndGetUnitOfWork();
+        Map<String, Aggregate<StubAggregate>> result = testSubject.loadAll(Arrays.asList("c", "a", "b", "a"));
+
+        InOrder inOrder = inOrder(lockFactory);
+        inOrder.verify(lockFactory).obtainLock("a");
+        inOrder.verify(lockFactory).obtainLock("b");
+        inOrder.verify(lockFactory).obtainLock("c");
+        assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(result.keySet()));
+        assertSame(testSubject.load("a"), result.get("a"));
+
+        result.values().forEach(aggregate -> aggregate.execute(StubAggregate::doSomething));
+        CurrentUnitOfWork.commit();
+
+        verify(mockEventBus, times(6)).publish(any(EventMessage.class));
+        assertEquals(3, obtainedLocks.size());
+        obtainedLocks.forEach(lock -> verify(lock).release());
+    }
+
+    @Test
+    public void testLoadAllReleasesObtainedLocksWhenAggregateCannotBeLoaded() throws Exception {
+        startAndGetUnitOfWork();
+        StubAggregate aggregate = new StubAggregate("a");
+        testSubject.newInstance(() -> aggregate).execute(StubAggregate::doSomething);
+        CurrentUnitOfWork.commit();
+        obtainedLocks.clear();
+
+        startAndGetUnitOfWork();
+        try {
+            testSubject.loadAll(Arrays.asList("a", "unknown"));
+            fail("Expected AggregateNotFoundException");
+        } catch (AggregateNotFoundException e) {
+            assertEquals("unknown", e.getAggregateIdentifier());
+        }
+
+        assertEquals(2, obtainedLocks.size());
+        obtainedLocks.forEach(lock -> {
+            verify(lock).release();
+            assertFalse(lock.isHeld());
+        });
+    }
+
     private UnitOfWork<?> startAndGetUnitOfWork() {
         UnitOfWork<?> uow = DefaultUnitOfWork.startAndGet(MESSAGE);
         return uow;
@@ -204,7 +269,11 @@ protected void doDeleteWithLock(Aggregate<StubAggregate> aggregate) {
 
         @Override
         protected Aggregate<StubAggregate> doLoadWithLock(String aggregateIdentifier, Long expectedVersion) {
-            return store.get(aggregateIdentifier);
+            Aggregate<StubAggregate> aggregate = store.get(aggregateIdentifier);
+            if (aggregate == null) {
+                throw new AggregateNotFoundException(aggregateIdentifier, "Aggregate not found");
+            }
+            return aggregate;
         }
 
         @Override
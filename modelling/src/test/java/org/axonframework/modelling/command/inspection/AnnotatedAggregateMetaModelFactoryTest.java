@@ -36,6 +36,7 @@
 import java.lang.annotation.Target;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -229,6 +230,22 @@ public void testEventIsPublishedThroughoutHierarchy() {
         assertEquals(2L, payload.get());
     }
 
+    @Test
+    public void testEventIsOnlyRoutedToEntitiesHandlingItsPayloadType() {
+        AggregateModel<SomeAggregateWithRoutedEntities> inspector =
+                AnnotatedAggregateMetaModelFactory.inspectAggregate(SomeAggregateWithRoutedEntities.class);
+        SomeAggregateWithRoutedEntities target = new SomeAggregateWithRoutedEntities();
+        AtomicLong payload = new AtomicLong();
+
+        inspector.publish(asEventMessage(payload), target);
+        inspector.publish(asEventMessage("not handled by entities"), target);
+        inspector.publish(asEventMessage(payload), target);
+
+        assertEquals(2L, payload.get());
+        assertEquals(1, target.handledStrings);
+        assertEquals(2, target.entities.iterations);
+    }
+
     @Test
     public void testExpectCommandToBeForwardedToEntity() throws Exception {
         AggregateModel<SomeSubclass> inspector =
@@ -391,6 +408,29 @@ private static class PolyMorphAggregate {
         private Object entity = new SomeOtherEntity();
     }
 
+    @SuppressWarnings("unused")
+    @AggregateRoot
+    private static class SomeAggregateWithRoutedEntities {
+
+        @AggregateMember
+        private final CountingIterable<SomeRoutedEntity> entities =
+                new CountingIterable<>(new LinkedList<>(Collections.singletonList(new SomeRoutedEntity())));
+        private int handledStrings;
+
+        @EventHandler
+        public void handle(String value) {
+            handledStrings++;
+        }
+    }
+
+    private static class SomeRoutedEntity {
+
+        @EventHandler
+        public void handle(Number value) {
+            ((AtomicLong) value).incrementAndGet();
+        }
+    }
+
     private static class CustomIdentifier {
 
     }
@@ -574,4 +614,19 @@ public int size() {
             return contents.size();
         }
     }
+
+    private static class CountingIterable<T> extends SomeIterable<T> {
+
+        private int iterations;
+
+        public CountingIterable(Collection<T> contents) {
+            super(contents);
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            iterations++;
+            return super.spliterator();
+        }
+    }
 }
@@ -21,6 +21,7 @@
 import org.axonframework.eventhandling.Segment;
 import org.axonframework.messaging.ResultMessage;
 import org.axonframework.messaging.annotation.MetaDataValue;
+import org.axonframework.messaging.unitofwork.BatchingUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.modelling.saga.repository.AnnotatedSagaRepository;
 import org.axonframework.modelling.saga.repository.SagaStore;
@@ -28,7 +29,9 @@
 import org.axonframework.modelling.utils.StubDomainEvent;
 import org.junit.*;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -144,6 +147,30 @@ public void testLifecycle_DestroyedOnEnd() throws Exception {
         assertEquals(0, repositoryContents("12").size());
     }
 
+    @Test
+    public void testSagasArePrefetchedOnceForEachBatch() throws Exception {
+        handle(new GenericEventMessage<>(new StartingEvent("12")));
+        handle(new GenericEventMessage<>(new StartingEvent("23")));
+
+        BatchingUnitOfWork<EventMessage<?>> unitOfWork = new BatchingUnitOfWork<>(Arrays.asList(
+                new GenericEventMessage<>(new MiddleEvent("12")),
+                new GenericEventMessage<>(new MiddleEvent("23")),
+                new GenericEventMessage<>(new EndingEvent("12"))
+        ));
+        ResultMessage<?> resultMessage = unitOfWork.executeWithResult(() -> {
+            manager.handle(unitOfWork.getMessage(), Segment.ROOT_SEGMENT);
+            return null;
+        });
+
+        assertFalse(resultMessage.isExceptional());
+        verify(sagaRepository).prefetch(eq(new HashSet<>(Arrays.asList(
+                new AssociationValue("myIdentifier", "12"), new AssociationValue("myIdentifier", "23")
+        ))), any());
+        assertEquals(0, repositoryContents("12").size());
+        assertEquals(1, repositoryContents("23").size());
+        assertEquals(2, repositoryContents("23").iterator().next().getCapturedEvents().size());
+    }
+
     @Test
     public void testNullAssociationValueDoesNotThrowNullPointer() throws Exception {
         handle(asEventMessage(new StartingEvent(null)));
@@ -23,12 +23,14 @@
 import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
 import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
 import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.serialization.xml.XStreamSerializer;
 import org.junit.*;
 import org.mockito.*;
 
 import java.util.HashSet;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.axonframework.messaging.unitofwork.DefaultUnitOfWork.startAndGet;
 import static org.junit.Assert.*;
@@ -145,4 +147,63 @@ public void testSagaAssociationsVisibleInOtherThreadsBeforeSagaIsCommitted() thr
 
         assertEquals(singleton(sagaId), testSubject.find(associationValue));
     }
+
+    @Test
+    public void testPrefetchedSagasAreFoundLoadedAndUpdatedInBulk() {
+        AssociationValue associationValue1 = new AssociationValue("test", "value1");
+        AssociationValue associationValue2 = new AssociationValue("test", "value2");
+        testSubject.createInstance("saga1", Object::new).getAssociationValues().add(associationValue1);
+        testSubject.createInstance("saga2", Object::new).getAssociationValues().add(associationValue2);
+        currentUnitOfWork.commit();
+        currentUnitOfWork = startAndGet(null);
+        clearInvocations(store);
+
+        testSubject.prefetch(new HashSet<>(asList(associationValue1, associationValue2)), "saga1"::equals);
+
+        assertEquals(singleton("saga1"), testSubject.find(associationValue1));
+        assertEquals(singleton("saga2"), testSubject.find(associationValue2));
+        assertNotNull(testSubject.load("saga1"));
+        assertNotNull(testSubject.load("saga2"));
+        verify(store).findAllSagas(eq(Object.class), eq(new HashSet<>(asList(associationValue1, associationValue2))));
+        verify(store).loadSagas(eq(Object.class), eq(singleton("saga1")));
+        // the in-memory store finds and loads sagas one by one, but only while prefetching
+        verify(store, times(2)).findSagas(any(), any());
+        verify(store).loadSaga(eq(Object.class), eq("saga1"));
+        verify(store).loadSaga(eq(Object.class), eq("saga2"));
+
+        currentUnitOfWork.commit();
+
+        verify(store).updateSagas(eq(Object.class), argThat(sagas -> sagas.size() == 2));
+    }
+
+    @Test
+    public void testUpdateIsSkippedForUnchangedSagas() {
+        testSubject = AnnotatedSagaRepository.builder().sagaType(Object.class).sagaStore(store)
+                                             .stateSerializer(XStreamSerializer.builder().build())
+                                             .build();
+        testSubject.createInstance("saga1", StubSaga::new);
+        currentUnitOfWork.commit();
+
+        currentUnitOfWork = startAndGet(null);
+        testSubject.load("saga1");
+        currentUnitOfWork.commit();
+        verify(store, never()).updateSaga(any(), any(), any(), any());
+        assertEquals(1, testSubject.getSkippedUpdateCount());
+
+        currentUnitOfWork = startAndGet(null);
+        testSubject.load("saga1").execute(saga -> ((StubSaga) saga).state = "changed");
+        currentUnitOfWork.commit();
+        verify(store).updateSaga(eq(Object.class), eq("saga1"), any(), any());
+
+        currentUnitOfWork = startAndGet(null);
+        testSubject.load("saga1").getAssociationValues().add(new AssociationValue("test", "value"));
+        currentUnitOfWork.commit();
+        verify(store, times(2)).updateSaga(eq(Object.class), eq("saga1"), any(), any());
+        assertEquals(1, testSubject.getSkippedUpdateCount());
+    }
+
+    public static class StubSaga {
+
+        private String state = "initial";
+    }
 }
@@ -21,10 +21,13 @@
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -76,6 +79,31 @@ public void testRemoveItems() {
         assertEquals("Wrong item count", 0, testSubject.size());
     }
 
+    @Test
+    public void testForEachSagaVisitsAllMappedSagas() {
+        testSubject.add(av("a"), "T", "1");
+        List<String> visited = new ArrayList<>();
+        testSubject.forEachSaga("T", av("a"), visited::add);
+        assertEquals(singletonList("1"), visited);
+
+        testSubject.add(av("a"), "T", "2");
+        testSubject.add(av("a"), "T", "3");
+        Set<String> visitedSet = new HashSet<>();
+        testSubject.forEachSaga("T", av("a"), visitedSet::add);
+        assertEquals(new HashSet<>(asList("1", "2", "3")), visitedSet);
+
+        testSubject.remove(av("a"), "T", "1");
+        testSubject.remove(av("a"), "T", "3");
+        visited.clear();
+        testSubject.forEachSaga("T", av("a"), visited::add);
+        assertEquals(singletonList("2"), visited);
+        assertEquals(1, testSubject.size());
+
+        testSubject.remove(av("a"), "T", "2");
+        assertTrue(testSubject.isEmpty());
+        assertTrue(testSubject.findSagas("T", av("a")).isEmpty());
+    }
+
     private AssociationValue av(String value) {
         return new AssociationValue("key", value);
     }
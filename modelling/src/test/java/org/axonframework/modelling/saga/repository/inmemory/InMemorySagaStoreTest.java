@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010-2019. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.modelling.saga.repository.inmemory;
+
+import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.AssociationValues;
+import org.axonframework.modelling.saga.AssociationValuesImpl;
+import org.axonframework.modelling.saga.repository.StubSaga;
+import org.junit.*;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.*;
+
+public class InMemorySagaStoreTest {
+
+    private InMemorySagaStore testSubject;
+
+    @Before
+    public void setUp() {
+        testSubject = new InMemorySagaStore();
+    }
+
+    @Test
+    public void testFindSagasReflectsUpdatedAssociations() {
+        AssociationValue initial = new AssociationValue("key", "initial");
+        AssociationValue added = new AssociationValue("key", "added");
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(initial));
+
+        AssociationValues associationValues = new AssociationValuesImpl(singleton(initial));
+        associationValues.remove(initial);
+        associationValues.add(added);
+        testSubject.updateSaga(StubSaga.class, "123", new StubSaga(), associationValues);
+
+        assertTrue(testSubject.findSagas(StubSaga.class, initial).isEmpty());
+        assertEquals(singleton("123"), testSubject.findSagas(StubSaga.class, added));
+        assertEquals(singleton(added), testSubject.loadSaga(StubSaga.class, "123").associationValues());
+    }
+
+    @Test
+    public void testDeletedSagaIsNotFound() {
+        AssociationValue associationValue = new AssociationValue("key", "value");
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(associationValue));
+        testSubject.insertSaga(StubSaga.class, "456", new StubSaga(), singleton(associationValue));
+
+        testSubject.deleteSaga(StubSaga.class, "123", singleton(associationValue));
+
+        assertEquals(singleton("456"), testSubject.findSagas(StubSaga.class, associationValue));
+        assertNull(testSubject.loadSaga(StubSaga.class, "123"));
+        assertEquals(1, testSubject.size());
+    }
+
+    @Test
+    public void testFindSagasOnlyReturnsSagasOfRequestedType() {
+        AssociationValue associationValue = new AssociationValue("key", "value");
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(associationValue));
+        testSubject.insertSaga(Object.class, "456", new Object(), singleton(associationValue));
+
+        assertEquals(singleton("123"), testSubject.findSagas(StubSaga.class, associationValue));
+        assertEquals(singleton("456"), testSubject.findSagas(Object.class, associationValue));
+    }
+}
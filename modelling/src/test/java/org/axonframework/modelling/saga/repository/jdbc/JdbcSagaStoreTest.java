@@ -26,8 +26,12 @@
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -49,7 +53,11 @@ public void setUp() throws SQLException {
         dataSource.setUrl("jdbc:hsqldb:mem:test");
 
         connection = dataSource.getConnection();
-        testSubject = JdbcSagaStore.builder().dataSource(dataSource).sqlSchema(new HsqlSagaSqlSchema()).build();
+        SagaSchema sagaSchema = new SagaSchema("SagaEntry", "AssociationValueEntry", true);
+        testSubject = JdbcSagaStore.builder()
+                                   .dataSource(dataSource)
+                                   .sqlSchema(new HsqlSagaSqlSchema(sagaSchema))
+                                   .build();
         testSubject.createSchema();
 
         reset(dataSource);
@@ -97,4 +105,95 @@ public void testLoadSagaByAssociationValue() {
         Set<String> actual = testSubject.findSagas(StubSaga.class, new AssociationValue("key", "value"));
         assertEquals(singleton("123"), actual);
     }
+
+    @Test
+    public void testFindAllSagasByAssociationValues() {
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(new AssociationValue("key", "value")));
+        testSubject.insertSaga(StubSaga.class, "456", new StubSaga(), singleton(new AssociationValue("key", "value2")));
+        testSubject.insertSaga(StubSaga.class, "789", new StubSaga(),
+                               singleton(new AssociationValue("otherKey", "value")));
+
+        Map<AssociationValue, Set<String>> actual = testSubject.findAllSagas(StubSaga.class, new HashSet<>(asList(
+                new AssociationValue("key", "value"),
+                new AssociationValue("key", "value2"),
+                new AssociationValue("key", "unknown")
+        )));
+
+        assertEquals(3, actual.size());
+        assertEquals(singleton("123"), actual.get(new AssociationValue("key", "value")));
+        assertEquals(singleton("456"), actual.get(new AssociationValue("key", "value2")));
+        assertEquals(emptySet(), actual.get(new AssociationValue("key", "unknown")));
+    }
+
+    @Test
+    public void testFindAllSagasOnlyReturnsRequestedAssociationValues() {
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(new AssociationValue("key", "value")));
+        testSubject.insertSaga(StubSaga.class, "456", new StubSaga(),
+                               singleton(new AssociationValue("otherKey", "value2")));
+        testSubject.insertSaga(StubSaga.class, "789", new StubSaga(), singleton(new AssociationValue("key", "value2")));
+
+        Map<AssociationValue, Set<String>> actual = testSubject.findAllSagas(StubSaga.class, new HashSet<>(asList(
+                new AssociationValue("key", "value"),
+                new AssociationValue("otherKey", "value2")
+        )));
+
+        assertEquals(2, actual.size());
+        assertEquals(singleton("123"), actual.get(new AssociationValue("key", "value")));
+        assertEquals(singleton("456"), actual.get(new AssociationValue("otherKey", "value2")));
+    }
+
+    @Test
+    public void testLoadSagas() {
+        Set<AssociationValue> associationValues = new HashSet<>(asList(new AssociationValue("key", "value"),
+                                                                       new AssociationValue("key", "value2")));
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), associationValues);
+        testSubject.insertSaga(StubSaga.class, "456", new StubSaga(), emptySet());
+
+        Map<String, SagaStore.Entry<StubSaga>> actual =
+                testSubject.loadSagas(StubSaga.class, new HashSet<>(asList("123", "456", "unknown")));
+
+        assertEquals(2, actual.size());
+        assertNotNull(actual.get("123").saga());
+        assertEquals(associationValues, actual.get("123").associationValues());
+        assertNotNull(actual.get("456").saga());
+        assertEquals(emptySet(), actual.get("456").associationValues());
+    }
+
+    @Test
+    public void testLoadSagasOneByOneIfBatchedQueriesAreNotEnabled() throws SQLException {
+        GenericSagaSqlSchema sqlSchema = spy(new HsqlSagaSqlSchema());
+        testSubject = JdbcSagaStore.builder().dataSource(dataSource).sqlSchema(sqlSchema).build();
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(new AssociationValue("key", "value")));
+        testSubject.insertSaga(StubSaga.class, "456", new StubSaga(), emptySet());
+
+        Map<String, SagaStore.Entry<StubSaga>> actual =
+                testSubject.loadSagas(StubSaga.class, new HashSet<>(asList("123", "456", "unknown")));
+
+        assertEquals(2, actual.size());
+        assertEquals(singleton(new AssociationValue("key", "value")), actual.get("123").associationValues());
+        verify(sqlSchema, never()).sql_loadSagas(any(), any());
+        verify(sqlSchema, times(3)).sql_loadSaga(any(), any());
+    }
+
+    @Test
+    public void testUpdateSagasInSingleBatch() throws SQLException {
+        testSubject.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(new AssociationValue("key", "value")));
+        AssociationValues existingAssociations =
+                new AssociationValuesImpl(singleton(new AssociationValue("key", "value")));
+        existingAssociations.add(new AssociationValue("key", "value2"));
+        SagaStore.Update<StubSaga> existingSaga = new SagaStore.Update<>("123", new StubSaga(), existingAssociations);
+        SagaStore.Update<StubSaga> missingSaga = new SagaStore.Update<>(
+                "456", new StubSaga(), new AssociationValuesImpl(singleton(new AssociationValue("key", "value3")))
+        );
+        reset(dataSource);
+
+        testSubject.updateSagas(StubSaga.class, asList(existingSaga, missingSaga));
+
+        assertEquals(singleton("123"),
+                     testSubject.findSagas(StubSaga.class, new AssociationValue("key", "value2")));
+        assertEquals(singleton("456"), testSubject.findSagas(StubSaga.class, new AssociationValue("key", "value3")));
+        assertNotNull(testSubject.loadSaga(StubSaga.class, "456"));
+        // one connection for the batch update, one to insert the missing saga, and three to verify the results
+        verify(dataSource, times(5)).getConnection();
+    }
 }
@@ -25,6 +25,7 @@
 import org.axonframework.modelling.saga.AssociationValue;
 import org.axonframework.modelling.saga.Saga;
 import org.axonframework.modelling.saga.repository.AnnotatedSagaRepository;
+import org.axonframework.modelling.saga.repository.SagaStore;
 import org.axonframework.modelling.saga.repository.StubSaga;
 import org.axonframework.serialization.Serializer;
 import org.axonframework.serialization.SimpleSerializedObject;
@@ -41,10 +42,14 @@
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 
+import static java.util.Collections.singleton;
 import static org.junit.Assert.*;
 
 /**
@@ -56,6 +61,7 @@
 @Transactional
 public class JpaSagaStoreTest {
 
+    private JpaSagaStore sagaStore;
     private AnnotatedSagaRepository<StubSaga> repository;
 
     @Autowired
@@ -67,9 +73,9 @@ public class JpaSagaStoreTest {
 
     @Before
     public void setUp() {
-        JpaSagaStore sagaStore = JpaSagaStore.builder()
-                                             .entityManagerProvider(new SimpleEntityManagerProvider(entityManager))
-                                             .build();
+        sagaStore = JpaSagaStore.builder()
+                                .entityManagerProvider(new SimpleEntityManagerProvider(entityManager))
+                                .build();
         repository = AnnotatedSagaRepository.<StubSaga>builder().sagaType(StubSaga.class).sagaStore(sagaStore).build();
 
         entityManager.clear();
@@ -161,6 +167,80 @@ public void testLoadSaga_NotFound() {
         unitOfWork.execute(() -> assertNull(repository.load("123456")));
     }
 
+    @DirtiesContext
+    @Test
+    public void testPrefetchAndLoadSagas_ByAssociationValues() throws Exception {
+        AssociationValue associationValue1 = new AssociationValue("key", "value1");
+        AssociationValue associationValue2 = new AssociationValue("key", "value2");
+        String identifier1 = unitOfWork.executeWithResult(() -> {
+            Saga<StubSaga> saga = repository.createInstance(IdentifierFactory.getInstance().generateIdentifier(),
+                                                            StubSaga::new);
+            saga.execute(s -> s.associate("key", "value1"));
+            return saga.getSagaIdentifier();
+        }).getPayload();
+        startUnitOfWork();
+        String identifier2 = unitOfWork.executeWithResult(() -> {
+            Saga<StubSaga> saga = repository.createInstance(IdentifierFactory.getInstance().generateIdentifier(),
+                                                            StubSaga::new);
+            saga.execute(s -> s.associate("key", "value2"));
+            return saga.getSagaIdentifier();
+        }).getPayload();
+        entityManager.clear();
+        startUnitOfWork();
+        unitOfWork.execute(() -> {
+            repository.prefetch(new HashSet<>(Arrays.asList(associationValue1, associationValue2)), id -> true);
+            assertEquals(1, repository.find(associationValue1).size());
+            assertEquals(identifier1, repository.find(associationValue1).iterator().next());
+            assertEquals(identifier2, repository.find(associationValue2).iterator().next());
+            Saga<StubSaga> loaded = repository.load(identifier2);
+            assertTrue(loaded.getAssociationValues().contains(associationValue2));
+        });
+    }
+
+    @DirtiesContext
+    @Test
+    public void testFindAllSagasOnlyReturnsRequestedAssociationValues() {
+        sagaStore.insertSaga(StubSaga.class, "123", new StubSaga(), singleton(new AssociationValue("key", "value")));
+        sagaStore.insertSaga(StubSaga.class, "456", new StubSaga(),
+                             singleton(new AssociationValue("otherKey", "value2")));
+        sagaStore.insertSaga(StubSaga.class, "789", new StubSaga(), singleton(new AssociationValue("key", "value2")));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<AssociationValue, Set<String>> found = sagaStore.findAllSagas(StubSaga.class, new HashSet<>(Arrays.asList(
+                new AssociationValue("key", "value"),
+                new AssociationValue("otherKey", "value2")
+        )));
+
+        assertEquals(2, found.size());
+        assertEquals(singleton("123"), found.get(new AssociationValue("key", "value")));
+        assertEquals(singleton("456"), found.get(new AssociationValue("otherKey", "value2")));
+    }
+
+    @DirtiesContext
+    @Test
+    public void testLoadAndFindSagasExceedingTheInListSize() {
+        Set<String> identifiers = new HashSet<>();
+        Set<AssociationValue> associationValues = new HashSet<>();
+        for (int i = 0; i < 1500; i++) {
+            AssociationValue associationValue = new AssociationValue("key", "value" + i);
+            sagaStore.insertSaga(StubSaga.class, "saga" + i, new StubSaga(), singleton(associationValue));
+            identifiers.add("saga" + i);
+            associationValues.add(associationValue);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<AssociationValue, Set<String>> found = sagaStore.findAllSagas(StubSaga.class, associationValues);
+        assertEquals(1500, found.size());
+        assertEquals(singleton("saga1234"), found.get(new AssociationValue("key", "value1234")));
+
+        Map<String, SagaStore.Entry<StubSaga>> loaded = sagaStore.loadSagas(StubSaga.class, identifiers);
+        assertEquals(1500, loaded.size());
+        assertNotNull(loaded.get("saga1234").saga());
+        assertEquals(singleton(new AssociationValue("key", "value1234")), loaded.get("saga1234").associationValues());
+    }
+
     @DirtiesContext
     @Test
     public void testLoadSaga_AssociationValueRemoved() throws Exception {
@@ -160,6 +160,24 @@ public Builder transactionManager(TransactionManager transactionManager) {
             return this;
         }
 
+        @Override
+        public Builder coalescingEnabled(boolean coalescingEnabled) {
+            super.coalescingEnabled(coalescingEnabled);
+            return this;
+        }
+
+        @Override
+        public Builder maxConcurrentSnapshots(int maxConcurrentSnapshots) {
+            super.maxConcurrentSnapshots(maxConcurrentSnapshots);
+            return this;
+        }
+
+        @Override
+        public Builder maxPendingSnapshots(int maxPendingSnapshots) {
+            super.maxPendingSnapshots(maxPendingSnapshots);
+            return this;
+        }
+
         @Override
         public Builder repositoryProvider(RepositoryProvider repositoryProvider) {
             super.repositoryProvider(repositoryProvider);